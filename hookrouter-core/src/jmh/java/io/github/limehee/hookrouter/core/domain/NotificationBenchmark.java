@@ -0,0 +1,61 @@
+package io.github.limehee.hookrouter.core.domain;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationBenchmark {
+
+    private final Instant occurredAt = Instant.parse("2026-01-01T00:00:00Z");
+    private final String context = "context";
+    private final Map<String, Object> meta = Map.of("traceId", "abc", "tenant", "acme", "region", "eu");
+
+    @Benchmark
+    public Notification<String> of() {
+        return Notification.of("demo.order.created", "general", context);
+    }
+
+    @Benchmark
+    public Notification<String> builderWithTimestamp() {
+        return Notification.<String>builder("demo.order.created")
+            .category("general")
+            .occurredAt(occurredAt)
+            .context(context)
+            .build();
+    }
+
+    @Benchmark
+    public Notification<String> builderWithSingleMeta() {
+        return Notification.<String>builder("demo.order.created")
+            .category("general")
+            .occurredAt(occurredAt)
+            .context(context)
+            .meta("traceId", "abc")
+            .build();
+    }
+
+    @Benchmark
+    public Notification<String> builderWithMetaMap() {
+        return Notification.<String>builder("demo.order.created")
+            .category("general")
+            .occurredAt(occurredAt)
+            .context(context)
+            .meta(meta)
+            .build();
+    }
+}
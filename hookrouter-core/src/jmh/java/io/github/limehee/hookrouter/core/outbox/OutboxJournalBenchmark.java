@@ -0,0 +1,70 @@
+package io.github.limehee.hookrouter.core.outbox;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxJournalBenchmark {
+
+    @Param({"256", "2048"})
+    private int payloadSize;
+
+    private Path directory;
+    private OutboxJournal journal;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("hookrouter-outbox-bench");
+        journal = OutboxJournal.open(directory, 64 * 1024 * 1024, Duration.ofMillis(10));
+        payload = new byte[payloadSize];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long appendAndAcknowledge() {
+        long entryId = journal.append(payload);
+        journal.acknowledge(entryId);
+        return entryId;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long appendAndAcknowledgeContended() {
+        long entryId = journal.append(payload);
+        journal.acknowledge(entryId);
+        return entryId;
+    }
+}
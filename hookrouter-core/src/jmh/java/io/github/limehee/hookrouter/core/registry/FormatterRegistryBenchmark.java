@@ -0,0 +1,109 @@
+package io.github.limehee.hookrouter.core.registry;
+
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.Symbol;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterRegistryBenchmark {
+
+    private static final String[] PLATFORMS = {"slack", "discord", "teams", "custom"};
+
+    @Param({"8", "64"})
+    private int typeCount;
+
+    private FormatterRegistry mapRegistry;
+    private FrozenFormatterRegistry frozenRegistry;
+    private String[] typeIds;
+    private Symbol[] platformSymbols;
+    private Symbol[] typeIdSymbols;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        mapRegistry = new FormatterRegistry();
+        FormatterRegistry frozenSource = new FormatterRegistry();
+        typeIds = new String[typeCount + 1];
+        for (int i = 0; i < typeCount; i++) {
+            typeIds[i] = "demo.type." + i;
+            for (String platform : PLATFORMS) {
+                if ((i + platform.length()) % 3 != 0) {
+                    WebhookFormatter<Object, String> formatter = formatter(FormatterKey.of(platform, typeIds[i]));
+                    mapRegistry.register(formatter);
+                    frozenSource.register(formatter);
+                }
+            }
+        }
+        typeIds[typeCount] = "demo.type.unregistered";
+        for (String platform : PLATFORMS) {
+            WebhookFormatter<Object, String> fallback = formatter(FormatterKey.fallback(platform));
+            mapRegistry.register(fallback);
+            frozenSource.register(fallback);
+        }
+        frozenRegistry = frozenSource.freeze();
+        // the listener and engine resolve symbols once per notification, so they are not part of the lookup cost
+        platformSymbols = new Symbol[PLATFORMS.length];
+        for (int i = 0; i < PLATFORMS.length; i++) {
+            platformSymbols[i] = Symbol.of(PLATFORMS[i]);
+        }
+        typeIdSymbols = new Symbol[typeIds.length];
+        for (int i = 0; i < typeIds.length; i++) {
+            typeIdSymbols[i] = Symbol.resolve(typeIds[i]);
+        }
+    }
+
+    @Benchmark
+    public WebhookFormatter<?, ?> concurrentHashMapLookup() {
+        int i = cursor++;
+        return mapRegistry.getOrFallback(PLATFORMS[i & 3], typeIds[i % typeIds.length]);
+    }
+
+    @Benchmark
+    public WebhookFormatter<?, ?> frozenLookup() {
+        int i = cursor++;
+        return frozenRegistry.getOrFallback(PLATFORMS[i & 3], typeIds[i % typeIds.length]);
+    }
+
+    @Benchmark
+    public WebhookFormatter<?, ?> frozenSymbolLookup() {
+        int i = cursor++;
+        return frozenRegistry.lookup(platformSymbols[i & 3], typeIdSymbols[i % typeIdSymbols.length]);
+    }
+
+    private static WebhookFormatter<Object, String> formatter(FormatterKey key) {
+        return new WebhookFormatter<>() {
+            @Override
+            public FormatterKey key() {
+                return key;
+            }
+
+            @Override
+            public Class<Object> contextClass() {
+                return Object.class;
+            }
+
+            @Override
+            public String format(Notification<Object> notification) {
+                return key.toString();
+            }
+        };
+    }
+}
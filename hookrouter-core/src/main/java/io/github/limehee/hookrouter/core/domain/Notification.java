@@ -8,18 +8,18 @@ import org.jspecify.annotations.Nullable;
 
 public final class Notification<T> {
 
-    private final String typeId;
-    private final String category;
+    private final Symbol typeSymbol;
+    private final Symbol categorySymbol;
     private final Instant occurredAt;
     private final T context;
     private final Map<String, Object> meta;
 
     private Notification(String typeId, String category, Instant occurredAt, T context, Map<String, Object> meta) {
-        this.typeId = typeId;
-        this.category = category;
+        this.typeSymbol = Symbol.resolve(typeId);
+        this.categorySymbol = Symbol.resolve(category);
         this.occurredAt = occurredAt;
         this.context = context;
-        this.meta = Map.copyOf(meta);
+        this.meta = meta;
     }
 
     public static <T> Builder<T> builder(String typeId) {
@@ -27,7 +27,30 @@ public final class Notification<T> {
     }
 
     public static <T> Notification<T> of(String typeId, String category, T context) {
-        return new Builder<T>(typeId).category(category).context(context).build();
+        validate(typeId, category, context);
+        return new Notification<>(typeId, category, Instant.now(), context, Map.of());
+    }
+
+    private static boolean hasText(@Nullable String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static void validate(@Nullable String typeId, @Nullable String category, @Nullable Object context) {
+        if (!hasText(typeId)) {
+            throw new InvalidWebhookArgumentException("typeId must not be null or blank");
+        }
+        if (!hasText(category)) {
+            throw new InvalidWebhookArgumentException("category must not be null or blank");
+        }
+        if (context == null) {
+            throw new InvalidWebhookArgumentException("context must not be null");
+        }
+    }
+
+    private static void validateMetaKey(@Nullable String key) {
+        if (!hasText(key)) {
+            throw new InvalidWebhookArgumentException("meta key must not be null or blank");
+        }
     }
 
     @Nullable
@@ -36,11 +59,19 @@ public final class Notification<T> {
     }
 
     public String getTypeId() {
-        return this.typeId;
+        return this.typeSymbol.name();
     }
 
     public String getCategory() {
-        return this.category;
+        return this.categorySymbol.name();
+    }
+
+    public Symbol getTypeSymbol() {
+        return this.typeSymbol;
+    }
+
+    public Symbol getCategorySymbol() {
+        return this.categorySymbol;
     }
 
     public Instant getOccurredAt() {
@@ -64,7 +95,12 @@ public final class Notification<T> {
     public static final class Builder<T> {
 
         private final String typeId;
-        private final Map<String, Object> meta = new HashMap<>();
+        @Nullable
+        private String firstMetaKey;
+        @Nullable
+        private Object firstMetaValue;
+        @Nullable
+        private Map<String, Object> meta;
         @Nullable
         private String category;
         @Nullable
@@ -76,10 +112,6 @@ public final class Notification<T> {
             this.typeId = typeId;
         }
 
-        private static boolean hasText(@Nullable String value) {
-            return value != null && !value.isBlank();
-        }
-
         public Builder<T> category(String category) {
             this.category = category;
             return this;
@@ -96,10 +128,8 @@ public final class Notification<T> {
         }
 
         public Builder<T> meta(String key, Object value) {
-            if (!hasText(key)) {
-                throw new InvalidWebhookArgumentException("meta key must not be null or blank");
-            }
-            this.meta.put(key, value);
+            validateMetaKey(key);
+            putMeta(key, value);
             return this;
         }
 
@@ -109,25 +139,41 @@ public final class Notification<T> {
             }
 
             for (String key : metaMap.keySet()) {
-                if (!hasText(key)) {
-                    throw new InvalidWebhookArgumentException("meta key must not be null or blank");
-                }
+                validateMetaKey(key);
+            }
+            for (Map.Entry<String, Object> entry : metaMap.entrySet()) {
+                putMeta(entry.getKey(), entry.getValue());
             }
-            this.meta.putAll(metaMap);
             return this;
         }
 
         public Notification<T> build() {
-            if (!hasText(typeId)) {
-                throw new InvalidWebhookArgumentException("typeId must not be null or blank");
+            validate(typeId, category, context);
+            return new Notification<>(typeId, category, occurredAt != null ? occurredAt : Instant.now(), context,
+                buildMeta());
+        }
+
+        private void putMeta(String key, Object value) {
+            if (meta != null) {
+                meta.put(key, value);
+            } else if (firstMetaKey == null || firstMetaKey.equals(key)) {
+                firstMetaKey = key;
+                firstMetaValue = value;
+            } else {
+                meta = new HashMap<>();
+                meta.put(firstMetaKey, firstMetaValue);
+                meta.put(key, value);
             }
-            if (!hasText(category)) {
-                throw new InvalidWebhookArgumentException("category must not be null or blank");
+        }
+
+        private Map<String, Object> buildMeta() {
+            if (meta != null) {
+                return Map.copyOf(meta);
             }
-            if (context == null) {
-                throw new InvalidWebhookArgumentException("context must not be null");
+            if (firstMetaKey != null) {
+                return Map.of(firstMetaKey, firstMetaValue);
             }
-            return new Notification<>(typeId, category, occurredAt != null ? occurredAt : Instant.now(), context, meta);
+            return Map.of();
         }
     }
 }
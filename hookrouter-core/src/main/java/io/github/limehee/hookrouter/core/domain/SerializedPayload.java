@@ -0,0 +1,108 @@
+package io.github.limehee.hookrouter.core.domain;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+public final class SerializedPayload {
+
+    public static final String APPLICATION_JSON = "application/json";
+    private final byte[] content;
+    private final String contentType;
+    @Nullable
+    private final String contentEncoding;
+
+    private SerializedPayload(byte[] content, String contentType, @Nullable String contentEncoding) {
+        this.content = content;
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+    }
+
+    public static SerializedPayload of(byte[] content, String contentType) {
+        if (content == null) {
+            throw new InvalidWebhookArgumentException("content must not be null");
+        }
+        return new SerializedPayload(content.clone(), requireContentType(contentType), null);
+    }
+
+    public static SerializedPayload encoded(byte[] content, String contentType, String contentEncoding) {
+        if (content == null) {
+            throw new InvalidWebhookArgumentException("content must not be null");
+        }
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            throw new InvalidWebhookArgumentException("contentEncoding must not be null or blank");
+        }
+        return new SerializedPayload(content.clone(), requireContentType(contentType), contentEncoding);
+    }
+
+    public static SerializedPayload of(String content, String contentType) {
+        if (content == null) {
+            throw new InvalidWebhookArgumentException("content must not be null");
+        }
+        return new SerializedPayload(content.getBytes(StandardCharsets.UTF_8), requireContentType(contentType),
+            null);
+    }
+
+    public static SerializedPayload json(String json) {
+        return of(json, APPLICATION_JSON);
+    }
+
+    private static String requireContentType(@Nullable String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new InvalidWebhookArgumentException("contentType must not be null or blank");
+        }
+        return contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    @Nullable
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    public int size() {
+        return content.length;
+    }
+
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    public byte[] toByteArray() {
+        return content.clone();
+    }
+
+    public String asString(Charset charset) {
+        return new String(content, charset);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SerializedPayload that)) {
+            return false;
+        }
+        return contentType.equals(that.contentType) && Objects.equals(contentEncoding, that.contentEncoding)
+            && Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(contentType, contentEncoding) + Arrays.hashCode(content);
+    }
+
+    @Override
+    public String toString() {
+        String encoding = contentEncoding != null ? ", contentEncoding='" + contentEncoding + "'" : "";
+        return "SerializedPayload{contentType='" + contentType + "'" + encoding + ", size=" + content.length + "}";
+    }
+}
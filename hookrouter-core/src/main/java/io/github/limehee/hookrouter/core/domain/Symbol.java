@@ -0,0 +1,85 @@
+package io.github.limehee.hookrouter.core.domain;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+public final class Symbol {
+
+    private static final ConcurrentMap<String, Symbol> SYMBOLS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final int UNINTERNED_ID = -1;
+
+    private final String name;
+    private final int id;
+    private final int hash;
+
+    private Symbol(String name, int id) {
+        this.name = name;
+        this.id = id;
+        this.hash = name.hashCode();
+    }
+
+    public static Symbol of(@Nullable String name) {
+        if (name == null) {
+            throw new InvalidWebhookArgumentException("symbol name must not be null");
+        }
+        Symbol existing = SYMBOLS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        return SYMBOLS.computeIfAbsent(name, key -> new Symbol(key, NEXT_ID.getAndIncrement()));
+    }
+
+    // for caller-supplied names: only registered and configured identifiers are interned, so the table stays bounded
+    public static Symbol resolve(@Nullable String name) {
+        if (name == null) {
+            throw new InvalidWebhookArgumentException("symbol name must not be null");
+        }
+        Symbol existing = SYMBOLS.get(name);
+        return existing != null ? existing : new Symbol(name, UNINTERNED_ID);
+    }
+
+    @Nullable
+    public static Symbol find(String name) {
+        return SYMBOLS.get(name);
+    }
+
+    public static int count() {
+        return NEXT_ID.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public boolean isInterned() {
+        return id != UNINTERNED_ID;
+    }
+
+    // interned symbols are unique per name, so only an uninterned one needs the name comparison
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Symbol other && (id == UNINTERNED_ID || other.id == UNINTERNED_ID)
+            && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
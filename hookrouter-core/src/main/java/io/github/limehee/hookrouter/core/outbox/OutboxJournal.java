@@ -0,0 +1,334 @@
+package io.github.limehee.hookrouter.core.outbox;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+import org.jspecify.annotations.Nullable;
+
+public final class OutboxJournal implements Closeable {
+
+    public static final int MIN_SEGMENT_SIZE = 4096;
+
+    private static final Logger LOGGER = System.getLogger(OutboxJournal.class.getName());
+
+    static final String SEGMENT_PREFIX = "outbox-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    // record layout: [int recordLength][int crc32c(payload)][byte state][payload]
+    private static final int CRC_OFFSET = 4;
+    private static final int STATE_OFFSET = 8;
+    private static final int HEADER_SIZE = 9;
+    private static final byte PENDING = 1;
+    private static final byte ACKNOWLEDGED = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ConcurrentMap<Integer, Segment> segments = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final CRC32C checksum = new CRC32C();
+    private List<RecoveredEntry> recovered;
+    private Segment active;
+    private volatile boolean closed;
+
+    private OutboxJournal(Path directory, int segmentSize, long fsyncIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.recovered = new ArrayList<>();
+        int lastNumber = recover();
+        this.active = createSegment(lastNumber + 1);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "hookrouter-outbox-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMillis, fsyncIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public static OutboxJournal open(Path directory, int segmentSize, Duration fsyncInterval) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new InvalidWebhookArgumentException(
+                "segmentSize must be >= " + MIN_SEGMENT_SIZE + ", but was: " + segmentSize);
+        }
+        if (fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            throw new InvalidWebhookArgumentException("fsyncInterval must be positive, but was: " + fsyncInterval);
+        }
+        Files.createDirectories(directory);
+        return new OutboxJournal(directory, segmentSize, Math.max(1L, fsyncInterval.toMillis()));
+    }
+
+    public long append(byte[] payload) {
+        int recordLength = HEADER_SIZE + payload.length;
+        if (recordLength > segmentSize) {
+            throw new InvalidWebhookArgumentException("outbox entry of " + payload.length
+                + " bytes does not fit into a segment of " + segmentSize + " bytes");
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("OutboxJournal is closed");
+            }
+            Segment segment = active;
+            if (segment.position + recordLength > segmentSize) {
+                segment = roll();
+            }
+            int offset = segment.position;
+            MappedByteBuffer buffer = segment.buffer;
+            checksum.reset();
+            checksum.update(payload);
+            buffer.put(offset + HEADER_SIZE, payload);
+            buffer.put(offset + STATE_OFFSET, PENDING);
+            buffer.putInt(offset + CRC_OFFSET, (int) checksum.getValue());
+            // the length is written last so a torn record reads as the end of the log
+            buffer.putInt(offset, recordLength);
+            segment.pending.incrementAndGet();
+            segment.position = offset + recordLength;
+            segment.dirty = true;
+            return entryId(segment.number, offset);
+        }
+    }
+
+    public boolean acknowledge(long entryId) {
+        Segment segment = segments.get((int) (entryId >>> 32));
+        return segment != null && segment.acknowledge((int) entryId);
+    }
+
+    public synchronized List<RecoveredEntry> drainRecoveredEntries() {
+        List<RecoveredEntry> entries = recovered;
+        recovered = new ArrayList<>();
+        return entries;
+    }
+
+    public int pendingCount() {
+        int pending = 0;
+        for (Segment segment : segments.values()) {
+            pending += segment.pending.get();
+        }
+        return pending;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public void flush() {
+        for (Segment segment : segments.values()) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        for (Segment segment : segments.values()) {
+            if (segment.pending.get() == 0) {
+                segment.retire();
+            } else {
+                segment.closeChannel();
+            }
+        }
+    }
+
+    private Segment roll() {
+        Segment previous = active;
+        previous.sealed = true;
+        active = createSegmentUnchecked(previous.number + 1);
+        previous.retireIfDrained();
+        return active;
+    }
+
+    private int recover() throws IOException {
+        Map<Integer, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+            SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                Integer number = segmentNumber(file);
+                if (number != null) {
+                    files.put(number, file);
+                }
+            }
+        }
+        int lastNumber = 0;
+        for (Map.Entry<Integer, Path> entry : files.entrySet()) {
+            lastNumber = entry.getKey();
+            FileChannel channel = FileChannel.open(entry.getValue(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            Segment segment = new Segment(entry.getKey(), entry.getValue(), channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            segment.sealed = true;
+            scan(segment, (int) channel.size());
+            if (segment.pending.get() == 0) {
+                segment.retire();
+            } else {
+                segments.put(segment.number, segment);
+            }
+        }
+        return lastNumber;
+    }
+
+    private void scan(Segment segment, int limit) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_SIZE <= limit) {
+            int recordLength = buffer.getInt(offset);
+            if (recordLength < HEADER_SIZE || offset + recordLength > limit) {
+                break;
+            }
+            byte[] payload = new byte[recordLength - HEADER_SIZE];
+            buffer.get(offset + HEADER_SIZE, payload);
+            checksum.reset();
+            checksum.update(payload);
+            if ((int) checksum.getValue() != buffer.getInt(offset + CRC_OFFSET)) {
+                break;
+            }
+            if (buffer.get(offset + STATE_OFFSET) == PENDING) {
+                recovered.add(new RecoveredEntry(entryId(segment.number, offset), payload));
+                segment.pending.incrementAndGet();
+            }
+            offset += recordLength;
+        }
+        segment.position = offset;
+    }
+
+    private Segment createSegmentUnchecked(int number) {
+        try {
+            return createSegment(number);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create outbox segment " + number, e);
+        }
+    }
+
+    private Segment createSegment(int number) throws IOException {
+        Path file = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        Segment segment = new Segment(number, file, channel,
+            channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        segments.put(number, segment);
+        return segment;
+    }
+
+    @Nullable
+    private static Integer segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        String digits = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+        try {
+            return Integer.valueOf(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long entryId(int segmentNumber, int offset) {
+        return ((long) segmentNumber << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    public record RecoveredEntry(long entryId, byte[] payload) {
+
+    }
+
+    private final class Segment {
+
+        private final int number;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile int position;
+        private volatile boolean dirty;
+        private volatile boolean sealed;
+        private boolean retired;
+
+        private Segment(int number, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private synchronized boolean acknowledge(int offset) {
+            if (retired || offset < 0 || offset + HEADER_SIZE > position
+                || buffer.get(offset + STATE_OFFSET) != PENDING) {
+                return false;
+            }
+            buffer.put(offset + STATE_OFFSET, ACKNOWLEDGED);
+            dirty = true;
+            if (pending.decrementAndGet() == 0 && sealed) {
+                retire();
+            }
+            return true;
+        }
+
+        private synchronized void force() {
+            if (retired || !dirty) {
+                return;
+            }
+            dirty = false;
+            buffer.force(0, position);
+        }
+
+        private synchronized void retireIfDrained() {
+            if (pending.get() == 0) {
+                retire();
+            }
+        }
+
+        private synchronized void retire() {
+            if (retired) {
+                return;
+            }
+            retired = true;
+            segments.remove(number, this);
+            // every record is already acknowledged, so a file left behind only costs disk until the next
+            // recovery scans it as drained and retires it again; the acknowledging caller must not fail for it
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Failed to delete drained outbox segment " + file, e);
+                }
+            }
+        }
+
+        private void closeChannel() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close outbox segment " + file, e);
+            }
+        }
+    }
+}
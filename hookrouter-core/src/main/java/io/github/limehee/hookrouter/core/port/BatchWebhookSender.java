@@ -0,0 +1,9 @@
+package io.github.limehee.hookrouter.core.port;
+
+import java.util.List;
+
+public interface BatchWebhookSender extends WebhookSender {
+
+    // sends every payload in one request; returns one result per payload, in the same order
+    List<SendResult> sendBatch(String webhookUrl, List<Object> payloads);
+}
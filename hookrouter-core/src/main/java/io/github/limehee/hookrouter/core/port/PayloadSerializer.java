@@ -0,0 +1,10 @@
+package io.github.limehee.hookrouter.core.port;
+
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+
+public interface PayloadSerializer {
+
+    String platform();
+
+    SerializedPayload serialize(Object payload);
+}
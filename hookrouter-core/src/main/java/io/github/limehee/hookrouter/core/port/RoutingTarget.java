@@ -1,5 +1,8 @@
 package io.github.limehee.hookrouter.core.port;
 
+import io.github.limehee.hookrouter.core.domain.Symbol;
+import org.jspecify.annotations.Nullable;
+
 public record RoutingTarget(
     String platform,
     String webhookKey,
@@ -9,4 +12,10 @@ public record RoutingTarget(
     public static RoutingTarget of(String platform, String webhookKey, String webhookUrl) {
         return new RoutingTarget(platform, webhookKey, webhookUrl);
     }
+
+    // resolved rather than interned, so per-tenant platforms from a custom RoutingPolicy never grow the symbol table
+    @Nullable
+    public Symbol platformSymbol() {
+        return platform != null ? Symbol.resolve(platform) : null;
+    }
 }
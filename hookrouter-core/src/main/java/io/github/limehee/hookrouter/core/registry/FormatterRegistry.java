@@ -1,6 +1,7 @@
 package io.github.limehee.hookrouter.core.registry;
 
 import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Symbol;
 import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
 import io.github.limehee.hookrouter.core.exception.DuplicateFallbackFormatterException;
 import io.github.limehee.hookrouter.core.exception.DuplicateFormatterException;
@@ -8,12 +9,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jspecify.annotations.Nullable;
 
 public class FormatterRegistry {
 
     private final Map<FormatterKey, WebhookFormatter<?, ?>> formatters = new ConcurrentHashMap<>();
     private final Map<String, WebhookFormatter<?, ?>> fallbackFormatters = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile @Nullable FrozenFormatterRegistry frozen;
 
     public void register(WebhookFormatter<?, ?> formatter) {
         FormatterKey key = formatter.key();
@@ -23,6 +27,24 @@ public class FormatterRegistry {
         } else {
             registerSpecific(formatter);
         }
+        if (frozen != null) {
+            freeze();
+        }
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public synchronized FrozenFormatterRegistry freeze() {
+        FrozenFormatterRegistry snapshot = FrozenFormatterRegistry.build(formatters, fallbackFormatters);
+        frozen = snapshot;
+        return snapshot;
+    }
+
+    public boolean isFrozen() {
+        return frozen != null;
     }
 
     public void registerAll(Collection<? extends WebhookFormatter<?, ?>> formatterList) {
@@ -38,6 +60,10 @@ public class FormatterRegistry {
 
     @Nullable
     public WebhookFormatter<?, ?> getOrFallback(String platform, String typeId) {
+        FrozenFormatterRegistry snapshot = frozen;
+        if (snapshot != null) {
+            return snapshot.getOrFallback(platform, typeId);
+        }
         WebhookFormatter<?, ?> specific = get(platform, typeId);
         if (specific == null) {
             return getFallback(platform);
@@ -45,6 +71,15 @@ public class FormatterRegistry {
         return specific;
     }
 
+    @Nullable
+    public WebhookFormatter<?, ?> lookup(Symbol platform, Symbol typeId) {
+        FrozenFormatterRegistry snapshot = frozen;
+        if (snapshot != null) {
+            return snapshot.lookup(platform, typeId);
+        }
+        return getOrFallback(platform.name(), typeId.name());
+    }
+
     @Nullable
     public WebhookFormatter<?, ?> getFallback(String platform) {
         return fallbackFormatters.get(platform);
@@ -76,6 +111,9 @@ public class FormatterRegistry {
         if (existing != null) {
             throw new DuplicateFormatterException(key.platform(), key.typeId());
         }
+        // registered identifiers are interned so notifications of this type resolve to an indexed symbol
+        Symbol.of(key.platform());
+        Symbol.of(key.typeId());
     }
 
     private void registerFallback(WebhookFormatter<?, ?> formatter) {
@@ -84,5 +122,6 @@ public class FormatterRegistry {
         if (existing != null) {
             throw new DuplicateFallbackFormatterException(platform);
         }
+        Symbol.of(platform);
     }
 }
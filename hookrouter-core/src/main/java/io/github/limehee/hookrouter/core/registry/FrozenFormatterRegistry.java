@@ -0,0 +1,123 @@
+package io.github.limehee.hookrouter.core.registry;
+
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Symbol;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+public final class FrozenFormatterRegistry {
+
+    public static final int UNKNOWN_ID = -1;
+
+    private final Map<String, Integer> platformIds;
+    private final Map<String, Integer> typeIds;
+    private final WebhookFormatter<?, ?>[][] formatters;
+    private final WebhookFormatter<?, ?>[] fallbacks;
+    private final int[] platformIdsBySymbol;
+    private final int[] typeIdsBySymbol;
+
+    private FrozenFormatterRegistry(Map<String, Integer> platformIds, Map<String, Integer> typeIds,
+        WebhookFormatter<?, ?>[][] formatters, WebhookFormatter<?, ?>[] fallbacks) {
+        this.platformIds = platformIds;
+        this.typeIds = typeIds;
+        this.formatters = formatters;
+        this.fallbacks = fallbacks;
+        this.platformIdsBySymbol = indexBySymbol(platformIds);
+        this.typeIdsBySymbol = indexBySymbol(typeIds);
+    }
+
+    static FrozenFormatterRegistry build(Map<FormatterKey, WebhookFormatter<?, ?>> specific,
+        Map<String, WebhookFormatter<?, ?>> fallback) {
+        Map<String, Integer> platformIds = new HashMap<>();
+        Map<String, Integer> typeIds = new HashMap<>();
+        for (FormatterKey key : specific.keySet()) {
+            platformIds.putIfAbsent(key.platform(), platformIds.size());
+            typeIds.putIfAbsent(key.typeId(), typeIds.size());
+        }
+        for (String platform : fallback.keySet()) {
+            platformIds.putIfAbsent(platform, platformIds.size());
+        }
+
+        WebhookFormatter<?, ?>[] fallbacks = new WebhookFormatter<?, ?>[platformIds.size()];
+        WebhookFormatter<?, ?>[][] formatters = new WebhookFormatter<?, ?>[platformIds.size()][typeIds.size()];
+        for (Map.Entry<String, WebhookFormatter<?, ?>> entry : fallback.entrySet()) {
+            int platformId = platformIds.get(entry.getKey());
+            fallbacks[platformId] = entry.getValue();
+            Arrays.fill(formatters[platformId], entry.getValue());
+        }
+        for (Map.Entry<FormatterKey, WebhookFormatter<?, ?>> entry : specific.entrySet()) {
+            FormatterKey key = entry.getKey();
+            formatters[platformIds.get(key.platform())][typeIds.get(key.typeId())] = entry.getValue();
+        }
+        return new FrozenFormatterRegistry(platformIds, typeIds, formatters, fallbacks);
+    }
+
+    public int platformId(String platform) {
+        Integer id = platformIds.get(platform);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    public int typeId(String typeId) {
+        Integer id = typeIds.get(typeId);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    @Nullable
+    public WebhookFormatter<?, ?> lookup(Symbol platform, Symbol typeId) {
+        return getOrFallback(idOf(platformIdsBySymbol, platform), idOf(typeIdsBySymbol, typeId));
+    }
+
+    @Nullable
+    public WebhookFormatter<?, ?> getOrFallback(String platform, String typeId) {
+        return getOrFallback(platformId(platform), typeId(typeId));
+    }
+
+    @Nullable
+    public WebhookFormatter<?, ?> getOrFallback(int platformId, int typeId) {
+        if (platformId < 0) {
+            return null;
+        }
+        if (typeId < 0) {
+            return fallbacks[platformId];
+        }
+        return formatters[platformId][typeId];
+    }
+
+    private static int[] indexBySymbol(Map<String, Integer> ids) {
+        int[] index = new int[0];
+        for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+            int symbolId = Symbol.of(entry.getKey()).id();
+            if (symbolId >= index.length) {
+                int previousLength = index.length;
+                index = Arrays.copyOf(index, symbolId + 1);
+                Arrays.fill(index, previousLength, index.length, UNKNOWN_ID);
+            }
+            index[symbolId] = entry.getValue();
+        }
+        return index;
+    }
+
+    private static int idOf(int[] index, Symbol symbol) {
+        int symbolId = symbol.id();
+        if (symbolId < 0) {
+            // resolved before its name was registered: the name may have been interned since
+            Symbol interned = Symbol.find(symbol.name());
+            if (interned == null) {
+                return UNKNOWN_ID;
+            }
+            symbolId = interned.id();
+        }
+        return symbolId < index.length ? index[symbolId] : UNKNOWN_ID;
+    }
+
+    public int platformCount() {
+        return fallbacks.length;
+    }
+
+    public int typeCount() {
+        return typeIds.size();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -156,6 +157,39 @@ class NotificationTest {
         }
     }
 
+    @Nested
+    class InternedSymbolTest {
+
+        @Test
+        void shouldReuseInternedTypeIdAndCategory() {
+            // Given
+            Symbol.of("demo.test.symbol");
+            Symbol.of("general");
+            String typeId = new String("demo.test.symbol");
+
+            // When
+            Notification<TestContext> notification = Notification.of(typeId, "general", new TestContext("symbol"));
+
+            // Then
+            assertThat(notification.getTypeSymbol()).isSameAs(Symbol.of("demo.test.symbol"));
+            assertThat(notification.getCategorySymbol()).isSameAs(Symbol.of("general"));
+            assertThat(notification.getTypeId()).isSameAs(Symbol.of("demo.test.symbol").name());
+        }
+
+        @Test
+        void shouldNotInternUnknownTypeIdOrCategory() {
+            // When
+            Notification<TestContext> notification = Notification.of("demo.test.never.registered",
+                "demo.category.never.registered", new TestContext("symbol"));
+
+            // Then
+            assertThat(notification.getTypeSymbol().isInterned()).isFalse();
+            assertThat(notification.getTypeId()).isEqualTo("demo.test.never.registered");
+            assertThat(Symbol.find("demo.test.never.registered")).isNull();
+            assertThat(Symbol.find("demo.category.never.registered")).isNull();
+        }
+    }
+
     @Nested
     class GetMetaTest {
 
@@ -188,6 +222,67 @@ class NotificationTest {
             // Then
             assertThat(result).isNull();
         }
+
+        @Test
+        void shouldShareEmptyMetaWhenNoMetaGiven() {
+            // When
+            Notification<TestContext> first = Notification.of("demo.test.event", "general", new TestContext("a"));
+            Notification<TestContext> second = Notification.<TestContext>builder("demo.test.event")
+                .category("general")
+                .context(new TestContext("b"))
+                .meta(Map.of())
+                .build();
+
+            // Then
+            assertThat(first.getMeta()).isEmpty();
+            assertThat(second.getMeta()).isSameAs(first.getMeta());
+        }
+
+        @Test
+        void shouldKeepLastValueWhenSingleKeyIsRepeated() {
+            // When
+            Notification<TestContext> notification = Notification.<TestContext>builder("demo.test.event")
+                .category("general")
+                .context(new TestContext("test"))
+                .meta("key", "first")
+                .meta("key", "second")
+                .build();
+
+            // Then
+            assertThat(notification.getMeta()).containsExactly(Map.entry("key", "second"));
+        }
+
+        @Test
+        void shouldMergeSingleAndMapMeta() {
+            // When
+            Notification<TestContext> notification = Notification.<TestContext>builder("demo.test.event")
+                .category("general")
+                .context(new TestContext("test"))
+                .meta("traceId", "abc")
+                .meta(Map.of("tenant", "acme", "traceId", "def"))
+                .meta("region", "eu")
+                .build();
+
+            // Then
+            assertThat(notification.getMeta())
+                .containsOnly(Map.entry("traceId", "def"), Map.entry("tenant", "acme"), Map.entry("region", "eu"));
+        }
+
+        @Test
+        void shouldNotApplyMapMetaWhenAnyKeyIsBlank() {
+            // Given
+            Map<String, Object> metaMap = new HashMap<>();
+            metaMap.put("valid", "value");
+            metaMap.put(" ", "value");
+            Notification.Builder<TestContext> builder = Notification.<TestContext>builder("demo.test.event")
+                .category("general")
+                .context(new TestContext("test"));
+
+            // When & Then
+            assertThatThrownBy(() -> builder.meta(metaMap))
+                .isInstanceOf(InvalidWebhookArgumentException.class);
+            assertThat(builder.build().getMeta()).isEmpty();
+        }
     }
 
     @Nested
@@ -0,0 +1,124 @@
+package io.github.limehee.hookrouter.core.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SerializedPayloadTest {
+
+    @Nested
+    class FactoryTest {
+
+        @Test
+        void shouldEncodeJsonAsUtf8WithJsonContentType() {
+            // When
+            SerializedPayload payload = SerializedPayload.json("{\"text\":\"héllo\"}");
+
+            // Then
+            assertThat(payload.contentType()).isEqualTo("application/json");
+            assertThat(payload.asString(StandardCharsets.UTF_8)).isEqualTo("{\"text\":\"héllo\"}");
+            assertThat(payload.size()).isEqualTo("{\"text\":\"héllo\"}".getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @Test
+        void shouldCopyCallerArraySoLaterMutationsAreNotVisible() {
+            // Given
+            byte[] source = {1, 2, 3};
+
+            // When
+            SerializedPayload payload = SerializedPayload.of(source, "application/octet-stream");
+            source[0] = 9;
+
+            // Then
+            assertThat(payload.toByteArray()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void shouldRejectBlankContentType() {
+            // When & Then
+            assertThatThrownBy(() -> SerializedPayload.of(new byte[0], " "))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("contentType must not be null or blank");
+        }
+
+        @Test
+        void shouldCarryContentEncodingForPrecompressedBytes() {
+            // When
+            SerializedPayload payload = SerializedPayload.encoded(new byte[] {31, -117}, "application/json", "gzip");
+
+            // Then
+            assertThat(payload.contentEncoding()).isEqualTo("gzip");
+            assertThat(payload.toString())
+                .isEqualTo("SerializedPayload{contentType='application/json', contentEncoding='gzip', size=2}");
+            assertThat(payload).isNotEqualTo(SerializedPayload.of(new byte[] {31, -117}, "application/json"));
+        }
+
+        @Test
+        void shouldRejectNullContent() {
+            // When & Then
+            assertThatThrownBy(() -> SerializedPayload.of((byte[]) null, "application/json"))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("content must not be null");
+        }
+    }
+
+    @Nested
+    class AccessTest {
+
+        @Test
+        void shouldExposeReadOnlyBufferView() {
+            // Given
+            SerializedPayload payload = SerializedPayload.json("{}");
+
+            // When
+            ByteBuffer buffer = payload.asByteBuffer();
+
+            // Then
+            assertThat(buffer.isReadOnly()).isTrue();
+            assertThat(buffer.remaining()).isEqualTo(2);
+            assertThatThrownBy(() -> buffer.put(0, (byte) 'x')).isInstanceOf(ReadOnlyBufferException.class);
+        }
+
+        @Test
+        void shouldReturnDefensiveCopyFromToByteArray() {
+            // Given
+            SerializedPayload payload = SerializedPayload.json("{}");
+
+            // When
+            payload.toByteArray()[0] = 'x';
+
+            // Then
+            assertThat(payload.asString(StandardCharsets.UTF_8)).isEqualTo("{}");
+        }
+    }
+
+    @Nested
+    class EqualsHashCodeTest {
+
+        @Test
+        void shouldCompareByContentAndContentType() {
+            // Given
+            SerializedPayload first = SerializedPayload.json("{}");
+            SerializedPayload second = SerializedPayload.of("{}".getBytes(StandardCharsets.UTF_8), "application/json");
+            SerializedPayload other = SerializedPayload.of("{}", "text/plain");
+
+            // Then
+            assertThat(first).isEqualTo(second);
+            assertThat(first.hashCode()).isEqualTo(second.hashCode());
+            assertThat(first).isNotEqualTo(other);
+        }
+
+        @Test
+        void shouldDescribeSizeWithoutContent() {
+            // Then
+            assertThat(SerializedPayload.json("{\"secret\":1}").toString())
+                .isEqualTo("SerializedPayload{contentType='application/json', size=12}");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.limehee.hookrouter.core.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SymbolTest {
+
+    @Nested
+    class OfTest {
+
+        @Test
+        void shouldReturnSameInstanceForEqualNames() {
+            // Given
+            String name = new String("symbol.test.same");
+
+            // When
+            Symbol first = Symbol.of("symbol.test.same");
+            Symbol second = Symbol.of(name);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(second.id()).isEqualTo(first.id());
+            assertThat(second.name()).isSameAs(first.name());
+        }
+
+        @Test
+        void shouldAssignDistinctIdsToDistinctNames() {
+            // When
+            Symbol first = Symbol.of("symbol.test.first");
+            Symbol second = Symbol.of("symbol.test.second");
+
+            // Then
+            assertThat(first).isNotSameAs(second);
+            assertThat(first.id()).isNotEqualTo(second.id());
+            assertThat(Symbol.count()).isGreaterThan(Math.max(first.id(), second.id()));
+        }
+
+        @Test
+        void shouldExposeNameAndHash() {
+            // When
+            Symbol symbol = Symbol.of("symbol.test.hash");
+
+            // Then
+            assertThat(symbol.hashCode()).isEqualTo("symbol.test.hash".hashCode());
+            assertThat(symbol).hasToString("symbol.test.hash");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenNameIsNull() {
+            assertThatThrownBy(() -> Symbol.of(null))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("symbol name must not be null");
+        }
+    }
+
+    @Nested
+    class ResolveTest {
+
+        @Test
+        void shouldReturnInternedSymbolWhenPresent() {
+            // Given
+            Symbol symbol = Symbol.of("symbol.test.resolve");
+
+            // When & Then
+            assertThat(Symbol.resolve(new String("symbol.test.resolve"))).isSameAs(symbol);
+        }
+
+        @Test
+        void shouldNotInternUnknownName() {
+            // When
+            Symbol symbol = Symbol.resolve("symbol.test.resolve.unknown");
+
+            // Then
+            assertThat(symbol.isInterned()).isFalse();
+            assertThat(symbol.name()).isEqualTo("symbol.test.resolve.unknown");
+            assertThat(Symbol.find("symbol.test.resolve.unknown")).isNull();
+        }
+
+        @Test
+        void shouldEqualSymbolOfSameNameWhenNotInterned() {
+            // Given
+            Symbol first = Symbol.resolve("symbol.test.resolve.equal");
+            Symbol second = Symbol.resolve("symbol.test.resolve.equal");
+
+            // When
+            Symbol interned = Symbol.of("symbol.test.resolve.equal");
+
+            // Then
+            assertThat(first).isEqualTo(second).isEqualTo(interned).hasSameHashCodeAs(interned);
+            assertThat(first).isNotEqualTo(Symbol.resolve("symbol.test.resolve.other"));
+        }
+    }
+
+    @Nested
+    class FindTest {
+
+        @Test
+        void shouldReturnNullForUninternedName() {
+            assertThat(Symbol.find("symbol.test.never.interned")).isNull();
+        }
+
+        @Test
+        void shouldReturnInternedSymbol() {
+            // Given
+            Symbol symbol = Symbol.of("symbol.test.find");
+
+            // When & Then
+            assertThat(Symbol.find("symbol.test.find")).isSameAs(symbol);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package io.github.limehee.hookrouter.core.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal.RecoveredEntry;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OutboxJournalTest {
+
+    private static final Duration FSYNC_INTERVAL = Duration.ofMillis(5);
+
+    @TempDir
+    Path directory;
+
+    private OutboxJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private OutboxJournal open(int segmentSize) throws IOException {
+        journal = OutboxJournal.open(directory, segmentSize, FSYNC_INTERVAL);
+        return journal;
+    }
+
+    private OutboxJournal reopen(int segmentSize) throws IOException {
+        journal.close();
+        return open(segmentSize);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<RecoveredEntry> entries) {
+        return entries.stream().map(entry -> new String(entry.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private long segmentFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(OutboxJournal.SEGMENT_PREFIX))
+                .count();
+        }
+    }
+
+    @Nested
+    class OpenTest {
+
+        @Test
+        void shouldRejectSegmentSizeBelowMinimum() {
+            // When / Then
+            assertThatThrownBy(() -> OutboxJournal.open(directory, 1024, FSYNC_INTERVAL))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("segmentSize must be >= 4096");
+        }
+
+        @Test
+        void shouldRejectNonPositiveFsyncInterval() {
+            // When / Then
+            assertThatThrownBy(() -> OutboxJournal.open(directory, 4096, Duration.ZERO))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("fsyncInterval must be positive");
+        }
+
+        @Test
+        void shouldStartEmptyWhenDirectoryHasNoSegments() throws IOException {
+            // When
+            OutboxJournal opened = open(4096);
+
+            // Then
+            assertThat(opened.pendingCount()).isZero();
+            assertThat(opened.drainRecoveredEntries()).isEmpty();
+        }
+    }
+
+    @Nested
+    class AppendTest {
+
+        @Test
+        void shouldCountAppendedEntriesAsPending() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+
+            // When
+            opened.append(bytes("first"));
+            opened.append(bytes("second"));
+
+            // Then
+            assertThat(opened.pendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldRejectEntryLargerThanSegment() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+
+            // When / Then
+            assertThatThrownBy(() -> opened.append(new byte[4096]))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("does not fit into a segment");
+        }
+
+        @Test
+        void shouldRejectAppendAfterClose() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            opened.close();
+
+            // When / Then
+            assertThatThrownBy(() -> opened.append(bytes("late")))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void shouldRollToNewSegmentWhenFull() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+
+            // When
+            for (int i = 0; i < 3; i++) {
+                opened.append(new byte[1500]);
+            }
+
+            // Then
+            assertThat(opened.segmentCount()).isEqualTo(2);
+            assertThat(opened.pendingCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class AcknowledgeTest {
+
+        @Test
+        void shouldAcknowledgeEntryOnlyOnce() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            long entryId = opened.append(bytes("once"));
+
+            // When
+            boolean first = opened.acknowledge(entryId);
+            boolean second = opened.acknowledge(entryId);
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(opened.pendingCount()).isZero();
+        }
+
+        @Test
+        void shouldIgnoreUnknownEntryId() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+
+            // When
+            boolean acknowledged = opened.acknowledge(Long.MAX_VALUE);
+
+            // Then
+            assertThat(acknowledged).isFalse();
+        }
+
+        @Test
+        void shouldDeleteSealedSegmentOnceDrained() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            long first = opened.append(new byte[1500]);
+            long second = opened.append(new byte[1500]);
+            opened.append(new byte[1500]);
+
+            // When
+            opened.acknowledge(first);
+            opened.acknowledge(second);
+
+            // Then
+            assertThat(opened.segmentCount()).isEqualTo(1);
+            assertThat(segmentFileCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class RecoveryTest {
+
+        @Test
+        void shouldReplayOnlyUnacknowledgedEntriesAfterReopen() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            long delivered = opened.append(bytes("delivered"));
+            opened.append(bytes("pending-1"));
+            opened.append(bytes("pending-2"));
+            opened.acknowledge(delivered);
+
+            // When
+            OutboxJournal reopened = reopen(4096);
+            List<RecoveredEntry> recovered = reopened.drainRecoveredEntries();
+
+            // Then
+            assertThat(payloads(recovered)).containsExactly("pending-1", "pending-2");
+            assertThat(reopened.pendingCount()).isEqualTo(2);
+            assertThat(reopened.drainRecoveredEntries()).isEmpty();
+        }
+
+        @Test
+        void shouldRetireRecoveredSegmentWhenReplayedEntriesAreAcknowledged() throws IOException {
+            // Given
+            open(4096).append(bytes("pending"));
+            OutboxJournal reopened = reopen(4096);
+            RecoveredEntry entry = reopened.drainRecoveredEntries().get(0);
+
+            // When
+            reopened.acknowledge(entry.entryId());
+
+            // Then
+            assertThat(reopened.pendingCount()).isZero();
+            assertThat(segmentFileCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldDeleteSegmentsWithoutPendingEntriesOnClose() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            opened.acknowledge(opened.append(bytes("done")));
+
+            // When
+            opened.close();
+
+            // Then
+            assertThat(segmentFileCount()).isZero();
+        }
+
+        @Test
+        void shouldStopRecoveryAtTornRecord() throws IOException {
+            // Given
+            OutboxJournal opened = open(4096);
+            opened.append(bytes("intact"));
+            opened.append(bytes("torn"));
+            opened.close();
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                // corrupt the payload of the second record so its checksum no longer matches
+                file.seek(9 + "intact".length() + 9);
+                file.write('X');
+            }
+
+            // When
+            List<RecoveredEntry> recovered = open(4096).drainRecoveredEntries();
+
+            // Then
+            assertThat(payloads(recovered)).containsExactly("intact");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.limehee.hookrouter.core.port;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.limehee.hookrouter.core.domain.Symbol;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -107,4 +108,44 @@ class RoutingTargetTest {
             assertThat(result).contains("https://hook/test");
         }
     }
+
+    @Nested
+    class SymbolTest {
+
+        @Test
+        void shouldResolveInternedPlatformSymbol() {
+            // Given
+            Symbol slack = Symbol.of("slack");
+
+            // When
+            RoutingTarget target = new RoutingTarget(new String("slack"), "error", "https://hook/1");
+
+            // Then
+            assertThat(target.platformSymbol()).isSameAs(slack);
+        }
+
+        @Test
+        void shouldNotInternCallerSuppliedIdentifiers() {
+            // Given
+            int before = Symbol.count();
+
+            // When
+            RoutingTarget target = new RoutingTarget("tenant-platform-7f3a", "tenant-key-7f3a", "https://hook/1");
+
+            // Then
+            assertThat(target.platformSymbol().isInterned()).isFalse();
+            assertThat(target.platformSymbol().name()).isEqualTo("tenant-platform-7f3a");
+            assertThat(Symbol.find("tenant-key-7f3a")).isNull();
+            assertThat(Symbol.count()).isEqualTo(before);
+        }
+
+        @Test
+        void shouldReturnNullSymbolWithoutPlatform() {
+            // When
+            RoutingTarget target = new RoutingTarget(null, "error", "https://hook/1");
+
+            // Then
+            assertThat(target.platformSymbol()).isNull();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.limehee.hookrouter.core.domain.FormatterKey;
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.Symbol;
 import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
 import io.github.limehee.hookrouter.core.exception.DuplicateFallbackFormatterException;
 import io.github.limehee.hookrouter.core.exception.DuplicateFormatterException;
@@ -189,4 +190,123 @@ class FormatterRegistryTest {
             assertThat(result).isNull();
         }
     }
+
+    @Nested
+    class FreezeTest {
+
+        @Test
+        void shouldBumpVersionOnEveryRegistration() {
+            // Given
+            long initial = registry.version();
+
+            // When
+            registry.register(createFormatter("slack", "demo.server.error"));
+            registry.freeze();
+            registry.register(createFallbackFormatter("slack"));
+
+            // Then
+            assertThat(registry.version()).isEqualTo(initial + 2);
+        }
+
+        @Test
+        void shouldFoldFallbackIntoFrozenLookup() {
+            // Given
+            registry.register(createFormatter("slack", "demo.server.error"));
+            registry.register(createFormatter("discord", "demo.user.signup"));
+            registry.register(createFallbackFormatter("slack"));
+
+            // When
+            FrozenFormatterRegistry frozen = registry.freeze();
+
+            // Then
+            assertThat(frozen.getOrFallback("slack", "demo.server.error").isFallback()).isFalse();
+            assertThat(frozen.getOrFallback("slack", "demo.user.signup").isFallback()).isTrue();
+            assertThat(frozen.getOrFallback("slack", "demo.non.existent").isFallback()).isTrue();
+            assertThat(frozen.getOrFallback("discord", "demo.server.error")).isNull();
+            assertThat(frozen.getOrFallback("teams", "demo.server.error")).isNull();
+        }
+
+        @Test
+        void shouldResolveByInternedIds() {
+            // Given
+            WebhookFormatter<String, String> formatter = createFormatter("slack", "demo.server.error");
+            registry.register(formatter);
+            FrozenFormatterRegistry frozen = registry.freeze();
+
+            // When
+            int platformId = frozen.platformId("slack");
+            int typeId = frozen.typeId("demo.server.error");
+
+            // Then
+            assertThat(frozen.getOrFallback(platformId, typeId)).isSameAs(formatter);
+            assertThat(frozen.platformId("teams")).isEqualTo(FrozenFormatterRegistry.UNKNOWN_ID);
+            assertThat(frozen.getOrFallback(FrozenFormatterRegistry.UNKNOWN_ID, typeId)).isNull();
+        }
+
+        @Test
+        void shouldResolveBySymbols() {
+            // Given
+            WebhookFormatter<String, String> formatter = createFormatter("slack", "demo.server.error");
+            registry.register(formatter);
+            registry.register(createFallbackFormatter("slack"));
+            Symbol slack = Symbol.of("slack");
+
+            // When
+            var beforeFreeze = registry.lookup(slack, Symbol.of("demo.server.error"));
+            registry.freeze();
+            var afterFreeze = registry.lookup(slack, Symbol.of("demo.server.error"));
+            var unknownType = registry.lookup(slack, Symbol.of("demo.symbol.after.freeze"));
+
+            // Then
+            assertThat(beforeFreeze).isSameAs(formatter);
+            assertThat(afterFreeze).isSameAs(formatter);
+            assertThat(unknownType.isFallback()).isTrue();
+            assertThat(registry.lookup(Symbol.of("teams"), Symbol.of("demo.server.error"))).isNull();
+        }
+
+        @Test
+        void shouldResolveSymbolCreatedBeforeItsFormatterWasRegistered() {
+            // Given
+            Symbol typeId = Symbol.resolve("demo.symbol.registered.late");
+            WebhookFormatter<String, String> formatter = createFormatter("slack", "demo.symbol.registered.late");
+
+            // When
+            registry.register(formatter);
+            registry.freeze();
+
+            // Then
+            assertThat(typeId.isInterned()).isFalse();
+            assertThat(registry.lookup(Symbol.of("slack"), typeId)).isSameAs(formatter);
+            assertThat(registry.lookup(Symbol.of("slack"), Symbol.resolve("demo.symbol.never.registered"))).isNull();
+        }
+
+        @Test
+        void shouldRebuildSnapshotWhenRegisteringAfterFreeze() {
+            // Given
+            registry.freeze();
+            WebhookFormatter<String, String> formatter = createFormatter("slack", "demo.server.error");
+
+            // When
+            registry.register(formatter);
+
+            // Then
+            assertThat(registry.isFrozen()).isTrue();
+            assertThat(registry.getOrFallback("slack", "demo.server.error")).isSameAs(formatter);
+        }
+
+        @Test
+        void shouldMatchMapLookupAfterFreeze() {
+            // Given
+            registry.register(createFormatter("slack", "demo.server.error"));
+            registry.register(createFallbackFormatter("discord"));
+            var before = registry.getOrFallback("discord", "demo.server.error");
+
+            // When
+            registry.freeze();
+
+            // Then
+            assertThat(registry.getOrFallback("discord", "demo.server.error")).isSameAs(before);
+            assertThat(registry.getOrFallback("slack", "demo.non.existent")).isNull();
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package io.github.limehee.hookrouter.engine;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+@FunctionalInterface
+public interface DeadLetterSink {
+
+    void accept(DeadLetter deadLetter);
+
+    static DeadLetterSink noOp() {
+        return deadLetter -> {
+        };
+    }
+
+    enum FailureReason {
+
+        MAX_RETRIES_EXCEEDED,
+        NON_RETRYABLE_ERROR,
+        EXCEPTION,
+        FORMATTER_NOT_FOUND,
+        PAYLOAD_CREATION_FAILED,
+        SENDER_NOT_FOUND,
+        REJECTED
+    }
+
+    record DeadLetter(
+        Notification<?> notification,
+        RoutingTarget target,
+        @Nullable Object payload,
+        FailureReason reason,
+        @Nullable String errorMessage,
+        int attemptCount,
+        Instant timestamp
+    ) {
+
+        public static DeadLetter of(
+            Notification<?> notification,
+            RoutingTarget target,
+            @Nullable Object payload,
+            FailureReason reason,
+            @Nullable String errorMessage,
+            int attemptCount
+        ) {
+            return new DeadLetter(notification, target, payload, reason, errorMessage, attemptCount, Instant.now());
+        }
+    }
+}
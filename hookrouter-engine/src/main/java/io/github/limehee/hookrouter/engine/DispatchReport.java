@@ -0,0 +1,44 @@
+package io.github.limehee.hookrouter.engine;
+
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+public record DispatchReport(
+    List<Outcome> outcomes
+) {
+
+    public DispatchReport {
+        outcomes = List.copyOf(outcomes);
+    }
+
+    public int successCount() {
+        int count = 0;
+        for (Outcome outcome : outcomes) {
+            if (outcome.success()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean allSucceeded() {
+        return !outcomes.isEmpty() && successCount() == outcomes.size();
+    }
+
+    public record Outcome(
+        RoutingTarget target,
+        boolean success,
+        int attemptCount,
+        @Nullable String errorMessage
+    ) {
+
+        public static Outcome success(RoutingTarget target, int attemptCount) {
+            return new Outcome(target, true, attemptCount, null);
+        }
+
+        public static Outcome failure(RoutingTarget target, int attemptCount, @Nullable String errorMessage) {
+            return new Outcome(target, false, attemptCount, errorMessage);
+        }
+    }
+}
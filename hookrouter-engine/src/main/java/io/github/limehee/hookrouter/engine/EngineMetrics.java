@@ -0,0 +1,33 @@
+package io.github.limehee.hookrouter.engine;
+
+import io.github.limehee.hookrouter.engine.DeadLetterSink.FailureReason;
+import java.time.Duration;
+
+// every metric is optional, so an implementation overrides only what it exports
+public interface EngineMetrics {
+
+    static EngineMetrics noOp() {
+        return new EngineMetrics() {
+        };
+    }
+
+    default void recordSendSuccess(String platform, String webhookKey, String typeId, int attemptCount,
+        Duration duration) {
+    }
+
+    default void recordSendFailure(String platform, String webhookKey, String typeId, String errorMessage,
+        Duration duration) {
+    }
+
+    default void recordRetry(String platform, String webhookKey, String typeId, int attempt) {
+    }
+
+    default void recordTimeout(String platform, String webhookKey, String typeId) {
+    }
+
+    default void recordDeadLetter(String platform, String webhookKey, String typeId, FailureReason reason) {
+    }
+
+    default void recordInFlight(int inFlight) {
+    }
+}
@@ -0,0 +1,560 @@
+package io.github.limehee.hookrouter.engine;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.engine.DeadLetterSink.DeadLetter;
+import io.github.limehee.hookrouter.engine.DeadLetterSink.FailureReason;
+import io.github.limehee.hookrouter.engine.DispatchReport.Outcome;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+public final class HookRouterEngine implements AutoCloseable {
+
+    private static final ThreadLocal<ArrayDeque<Runnable>> HANDOFFS = new ThreadLocal<>();
+
+    private final RoutingPolicy routingPolicy;
+    private final FormatterRegistry formatterRegistry;
+    private final Map<String, WebhookSender> senders;
+    private final Executor executor;
+    @Nullable
+    private final ExecutorService ownedExecutor;
+    private final RetryPolicy retryPolicy;
+    @Nullable
+    private final Duration attemptTimeout;
+    private final Semaphore permits;
+    private final Queue<Runnable> awaitingPermit = new ConcurrentLinkedQueue<>();
+    private final int maxConcurrency;
+    private final DeadLetterSink deadLetterSink;
+    private final EngineMetrics metrics;
+    private final Duration shutdownTimeout;
+    private volatile boolean closed;
+
+    private HookRouterEngine(Builder builder) {
+        this.routingPolicy = builder.routingPolicy;
+        this.formatterRegistry = builder.formatterRegistry;
+        this.senders = Map.copyOf(builder.senders);
+        this.maxConcurrency = builder.maxConcurrency;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            ExecutorService created = Executors.newFixedThreadPool(maxConcurrency, new EngineThreadFactory());
+            this.executor = created;
+            this.ownedExecutor = created;
+        }
+        this.retryPolicy = builder.retryPolicy;
+        this.attemptTimeout = builder.attemptTimeout;
+        this.permits = new Semaphore(maxConcurrency);
+        this.deadLetterSink = builder.deadLetterSink;
+        this.metrics = builder.metrics;
+        this.shutdownTimeout = builder.shutdownTimeout;
+    }
+
+    public static Builder builder(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry) {
+        return new Builder(routingPolicy, formatterRegistry);
+    }
+
+    public CompletableFuture<DispatchReport> dispatch(Notification<?> notification) {
+        if (closed) {
+            throw new IllegalStateException("HookRouterEngine is closed");
+        }
+        List<RoutingTarget> targets = routingPolicy.resolve(notification.getTypeId(), notification.getCategory());
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(new DispatchReport(List.of()));
+        }
+
+        List<CompletableFuture<Outcome>> deliveries = new ArrayList<>(targets.size());
+        for (RoutingTarget target : targets) {
+            deliveries.add(deliver(notification, target));
+        }
+        return CompletableFuture.allOf(deliveries.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                List<Outcome> outcomes = new ArrayList<>(deliveries.size());
+                for (CompletableFuture<Outcome> delivery : deliveries) {
+                    outcomes.add(delivery.join());
+                }
+                return new DispatchReport(outcomes);
+            });
+    }
+
+    public DispatchReport dispatchAndWait(Notification<?> notification) {
+        return dispatch(notification).join();
+    }
+
+    public int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (ownedExecutor == null) {
+            return;
+        }
+        ownedExecutor.shutdown();
+        try {
+            if (!ownedExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                ownedExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ownedExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<Outcome> deliver(Notification<?> notification, RoutingTarget target) {
+        WebhookFormatter<?, ?> formatter = formatterRegistry.lookup(target.platformSymbol(),
+            notification.getTypeSymbol());
+        if (formatter == null) {
+            return completeDeadLetter(notification, target, null, FailureReason.FORMATTER_NOT_FOUND,
+                "Formatter not found for platform=" + target.platform() + ", typeId=" + notification.getTypeId(), 0);
+        }
+
+        Object payload;
+        try {
+            payload = format(formatter, notification);
+        } catch (RuntimeException e) {
+            return completeDeadLetter(notification, target, null, FailureReason.PAYLOAD_CREATION_FAILED,
+                "Formatter failed: " + e.getMessage(), 0);
+        }
+        if (payload == null) {
+            return completeDeadLetter(notification, target, null, FailureReason.PAYLOAD_CREATION_FAILED,
+                "Formatter returned null payload", 0);
+        }
+
+        WebhookSender sender = senders.get(target.platform());
+        if (sender == null) {
+            return completeDeadLetter(notification, target, payload, FailureReason.SENDER_NOT_FOUND,
+                "Sender not found for platform=" + target.platform(), 0);
+        }
+
+        Delivery delivery = new Delivery(notification, target, sender, payload, System.nanoTime());
+        CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+        whenPermitted(() -> start(delivery, outcome));
+        return outcome;
+    }
+
+    // a delivery over the concurrency limit waits in a queue instead of blocking the dispatching thread
+    private void whenPermitted(Runnable start) {
+        if (permits.tryAcquire()) {
+            start.run();
+            return;
+        }
+        awaitingPermit.add(start);
+        // every permit may have been released between the failed tryAcquire and the enqueue
+        if (permits.tryAcquire()) {
+            handOffPermit();
+        }
+    }
+
+    private void releasePermit() {
+        handOffPermit();
+        if (!awaitingPermit.isEmpty() && permits.tryAcquire()) {
+            handOffPermit();
+        }
+    }
+
+    private void handOffPermit() {
+        Runnable next = awaitingPermit.poll();
+        if (next != null) {
+            runHandedOff(next);
+        } else {
+            permits.release();
+        }
+    }
+
+    // a start that fails synchronously releases its permit straight to the next waiter; running those starts
+    // in a loop instead of nesting them keeps the stack flat when the executor rejects a long queue
+    private static void runHandedOff(Runnable start) {
+        ArrayDeque<Runnable> pending = HANDOFFS.get();
+        if (pending != null) {
+            pending.add(start);
+            return;
+        }
+        pending = new ArrayDeque<>();
+        HANDOFFS.set(pending);
+        try {
+            for (Runnable next = start; next != null; next = pending.poll()) {
+                next.run();
+            }
+        } finally {
+            HANDOFFS.remove();
+        }
+    }
+
+    private void start(Delivery delivery, CompletableFuture<Outcome> outcome) {
+        metrics.recordInFlight(inFlight());
+        CompletableFuture<Outcome> attempts;
+        try {
+            attempts = attempt(delivery, 1);
+        } catch (RuntimeException e) {
+            releasePermit();
+            outcome.completeExceptionally(e);
+            return;
+        }
+        attempts.whenComplete((result, error) -> {
+            releasePermit();
+            if (error != null) {
+                outcome.completeExceptionally(unwrap(error));
+            } else {
+                outcome.complete(result);
+            }
+        });
+    }
+
+    private CompletableFuture<Outcome> attempt(Delivery delivery, int attemptCount) {
+        SendTask send = new SendTask(delivery);
+        try {
+            executor.execute(send);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(
+                deadLetter(delivery, FailureReason.REJECTED, "Executor rejected dispatch", attemptCount));
+        }
+        if (attemptTimeout != null) {
+            send.timeoutAfter(attemptTimeout);
+        }
+        return send.finished().thenCompose(attempt -> onAttempt(delivery, attemptCount, attempt));
+    }
+
+    private CompletableFuture<Outcome> onAttempt(Delivery delivery, int attemptCount, Attempt attempt) {
+        RoutingTarget target = delivery.target();
+        String typeId = delivery.notification().getTypeId();
+        Throwable error = attempt.error();
+        SendResult result = attempt.result();
+
+        if (error instanceof TimeoutException) {
+            metrics.recordTimeout(target.platform(), target.webhookKey(), typeId);
+            result = SendResult.networkError("timeout: attempt exceeded " + attemptTimeout.toMillis() + "ms");
+        } else if (error != null) {
+            return CompletableFuture.completedFuture(
+                fail(delivery, FailureReason.EXCEPTION, "exception: " + error.getMessage(), attemptCount));
+        } else if (result == null) {
+            return CompletableFuture.completedFuture(
+                fail(delivery, FailureReason.EXCEPTION, "Sender returned null result", attemptCount));
+        }
+
+        if (result.success()) {
+            metrics.recordSendSuccess(target.platform(), target.webhookKey(), typeId, attemptCount,
+                elapsed(delivery));
+            return CompletableFuture.completedFuture(Outcome.success(target, attemptCount));
+        }
+
+        String errorMessage = Objects.requireNonNullElse(result.errorMessage(), "send failed");
+        if (!result.retryable()) {
+            return CompletableFuture.completedFuture(
+                fail(delivery, FailureReason.NON_RETRYABLE_ERROR, errorMessage, attemptCount));
+        }
+        if (!retryPolicy.canRetry(attemptCount)) {
+            return CompletableFuture.completedFuture(
+                fail(delivery, FailureReason.MAX_RETRIES_EXCEEDED, errorMessage, attemptCount));
+        }
+        if (closed) {
+            return CompletableFuture.completedFuture(
+                fail(delivery, FailureReason.REJECTED, "Engine closed before retry: " + errorMessage, attemptCount));
+        }
+
+        metrics.recordRetry(target.platform(), target.webhookKey(), typeId, attemptCount + 1);
+        long delayMillis = retryPolicy.delayMillis(attemptCount, result.retryAfterMillis());
+        Executor delayed = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS,
+            this::executeOrRunInline);
+        return CompletableFuture.supplyAsync(() -> attemptCount + 1, delayed)
+            .thenCompose(nextAttempt -> attempt(delivery, nextAttempt));
+    }
+
+    private void executeOrRunInline(Runnable task) {
+        // The delayed hand-off must always complete its future; a rejected retry is then
+        // reported by attempt(), which sees the same rejection when it submits the send.
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private Outcome fail(Delivery delivery, FailureReason reason, String errorMessage, int attemptCount) {
+        RoutingTarget target = delivery.target();
+        metrics.recordSendFailure(target.platform(), target.webhookKey(), delivery.notification().getTypeId(),
+            errorMessage, elapsed(delivery));
+        return deadLetter(delivery, reason, errorMessage, attemptCount);
+    }
+
+    private Outcome deadLetter(Delivery delivery, FailureReason reason, String errorMessage, int attemptCount) {
+        publishDeadLetter(delivery.notification(), delivery.target(), delivery.payload(), reason, errorMessage,
+            attemptCount);
+        return Outcome.failure(delivery.target(), attemptCount, errorMessage);
+    }
+
+    private CompletableFuture<Outcome> completeDeadLetter(Notification<?> notification, RoutingTarget target,
+        @Nullable Object payload, FailureReason reason, String errorMessage, int attemptCount) {
+        publishDeadLetter(notification, target, payload, reason, errorMessage, attemptCount);
+        return CompletableFuture.completedFuture(Outcome.failure(target, attemptCount, errorMessage));
+    }
+
+    private void publishDeadLetter(Notification<?> notification, RoutingTarget target, @Nullable Object payload,
+        FailureReason reason, String errorMessage, int attemptCount) {
+        metrics.recordDeadLetter(target.platform(), target.webhookKey(), notification.getTypeId(), reason);
+        try {
+            deadLetterSink.accept(DeadLetter.of(notification, target, payload, reason, errorMessage, attemptCount));
+        } catch (RuntimeException ignored) {
+            // A failing sink must not break dispatch of the remaining targets.
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static Object format(WebhookFormatter<?, ?> formatter, Notification<?> notification) {
+        Class<?> contextClass = formatter.contextClass();
+        if (!Object.class.equals(contextClass) && !contextClass.isInstance(notification.getContext())) {
+            throw new InvalidWebhookArgumentException("context type " + notification.getContext().getClass()
+                .getName() + " does not match formatter context " + contextClass.getName());
+        }
+        return ((WebhookFormatter<Object, Object>) formatter).format((Notification<Object>) notification);
+    }
+
+    @Nullable
+    private static Throwable unwrap(@Nullable Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static Duration elapsed(Delivery delivery) {
+        return Duration.ofNanos(System.nanoTime() - delivery.startNanos());
+    }
+
+    private record Delivery(
+        Notification<?> notification,
+        RoutingTarget target,
+        WebhookSender sender,
+        Object payload,
+        long startNanos
+    ) {
+
+    }
+
+    private record Attempt(
+        @Nullable SendResult result,
+        @Nullable Throwable error
+    ) {
+
+    }
+
+    // completes only once the sender has returned, so a timed-out attempt keeps its permit until the send really ends
+    private static final class SendTask implements Runnable {
+
+        private final Delivery delivery;
+        private final CompletableFuture<Attempt> finished = new CompletableFuture<>();
+        @Nullable
+        private Thread runner;
+        private boolean started;
+        private boolean timedOut;
+        private boolean interrupted;
+
+        private SendTask(Delivery delivery) {
+            this.delivery = delivery;
+        }
+
+        @Override
+        public void run() {
+            if (!begin()) {
+                return;
+            }
+            SendResult result = null;
+            Throwable error = null;
+            try {
+                result = delivery.sender().send(delivery.target().webhookUrl(), delivery.payload());
+            } catch (Throwable e) {
+                error = e;
+            }
+            if (end()) {
+                finished.complete(new Attempt(null, new TimeoutException()));
+            } else {
+                finished.complete(new Attempt(result, error));
+            }
+        }
+
+        private CompletableFuture<Attempt> finished() {
+            return finished;
+        }
+
+        private void timeoutAfter(Duration timeout) {
+            CompletableFuture<Void> timer = new CompletableFuture<Void>()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            timer.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    expire();
+                }
+            });
+            finished.whenComplete((ignored, error) -> timer.complete(null));
+        }
+
+        private synchronized boolean begin() {
+            if (timedOut) {
+                return false;
+            }
+            started = true;
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        private boolean end() {
+            boolean expired;
+            boolean clearInterrupt;
+            synchronized (this) {
+                runner = null;
+                expired = timedOut;
+                clearInterrupt = interrupted;
+            }
+            if (clearInterrupt) {
+                // the interrupt was aimed at this send, not at the pooled thread's next task
+                Thread.interrupted();
+            }
+            return expired;
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (finished.isDone()) {
+                    return;
+                }
+                timedOut = true;
+                if (runner != null) {
+                    interrupted = true;
+                    runner.interrupt();
+                    return;
+                }
+                if (started) {
+                    return;
+                }
+            }
+            // never started, and begin() now skips it when the executor gets to it
+            finished.complete(new Attempt(null, new TimeoutException()));
+        }
+    }
+
+    private static final class EngineThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "hookrouter-engine-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    public static final class Builder {
+
+        private final RoutingPolicy routingPolicy;
+        private final FormatterRegistry formatterRegistry;
+        private final Map<String, WebhookSender> senders = new HashMap<>();
+        @Nullable
+        private Executor executor;
+        private RetryPolicy retryPolicy = RetryPolicy.exponential(3, Duration.ofMillis(200), Duration.ofSeconds(5));
+        @Nullable
+        private Duration attemptTimeout = Duration.ofSeconds(10);
+        private int maxConcurrency = 16;
+        private DeadLetterSink deadLetterSink = DeadLetterSink.noOp();
+        private EngineMetrics metrics = EngineMetrics.noOp();
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        Builder(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry) {
+            this.routingPolicy = Objects.requireNonNull(routingPolicy, "routingPolicy must not be null");
+            this.formatterRegistry = Objects.requireNonNull(formatterRegistry, "formatterRegistry must not be null");
+        }
+
+        public Builder sender(final WebhookSender sender) {
+            WebhookSender existing = senders.putIfAbsent(sender.platform(), sender);
+            if (existing != null) {
+                throw new InvalidWebhookArgumentException(
+                    "sender already registered for platform: " + sender.platform());
+            }
+            return this;
+        }
+
+        public Builder senders(final List<? extends WebhookSender> senders) {
+            for (WebhookSender sender : senders) {
+                sender(sender);
+            }
+            return this;
+        }
+
+        public Builder executor(@Nullable final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+            return this;
+        }
+
+        public Builder attemptTimeout(@Nullable final Duration attemptTimeout) {
+            if (attemptTimeout != null && (attemptTimeout.isZero() || attemptTimeout.isNegative())) {
+                throw new InvalidWebhookArgumentException("attemptTimeout must be positive, but was: "
+                    + attemptTimeout);
+            }
+            this.attemptTimeout = attemptTimeout;
+            return this;
+        }
+
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new InvalidWebhookArgumentException("maxConcurrency must be >= 1, but was: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder deadLetterSink(final DeadLetterSink deadLetterSink) {
+            this.deadLetterSink = Objects.requireNonNull(deadLetterSink, "deadLetterSink must not be null");
+            return this;
+        }
+
+        public Builder metrics(final EngineMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+            return this;
+        }
+
+        public Builder shutdownTimeout(final Duration shutdownTimeout) {
+            this.shutdownTimeout = Objects.requireNonNull(shutdownTimeout, "shutdownTimeout must not be null");
+            return this;
+        }
+
+        public HookRouterEngine build() {
+            formatterRegistry.freeze();
+            return new HookRouterEngine(this);
+        }
+    }
+}
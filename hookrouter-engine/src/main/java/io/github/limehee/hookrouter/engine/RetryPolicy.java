@@ -0,0 +1,59 @@
+package io.github.limehee.hookrouter.engine;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.Nullable;
+
+public record RetryPolicy(
+    int maxAttempts,
+    Duration initialDelay,
+    double multiplier,
+    Duration maxDelay,
+    double jitterFactor
+) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new InvalidWebhookArgumentException("maxAttempts must be >= 1, but was: " + maxAttempts);
+        }
+        if (initialDelay == null || initialDelay.isNegative()) {
+            throw new InvalidWebhookArgumentException("initialDelay must not be null or negative");
+        }
+        if (multiplier < 1.0) {
+            throw new InvalidWebhookArgumentException("multiplier must be >= 1.0, but was: " + multiplier);
+        }
+        if (maxDelay == null || maxDelay.compareTo(initialDelay) < 0) {
+            throw new InvalidWebhookArgumentException("maxDelay must not be null or less than initialDelay");
+        }
+        if (jitterFactor < 0.0 || jitterFactor > 1.0) {
+            throw new InvalidWebhookArgumentException(
+                "jitterFactor must be between 0.0 and 1.0, but was: " + jitterFactor);
+        }
+    }
+
+    public static RetryPolicy none() {
+        return new RetryPolicy(1, Duration.ZERO, 1.0, Duration.ZERO, 0.0);
+    }
+
+    public static RetryPolicy exponential(int maxAttempts, Duration initialDelay, Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, initialDelay, 2.0, maxDelay, 0.1);
+    }
+
+    public boolean canRetry(int attemptCount) {
+        return attemptCount < maxAttempts;
+    }
+
+    public long delayMillis(int attemptCount, @Nullable Long retryAfterMillis) {
+        long maxDelayMillis = maxDelay.toMillis();
+        if (retryAfterMillis != null && retryAfterMillis >= 0) {
+            return Math.min(retryAfterMillis, maxDelayMillis);
+        }
+        double backoff = initialDelay.toMillis() * Math.pow(multiplier, Math.max(attemptCount - 1, 0));
+        if (jitterFactor > 0.0) {
+            double jitter = backoff * jitterFactor;
+            backoff += ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return (long) Math.max(0, Math.min(backoff, maxDelayMillis));
+    }
+}
@@ -0,0 +1,376 @@
+package io.github.limehee.hookrouter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.engine.DeadLetterSink.DeadLetter;
+import io.github.limehee.hookrouter.engine.DeadLetterSink.FailureReason;
+import io.github.limehee.hookrouter.engine.DispatchReport.Outcome;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HookRouterEngineTest {
+
+    private static final RetryPolicy FAST_RETRY =
+        new RetryPolicy(3, Duration.ofMillis(1), 1.0, Duration.ofMillis(5), 0.0);
+
+    private final Queue<DeadLetter> deadLetters = new ConcurrentLinkedQueue<>();
+    private FormatterRegistry formatterRegistry;
+    private HookRouterEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        formatterRegistry = new FormatterRegistry();
+        formatterRegistry.register(fallbackFormatter("slack"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    private static WebhookFormatter<Object, String> fallbackFormatter(String platform) {
+        return new WebhookFormatter<>() {
+            @Override
+            public FormatterKey key() {
+                return FormatterKey.fallback(platform);
+            }
+
+            @Override
+            public Class<Object> contextClass() {
+                return Object.class;
+            }
+
+            @Override
+            public String format(Notification<Object> notification) {
+                return "payload:" + notification.getContext();
+            }
+        };
+    }
+
+    private static WebhookSender sender(String platform, Function<String, WebhookSender.SendResult> behavior) {
+        return new WebhookSender() {
+            @Override
+            public String platform() {
+                return platform;
+            }
+
+            @Override
+            public SendResult send(String webhookUrl, Object payload) {
+                return behavior.apply(webhookUrl);
+            }
+        };
+    }
+
+    private static RoutingPolicy routeTo(RoutingTarget... targets) {
+        return (typeId, category) -> List.of(targets);
+    }
+
+    private HookRouterEngine.Builder engineBuilder(RoutingPolicy routingPolicy) {
+        return HookRouterEngine.builder(routingPolicy, formatterRegistry)
+            .retryPolicy(FAST_RETRY)
+            .deadLetterSink(deadLetters::add);
+    }
+
+    private static Notification<String> notification() {
+        return Notification.of("demo.order.failed", "ops", "payment timeout");
+    }
+
+    @Nested
+    class DispatchTest {
+
+        @Test
+        void shouldReportSuccessForEveryTarget() {
+            // Given
+            engine = engineBuilder(routeTo(
+                RoutingTarget.of("slack", "a", "https://hook/a"),
+                RoutingTarget.of("slack", "b", "https://hook/b")))
+                .sender(sender("slack", url -> WebhookSender.SendResult.success(200)))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.allSucceeded()).isTrue();
+            assertThat(report.outcomes()).extracting(Outcome::attemptCount).containsExactly(1, 1);
+            assertThat(deadLetters).isEmpty();
+        }
+
+        @Test
+        void shouldReturnEmptyReportWhenNoTargets() {
+            // Given
+            engine = engineBuilder(routeTo()).build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.outcomes()).isEmpty();
+            assertThat(report.allSucceeded()).isFalse();
+        }
+
+        @Test
+        void shouldDeadLetterWhenFormatterOrSenderIsMissing() {
+            // Given
+            engine = engineBuilder(routeTo(
+                RoutingTarget.of("discord", "ops", "https://hook/discord"),
+                RoutingTarget.of("slack", "ops", "https://hook/slack")))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.successCount()).isZero();
+            assertThat(deadLetters).extracting(DeadLetter::reason)
+                .containsExactlyInAnyOrder(FailureReason.FORMATTER_NOT_FOUND, FailureReason.SENDER_NOT_FOUND);
+        }
+
+        @Test
+        void shouldRejectDispatchAfterClose() {
+            // Given
+            engine = engineBuilder(routeTo()).build();
+            engine.close();
+
+            // When & Then
+            assertThatThrownBy(() -> engine.dispatch(notification()))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class RetryTest {
+
+        @Test
+        void shouldRetryRetryableFailuresUntilSuccess() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .sender(sender("slack", url -> calls.incrementAndGet() < 3
+                    ? WebhookSender.SendResult.failure(503, "unavailable", true)
+                    : WebhookSender.SendResult.success(200)))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.allSucceeded()).isTrue();
+            assertThat(report.outcomes().get(0).attemptCount()).isEqualTo(3);
+            assertThat(deadLetters).isEmpty();
+        }
+
+        @Test
+        void shouldDeadLetterAfterMaxAttempts() {
+            // Given
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .sender(sender("slack", url -> WebhookSender.SendResult.failure(503, "unavailable", true)))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.outcomes().get(0).attemptCount()).isEqualTo(3);
+            assertThat(deadLetters).singleElement().satisfies(deadLetter -> {
+                assertThat(deadLetter.reason()).isEqualTo(FailureReason.MAX_RETRIES_EXCEEDED);
+                assertThat(deadLetter.payload()).isEqualTo("payload:payment timeout");
+                assertThat(deadLetter.attemptCount()).isEqualTo(3);
+            });
+        }
+
+        @Test
+        void shouldNotRetryNonRetryableFailures() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .sender(sender("slack", url -> {
+                    calls.incrementAndGet();
+                    return WebhookSender.SendResult.failure(400, "bad request", false);
+                }))
+                .build();
+
+            // When
+            engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(calls).hasValue(1);
+            assertThat(deadLetters).extracting(DeadLetter::reason).containsExactly(FailureReason.NON_RETRYABLE_ERROR);
+        }
+
+        @Test
+        void shouldDeadLetterSenderExceptionsWithoutRetry() {
+            // Given
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .sender(sender("slack", url -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.outcomes().get(0).errorMessage()).isEqualTo("exception: boom");
+            assertThat(deadLetters).extracting(DeadLetter::reason).containsExactly(FailureReason.EXCEPTION);
+        }
+    }
+
+    @Nested
+    class TimeoutTest {
+
+        @Test
+        void shouldTreatSlowAttemptsAsRetryableTimeouts() {
+            // Given
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .attemptTimeout(Duration.ofMillis(20))
+                .sender(sender("slack", url -> {
+                    sleep(200);
+                    return WebhookSender.SendResult.success(200);
+                }))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.outcomes().get(0).success()).isFalse();
+            assertThat(report.outcomes().get(0).errorMessage()).startsWith("timeout:");
+            assertThat(deadLetters).extracting(DeadLetter::reason)
+                .containsExactly(FailureReason.MAX_RETRIES_EXCEEDED);
+        }
+
+        @Test
+        void shouldInterruptTimedOutSendAndHoldPermitUntilItReturns() {
+            // Given
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicInteger maxObserved = new AtomicInteger();
+            AtomicInteger interrupted = new AtomicInteger();
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .maxConcurrency(1)
+                .attemptTimeout(Duration.ofMillis(20))
+                .sender(sender("slack", url -> {
+                    maxObserved.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                    } finally {
+                        concurrent.decrementAndGet();
+                    }
+                    return WebhookSender.SendResult.failure(0, "interrupted", false);
+                }))
+                .build();
+
+            // When
+            DispatchReport report = engine.dispatchAndWait(notification());
+
+            // Then
+            assertThat(report.outcomes().get(0).errorMessage()).startsWith("timeout:");
+            assertThat(interrupted).hasValue(3);
+            assertThat(maxObserved).hasValue(1);
+            assertThat(engine.inFlight()).isZero();
+        }
+    }
+
+    @Nested
+    class ConcurrencyTest {
+
+        @Test
+        void shouldLimitInFlightDeliveries() throws InterruptedException {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicInteger maxObserved = new AtomicInteger();
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .maxConcurrency(2)
+                .attemptTimeout(null)
+                .sender(sender("slack", url -> {
+                    maxObserved.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    await(release);
+                    concurrent.decrementAndGet();
+                    return WebhookSender.SendResult.success(200);
+                }))
+                .build();
+
+            // When
+            var first = engine.dispatch(notification());
+            var second = engine.dispatch(notification());
+            Thread third = new Thread(() -> engine.dispatchAndWait(notification()));
+            third.start();
+            TimeUnit.MILLISECONDS.sleep(100);
+            int inFlightWhileBlocked = engine.inFlight();
+            release.countDown();
+            third.join(5_000);
+
+            // Then
+            assertThat(inFlightWhileBlocked).isEqualTo(2);
+            assertThat(first.join().allSucceeded()).isTrue();
+            assertThat(second.join().allSucceeded()).isTrue();
+            assertThat(maxObserved).hasValue(2);
+            assertThat(engine.inFlight()).isZero();
+        }
+
+        @Test
+        void shouldQueueDeliveriesOverTheLimitWithoutBlockingTheCaller() {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            engine = engineBuilder(routeTo(RoutingTarget.of("slack", "a", "https://hook/a")))
+                .maxConcurrency(1)
+                .attemptTimeout(null)
+                .sender(sender("slack", url -> {
+                    await(release);
+                    return WebhookSender.SendResult.success(200);
+                }))
+                .build();
+
+            // When
+            var first = engine.dispatch(notification());
+            var queued = engine.dispatch(notification());
+            boolean queuedDoneBeforeRelease = queued.isDone();
+            release.countDown();
+
+            // Then
+            assertThat(queuedDoneBeforeRelease).isFalse();
+            assertThat(first.join().allSucceeded()).isTrue();
+            assertThat(queued.join().allSucceeded()).isTrue();
+            assertThat(engine.inFlight()).isZero();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
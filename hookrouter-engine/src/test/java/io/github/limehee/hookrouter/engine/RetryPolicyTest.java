@@ -0,0 +1,90 @@
+package io.github.limehee.hookrouter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    @Nested
+    class DelayTest {
+
+        @Test
+        void shouldGrowExponentiallyUpToMaxDelay() {
+            // Given
+            RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(100), 2.0, Duration.ofMillis(300), 0.0);
+
+            // When & Then
+            assertThat(policy.delayMillis(1, null)).isEqualTo(100);
+            assertThat(policy.delayMillis(2, null)).isEqualTo(200);
+            assertThat(policy.delayMillis(3, null)).isEqualTo(300);
+            assertThat(policy.delayMillis(4, null)).isEqualTo(300);
+        }
+
+        @Test
+        void shouldHonorRetryAfterCappedByMaxDelay() {
+            // Given
+            RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(100), 2.0, Duration.ofMillis(1_000), 0.0);
+
+            // When & Then
+            assertThat(policy.delayMillis(1, 750L)).isEqualTo(750);
+            assertThat(policy.delayMillis(1, 60_000L)).isEqualTo(1_000);
+        }
+
+        @Test
+        void shouldKeepJitteredDelayWithinBounds() {
+            // Given
+            RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(100), 1.0, Duration.ofMillis(1_000), 0.5);
+
+            // When & Then
+            for (int i = 0; i < 100; i++) {
+                assertThat(policy.delayMillis(1, null)).isBetween(50L, 150L);
+            }
+        }
+    }
+
+    @Nested
+    class CanRetryTest {
+
+        @Test
+        void shouldAllowRetriesUntilMaxAttempts() {
+            // Given
+            RetryPolicy policy = RetryPolicy.exponential(3, Duration.ofMillis(10), Duration.ofMillis(100));
+
+            // When & Then
+            assertThat(policy.canRetry(1)).isTrue();
+            assertThat(policy.canRetry(2)).isTrue();
+            assertThat(policy.canRetry(3)).isFalse();
+            assertThat(RetryPolicy.none().canRetry(1)).isFalse();
+        }
+    }
+
+    @Nested
+    class ValidationTest {
+
+        @Test
+        void shouldRejectZeroMaxAttempts() {
+            assertThatThrownBy(() -> new RetryPolicy(0, Duration.ZERO, 1.0, Duration.ZERO, 0.0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("maxAttempts must be >= 1");
+        }
+
+        @Test
+        void shouldRejectMaxDelayBelowInitialDelay() {
+            assertThatThrownBy(() -> new RetryPolicy(2, Duration.ofSeconds(2), 2.0, Duration.ofSeconds(1), 0.0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("maxDelay");
+        }
+
+        @Test
+        void shouldRejectJitterFactorOutOfRange() {
+            assertThatThrownBy(() -> new RetryPolicy(2, Duration.ZERO, 2.0, Duration.ZERO, 1.5))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("jitterFactor");
+        }
+    }
+}
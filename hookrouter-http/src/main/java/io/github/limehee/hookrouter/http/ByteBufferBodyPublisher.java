@@ -0,0 +1,57 @@
+package io.github.limehee.hookrouter.http;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ByteBufferBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private final ByteBuffer content;
+
+    ByteBufferBodyPublisher(ByteBuffer content) {
+        this.content = content;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.remaining();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new SingleBufferSubscription(subscriber, content.duplicate()));
+    }
+
+    private static final class SingleBufferSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ByteBuffer buffer;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private SingleBufferSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer buffer) {
+            this.subscriber = subscriber;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("non-positive subscription request: " + n));
+                return;
+            }
+            if (buffer.hasRemaining()) {
+                subscriber.onNext(buffer);
+            }
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+    }
+}
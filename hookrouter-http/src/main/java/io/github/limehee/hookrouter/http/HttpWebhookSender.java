@@ -0,0 +1,241 @@
+package io.github.limehee.hookrouter.http;
+
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.jspecify.annotations.Nullable;
+
+public class HttpWebhookSender implements WebhookSender {
+
+    private static final int HTTP_REQUEST_TIMEOUT = 408;
+    private static final int MAX_ERROR_BODY_LENGTH = 512;
+    private final String platform;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final PayloadEncoder payloadEncoder;
+    private final Clock clock;
+
+    HttpWebhookSender(Builder builder, HttpClient httpClient, Clock clock) {
+        this.platform = builder.platform;
+        this.httpClient = httpClient;
+        this.requestTimeout = builder.requestTimeout;
+        this.contentType = builder.contentType;
+        this.headers = Map.copyOf(builder.headers);
+        this.payloadEncoder = builder.payloadEncoder;
+        this.clock = clock;
+    }
+
+    public static Builder builder(String platform) {
+        return new Builder(platform);
+    }
+
+    @Override
+    public String platform() {
+        return platform;
+    }
+
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public SendResult send(String webhookUrl, Object payload) {
+        HttpRequest request;
+        try {
+            request = buildRequest(webhookUrl, payload);
+        } catch (IllegalArgumentException e) {
+            return SendResult.failure(-1, Objects.requireNonNullElse(e.getMessage(), "invalid request"), false);
+        }
+
+        try {
+            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            return toSendResult(response);
+        } catch (HttpTimeoutException e) {
+            return timeoutResult();
+        } catch (IOException e) {
+            return SendResult.networkError(Objects.requireNonNullElse(e.getMessage(), "network error"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SendResult.failure(0, "interrupted: request was cancelled", false);
+        }
+    }
+
+    public CompletableFuture<SendResult> sendAsync(String webhookUrl, Object payload) {
+        HttpRequest request;
+        try {
+            request = buildRequest(webhookUrl, payload);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(
+                SendResult.failure(-1, Objects.requireNonNullElse(e.getMessage(), "invalid request"), false));
+        }
+
+        return httpClient.sendAsync(request, BodyHandlers.ofString())
+            .handle((response, throwable) -> {
+                if (throwable == null) {
+                    return toSendResult(response);
+                }
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+                if (cause instanceof HttpTimeoutException) {
+                    return timeoutResult();
+                }
+                if (cause instanceof IOException) {
+                    return SendResult.networkError(Objects.requireNonNullElse(cause.getMessage(), "network error"));
+                }
+                return SendResult.failure(-1, Objects.requireNonNullElse(cause.getMessage(), "unexpected error"),
+                    false);
+            });
+    }
+
+    private HttpRequest buildRequest(String webhookUrl, Object payload) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(webhookUrl))
+            .timeout(requestTimeout);
+        if (payload instanceof SerializedPayload serialized) {
+            requestBuilder.header("Content-Type", serialized.contentType())
+                .POST(new ByteBufferBodyPublisher(serialized.asByteBuffer()));
+            if (serialized.contentEncoding() != null) {
+                requestBuilder.header("Content-Encoding", serialized.contentEncoding());
+            }
+        } else {
+            requestBuilder.header("Content-Type", contentType)
+                .POST(BodyPublishers.ofByteArray(payloadEncoder.encode(payload)));
+        }
+        headers.forEach(requestBuilder::header);
+        return requestBuilder.build();
+    }
+
+    private SendResult toSendResult(HttpResponse<String> response) {
+        int statusCode = response.statusCode();
+        if (statusCode >= 200 && statusCode < 300) {
+            return SendResult.success(statusCode);
+        }
+
+        String errorMessage = String.format("HTTP error: status=%d, body=%s", statusCode,
+            abbreviate(response.body()));
+        Long retryAfterMillis = RetryAfterParser.parseMillis(
+            response.headers().firstValue("Retry-After").orElse(null), clock);
+
+        if (statusCode == SendResult.HTTP_TOO_MANY_REQUESTS) {
+            return SendResult.rateLimited(errorMessage, retryAfterMillis);
+        }
+        boolean retryable = statusCode >= 500 || statusCode == HTTP_REQUEST_TIMEOUT;
+        return new SendResult(false, statusCode, errorMessage, retryable, retryable ? retryAfterMillis : null);
+    }
+
+    private SendResult timeoutResult() {
+        return SendResult.failure(0, "timeout: request exceeded " + requestTimeout.toMillis() + "ms", true);
+    }
+
+    private static String abbreviate(@Nullable String body) {
+        if (body == null || body.isEmpty()) {
+            return "(no response body)";
+        }
+        if (body.length() <= MAX_ERROR_BODY_LENGTH) {
+            return body;
+        }
+        return body.substring(0, MAX_ERROR_BODY_LENGTH) + "...";
+    }
+
+    public static class Builder {
+
+        private final String platform;
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private String contentType = "application/json";
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private PayloadEncoder payloadEncoder = PayloadEncoder.standard();
+        @Nullable
+        private Executor executor;
+        @Nullable
+        private HttpClient httpClient;
+
+        Builder(String platform) {
+            if (platform == null || platform.isBlank()) {
+                throw new InvalidWebhookArgumentException("platform must not be null or blank");
+            }
+            this.platform = platform;
+        }
+
+        public Builder version(final HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version, "version must not be null");
+            return this;
+        }
+
+        public Builder connectTimeout(final Duration connectTimeout) {
+            this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        public Builder requestTimeout(final Duration requestTimeout) {
+            this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        public Builder contentType(final String contentType) {
+            this.contentType = Objects.requireNonNull(contentType, "contentType must not be null");
+            return this;
+        }
+
+        public Builder header(final String name, final String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        public Builder payloadEncoder(final PayloadEncoder payloadEncoder) {
+            this.payloadEncoder = Objects.requireNonNull(payloadEncoder, "payloadEncoder must not be null");
+            return this;
+        }
+
+        public Builder executor(@Nullable final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder httpClient(@Nullable final HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public HttpWebhookSender build() {
+            return new HttpWebhookSender(this, httpClient != null ? httpClient : newHttpClient(), Clock.systemUTC());
+        }
+
+        HttpClient newHttpClient() {
+            HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER);
+            if (executor != null) {
+                clientBuilder.executor(executor);
+            }
+            return clientBuilder.build();
+        }
+
+        private static Duration requirePositive(@Nullable Duration duration, String name) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new InvalidWebhookArgumentException(name + " must be > 0, but was: " + duration);
+            }
+            return duration;
+        }
+    }
+}
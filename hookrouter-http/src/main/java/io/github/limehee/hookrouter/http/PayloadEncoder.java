@@ -0,0 +1,22 @@
+package io.github.limehee.hookrouter.http;
+
+import java.nio.charset.StandardCharsets;
+
+@FunctionalInterface
+public interface PayloadEncoder {
+
+    static PayloadEncoder standard() {
+        return payload -> {
+            if (payload instanceof byte[] bytes) {
+                return bytes;
+            }
+            if (payload instanceof CharSequence text) {
+                return text.toString().getBytes(StandardCharsets.UTF_8);
+            }
+            throw new IllegalArgumentException(
+                "Unsupported payload type: " + payload.getClass().getName() + " (expected byte[] or CharSequence)");
+        };
+    }
+
+    byte[] encode(Object payload);
+}
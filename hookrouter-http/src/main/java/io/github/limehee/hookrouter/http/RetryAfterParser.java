@@ -0,0 +1,46 @@
+package io.github.limehee.hookrouter.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.jspecify.annotations.Nullable;
+
+final class RetryAfterParser {
+
+    private RetryAfterParser() {
+    }
+
+    @Nullable
+    static Long parseMillis(@Nullable String value, Clock clock) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (isDigits(trimmed)) {
+            try {
+                return Math.multiplyExact(Long.parseLong(trimmed), 1000L);
+            } catch (ArithmeticException | NumberFormatException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            long millis = Duration.between(clock.instant(), retryAt.toInstant()).toMillis();
+            return Math.max(millis, 0L);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
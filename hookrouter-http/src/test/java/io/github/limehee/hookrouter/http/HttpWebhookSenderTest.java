@@ -0,0 +1,323 @@
+package io.github.limehee.hookrouter.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HttpWebhookSenderTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final CountDownLatch releaseSlowResponse = new CountDownLatch(1);
+    private HttpWebhookSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, Map.of(), ""));
+        server.createContext("/no-content", exchange -> respond(exchange, 204, Map.of(), ""));
+        server.createContext("/rate-limited-seconds",
+            exchange -> respond(exchange, 429, Map.of("Retry-After", "7"), "slow down"));
+        server.createContext("/rate-limited-date",
+            exchange -> respond(exchange, 429, Map.of("Retry-After", "Wed, 21 Oct 2015 07:28:00 GMT"), ""));
+        server.createContext("/unavailable",
+            exchange -> respond(exchange, 503, Map.of("Retry-After", "2"), "maintenance"));
+        server.createContext("/bad-request", exchange -> respond(exchange, 400, Map.of(), "invalid payload"));
+        server.createContext("/slow", exchange -> {
+            try {
+                releaseSlowResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, Map.of(), "");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        sender = HttpWebhookSender.builder("generic")
+            .requestTimeout(Duration.ofSeconds(2))
+            .header("X-Hook-Source", "hookrouter")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowResponse.countDown();
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, String> headers, String body)
+        throws IOException {
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        requests.add(new RecordedRequest(exchange.getRequestMethod(),
+            exchange.getRequestHeaders().getFirst("Content-Type"),
+            exchange.getRequestHeaders().getFirst("Content-Encoding"),
+            exchange.getRequestHeaders().getFirst("X-Hook-Source"),
+            new String(requestBody, StandardCharsets.UTF_8)));
+        headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        byte[] responseBody = body.getBytes(StandardCharsets.UTF_8);
+        if (status == 204 || responseBody.length == 0) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            exchange.sendResponseHeaders(status, responseBody.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(responseBody);
+            }
+        }
+        exchange.close();
+    }
+
+    private record RecordedRequest(String method, String contentType, String contentEncoding, String sourceHeader,
+        String body) {
+
+    }
+
+    @Nested
+    class SendTest {
+
+        @Test
+        void shouldPostEncodedPayloadWithConfiguredHeaders() {
+            // When
+            SendResult result = sender.send(baseUrl + "/ok", "{\"text\":\"hello\"}");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.statusCode()).isEqualTo(200);
+            assertThat(requests).singleElement().satisfies(request -> {
+                assertThat(request.method()).isEqualTo("POST");
+                assertThat(request.contentType()).isEqualTo("application/json");
+                assertThat(request.sourceHeader()).isEqualTo("hookrouter");
+                assertThat(request.body()).isEqualTo("{\"text\":\"hello\"}");
+            });
+        }
+
+        @Test
+        void shouldWriteSerializedPayloadBytesWithItsContentType() {
+            // Given
+            SerializedPayload payload = SerializedPayload.of("a=1&b=2", "application/x-www-form-urlencoded");
+
+            // When
+            SendResult first = sender.send(baseUrl + "/ok", payload);
+            SendResult second = sender.send(baseUrl + "/ok", payload);
+
+            // Then
+            assertThat(first.success()).isTrue();
+            assertThat(second.success()).isTrue();
+            assertThat(requests).hasSize(2).allSatisfy(request -> {
+                assertThat(request.contentType()).isEqualTo("application/x-www-form-urlencoded");
+                assertThat(request.contentEncoding()).isNull();
+                assertThat(request.body()).isEqualTo("a=1&b=2");
+            });
+        }
+
+        @Test
+        void shouldSendContentEncodingHeaderForEncodedPayload() {
+            // Given
+            SerializedPayload payload = SerializedPayload.encoded("compressed".getBytes(StandardCharsets.UTF_8),
+                "application/json", "gzip");
+
+            // When
+            SendResult result = sender.send(baseUrl + "/ok", payload);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(requests).singleElement().satisfies(request -> {
+                assertThat(request.contentType()).isEqualTo("application/json");
+                assertThat(request.contentEncoding()).isEqualTo("gzip");
+            });
+        }
+
+        @Test
+        void shouldTreatAny2xxAsSuccess() {
+            // When
+            SendResult result = sender.send(baseUrl + "/no-content", "{}".getBytes(StandardCharsets.UTF_8));
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.statusCode()).isEqualTo(204);
+        }
+
+        @Test
+        void shouldMapTooManyRequestsToRateLimitedWithRetryAfterSeconds() {
+            // When
+            SendResult result = sender.send(baseUrl + "/rate-limited-seconds", "{}");
+
+            // Then
+            assertThat(result.isRateLimited()).isTrue();
+            assertThat(result.retryable()).isTrue();
+            assertThat(result.retryAfterMillis()).isEqualTo(7_000L);
+            assertThat(result.errorMessage()).contains("status=429").contains("slow down");
+        }
+
+        @Test
+        void shouldClampPastRetryAfterDateToZero() {
+            // When
+            SendResult result = sender.send(baseUrl + "/rate-limited-date", "{}");
+
+            // Then
+            assertThat(result.isRateLimited()).isTrue();
+            assertThat(result.retryAfterMillis()).isZero();
+        }
+
+        @Test
+        void shouldMapServerErrorToRetryableFailureKeepingRetryAfter() {
+            // When
+            SendResult result = sender.send(baseUrl + "/unavailable", "{}");
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.statusCode()).isEqualTo(503);
+            assertThat(result.retryable()).isTrue();
+            assertThat(result.retryAfterMillis()).isEqualTo(2_000L);
+        }
+
+        @Test
+        void shouldMapClientErrorToNonRetryableFailure() {
+            // When
+            SendResult result = sender.send(baseUrl + "/bad-request", "{}");
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.statusCode()).isEqualTo(400);
+            assertThat(result.retryable()).isFalse();
+            assertThat(result.errorMessage()).contains("invalid payload");
+        }
+
+        @Test
+        void shouldRejectUnsupportedPayloadWithoutSending() {
+            // When
+            SendResult result = sender.send(baseUrl + "/ok", 42);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.retryable()).isFalse();
+            assertThat(result.errorMessage()).contains("Unsupported payload type");
+            assertThat(requests).isEmpty();
+        }
+
+        @Test
+        void shouldReturnRetryableTimeoutWhenRequestTimeoutElapses() {
+            // Given
+            HttpWebhookSender impatientSender = HttpWebhookSender.builder("generic")
+                .httpClient(sender.httpClient())
+                .requestTimeout(Duration.ofMillis(100))
+                .build();
+
+            // When
+            SendResult result = impatientSender.send(baseUrl + "/slow", "{}");
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.retryable()).isTrue();
+            assertThat(result.errorMessage()).startsWith("timeout");
+        }
+
+        @Test
+        void shouldReturnNetworkErrorWhenConnectionIsRefused() throws IOException {
+            // Given
+            HttpServer closed = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            int port = closed.getAddress().getPort();
+            closed.stop(0);
+
+            // When
+            SendResult result = sender.send("http://127.0.0.1:" + port + "/ok", "{}");
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.statusCode()).isEqualTo(-1);
+            assertThat(result.retryable()).isTrue();
+        }
+    }
+
+    @Nested
+    class SendAsyncTest {
+
+        @Test
+        void shouldCompleteWithMappedResult() {
+            // When
+            SendResult result = sender.sendAsync(baseUrl + "/rate-limited-seconds", "{}").join();
+
+            // Then
+            assertThat(result.isRateLimited()).isTrue();
+            assertThat(result.retryAfterMillis()).isEqualTo(7_000L);
+        }
+
+        @Test
+        void shouldReuseSharedClientAcrossConcurrentSends() {
+            // When
+            List<CompletableFuture<SendResult>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> sender.sendAsync(baseUrl + "/ok", "{\"i\":" + i + "}"))
+                .toList();
+
+            // Then
+            assertThat(futures).allSatisfy(future -> assertThat(future.join().success()).isTrue());
+            assertThat(requests).hasSize(20);
+        }
+
+        @Test
+        void shouldCompleteWithFailureForUnsupportedPayload() {
+            // When
+            SendResult result = sender.sendAsync(baseUrl + "/ok", new Object()).join();
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.retryable()).isFalse();
+        }
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void shouldExposeConfiguredPlatform() {
+            // Then
+            assertThat(sender.platform()).isEqualTo("generic");
+        }
+
+        @Test
+        void shouldRejectBlankPlatform() {
+            // When & Then
+            assertThatThrownBy(() -> HttpWebhookSender.builder(" "))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("platform must not be null or blank");
+        }
+
+        @Test
+        void shouldRejectNonPositiveTimeouts() {
+            // When & Then
+            assertThatThrownBy(() -> HttpWebhookSender.builder("generic").requestTimeout(Duration.ZERO))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("requestTimeout must be > 0");
+        }
+
+        @Test
+        void shouldShareProvidedHttpClient() {
+            // When
+            HttpWebhookSender other = HttpWebhookSender.builder("other").httpClient(sender.httpClient()).build();
+
+            // Then
+            assertThat(other.httpClient()).isSameAs(sender.httpClient());
+        }
+    }
+}
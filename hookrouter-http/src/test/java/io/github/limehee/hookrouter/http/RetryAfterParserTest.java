@@ -0,0 +1,42 @@
+package io.github.limehee.hookrouter.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class RetryAfterParserTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void shouldParseDelaySeconds() {
+        assertThat(RetryAfterParser.parseMillis("120", clock)).isEqualTo(120_000L);
+        assertThat(RetryAfterParser.parseMillis(" 0 ", clock)).isZero();
+    }
+
+    @Test
+    void shouldParseHttpDateRelativeToClock() {
+        assertThat(RetryAfterParser.parseMillis("Thu, 01 Jan 2026 00:00:30 GMT", clock)).isEqualTo(30_000L);
+    }
+
+    @Test
+    void shouldClampPastHttpDateToZero() {
+        assertThat(RetryAfterParser.parseMillis("Wed, 31 Dec 2025 23:59:00 GMT", clock)).isZero();
+    }
+
+    @Test
+    void shouldSaturateOverflowingDelaySeconds() {
+        assertThat(RetryAfterParser.parseMillis("99999999999999999999", clock)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldReturnNullForMissingOrMalformedValues() {
+        assertThat(RetryAfterParser.parseMillis(null, clock)).isNull();
+        assertThat(RetryAfterParser.parseMillis("  ", clock)).isNull();
+        assertThat(RetryAfterParser.parseMillis("-5", clock)).isNull();
+        assertThat(RetryAfterParser.parseMillis("soon", clock)).isNull();
+    }
+}
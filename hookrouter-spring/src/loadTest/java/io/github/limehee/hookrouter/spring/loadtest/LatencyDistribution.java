@@ -0,0 +1,54 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+interface LatencyDistribution {
+
+    String FORMAT = "fixed:<ms>, uniform:<min>-<max> or exponential:<mean>";
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        String arguments = parts.length > 1 ? parts[1].trim() : "";
+        return switch (parts[0].trim()) {
+            case "fixed" -> {
+                long millis = parseMillis(arguments, spec);
+                yield random -> millis;
+            }
+            case "uniform" -> {
+                String[] bounds = arguments.split("-", 2);
+                if (bounds.length != 2) {
+                    throw new InvalidWebhookArgumentException("latency must be " + FORMAT + ", but was: " + spec);
+                }
+                long min = parseMillis(bounds[0], spec);
+                long max = parseMillis(bounds[1], spec);
+                if (max < min) {
+                    throw new InvalidWebhookArgumentException("latency max must be >= min, but was: " + spec);
+                }
+                yield random -> min + random.nextLong(max - min + 1);
+            }
+            case "exponential" -> {
+                long mean = parseMillis(arguments, spec);
+                // a long tail with a few slow requests, like a real webhook receiver under load
+                yield random -> Math.round(-mean * Math.log(1.0 - random.nextDouble()));
+            }
+            default -> throw new InvalidWebhookArgumentException("latency must be " + FORMAT + ", but was: " + spec);
+        };
+    }
+
+    private static long parseMillis(String value, String spec) {
+        long millis;
+        try {
+            millis = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidWebhookArgumentException("latency must be " + FORMAT + ", but was: " + spec, e);
+        }
+        if (millis < 0) {
+            throw new InvalidWebhookArgumentException("latency must be >= 0, but was: " + spec);
+        }
+        return millis;
+    }
+
+    long nextMillis(RandomGenerator random);
+}
@@ -0,0 +1,190 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.NotificationTypeDefinition;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.http.HttpWebhookSender;
+import io.github.limehee.hookrouter.http.PayloadEncoder;
+import io.github.limehee.hookrouter.spring.config.WebhookAutoConfiguration;
+import io.github.limehee.hookrouter.spring.loadtest.MeasuringWebhookSender.LoadPayload;
+import io.github.limehee.hookrouter.spring.publisher.NotificationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+// run with ./gradlew :hookrouter-spring:loadTest -Pload.rate=1000 -Phookrouter.async.max-pool-size=32
+public final class LoadTestHarness {
+
+    private static final String PLATFORM = "loadtest";
+    private static final String TYPE_ID = "load.event";
+    private static final String CATEGORY = "load";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.from(System.getProperties());
+        LoadTestReport report;
+        try (StubWebhookServer stub = StubWebhookServer.start(options);
+            ConfigurableApplicationContext context = startContext(stub, options)) {
+            report = run(context, stub, options);
+        }
+        report.print(System.out);
+    }
+
+    private static ConfigurableApplicationContext startContext(StubWebhookServer stub, LoadTestOptions options) {
+        Map<String, Object> properties = new HashMap<>();
+        for (int index = 0; index < options.fanOut(); index++) {
+            String webhookKey = "endpoint-" + index;
+            properties.put("hookrouter.platforms." + PLATFORM + ".endpoints." + webhookKey + ".url",
+                stub.url("hooks/" + index));
+            properties.put("hookrouter.default-mappings[" + index + "].platform", PLATFORM);
+            properties.put("hookrouter.default-mappings[" + index + "].webhook", webhookKey);
+        }
+        properties.put("spring.main.banner-mode", "off");
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        // defaults only: hookrouter.* system properties override them, so any setting can be tuned per run
+        application.setDefaultProperties(properties);
+        return application.run();
+    }
+
+    private static LoadTestReport run(ConfigurableApplicationContext context, StubWebhookServer stub,
+        LoadTestOptions options) throws InterruptedException {
+        NotificationPublisher publisher = context.getBean(NotificationPublisher.class);
+        LatencyRecorder recorder = context.getBean(LatencyRecorder.class);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        long start = System.nanoTime();
+        long published = publish(publisher, options, start);
+        long publishEnd = System.nanoTime();
+
+        long expected = published * options.fanOut();
+        long deadline = publishEnd + options.drainTimeout().toNanos();
+        boolean drained;
+        while (!(drained = recorder.count() + count(meterRegistry, "hookrouter.dead-letter.total") >= expected)
+            && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        long end = System.nanoTime();
+
+        return new LoadTestReport(options, published, Duration.ofNanos(publishEnd - start),
+            Duration.ofNanos(end - start), recorder.snapshot(), stub.requests(), stub.serverErrors(),
+            stub.rateLimited(), count(meterRegistry, "hookrouter.retry.total"),
+            count(meterRegistry, "hookrouter.dead-letter.total"),
+            count(meterRegistry, "hookrouter.async.caller-runs.count"), drained);
+    }
+
+    private static long publish(NotificationPublisher publisher, LoadTestOptions options, long start)
+        throws InterruptedException {
+        int threads = options.publisherThreads();
+        long total = options.expectedNotifications();
+        long rate = options.rate();
+        AtomicLong published = new AtomicLong();
+        Thread[] publishers = new Thread[threads];
+        for (int index = 0; index < threads; index++) {
+            long first = index;
+            // threads take interleaved sequence numbers, so together they follow one evenly spaced schedule
+            publishers[index] = new Thread(() -> {
+                for (long sequence = first; sequence < total; sequence += threads) {
+                    long scheduled = start + sequence * 1_000_000_000L / rate;
+                    long wait;
+                    while ((wait = scheduled - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    // latency is measured from the scheduled time, so a publisher stalled by caller-runs still
+                    // counts the delay it caused instead of hiding it
+                    publisher.publish(Notification.of(TYPE_ID, CATEGORY, new LoadContext(sequence, scheduled)));
+                    published.incrementAndGet();
+                }
+            }, "load-publisher-" + index);
+            publishers[index].start();
+        }
+        for (Thread thread : publishers) {
+            thread.join();
+        }
+        return published.get();
+    }
+
+    private static long count(MeterRegistry meterRegistry, String metricName) {
+        return Math.round(meterRegistry.find(metricName).counters().stream().mapToDouble(Counter::count).sum());
+    }
+
+    record LoadContext(long sequence, long scheduledNanos) {
+
+    }
+
+    @SpringBootConfiguration(proxyBeanMethods = false)
+    @ImportAutoConfiguration(WebhookAutoConfiguration.class)
+    static class LoadTestApplication {
+
+        @Bean
+        NotificationTypeDefinition loadNotificationTypeDefinition() {
+            return NotificationTypeDefinition.builder()
+                .typeId(TYPE_ID)
+                .title("Load test event")
+                .defaultMessage("Load test event")
+                .category(CATEGORY)
+                .build();
+        }
+
+        @Bean
+        WebhookFormatter<LoadContext, LoadPayload> loadFormatter() {
+            return new WebhookFormatter<>() {
+                @Override
+                public FormatterKey key() {
+                    return FormatterKey.of(PLATFORM, TYPE_ID);
+                }
+
+                @Override
+                public Class<LoadContext> contextClass() {
+                    return LoadContext.class;
+                }
+
+                @Override
+                public LoadPayload format(Notification<LoadContext> notification) {
+                    LoadContext context = notification.getContext();
+                    return new LoadPayload("{\"sequence\":" + context.sequence() + "}", context.scheduledNanos());
+                }
+            };
+        }
+
+        @Bean
+        LatencyRecorder latencyRecorder() {
+            return new LatencyRecorder();
+        }
+
+        @Bean
+        WebhookSender loadWebhookSender(LatencyRecorder latencyRecorder) {
+            PayloadEncoder standard = PayloadEncoder.standard();
+            HttpWebhookSender sender = HttpWebhookSender.builder(PLATFORM)
+                // the stub speaks HTTP/1.1 only; skipping the h2c upgrade keeps requests comparable
+                .version(HttpClient.Version.HTTP_1_1)
+                .payloadEncoder(payload -> payload instanceof LoadPayload loadPayload
+                    ? loadPayload.json().getBytes(StandardCharsets.UTF_8)
+                    : standard.encode(payload))
+                .build();
+            return new MeasuringWebhookSender(sender, latencyRecorder);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import java.util.Properties;
+
+record LoadTestOptions(
+    int rate,
+    Duration duration,
+    int publisherThreads,
+    int fanOut,
+    LatencyDistribution latency,
+    String latencySpec,
+    double errorRate,
+    double rateLimitRate,
+    long retryAfterSeconds,
+    Duration drainTimeout
+) {
+
+    static LoadTestOptions from(Properties properties) {
+        String latencySpec = properties.getProperty("load.latency", "uniform:5-50");
+        LoadTestOptions options = new LoadTestOptions(
+            intValue(properties, "load.rate", 500),
+            Duration.ofSeconds(intValue(properties, "load.duration", 30)),
+            intValue(properties, "load.publisher-threads", 4),
+            intValue(properties, "load.fan-out", 1),
+            LatencyDistribution.parse(latencySpec),
+            latencySpec,
+            doubleValue(properties, "load.error-rate", 0.01),
+            doubleValue(properties, "load.rate-limit-rate", 0.0),
+            intValue(properties, "load.retry-after", 1),
+            Duration.ofSeconds(intValue(properties, "load.drain-timeout", 60))
+        );
+        options.validate();
+        return options;
+    }
+
+    private static int intValue(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidWebhookArgumentException(key + " must be an integer, but was: " + value, e);
+        }
+    }
+
+    private static double doubleValue(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidWebhookArgumentException(key + " must be a number, but was: " + value, e);
+        }
+    }
+
+    long expectedNotifications() {
+        return (long) rate * duration.toSeconds();
+    }
+
+    private void validate() {
+        if (rate < 1) {
+            throw new InvalidWebhookArgumentException("load.rate must be >= 1, but was: " + rate);
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new InvalidWebhookArgumentException("load.duration must be >= 1, but was: " + duration.toSeconds());
+        }
+        if (publisherThreads < 1) {
+            throw new InvalidWebhookArgumentException(
+                "load.publisher-threads must be >= 1, but was: " + publisherThreads);
+        }
+        if (fanOut < 1) {
+            throw new InvalidWebhookArgumentException("load.fan-out must be >= 1, but was: " + fanOut);
+        }
+        if (errorRate < 0 || rateLimitRate < 0 || errorRate + rateLimitRate > 1) {
+            throw new InvalidWebhookArgumentException("load.error-rate and load.rate-limit-rate must be >= 0 and "
+                + "add up to <= 1, but were: " + errorRate + " and " + rateLimitRate);
+        }
+        if (retryAfterSeconds < 0) {
+            throw new InvalidWebhookArgumentException("load.retry-after must be >= 0, but was: " + retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+
+record LoadTestReport(
+    LoadTestOptions options,
+    long published,
+    Duration publishElapsed,
+    Duration totalElapsed,
+    LatencyRecorder.Snapshot latencies,
+    long stubRequests,
+    long stubServerErrors,
+    long stubRateLimited,
+    long retries,
+    long deadLetters,
+    long callerRuns,
+    boolean drained
+) {
+
+    void print(PrintStream out) {
+        double publishSeconds = Math.max(publishElapsed.toNanos() / 1e9, 1e-9);
+        double totalSeconds = Math.max(totalElapsed.toNanos() / 1e9, 1e-9);
+        out.println();
+        out.println("hookrouter load test");
+        out.printf(Locale.ROOT, "  target          %d notifications/s for %ds, fan-out %d, %d publisher threads%n",
+            options.rate(), options.duration().toSeconds(), options.fanOut(), options.publisherThreads());
+        out.printf(Locale.ROOT, "  stub            latency %s, error rate %.3f, 429 rate %.3f (Retry-After %ds)%n",
+            options.latencySpec(), options.errorRate(), options.rateLimitRate(), options.retryAfterSeconds());
+        out.printf(Locale.ROOT, "  published       %d in %.1fs (%.0f/s)%n", published, publishSeconds,
+            published / publishSeconds);
+        out.printf(Locale.ROOT, "  delivered       %d of %d in %.1fs (%.0f/s)%s%n", latencies.count(),
+            published * options.fanOut(), totalSeconds, latencies.count() / totalSeconds,
+            drained ? "" : ", drain timed out");
+        out.printf(Locale.ROOT, "  latency ms      p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+            latencies.percentileMillis(50), latencies.percentileMillis(90), latencies.percentileMillis(99),
+            latencies.percentileMillis(99.9), latencies.maxMillis());
+        out.printf(Locale.ROOT, "  stub requests   %d (%d x 5xx, %d x 429)%n", stubRequests, stubServerErrors,
+            stubRateLimited);
+        out.printf(Locale.ROOT, "  retries         %d%n", retries);
+        out.printf(Locale.ROOT, "  dead letters    %d%n", deadLetters);
+        out.printf(Locale.ROOT, "  caller runs     %d%n", callerRuns);
+        out.println();
+    }
+}
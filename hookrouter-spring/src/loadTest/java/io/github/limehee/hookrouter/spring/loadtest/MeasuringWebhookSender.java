@@ -0,0 +1,33 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+
+final class MeasuringWebhookSender implements WebhookSender {
+
+    private final WebhookSender delegate;
+    private final LatencyRecorder recorder;
+
+    MeasuringWebhookSender(WebhookSender delegate, LatencyRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public String platform() {
+        return delegate.platform();
+    }
+
+    @Override
+    public SendResult send(String webhookUrl, Object payload) {
+        SendResult result = delegate.send(webhookUrl, payload);
+        // only the successful attempt is recorded, so retries and backoff count toward the delivery's latency
+        if (result.success() && payload instanceof LoadPayload loadPayload) {
+            recorder.record(System.nanoTime() - loadPayload.scheduledNanos());
+        }
+        return result;
+    }
+
+    record LoadPayload(String json, long scheduledNanos) {
+
+    }
+}
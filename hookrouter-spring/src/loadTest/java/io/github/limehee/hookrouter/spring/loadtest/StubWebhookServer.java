@@ -0,0 +1,99 @@
+package io.github.limehee.hookrouter.spring.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class StubWebhookServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final long retryAfterSeconds;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+
+    private StubWebhookServer(HttpServer server, LoadTestOptions options) {
+        this.server = server;
+        this.latency = options.latency();
+        this.errorRate = options.errorRate();
+        this.rateLimitRate = options.rateLimitRate();
+        this.retryAfterSeconds = options.retryAfterSeconds();
+        // one thread per request, so injected latency delays the sender instead of queueing behind other requests
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-webhook");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    static StubWebhookServer start(LoadTestOptions options) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        StubWebhookServer stub = new StubWebhookServer(server, options);
+        server.start();
+        return stub;
+    }
+
+    String url(String path) {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + "/" + path;
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            requests.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latency.nextMillis(random);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            double roll = random.nextDouble();
+            if (roll < rateLimitRate) {
+                rateLimited.increment();
+                exchange.getResponseHeaders().set("Retry-After", Long.toString(retryAfterSeconds));
+                exchange.sendResponseHeaders(429, -1);
+            } else if (roll < rateLimitRate + errorRate) {
+                serverErrors.increment();
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.stop(0);
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.limehee.hookrouter.spring.actuator;
+
+import io.github.limehee.hookrouter.spring.metrics.EndpointStats;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStatsRegistry;
+import io.github.limehee.hookrouter.spring.metrics.RollingLatencyHistogram;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Endpoint(id = "hookrouter")
+public class HookRouterEndpoint {
+
+    private final EndpointStatsRegistry endpointStats;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Set<String> configuredWebhookKeys;
+    private final Executor webhookTaskExecutor;
+
+    public HookRouterEndpoint(
+        final EndpointStatsRegistry endpointStats,
+        final RateLimiterRegistry rateLimiterRegistry,
+        final BulkheadRegistry bulkheadRegistry,
+        final Set<String> configuredWebhookKeys,
+        final Executor webhookTaskExecutor
+    ) {
+        this.endpointStats = endpointStats;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.configuredWebhookKeys = configuredWebhookKeys;
+        this.webhookTaskExecutor = webhookTaskExecutor;
+    }
+
+    @ReadOperation
+    public HookRouterReport report() {
+        Map<String, EndpointStats> stats = endpointStats.all();
+        Set<String> keys = new TreeSet<>(configuredWebhookKeys);
+        keys.addAll(stats.keySet());
+
+        Map<String, EndpointReport> endpoints = new TreeMap<>();
+        for (String key : keys) {
+            endpoints.put(key, endpointReport(key, stats.get(key)));
+        }
+        return new HookRouterReport(executorReport(), endpoints);
+    }
+
+    private EndpointReport endpointReport(String resilienceKey, @Nullable EndpointStats stats) {
+        int inFlight = 0;
+        RollingLatencyHistogram.Snapshot latency = new RollingLatencyHistogram.Snapshot(0L, 0.0, 0.0, 0.0);
+        if (stats != null) {
+            inFlight = stats.inFlight();
+            latency = stats.latency();
+        }
+        Integer availablePermissions = rateLimiterRegistry.find(resilienceKey)
+            .map(RateLimiter::getMetrics)
+            .map(RateLimiter.Metrics::getAvailablePermissions)
+            .orElse(null);
+        Bulkhead bulkhead = bulkheadRegistry.find(resilienceKey).orElse(null);
+        return new EndpointReport(
+            inFlight,
+            latency.count(),
+            latency.ratePerSecond(),
+            latency.p50Millis(),
+            latency.p99Millis(),
+            availablePermissions,
+            bulkhead != null ? bulkhead.getMetrics().getAvailableConcurrentCalls() : null,
+            bulkhead != null ? bulkhead.getMetrics().getMaxAllowedConcurrentCalls() : null
+        );
+    }
+
+    @Nullable
+    private ExecutorReport executorReport() {
+        if (!(webhookTaskExecutor instanceof ThreadPoolTaskExecutor taskExecutor)) {
+            return null;
+        }
+        ThreadPoolExecutor pool = taskExecutor.getThreadPoolExecutor();
+        return new ExecutorReport(pool.getActiveCount(), pool.getPoolSize(), pool.getQueue().size(),
+            pool.getQueue().remainingCapacity());
+    }
+
+    public record HookRouterReport(@Nullable ExecutorReport executor, Map<String, EndpointReport> endpoints) {
+
+    }
+
+    public record EndpointReport(
+        int inFlight,
+        long sendsInWindow,
+        double sendsPerSecond,
+        double p50LatencyMillis,
+        double p99LatencyMillis,
+        @Nullable Integer rateLimiterAvailablePermissions,
+        @Nullable Integer bulkheadAvailableConcurrentCalls,
+        @Nullable Integer bulkheadMaxConcurrentCalls
+    ) {
+
+    }
+
+    public record ExecutorReport(int activeCount, int poolSize, int queueDepth, int queueRemainingCapacity) {
+
+    }
+}
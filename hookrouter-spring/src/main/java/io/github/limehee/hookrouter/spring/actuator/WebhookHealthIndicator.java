@@ -5,6 +5,7 @@ import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.DeadLetter
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -18,6 +19,8 @@ public class WebhookHealthIndicator implements HealthIndicator {
     private final Set<String> monitoredWebhookKeys;
     @Nullable
     private final DeadLetterStore deadLetterStore;
+    private final Map<String, State> circuitStates = new HashMap<>();
+    private volatile CircuitBreakerSummary summary;
 
     public WebhookHealthIndicator(
         final CircuitBreakerRegistry circuitBreakerRegistry,
@@ -25,44 +28,77 @@ public class WebhookHealthIndicator implements HealthIndicator {
         @Nullable final DeadLetterStore deadLetterStore
     ) {
         this.circuitBreakerRegistry = circuitBreakerRegistry;
-        this.monitoredWebhookKeys = monitoredWebhookKeys;
+        this.monitoredWebhookKeys = Set.copyOf(monitoredWebhookKeys);
         this.deadLetterStore = deadLetterStore;
+        for (String webhookKey : this.monitoredWebhookKeys) {
+            circuitStates.put(webhookKey, State.CLOSED);
+        }
+        this.summary = buildCircuitBreakerSummary();
+        circuitBreakerRegistry.getEventPublisher()
+            .onEntryAdded(event -> track(event.getAddedEntry()))
+            .onEntryReplaced(event -> track(event.getNewEntry()))
+            .onEntryRemoved(event -> updateState(event.getRemovedEntry().getName(), State.CLOSED));
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::track);
     }
 
     @Override
     public Health health() {
-        CircuitBreakerSummary summary = buildCircuitBreakerSummary();
+        CircuitBreakerSummary current = summary;
         Map<String, Object> deadLetterDetails = buildDeadLetterDetails();
-        Health.Builder builder = determineHealthStatus(summary.openCount(), summary.halfOpenCount()).withDetail(
-            "circuitBreaker", summary.details());
+        Health.Builder builder = determineHealthStatus(current.openCount(), current.halfOpenCount()).withDetail(
+            "circuitBreaker", current.details());
         if (!deadLetterDetails.isEmpty()) {
             builder.withDetail("deadLetter", deadLetterDetails);
         }
         return builder.build();
     }
 
+    private void track(CircuitBreaker circuitBreaker) {
+        String webhookKey = circuitBreaker.getName();
+        if (!monitoredWebhookKeys.contains(webhookKey)) {
+            return;
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (isCurrent(circuitBreaker)) {
+                updateState(webhookKey, event.getStateTransition().getToState());
+            }
+        });
+        updateState(webhookKey, circuitBreaker.getState());
+    }
+
+    private boolean isCurrent(CircuitBreaker circuitBreaker) {
+        return circuitBreakerRegistry.find(circuitBreaker.getName()).orElse(null) == circuitBreaker;
+    }
+
+    private synchronized void updateState(String webhookKey, State state) {
+        if (!monitoredWebhookKeys.contains(webhookKey) || circuitStates.get(webhookKey) == state) {
+            return;
+        }
+        circuitStates.put(webhookKey, state);
+        summary = buildCircuitBreakerSummary();
+    }
+
     private CircuitBreakerSummary buildCircuitBreakerSummary() {
         Map<String, Object> details = new HashMap<>();
         details.put("enabled", true);
-        Map<String, String> circuitStates = new HashMap<>();
+        Map<String, String> states = new HashMap<>();
         int openCount = 0;
         int halfOpenCount = 0;
         int closedCount = 0;
-        for (String webhookKey : monitoredWebhookKeys) {
-            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(webhookKey);
-            State state = circuitBreaker.getState();
-            circuitStates.put(webhookKey, state.name());
+        for (Map.Entry<String, State> entry : circuitStates.entrySet()) {
+            State state = entry.getValue();
+            states.put(entry.getKey(), state.name());
             switch (state) {
                 case OPEN, FORCED_OPEN -> openCount++;
                 case HALF_OPEN -> halfOpenCount++;
                 case CLOSED, DISABLED, METRICS_ONLY -> closedCount++;
             }
         }
-        details.put("circuits", circuitStates);
+        details.put("circuits", Collections.unmodifiableMap(states));
         details.put("openCount", openCount);
         details.put("halfOpenCount", halfOpenCount);
         details.put("closedCount", closedCount);
-        return new CircuitBreakerSummary(openCount, halfOpenCount, closedCount, details);
+        return new CircuitBreakerSummary(openCount, halfOpenCount, closedCount, Collections.unmodifiableMap(details));
     }
 
     private Map<String, Object> buildDeadLetterDetails() {
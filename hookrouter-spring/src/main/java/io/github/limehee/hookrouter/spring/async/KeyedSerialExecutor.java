@@ -0,0 +1,197 @@
+package io.github.limehee.hookrouter.spring.async;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class KeyedSerialExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+    private final Executor executor;
+    private final int maxPending;
+    private final BiConsumer<String, IntSupplier> queueCreated;
+    // keys are endpoints, a bounded set, so queues are never removed; removal would race with enqueue
+    private final ConcurrentMap<String, SerialQueue> queues = new ConcurrentHashMap<>();
+    private final Object multiKeyLock = new Object();
+
+    public KeyedSerialExecutor(Executor executor, int maxPending, BiConsumer<String, IntSupplier> queueCreated) {
+        if (maxPending < 1) {
+            throw new InvalidWebhookArgumentException("maxPending must be >= 1, but was: " + maxPending);
+        }
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.queueCreated = queueCreated;
+    }
+
+    // returns false, without running the task, when the key already holds maxPending tasks
+    public boolean execute(String key, Runnable task) {
+        SerialQueue queue = queueFor(key);
+        if (queue.isFull()) {
+            return false;
+        }
+        if (queue.offer(new Step(task, new SerialQueue[] {queue}))) {
+            queue.schedule();
+        }
+        return true;
+    }
+
+    // runs once every earlier task of every key has finished; later tasks of any of the keys wait for it
+    public boolean execute(Collection<String> keys, Runnable task) {
+        Set<String> distinct = new LinkedHashSet<>(keys);
+        if (distinct.isEmpty()) {
+            throw new InvalidWebhookArgumentException("keys must not be empty");
+        }
+        if (distinct.size() == 1) {
+            return execute(distinct.iterator().next(), task);
+        }
+        SerialQueue[] joined = new SerialQueue[distinct.size()];
+        int index = 0;
+        for (String key : distinct) {
+            joined[index++] = queueFor(key);
+        }
+        Step step = new Step(task, joined);
+        boolean[] idle = new boolean[joined.length];
+        // two multi-key steps entering shared queues in opposite orders would wait on each other forever
+        synchronized (multiKeyLock) {
+            for (SerialQueue queue : joined) {
+                if (queue.isFull()) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < joined.length; i++) {
+                idle[i] = joined[i].offer(step);
+            }
+        }
+        for (int i = 0; i < joined.length; i++) {
+            if (idle[i]) {
+                joined[i].schedule();
+            }
+        }
+        return true;
+    }
+
+    public int queueDepth(String key) {
+        SerialQueue queue = queues.get(key);
+        return queue != null ? queue.pending.get() : 0;
+    }
+
+    public Map<String, Integer> queueDepths() {
+        Map<String, Integer> depths = new HashMap<>();
+        queues.forEach((key, queue) -> depths.put(key, queue.pending.get()));
+        return Map.copyOf(depths);
+    }
+
+    private SerialQueue queueFor(String key) {
+        SerialQueue queue = queues.get(key);
+        if (queue != null) {
+            return queue;
+        }
+        SerialQueue created = new SerialQueue(key);
+        SerialQueue existing = queues.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            queueCreated.accept(key, created.pending::get);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Keyed executor queue listener failed for key={}", key, e);
+            }
+        }
+        return created;
+    }
+
+    private final class SerialQueue implements Runnable {
+
+        private final String key;
+        private final Queue<Step> steps = new ConcurrentLinkedQueue<>();
+        // steps offered but not yet finished; the thread that moves it off zero owns draining
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private SerialQueue(String key) {
+            this.key = key;
+        }
+
+        // checked before offering rather than reserved, so concurrent submitters may overshoot the bound slightly
+        private boolean isFull() {
+            return pending.get() >= maxPending;
+        }
+
+        private boolean offer(Step step) {
+            steps.add(step);
+            return pending.getAndIncrement() == 0;
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // the drain must not be lost, or every later task of this key would wait forever
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                Step step = steps.poll();
+                if (step != null && !step.arrive(this)) {
+                    // parked on a multi-key step; whichever queue reaches it last resumes this one
+                    return;
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+
+        private void resume() {
+            if (pending.decrementAndGet() > 0) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class Step {
+
+        private final Runnable task;
+        private final SerialQueue[] queues;
+        private final AtomicInteger arrivals;
+
+        private Step(Runnable task, SerialQueue[] queues) {
+            this.task = task;
+            this.queues = queues;
+            this.arrivals = new AtomicInteger(queues.length);
+        }
+
+        private boolean arrive(SerialQueue queue) {
+            if (arrivals.decrementAndGet() > 0) {
+                return false;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Keyed executor task failed for key={}", queue.key, e);
+                }
+            }
+            for (SerialQueue other : queues) {
+                if (other != queue) {
+                    other.resume();
+                }
+            }
+            return true;
+        }
+    }
+}
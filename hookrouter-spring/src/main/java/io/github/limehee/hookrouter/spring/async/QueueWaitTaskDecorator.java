@@ -0,0 +1,28 @@
+package io.github.limehee.hookrouter.spring.async;
+
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.function.Supplier;
+import org.springframework.core.task.TaskDecorator;
+
+public class QueueWaitTaskDecorator implements TaskDecorator {
+
+    private final Supplier<WebhookMetrics> metricsSupplier;
+
+    public QueueWaitTaskDecorator(final Supplier<WebhookMetrics> metricsSupplier) {
+        this.metricsSupplier = metricsSupplier;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        WebhookMetrics metrics = metricsSupplier.get();
+        if (!metrics.isStageTimingSampled()) {
+            return runnable;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            metrics.recordStageDuration(PipelineStage.QUEUE_WAIT, System.nanoTime() - submittedAt);
+            runnable.run();
+        };
+    }
+}
@@ -5,8 +5,10 @@ import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.AsyncP
 import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +26,9 @@ public class WebhookAsyncConfig {
     private final Environment environment;
     private final ObjectProvider<WebhookMetrics> webhookMetricsProvider;
     private final RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+    private final QueueWaitTaskDecorator queueWaitTaskDecorator =
+        new QueueWaitTaskDecorator(this::resolveWebhookMetrics);
+    private volatile @Nullable WebhookMetrics webhookMetrics;
 
     public WebhookAsyncConfig(final WebhookConfigProperties configProperties, final Environment environment,
         final ObjectProvider<WebhookMetrics> webhookMetricsProvider) {
@@ -50,6 +55,7 @@ public class WebhookAsyncConfig {
         SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
         executor.setVirtualThreads(true);
         executor.setThreadNamePrefix(async.getThreadNamePrefix());
+        executor.setTaskDecorator(queueWaitTaskDecorator);
         executor.setTaskTerminationTimeout(async.getAwaitTerminationSeconds() * 1000L);
         return executor;
     }
@@ -61,6 +67,7 @@ public class WebhookAsyncConfig {
         executor.setMaxPoolSize(async.getMaxPoolSize());
         executor.setQueueCapacity(async.getQueueCapacity());
         executor.setThreadNamePrefix(async.getThreadNamePrefix());
+        executor.setTaskDecorator(queueWaitTaskDecorator);
         executor.setRejectedExecutionHandler(createRejectedExecutionHandler());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(async.getAwaitTerminationSeconds());
@@ -70,17 +77,26 @@ public class WebhookAsyncConfig {
 
     private RejectedExecutionHandler createRejectedExecutionHandler() {
         return (task, executor) -> {
+            // CallerRunsPolicy silently drops tasks once the pool is shut down; callers must see that to release
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("webhookTaskExecutor has been shut down");
+            }
             resolveWebhookMetrics().recordAsyncCallerRuns();
             callerRunsPolicy.rejectedExecution(task, executor);
         };
     }
 
     private WebhookMetrics resolveWebhookMetrics() {
-        WebhookMetrics webhookMetrics = webhookMetricsProvider.getIfAvailable();
-        if (webhookMetrics == null) {
+        WebhookMetrics resolved = webhookMetrics;
+        if (resolved != null) {
+            return resolved;
+        }
+        resolved = webhookMetricsProvider.getIfAvailable();
+        if (resolved == null) {
             return NoOpWebhookMetrics.INSTANCE;
         }
-        return webhookMetrics;
+        webhookMetrics = resolved;
+        return resolved;
     }
 
     private boolean isVirtualThreadSupported() {
@@ -0,0 +1,22 @@
+package io.github.limehee.hookrouter.spring.compression;
+
+import org.jspecify.annotations.Nullable;
+
+public enum CompressionAlgorithm {
+
+    NONE(null),
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    @Nullable
+    private final String contentEncoding;
+
+    CompressionAlgorithm(@Nullable String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    @Nullable
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.limehee.hookrouter.spring.compression;
+
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public final class PayloadCompressor {
+
+    private PayloadCompressor() {
+    }
+
+    public static SerializedPayload compress(SerializedPayload payload, CompressionAlgorithm algorithm, int minSize) {
+        String contentEncoding = algorithm.contentEncoding();
+        if (contentEncoding == null || payload.contentEncoding() != null || payload.size() < minSize) {
+            return payload;
+        }
+        byte[] compressed = deflate(payload.asByteBuffer(), algorithm, payload.size());
+        if (compressed.length >= payload.size()) {
+            return payload;
+        }
+        return SerializedPayload.encoded(compressed, payload.contentType(), contentEncoding);
+    }
+
+    private static byte[] deflate(ByteBuffer source, CompressionAlgorithm algorithm, int sizeHint) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(sizeHint / 2, 64));
+        try (OutputStream compressing = algorithm == CompressionAlgorithm.GZIP
+            ? new GZIPOutputStream(buffer)
+            : new DeflaterOutputStream(buffer)) {
+            Channels.newChannel(compressing).write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Payload compression failed", e);
+        }
+        return buffer.toByteArray();
+    }
+}
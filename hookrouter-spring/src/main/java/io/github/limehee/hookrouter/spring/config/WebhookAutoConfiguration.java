@@ -6,10 +6,14 @@ import static io.github.limehee.hookrouter.spring.support.ClampUtils.clampLong;
 
 import io.github.limehee.hookrouter.core.domain.NotificationTypeDefinition;
 import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal;
+import io.github.limehee.hookrouter.core.port.PayloadSerializer;
 import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
 import io.github.limehee.hookrouter.core.port.WebhookSender;
 import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
 import io.github.limehee.hookrouter.core.registry.NotificationTypeRegistry;
+import io.github.limehee.hookrouter.spring.actuator.HookRouterEndpoint;
 import io.github.limehee.hookrouter.spring.actuator.WebhookHealthIndicator;
 import io.github.limehee.hookrouter.spring.async.WebhookAsyncConfig;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterHandler;
@@ -21,17 +25,38 @@ import io.github.limehee.hookrouter.spring.deadletter.LoggingDeadLetterHandler;
 import io.github.limehee.hookrouter.spring.deadletter.NoOpDeadLetterHandler;
 import io.github.limehee.hookrouter.spring.deadletter.StoringDeadLetterHandler;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.ingestion.NotificationIngestion;
+import io.github.limehee.hookrouter.spring.lane.PriorityLaneResolver;
+import io.github.limehee.hookrouter.spring.lane.PriorityLaneScheduler;
+import io.github.limehee.hookrouter.spring.listener.DispatchPlanCache;
 import io.github.limehee.hookrouter.spring.listener.NotificationListener;
 import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.lock.FileSchedulerLock;
+import io.github.limehee.hookrouter.spring.lock.JdbcSchedulerLock;
+import io.github.limehee.hookrouter.spring.lock.SchedulerLock;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStatsRegistry;
+import io.github.limehee.hookrouter.spring.metrics.MetricTagPolicy;
 import io.github.limehee.hookrouter.spring.metrics.MicrometerWebhookMetrics;
 import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.JavaSerializationOutboxCodec;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.outbox.OutboxCodec;
+import io.github.limehee.hookrouter.spring.outbox.OutboxReplayer;
 import io.github.limehee.hookrouter.spring.publisher.NotificationPublisher;
+import io.github.limehee.hookrouter.spring.ratelimit.DistributedRateLimiter;
+import io.github.limehee.hookrouter.spring.ratelimit.InMemoryPermitStore;
+import io.github.limehee.hookrouter.spring.ratelimit.JdbcPermitStore;
+import io.github.limehee.hookrouter.spring.ratelimit.PermitStore;
+import io.github.limehee.hookrouter.spring.resilience.ResilienceConfigRefresher;
 import io.github.limehee.hookrouter.spring.resilience.ResilienceResourceKey;
 import io.github.limehee.hookrouter.spring.resilience.WebhookRetryFactory;
 import io.github.limehee.hookrouter.spring.resilience.event.CircuitBreakerEventListener;
 import io.github.limehee.hookrouter.spring.resilience.event.RateLimitEventListener;
 import io.github.limehee.hookrouter.spring.routing.ConfigBasedRoutingPolicy;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
 import io.github.resilience4j.bulkhead.BulkheadConfig;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
@@ -47,12 +72,17 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -73,6 +103,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 @Import(WebhookAsyncConfig.class)
 public class WebhookAutoConfiguration {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookAutoConfiguration.class);
+
     @Bean
     public Boolean webhookConfigValidation(WebhookConfigProperties properties) {
         WebhookConfigValidator.validate(properties);
@@ -94,12 +126,117 @@ public class WebhookAutoConfiguration {
         formatters.orderedStream().forEach(formatter -> {
             registry.register(formatter);
         });
+        registry.freeze();
         return registry;
     }
 
     @Bean
-    public NotificationPublisher notificationPublisher(ApplicationEventPublisher eventPublisher) {
-        return new NotificationPublisher(eventPublisher);
+    public NotificationPublisher notificationPublisher(ApplicationEventPublisher eventPublisher,
+        ObjectProvider<PriorityLaneScheduler> priorityLaneScheduler, ObjectProvider<NotificationOutbox> outbox,
+        ObjectProvider<ShutdownCoordinator> shutdownCoordinator,
+        ObjectProvider<OrderedDeliveryScheduler> orderedDeliveryScheduler) {
+        return NotificationPublisher.builder(eventPublisher)
+            .priorityLaneScheduler(priorityLaneScheduler.getIfAvailable())
+            .outbox(outbox.getIfAvailable())
+            .shutdownCoordinator(shutdownCoordinator.getIfAvailable())
+            .orderedDeliveryScheduler(orderedDeliveryScheduler.getIfAvailable())
+            .build();
+    }
+
+    @Bean
+    public OrderedDeliveryScheduler orderedDeliveryScheduler(WebhookConfigProperties properties,
+        NotificationProcessingGateway notificationProcessor,
+        @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor, RoutingPolicy routingPolicy,
+        WebhookConfigResolver configResolver, ObjectProvider<WebhookMetrics> metricsProvider,
+        DeadLetterProcessor deadLetterProcessor) {
+        return OrderedDeliveryScheduler.builder(notificationProcessor, webhookTaskExecutor, routingPolicy,
+                configResolver)
+            .metrics(metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE))
+            .maxPending(properties.getOrdered().getMaxPending())
+            .shedHandler((shed, target) -> deadLetterProcessor.processShed(shed, target,
+                "Shed from a full ordered queue before processing"))
+            .build();
+    }
+
+    @Bean
+    public NotificationIngestion notificationIngestion(WebhookConfigProperties properties,
+        NotificationProcessingGateway notificationProcessor,
+        @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor,
+        ObjectProvider<OrderedDeliveryScheduler> orderedDeliveryScheduler, ObjectProvider<NotificationOutbox> outbox,
+        ObjectProvider<ShutdownCoordinator> shutdownCoordinator) {
+        int maxInFlight = properties.getIngestion().getMaxInFlight();
+        if (maxInFlight == 0) {
+            // demand never exceeds what the executor runs at once, so items wait upstream rather than in its queue
+            maxInFlight = properties.getAsync().getMaxPoolSize();
+            WebhookConfigProperties.BulkheadProperties bulkhead = properties.getBulkhead();
+            if (bulkhead.isEnabled()) {
+                maxInFlight = Math.min(maxInFlight, bulkhead.getMaxConcurrentCalls());
+            }
+        }
+        return NotificationIngestion.builder(notificationProcessor, webhookTaskExecutor, Math.max(maxInFlight, 1))
+            .orderedDeliveryScheduler(orderedDeliveryScheduler.getIfAvailable())
+            .outbox(outbox.getIfAvailable())
+            .shutdownCoordinator(shutdownCoordinator.getIfAvailable())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hookrouter.shutdown", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public ShutdownCoordinator shutdownCoordinator(WebhookConfigProperties properties, RoutingPolicy routingPolicy,
+        DeadLetterProcessor deadLetterProcessor, ObjectProvider<WebhookMetrics> metricsProvider) {
+        WebhookMetrics metrics = metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE);
+        return new ShutdownCoordinator(routingPolicy, deadLetterProcessor, metrics,
+            Duration.ofMillis(properties.getShutdown().getDrainTimeout()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hookrouter.outbox", name = "enabled", havingValue = "true")
+    public NotificationOutbox notificationOutbox(WebhookConfigProperties properties,
+        ObjectProvider<OutboxCodec> codecProvider) throws IOException {
+        WebhookConfigProperties.OutboxProperties outboxProps = properties.getOutbox();
+        OutboxJournal journal = OutboxJournal.open(Path.of(outboxProps.getDirectory()), outboxProps.getSegmentSize(),
+            Duration.ofMillis(outboxProps.getFsyncInterval()));
+        return new NotificationOutbox(journal, codecProvider.getIfAvailable(JavaSerializationOutboxCodec::new));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hookrouter.outbox", name = "enabled", havingValue = "true")
+    public OutboxReplayer outboxReplayer(NotificationPublisher notificationPublisher) {
+        return new OutboxReplayer(notificationPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hookrouter.priority-lanes", name = "enabled", havingValue = "true")
+    public PriorityLaneScheduler priorityLaneScheduler(WebhookConfigProperties properties,
+        NotificationProcessingGateway notificationProcessor,
+        @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor,
+        ObjectProvider<WebhookMetrics> metricsProvider, ObjectProvider<NotificationOutbox> outboxProvider,
+        ObjectProvider<ShutdownCoordinator> shutdownCoordinatorProvider, RoutingPolicy routingPolicy,
+        DeadLetterProcessor deadLetterProcessor) {
+        WebhookConfigProperties.PriorityLaneProperties laneProps = properties.getPriorityLanes();
+        WebhookMetrics metrics = metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE);
+        PriorityLaneResolver resolver = new PriorityLaneResolver(laneProps.getMetaKey(),
+            laneProps.getCategoryPriorities());
+        NotificationOutbox outbox = outboxProvider.getIfAvailable();
+        ShutdownCoordinator shutdownCoordinator = shutdownCoordinatorProvider.getIfAvailable();
+        return PriorityLaneScheduler.builder(notificationProcessor, webhookTaskExecutor, resolver)
+            .metrics(metrics)
+            .maxPending(laneProps.getMaxPending())
+            .weights(laneProps.getHighWeight(), laneProps.getNormalWeight(), laneProps.getLowWeight())
+            .shedHandler(shed -> {
+                // a shed notification is dead-lettered like a shutdown leftover, then neither replayed nor awaited
+                for (RoutingTarget target : routingPolicy.resolve(shed.getTypeId(), shed.getCategory())) {
+                    deadLetterProcessor.processShed(shed, target);
+                }
+                if (outbox != null) {
+                    outbox.acknowledge(shed);
+                }
+                if (shutdownCoordinator != null) {
+                    shutdownCoordinator.finished(shed);
+                }
+            })
+            .build();
     }
 
     @Bean
@@ -158,6 +295,34 @@ public class WebhookAutoConfiguration {
         return RateLimiterRegistry.of(config);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(PermitStore.class)
+    @ConditionalOnProperty(prefix = "hookrouter.distributed-rate-limiter", name = "enabled", havingValue = "true")
+    public PermitStore permitStore(WebhookConfigProperties properties, ObjectProvider<DataSource> dataSource) {
+        DataSource source = dataSource.getIfUnique();
+        if (source == null) {
+            // without a shared database the limit only spans this JVM, same as the local rate limiter
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("hookrouter.distributed-rate-limiter is enabled but no unique DataSource exists; "
+                    + "permits are kept in memory and only limit this instance. Define a PermitStore bean to "
+                    + "share them across instances");
+            }
+            return new InMemoryPermitStore();
+        }
+        WebhookConfigProperties.DistributedRateLimiterProperties distributed = properties.getDistributedRateLimiter();
+        JdbcPermitStore store = new JdbcPermitStore(source, distributed.getTableName());
+        if (distributed.isInitializeSchema()) {
+            store.initializeSchema();
+        }
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hookrouter.distributed-rate-limiter", name = "enabled", havingValue = "true")
+    public DistributedRateLimiter distributedRateLimiter(WebhookConfigProperties properties, PermitStore permitStore) {
+        return new DistributedRateLimiter(permitStore, properties.getDistributedRateLimiter().getLeaseSize());
+    }
+
     @Bean
     public BulkheadRegistry bulkheadRegistry(WebhookConfigProperties properties) {
         WebhookConfigProperties.BulkheadProperties bhProps = properties.getBulkhead();
@@ -170,9 +335,39 @@ public class WebhookAutoConfiguration {
 
     @Bean
     public NotificationListener notificationListener(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry,
-        ObjectProvider<WebhookSender> senders, WebhookDispatcher dispatcher, DeadLetterProcessor deadLetterProcessor) {
+        ObjectProvider<WebhookSender> senders, WebhookDispatcher dispatcher, DeadLetterProcessor deadLetterProcessor,
+        NotificationExpirationPolicy expirationPolicy, ObjectProvider<PayloadSerializer> serializers,
+        ObjectProvider<WebhookMetrics> metricsProvider, WebhookConfigResolver configResolver,
+        WebhookConfigProperties properties, ObjectProvider<NotificationOutbox> outbox,
+        ObjectProvider<ShutdownCoordinator> shutdownCoordinator) {
         List<WebhookSender> senderList = senders.orderedStream().toList();
-        return new NotificationListener(routingPolicy, formatterRegistry, senderList, dispatcher, deadLetterProcessor);
+        List<PayloadSerializer> serializerList = serializers.orderedStream().toList();
+        WebhookMetrics metrics = metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE);
+        WebhookConfigProperties.DispatchPlanProperties dispatchPlan = properties.getDispatchPlan();
+        // a custom policy may answer differently over time, so its targets are only memoized on request
+        boolean cacheable = routingPolicy.getClass() == ConfigBasedRoutingPolicy.class
+            || dispatchPlan.isCacheCustomRoutingPolicy();
+        DispatchPlanCache planCache = dispatchPlan.isCacheEnabled() && cacheable
+            ? new DispatchPlanCache(routingPolicy, formatterRegistry, senderList, serializerList, configResolver,
+            dispatcher, dispatchPlan.getMaxCachedPlans())
+            : null;
+        return NotificationListener.builder(routingPolicy, formatterRegistry, senderList, dispatcher,
+                deadLetterProcessor)
+            .expirationPolicy(expirationPolicy)
+            .serializers(serializerList)
+            .metrics(metrics)
+            .planCache(planCache)
+            .outbox(outbox.getIfAvailable())
+            .shutdownCoordinator(shutdownCoordinator.getIfAvailable())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(NotificationExpirationPolicy.class)
+    public NotificationExpirationPolicy notificationExpirationPolicy(WebhookConfigProperties properties) {
+        WebhookConfigProperties.ExpirationProperties expiration = properties.getExpiration();
+        return new NotificationExpirationPolicy(expiration.getDefaultTtl(), expiration.getTypeTtls(),
+            expiration.getCategoryTtls());
     }
 
     @Bean
@@ -183,7 +378,19 @@ public class WebhookAutoConfiguration {
 
     @Bean
     public WebhookConfigResolver webhookConfigResolver(WebhookConfigProperties properties) {
-        return new WebhookConfigResolver(properties);
+        WebhookConfigResolver resolver = new WebhookConfigResolver(properties);
+        resolver.refresh();
+        return resolver;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ResilienceConfigRefresher.class)
+    public ResilienceConfigRefresher resilienceConfigRefresher(WebhookConfigResolver configResolver,
+        CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry,
+        TimeLimiterRegistry timeLimiterRegistry, RateLimiterRegistry rateLimiterRegistry,
+        BulkheadRegistry bulkheadRegistry) {
+        return new ResilienceConfigRefresher(configResolver, circuitBreakerRegistry, retryRegistry,
+            timeLimiterRegistry, rateLimiterRegistry, bulkheadRegistry);
     }
 
     @Bean
@@ -204,24 +411,47 @@ public class WebhookAutoConfiguration {
     @Bean
     @ConditionalOnBean(DeadLetterStore.class)
     public DeadLetterReprocessor deadLetterReprocessor(DeadLetterStore store,
-        NotificationProcessingGateway notificationProcessor) {
-        return new DeadLetterReprocessor(store, notificationProcessor);
+        NotificationProcessingGateway notificationProcessor, NotificationExpirationPolicy expirationPolicy) {
+        return new DeadLetterReprocessor(store, notificationProcessor, DeadLetterReprocessor.DEFAULT_INITIAL_DELAY_MS,
+            DeadLetterReprocessor.DEFAULT_MAX_DELAY_MS, DeadLetterReprocessor.DEFAULT_MULTIPLIER, expirationPolicy);
     }
 
     @Bean
     @ConditionalOnBean(DeadLetterReprocessor.class)
     @ConditionalOnProperty(prefix = "hookrouter.dead-letter", name = "scheduler-enabled", havingValue = "true")
     public DeadLetterScheduler deadLetterScheduler(DeadLetterReprocessor reprocessor,
-        WebhookConfigProperties properties) {
-        return new DeadLetterScheduler(reprocessor, properties);
+        WebhookConfigProperties properties, ObjectProvider<SchedulerLock> schedulerLock) {
+        return new DeadLetterScheduler(reprocessor, properties, schedulerLock.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SchedulerLock.class)
+    @ConditionalOnProperty(prefix = "hookrouter.scheduler-lock", name = "enabled", havingValue = "true")
+    public SchedulerLock schedulerLock(WebhookConfigProperties properties, ObjectProvider<DataSource> dataSource) {
+        WebhookConfigProperties.SchedulerLockProperties lockProps = properties.getSchedulerLock();
+        DataSource source = dataSource.getIfUnique();
+        if (source == null) {
+            // nodes must share the lock directory, e.g. replicas on one host or a volume with working locks
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("hookrouter.scheduler-lock is enabled but no unique DataSource exists; using a file lock "
+                    + "in {}, which only coordinates instances sharing that directory. Define a SchedulerLock bean "
+                    + "for instances on other hosts", Path.of(lockProps.getDirectory()).toAbsolutePath());
+            }
+            return new FileSchedulerLock(Path.of(lockProps.getDirectory()));
+        }
+        JdbcSchedulerLock lock = new JdbcSchedulerLock(source, lockProps.getTableName());
+        if (lockProps.isInitializeSchema()) {
+            lock.initializeSchema();
+        }
+        return lock;
     }
 
     @Bean
     public DeadLetterProcessor deadLetterProcessor(ObjectProvider<DeadLetterHandler> deadLetterProvider,
-        ObjectProvider<WebhookMetrics> metricsProvider) {
+        ObjectProvider<WebhookMetrics> metricsProvider, WebhookConfigProperties properties) {
         DeadLetterHandler deadLetterHandler = deadLetterProvider.getIfAvailable(() -> NoOpDeadLetterHandler.INSTANCE);
         WebhookMetrics metrics = metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE);
-        return new DeadLetterProcessor(deadLetterHandler, metrics);
+        return new DeadLetterProcessor(deadLetterHandler, metrics, properties.getExpiration().isDeadLetterExpired());
     }
 
     @Bean
@@ -230,10 +460,23 @@ public class WebhookAutoConfiguration {
         TimeLimiterRegistry timeLimiterRegistry, RateLimiterRegistry rateLimiterRegistry,
         BulkheadRegistry bulkheadRegistry, @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor,
         ObjectProvider<WebhookMetrics> metricsProvider,
-        DeadLetterProcessor deadLetterProcessor, ApplicationEventPublisher eventPublisher) {
+        DeadLetterProcessor deadLetterProcessor, ApplicationEventPublisher eventPublisher,
+        NotificationExpirationPolicy expirationPolicy, EndpointStatsRegistry endpointStatsRegistry,
+        ObjectProvider<DistributedRateLimiter> distributedRateLimiter) {
         WebhookMetrics metrics = metricsProvider.getIfAvailable(() -> NoOpWebhookMetrics.INSTANCE);
-        return new WebhookDispatcher(configResolver, circuitBreakerRegistry, retryRegistry, timeLimiterRegistry,
-            rateLimiterRegistry, bulkheadRegistry, webhookTaskExecutor, metrics, deadLetterProcessor, eventPublisher);
+        return WebhookDispatcher.builder(configResolver, circuitBreakerRegistry, retryRegistry, timeLimiterRegistry,
+                rateLimiterRegistry, bulkheadRegistry, webhookTaskExecutor, metrics, deadLetterProcessor,
+                eventPublisher)
+            .expirationPolicy(expirationPolicy)
+            .endpointStats(endpointStatsRegistry)
+            .distributedRateLimiter(distributedRateLimiter.getIfAvailable())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EndpointStatsRegistry endpointStatsRegistry() {
+        return new EndpointStatsRegistry();
     }
 
     @Configuration(proxyBeanMethods = false)
@@ -243,8 +486,14 @@ public class WebhookAutoConfiguration {
 
         @Bean
         @ConditionalOnMissingBean(WebhookMetrics.class)
-        public WebhookMetrics webhookMetrics(MeterRegistry meterRegistry) {
-            return new MicrometerWebhookMetrics(meterRegistry);
+        public WebhookMetrics webhookMetrics(MeterRegistry meterRegistry, WebhookConfigProperties properties) {
+            WebhookConfigProperties.MetricsProperties metricsProps = properties.getMetrics();
+            MetricTagPolicy tagPolicy = MetricTagPolicy.of(metricsProps.getTypeIdTagMode(),
+                metricsProps.getTypeIdAllowlist(), metricsProps.getTypeIdTagLimit());
+            return MicrometerWebhookMetrics.builder(meterRegistry)
+                .stageTimingSampleRate(metricsProps.getStageTimingSampleRate())
+                .tagPolicy(tagPolicy)
+                .build();
         }
 
         @Bean
@@ -270,11 +519,29 @@ public class WebhookAutoConfiguration {
         public HealthIndicator webhookHealthIndicator(CircuitBreakerRegistry circuitBreakerRegistry,
             WebhookConfigProperties properties, Optional<DeadLetterStore> deadLetterStore) {
 
-            Set<String> webhookKeys = properties.getPlatforms().entrySet().stream().flatMap(entry -> entry.getValue()
-                .getEndpoints().keySet().stream().map(webhookKey -> ResilienceResourceKey.of(entry.getKey(), webhookKey)))
-                .collect(Collectors.toSet());
-            return new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, deadLetterStore.orElse(null));
+            return new WebhookHealthIndicator(circuitBreakerRegistry, configuredResilienceKeys(properties),
+                deadLetterStore.orElse(null));
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public HookRouterEndpoint hookRouterEndpoint(EndpointStatsRegistry endpointStatsRegistry,
+            RateLimiterRegistry rateLimiterRegistry, BulkheadRegistry bulkheadRegistry,
+            WebhookConfigProperties properties, @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor) {
+            return new HookRouterEndpoint(endpointStatsRegistry, rateLimiterRegistry, bulkheadRegistry,
+                configuredResilienceKeys(properties), webhookTaskExecutor);
+        }
+    }
+
+    private static Set<String> configuredResilienceKeys(WebhookConfigProperties properties) {
+        return properties.getPlatforms().entrySet().stream().flatMap(entry -> entry.getValue()
+            .getEndpoints().keySet().stream().map(webhookKey -> ResilienceResourceKey.of(entry.getKey(), webhookKey)))
+            .collect(Collectors.toSet());
+    }
+
 }
@@ -1,5 +1,8 @@
 package io.github.limehee.hookrouter.spring.config;
 
+import io.github.limehee.hookrouter.spring.lane.NotificationPriority;
+import io.github.limehee.hookrouter.spring.metrics.MetricTagPolicy;
+import io.github.limehee.hookrouter.spring.metrics.TypeIdTagMode;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,9 +19,19 @@ public class WebhookConfigProperties {
     private RetryProperties retry = new RetryProperties();
     private TimeoutProperties timeout = new TimeoutProperties();
     private RateLimiterProperties rateLimiter = new RateLimiterProperties();
+    private DistributedRateLimiterProperties distributedRateLimiter = new DistributedRateLimiterProperties();
     private BulkheadProperties bulkhead = new BulkheadProperties();
     private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
     private DeadLetterProperties deadLetter = new DeadLetterProperties();
+    private SchedulerLockProperties schedulerLock = new SchedulerLockProperties();
+    private PriorityLaneProperties priorityLanes = new PriorityLaneProperties();
+    private ExpirationProperties expiration = new ExpirationProperties();
+    private MetricsProperties metrics = new MetricsProperties();
+    private DispatchPlanProperties dispatchPlan = new DispatchPlanProperties();
+    private OutboxProperties outbox = new OutboxProperties();
+    private ShutdownProperties shutdown = new ShutdownProperties();
+    private IngestionProperties ingestion = new IngestionProperties();
+    private OrderedProperties ordered = new OrderedProperties();
     private Map<String, PlatformConfig> platforms = new HashMap<>();
     private Map<String, List<PlatformMapping>> categoryMappings = new HashMap<>();
     private Map<String, List<PlatformMapping>> typeMappings = new HashMap<>();
@@ -74,6 +87,14 @@ public class WebhookConfigProperties {
         this.rateLimiter = rateLimiter;
     }
 
+    public DistributedRateLimiterProperties getDistributedRateLimiter() {
+        return this.distributedRateLimiter;
+    }
+
+    public void setDistributedRateLimiter(final DistributedRateLimiterProperties distributedRateLimiter) {
+        this.distributedRateLimiter = distributedRateLimiter;
+    }
+
     public BulkheadProperties getBulkhead() {
         return this.bulkhead;
     }
@@ -98,6 +119,78 @@ public class WebhookConfigProperties {
         this.deadLetter = deadLetter;
     }
 
+    public SchedulerLockProperties getSchedulerLock() {
+        return this.schedulerLock;
+    }
+
+    public void setSchedulerLock(final SchedulerLockProperties schedulerLock) {
+        this.schedulerLock = schedulerLock;
+    }
+
+    public PriorityLaneProperties getPriorityLanes() {
+        return this.priorityLanes;
+    }
+
+    public void setPriorityLanes(final PriorityLaneProperties priorityLanes) {
+        this.priorityLanes = priorityLanes;
+    }
+
+    public ExpirationProperties getExpiration() {
+        return this.expiration;
+    }
+
+    public void setExpiration(final ExpirationProperties expiration) {
+        this.expiration = expiration;
+    }
+
+    public MetricsProperties getMetrics() {
+        return this.metrics;
+    }
+
+    public void setMetrics(final MetricsProperties metrics) {
+        this.metrics = metrics;
+    }
+
+    public DispatchPlanProperties getDispatchPlan() {
+        return this.dispatchPlan;
+    }
+
+    public void setDispatchPlan(final DispatchPlanProperties dispatchPlan) {
+        this.dispatchPlan = dispatchPlan;
+    }
+
+    public OutboxProperties getOutbox() {
+        return this.outbox;
+    }
+
+    public void setOutbox(final OutboxProperties outbox) {
+        this.outbox = outbox;
+    }
+
+    public ShutdownProperties getShutdown() {
+        return this.shutdown;
+    }
+
+    public void setShutdown(final ShutdownProperties shutdown) {
+        this.shutdown = shutdown;
+    }
+
+    public IngestionProperties getIngestion() {
+        return this.ingestion;
+    }
+
+    public void setIngestion(final IngestionProperties ingestion) {
+        this.ingestion = ingestion;
+    }
+
+    public OrderedProperties getOrdered() {
+        return this.ordered;
+    }
+
+    public void setOrdered(final OrderedProperties ordered) {
+        this.ordered = ordered;
+    }
+
     public Map<String, PlatformConfig> getPlatforms() {
         return this.platforms;
     }
@@ -133,10 +226,16 @@ public class WebhookConfigProperties {
     @Override
     public String toString() {
         return "WebhookConfigProperties(async=" + this.getAsync() + ", retry=" + this.getRetry() + ", timeout="
-            + this.getTimeout() + ", rateLimiter=" + this.getRateLimiter() + ", bulkhead=" + this.getBulkhead()
-            + ", circuitBreaker=" + this.getCircuitBreaker() + ", deadLetter=" + this.getDeadLetter() + ", platforms="
-            + this.getPlatforms() + ", categoryMappings=" + this.getCategoryMappings() + ", typeMappings="
-            + this.getTypeMappings() + ", defaultMappings=" + this.getDefaultMappings() + ")";
+            + this.getTimeout() + ", rateLimiter=" + this.getRateLimiter() + ", distributedRateLimiter="
+            + this.getDistributedRateLimiter() + ", bulkhead=" + this.getBulkhead()
+            + ", circuitBreaker=" + this.getCircuitBreaker() + ", deadLetter=" + this.getDeadLetter()
+            + ", schedulerLock=" + this.getSchedulerLock() + ", priorityLanes=" + this.getPriorityLanes()
+            + ", expiration=" + this.getExpiration() + ", metrics=" + this.getMetrics() + ", dispatchPlan="
+            + this.getDispatchPlan() + ", outbox=" + this.getOutbox() + ", shutdown=" + this.getShutdown()
+            + ", ingestion=" + this.getIngestion() + ", ordered=" + this.getOrdered() + ", platforms="
+            + this.getPlatforms() + ", categoryMappings=" + this.getCategoryMappings()
+            + ", typeMappings=" + this.getTypeMappings()
+            + ", defaultMappings=" + this.getDefaultMappings() + ")";
     }
 
     public static class AsyncProperties {
@@ -354,6 +453,53 @@ public class WebhookConfigProperties {
         }
     }
 
+    public static class DistributedRateLimiterProperties {
+
+        private boolean enabled = false;
+        private int leaseSize = 10;
+        private String tableName = "hookrouter_rate_limit";
+        private boolean initializeSchema = true;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getLeaseSize() {
+            return this.leaseSize;
+        }
+
+        public void setLeaseSize(final int leaseSize) {
+            this.leaseSize = leaseSize;
+        }
+
+        public String getTableName() {
+            return this.tableName;
+        }
+
+        public void setTableName(final String tableName) {
+            this.tableName = tableName;
+        }
+
+        public boolean isInitializeSchema() {
+            return this.initializeSchema;
+        }
+
+        public void setInitializeSchema(final boolean initializeSchema) {
+            this.initializeSchema = initializeSchema;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.DistributedRateLimiterProperties(enabled=" + this.isEnabled()
+                + ", leaseSize=" + this.getLeaseSize() + ", tableName=" + this.getTableName()
+                + ", initializeSchema=" + this.isInitializeSchema() + ")";
+        }
+    }
+
     public static class BulkheadProperties {
 
         private boolean enabled = false;
@@ -504,6 +650,382 @@ public class WebhookConfigProperties {
         }
     }
 
+    public static class SchedulerLockProperties {
+
+        private boolean enabled = false;
+        private long leaseDuration = 180000L;
+        private String tableName = "hookrouter_scheduler_lock";
+        private boolean initializeSchema = true;
+        private String directory = "hookrouter-locks";
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getLeaseDuration() {
+            return this.leaseDuration;
+        }
+
+        public void setLeaseDuration(final long leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+
+        public String getTableName() {
+            return this.tableName;
+        }
+
+        public void setTableName(final String tableName) {
+            this.tableName = tableName;
+        }
+
+        public boolean isInitializeSchema() {
+            return this.initializeSchema;
+        }
+
+        public void setInitializeSchema(final boolean initializeSchema) {
+            this.initializeSchema = initializeSchema;
+        }
+
+        public String getDirectory() {
+            return this.directory;
+        }
+
+        public void setDirectory(final String directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.SchedulerLockProperties(enabled=" + this.isEnabled() + ", leaseDuration="
+                + this.getLeaseDuration() + ", tableName=" + this.getTableName() + ", initializeSchema="
+                + this.isInitializeSchema() + ", directory=" + this.getDirectory() + ")";
+        }
+    }
+
+    public static class PriorityLaneProperties {
+
+        private boolean enabled = false;
+        private String metaKey = "priority";
+        private int maxPending = 1000;
+        private int highWeight = 6;
+        private int normalWeight = 3;
+        private int lowWeight = 1;
+        private Map<String, NotificationPriority> categoryPriorities = new HashMap<>();
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getMetaKey() {
+            return this.metaKey;
+        }
+
+        public void setMetaKey(final String metaKey) {
+            this.metaKey = metaKey;
+        }
+
+        public int getMaxPending() {
+            return this.maxPending;
+        }
+
+        public void setMaxPending(final int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        public int getHighWeight() {
+            return this.highWeight;
+        }
+
+        public void setHighWeight(final int highWeight) {
+            this.highWeight = highWeight;
+        }
+
+        public int getNormalWeight() {
+            return this.normalWeight;
+        }
+
+        public void setNormalWeight(final int normalWeight) {
+            this.normalWeight = normalWeight;
+        }
+
+        public int getLowWeight() {
+            return this.lowWeight;
+        }
+
+        public void setLowWeight(final int lowWeight) {
+            this.lowWeight = lowWeight;
+        }
+
+        public Map<String, NotificationPriority> getCategoryPriorities() {
+            return this.categoryPriorities;
+        }
+
+        public void setCategoryPriorities(final Map<String, NotificationPriority> categoryPriorities) {
+            this.categoryPriorities = categoryPriorities;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.PriorityLaneProperties(enabled=" + this.isEnabled() + ", metaKey="
+                + this.getMetaKey() + ", maxPending=" + this.getMaxPending() + ", highWeight=" + this.getHighWeight()
+                + ", normalWeight=" + this.getNormalWeight() + ", lowWeight=" + this.getLowWeight()
+                + ", categoryPriorities=" + this.getCategoryPriorities() + ")";
+        }
+    }
+
+    public static class ExpirationProperties {
+
+        private long defaultTtl = 0;
+        private Map<String, Long> typeTtls = new HashMap<>();
+        private Map<String, Long> categoryTtls = new HashMap<>();
+        private boolean deadLetterExpired = true;
+
+        public long getDefaultTtl() {
+            return this.defaultTtl;
+        }
+
+        public void setDefaultTtl(final long defaultTtl) {
+            this.defaultTtl = defaultTtl;
+        }
+
+        public Map<String, Long> getTypeTtls() {
+            return this.typeTtls;
+        }
+
+        public void setTypeTtls(final Map<String, Long> typeTtls) {
+            this.typeTtls = typeTtls;
+        }
+
+        public Map<String, Long> getCategoryTtls() {
+            return this.categoryTtls;
+        }
+
+        public void setCategoryTtls(final Map<String, Long> categoryTtls) {
+            this.categoryTtls = categoryTtls;
+        }
+
+        public boolean isDeadLetterExpired() {
+            return this.deadLetterExpired;
+        }
+
+        public void setDeadLetterExpired(final boolean deadLetterExpired) {
+            this.deadLetterExpired = deadLetterExpired;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.ExpirationProperties(defaultTtl=" + this.getDefaultTtl() + ", typeTtls="
+                + this.getTypeTtls() + ", categoryTtls=" + this.getCategoryTtls() + ", deadLetterExpired="
+                + this.isDeadLetterExpired() + ")";
+        }
+    }
+
+    public static class MetricsProperties {
+
+        private double stageTimingSampleRate = 0.0;
+        private TypeIdTagMode typeIdTagMode = TypeIdTagMode.LIMIT;
+        private List<String> typeIdAllowlist = List.of();
+        private int typeIdTagLimit = MetricTagPolicy.DEFAULT_TYPE_ID_LIMIT;
+
+        public double getStageTimingSampleRate() {
+            return this.stageTimingSampleRate;
+        }
+
+        public void setStageTimingSampleRate(final double stageTimingSampleRate) {
+            this.stageTimingSampleRate = stageTimingSampleRate;
+        }
+
+        public TypeIdTagMode getTypeIdTagMode() {
+            return this.typeIdTagMode;
+        }
+
+        public void setTypeIdTagMode(final TypeIdTagMode typeIdTagMode) {
+            this.typeIdTagMode = typeIdTagMode;
+        }
+
+        public List<String> getTypeIdAllowlist() {
+            return this.typeIdAllowlist;
+        }
+
+        public void setTypeIdAllowlist(final List<String> typeIdAllowlist) {
+            this.typeIdAllowlist = typeIdAllowlist;
+        }
+
+        public int getTypeIdTagLimit() {
+            return this.typeIdTagLimit;
+        }
+
+        public void setTypeIdTagLimit(final int typeIdTagLimit) {
+            this.typeIdTagLimit = typeIdTagLimit;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.MetricsProperties(stageTimingSampleRate=" + this.getStageTimingSampleRate()
+                + ", typeIdTagMode=" + this.getTypeIdTagMode() + ", typeIdAllowlist=" + this.getTypeIdAllowlist()
+                + ", typeIdTagLimit=" + this.getTypeIdTagLimit() + ")";
+        }
+    }
+
+    public static class DispatchPlanProperties {
+
+        private boolean cacheEnabled = true;
+        private boolean cacheCustomRoutingPolicy = false;
+        private int maxCachedPlans = 1024;
+
+        public boolean isCacheEnabled() {
+            return this.cacheEnabled;
+        }
+
+        public void setCacheEnabled(final boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        public boolean isCacheCustomRoutingPolicy() {
+            return this.cacheCustomRoutingPolicy;
+        }
+
+        public void setCacheCustomRoutingPolicy(final boolean cacheCustomRoutingPolicy) {
+            this.cacheCustomRoutingPolicy = cacheCustomRoutingPolicy;
+        }
+
+        public int getMaxCachedPlans() {
+            return this.maxCachedPlans;
+        }
+
+        public void setMaxCachedPlans(final int maxCachedPlans) {
+            this.maxCachedPlans = maxCachedPlans;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.DispatchPlanProperties(cacheEnabled=" + this.isCacheEnabled()
+                + ", cacheCustomRoutingPolicy=" + this.isCacheCustomRoutingPolicy() + ", maxCachedPlans="
+                + this.getMaxCachedPlans() + ")";
+        }
+    }
+
+    public static class OutboxProperties {
+
+        private boolean enabled = false;
+        private String directory = "hookrouter-outbox";
+        private int segmentSize = 64 * 1024 * 1024;
+        private long fsyncInterval = 10;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return this.directory;
+        }
+
+        public void setDirectory(final String directory) {
+            this.directory = directory;
+        }
+
+        public int getSegmentSize() {
+            return this.segmentSize;
+        }
+
+        public void setSegmentSize(final int segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public long getFsyncInterval() {
+            return this.fsyncInterval;
+        }
+
+        public void setFsyncInterval(final long fsyncInterval) {
+            this.fsyncInterval = fsyncInterval;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.OutboxProperties(enabled=" + this.isEnabled() + ", directory="
+                + this.getDirectory() + ", segmentSize=" + this.getSegmentSize() + ", fsyncInterval="
+                + this.getFsyncInterval() + ")";
+        }
+    }
+
+    public static class ShutdownProperties {
+
+        private boolean enabled = true;
+        private long drainTimeout = 20000;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getDrainTimeout() {
+            return this.drainTimeout;
+        }
+
+        public void setDrainTimeout(final long drainTimeout) {
+            this.drainTimeout = drainTimeout;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.ShutdownProperties(enabled=" + this.isEnabled() + ", drainTimeout="
+                + this.getDrainTimeout() + ")";
+        }
+    }
+
+    public static class IngestionProperties {
+
+        // 0 derives the window from the executor's max pool size, capped by the global bulkhead
+        private int maxInFlight = 0;
+
+        public int getMaxInFlight() {
+            return this.maxInFlight;
+        }
+
+        public void setMaxInFlight(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.IngestionProperties(maxInFlight=" + this.getMaxInFlight() + ")";
+        }
+    }
+
+    public static class OrderedProperties {
+
+        // per ordered endpoint; a notification arriving at a full queue is dead-lettered for that endpoint
+        private int maxPending = 1000;
+
+        public int getMaxPending() {
+            return this.maxPending;
+        }
+
+        public void setMaxPending(final int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookConfigProperties.OrderedProperties(maxPending=" + this.getMaxPending() + ")";
+        }
+    }
+
     public static class PlatformConfig {
 
         private Map<String, WebhookEndpointConfig> endpoints = new HashMap<>();
@@ -0,0 +1,13 @@
+package io.github.limehee.hookrouter.spring.config;
+
+import java.time.Instant;
+
+public record WebhookConfigRefreshEvent(
+    String source,
+    Instant timestamp
+) {
+
+    public static WebhookConfigRefreshEvent of(String source) {
+        return new WebhookConfigRefreshEvent(source, Instant.now());
+    }
+}
@@ -2,77 +2,189 @@ package io.github.limehee.hookrouter.spring.config;
 
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.BulkheadProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.CircuitBreakerProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RateLimiterProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RetryProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.TimeoutProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BulkheadOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CircuitBreakerOverride;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BatchConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CompressionConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.RateLimiterOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.RetryOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.TimeoutOverride;
+import io.github.limehee.hookrouter.spring.resilience.ResilienceResourceKey;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
 public class WebhookConfigResolver {
 
     private final WebhookConfigProperties globalProperties;
-    private final Map<CacheKey, ResolvedConfig> cache = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile Snapshot snapshot;
+    private volatile long generation;
 
     public WebhookConfigResolver(WebhookConfigProperties globalProperties) {
         this.globalProperties = globalProperties;
     }
 
+    public ResolvedConfig resolve(String platform, String webhookKey) {
+        return currentSnapshot().resolve(platform, webhookKey);
+    }
+
+    public long generation() {
+        return generation;
+    }
+
     public RetryProperties resolveRetryProperties(String platform, String webhookKey) {
-        return getOrCreateResolvedConfig(platform, webhookKey).retry();
+        return currentSnapshot().resolve(platform, webhookKey).retry();
     }
 
     public TimeoutProperties resolveTimeoutProperties(String platform, String webhookKey) {
-        return getOrCreateResolvedConfig(platform, webhookKey).timeout();
+        return currentSnapshot().resolve(platform, webhookKey).timeout();
     }
 
     public CircuitBreakerProperties resolveCircuitBreakerProperties(String platform, String webhookKey) {
-        return getOrCreateResolvedConfig(platform, webhookKey).circuitBreaker();
+        return currentSnapshot().resolve(platform, webhookKey).circuitBreaker();
     }
 
     public RateLimiterProperties resolveRateLimiterProperties(String platform, String webhookKey) {
-        return getOrCreateResolvedConfig(platform, webhookKey).rateLimiter();
+        return currentSnapshot().resolve(platform, webhookKey).rateLimiter();
     }
 
     public BulkheadProperties resolveBulkheadProperties(String platform, String webhookKey) {
-        return getOrCreateResolvedConfig(platform, webhookKey).bulkhead();
+        return currentSnapshot().resolve(platform, webhookKey).bulkhead();
+    }
+
+    public CompressionConfig resolveCompression(String platform, String webhookKey) {
+        return currentSnapshot().resolve(platform, webhookKey).compression();
     }
 
-    private ResolvedConfig getOrCreateResolvedConfig(String platform, String webhookKey) {
-        CacheKey cacheKey = new CacheKey(platform, webhookKey);
-        return cache.computeIfAbsent(cacheKey, key -> createResolvedConfig(platform, webhookKey));
+    public boolean hasOrderedEndpoints() {
+        return currentSnapshot().hasOrderedEndpoints();
     }
 
-    private ResolvedConfig createResolvedConfig(String platform, String webhookKey) {
-        WebhookEndpointConfig endpointConfig = getEndpointConfig(platform, webhookKey);
+    public synchronized RefreshResult refresh() {
+        Snapshot previous = snapshot;
+        Snapshot next = createSnapshot();
+        snapshot = next;
+        generation++;
+        if (previous == null) {
+            return new RefreshResult(Map.of(), EnumSet.noneOf(ResilienceComponent.class), next.resilienceKeys());
+        }
+        return diff(previous, next);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return initializeSnapshot();
+    }
+
+    private synchronized Snapshot initializeSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = createSnapshot();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot createSnapshot() {
+        ResolvedConfig defaults = createResolvedConfig(null);
+        Map<String, Map<String, ResolvedConfig>> endpoints = new HashMap<>();
+        boolean hasOrderedEndpoints = false;
+        for (Map.Entry<String, PlatformConfig> platformEntry : globalProperties.getPlatforms().entrySet()) {
+            Map<String, ResolvedConfig> byWebhookKey = new HashMap<>();
+            for (Map.Entry<String, WebhookEndpointConfig> endpointEntry
+                : platformEntry.getValue().getEndpoints().entrySet()) {
+                ResolvedConfig resolved = createResolvedConfig(endpointEntry.getValue());
+                hasOrderedEndpoints |= resolved.ordered();
+                byWebhookKey.put(endpointEntry.getKey(), resolved);
+            }
+            endpoints.put(platformEntry.getKey(), Map.copyOf(byWebhookKey));
+        }
+        return new Snapshot(Map.copyOf(endpoints), defaults, hasOrderedEndpoints);
+    }
+
+    private ResolvedConfig createResolvedConfig(@Nullable WebhookEndpointConfig endpointConfig) {
         RetryProperties retry = mergeRetryProperties(endpointConfig);
         TimeoutProperties timeout = mergeTimeoutProperties(endpointConfig);
         CircuitBreakerProperties circuitBreaker = mergeCircuitBreakerProperties(endpointConfig);
         RateLimiterProperties rateLimiter = mergeRateLimiterProperties(endpointConfig);
         BulkheadProperties bulkhead = mergeBulkheadProperties(endpointConfig);
-        return new ResolvedConfig(retry, timeout, circuitBreaker, rateLimiter, bulkhead);
+        CompressionConfig compression = copyCompression(endpointConfig);
+        BatchConfig batch = copyBatch(endpointConfig);
+        boolean ordered = endpointConfig != null && endpointConfig.isOrdered();
+        return new ResolvedConfig(retry, timeout, circuitBreaker, rateLimiter, bulkhead, compression, batch, ordered);
     }
 
-    @Nullable
-    private WebhookEndpointConfig getEndpointConfig(String platform, String webhookKey) {
-        WebhookConfigProperties.PlatformConfig platformConfig = globalProperties.getPlatforms().get(platform);
-        if (platformConfig == null) {
-            return null;
+    private RefreshResult diff(Snapshot previous, Snapshot next) {
+        Set<ResilienceComponent> changedDefaults = EnumSet.noneOf(ResilienceComponent.class);
+        for (ResilienceComponent component : ResilienceComponent.values()) {
+            if (!previous.defaults().sameAs(next.defaults(), component)) {
+                changedDefaults.add(component);
+            }
         }
-        return platformConfig.getEndpoints().get(webhookKey);
+
+        Set<String> configuredKeys = next.resilienceKeys();
+        Map<ResilienceComponent, Set<String>> changedKeys = new HashMap<>();
+        for (Map.Entry<String, Map<String, ResolvedConfig>> platformEntry : unionOf(previous, next).entrySet()) {
+            String platform = platformEntry.getKey();
+            for (String webhookKey : platformEntry.getValue().keySet()) {
+                ResolvedConfig before = previous.resolve(platform, webhookKey);
+                ResolvedConfig after = next.resolve(platform, webhookKey);
+                for (ResilienceComponent component : ResilienceComponent.values()) {
+                    if (!before.sameAs(after, component)) {
+                        changedKeys.computeIfAbsent(component, key -> new HashSet<>())
+                            .add(ResilienceResourceKey.of(platform, webhookKey));
+                    }
+                }
+            }
+        }
+        changedKeys.replaceAll((component, keys) -> Set.copyOf(keys));
+        return new RefreshResult(changedKeys, changedDefaults, configuredKeys);
+    }
+
+    private static Map<String, Map<String, ResolvedConfig>> unionOf(Snapshot previous, Snapshot next) {
+        Map<String, Map<String, ResolvedConfig>> union = new HashMap<>();
+        for (Snapshot source : new Snapshot[] {previous, next}) {
+            source.endpoints().forEach((platform, byWebhookKey) ->
+                union.computeIfAbsent(platform, key -> new HashMap<>()).putAll(byWebhookKey));
+        }
+        return union;
+    }
+
+    private CompressionConfig copyCompression(@Nullable WebhookEndpointConfig endpointConfig) {
+        CompressionConfig copy = new CompressionConfig();
+        if (endpointConfig != null && endpointConfig.getCompression() != null) {
+            copy.setAlgorithm(endpointConfig.getCompression().getAlgorithm());
+            copy.setMinSize(endpointConfig.getCompression().getMinSize());
+        }
+        return copy;
+    }
+
+    private BatchConfig copyBatch(@Nullable WebhookEndpointConfig endpointConfig) {
+        BatchConfig copy = new BatchConfig();
+        if (endpointConfig != null && endpointConfig.getBatch() != null) {
+            copy.setEnabled(endpointConfig.getBatch().isEnabled());
+            copy.setMaxSize(endpointConfig.getBatch().getMaxSize());
+            copy.setMaxDelay(endpointConfig.getBatch().getMaxDelay());
+        }
+        return copy;
     }
 
     private RetryProperties mergeRetryProperties(@Nullable WebhookEndpointConfig endpointConfig) {
         RetryProperties global = globalProperties.getRetry();
-        if (endpointConfig == null || endpointConfig.getRetry() == null) {
-            return global;
-        }
-        RetryOverride override = endpointConfig.getRetry();
+        RetryOverride override = endpointConfig != null && endpointConfig.getRetry() != null
+            ? endpointConfig.getRetry()
+            : new RetryOverride();
         RetryProperties merged = new RetryProperties();
         merged.setEnabled(coalesce(override.getEnabled(), global.isEnabled()));
         merged.setMaxAttempts(coalesce(override.getMaxAttempts(), global.getMaxAttempts()));
@@ -85,10 +197,9 @@ public class WebhookConfigResolver {
 
     private TimeoutProperties mergeTimeoutProperties(@Nullable WebhookEndpointConfig endpointConfig) {
         TimeoutProperties global = globalProperties.getTimeout();
-        if (endpointConfig == null || endpointConfig.getTimeout() == null) {
-            return global;
-        }
-        TimeoutOverride override = endpointConfig.getTimeout();
+        TimeoutOverride override = endpointConfig != null && endpointConfig.getTimeout() != null
+            ? endpointConfig.getTimeout()
+            : new TimeoutOverride();
         TimeoutProperties merged = new TimeoutProperties();
         merged.setEnabled(coalesce(override.getEnabled(), global.isEnabled()));
         merged.setDuration(coalesce(override.getDuration(), global.getDuration()));
@@ -97,10 +208,9 @@ public class WebhookConfigResolver {
 
     private CircuitBreakerProperties mergeCircuitBreakerProperties(@Nullable WebhookEndpointConfig endpointConfig) {
         CircuitBreakerProperties global = globalProperties.getCircuitBreaker();
-        if (endpointConfig == null || endpointConfig.getCircuitBreaker() == null) {
-            return global;
-        }
-        CircuitBreakerOverride override = endpointConfig.getCircuitBreaker();
+        CircuitBreakerOverride override = endpointConfig != null && endpointConfig.getCircuitBreaker() != null
+            ? endpointConfig.getCircuitBreaker()
+            : new CircuitBreakerOverride();
         CircuitBreakerProperties merged = new CircuitBreakerProperties();
         merged.setEnabled(coalesce(override.getEnabled(), global.isEnabled()));
         merged.setFailureThreshold(coalesce(override.getFailureThreshold(), global.getFailureThreshold()));
@@ -112,10 +222,9 @@ public class WebhookConfigResolver {
 
     private RateLimiterProperties mergeRateLimiterProperties(@Nullable WebhookEndpointConfig endpointConfig) {
         RateLimiterProperties global = globalProperties.getRateLimiter();
-        if (endpointConfig == null || endpointConfig.getRateLimiter() == null) {
-            return global;
-        }
-        RateLimiterOverride override = endpointConfig.getRateLimiter();
+        RateLimiterOverride override = endpointConfig != null && endpointConfig.getRateLimiter() != null
+            ? endpointConfig.getRateLimiter()
+            : new RateLimiterOverride();
         RateLimiterProperties merged = new RateLimiterProperties();
         merged.setEnabled(coalesce(override.getEnabled(), global.isEnabled()));
         merged.setLimitForPeriod(coalesce(override.getLimitForPeriod(), global.getLimitForPeriod()));
@@ -126,10 +235,9 @@ public class WebhookConfigResolver {
 
     private BulkheadProperties mergeBulkheadProperties(@Nullable WebhookEndpointConfig endpointConfig) {
         BulkheadProperties global = globalProperties.getBulkhead();
-        if (endpointConfig == null || endpointConfig.getBulkhead() == null) {
-            return global;
-        }
-        BulkheadOverride override = endpointConfig.getBulkhead();
+        BulkheadOverride override = endpointConfig != null && endpointConfig.getBulkhead() != null
+            ? endpointConfig.getBulkhead()
+            : new BulkheadOverride();
         BulkheadProperties merged = new BulkheadProperties();
         merged.setEnabled(coalesce(override.getEnabled(), global.isEnabled()));
         merged.setMaxConcurrentCalls(coalesce(override.getMaxConcurrentCalls(), global.getMaxConcurrentCalls()));
@@ -141,17 +249,98 @@ public class WebhookConfigResolver {
         return override != null ? override : defaultValue;
     }
 
-    private record CacheKey(String platform, String webhookKey) {
+    public enum ResilienceComponent {
+
+        RETRY,
+        TIMEOUT,
+        CIRCUIT_BREAKER,
+        RATE_LIMITER,
+        BULKHEAD
+    }
+
+    public record RefreshResult(
+        Map<ResilienceComponent, Set<String>> changedKeys,
+        Set<ResilienceComponent> changedDefaults,
+        Set<String> configuredKeys
+    ) {
+
+        public RefreshResult {
+            changedKeys = Map.copyOf(changedKeys);
+            changedDefaults = Set.copyOf(changedDefaults);
+            configuredKeys = Set.copyOf(configuredKeys);
+        }
+
+        public boolean affects(ResilienceComponent component, String resilienceKey) {
+            Set<String> keys = changedKeys.get(component);
+            if (keys != null && keys.contains(resilienceKey)) {
+                return true;
+            }
+            return changedDefaults.contains(component) && !configuredKeys.contains(resilienceKey);
+        }
+
+        public boolean hasChanges() {
+            return !changedKeys.isEmpty() || !changedDefaults.isEmpty();
+        }
+    }
+
+    private record Snapshot(
+        Map<String, Map<String, ResolvedConfig>> endpoints,
+        ResolvedConfig defaults,
+        boolean hasOrderedEndpoints
+    ) {
+
+        ResolvedConfig resolve(String platform, String webhookKey) {
+            Map<String, ResolvedConfig> byWebhookKey = endpoints.get(platform);
+            if (byWebhookKey == null) {
+                return defaults;
+            }
+            ResolvedConfig resolved = byWebhookKey.get(webhookKey);
+            return resolved != null ? resolved : defaults;
+        }
 
+        Set<String> resilienceKeys() {
+            Set<String> keys = new HashSet<>();
+            endpoints.forEach((platform, byWebhookKey) -> byWebhookKey.keySet()
+                .forEach(webhookKey -> keys.add(ResilienceResourceKey.of(platform, webhookKey))));
+            return keys;
+        }
     }
 
-    private record ResolvedConfig(
+    public record ResolvedConfig(
         RetryProperties retry,
         TimeoutProperties timeout,
         CircuitBreakerProperties circuitBreaker,
         RateLimiterProperties rateLimiter,
-        BulkheadProperties bulkhead
+        BulkheadProperties bulkhead,
+        CompressionConfig compression,
+        BatchConfig batch,
+        boolean ordered
     ) {
 
+        boolean sameAs(ResolvedConfig other, ResilienceComponent component) {
+            return switch (component) {
+                case RETRY -> retry.isEnabled() == other.retry.isEnabled()
+                    && retry.getMaxAttempts() == other.retry.getMaxAttempts()
+                    && retry.getInitialDelay() == other.retry.getInitialDelay()
+                    && retry.getMaxDelay() == other.retry.getMaxDelay()
+                    && Double.compare(retry.getMultiplier(), other.retry.getMultiplier()) == 0
+                    && Double.compare(retry.getJitterFactor(), other.retry.getJitterFactor()) == 0;
+                case TIMEOUT -> timeout.isEnabled() == other.timeout.isEnabled()
+                    && timeout.getDuration() == other.timeout.getDuration();
+                case CIRCUIT_BREAKER -> circuitBreaker.isEnabled() == other.circuitBreaker.isEnabled()
+                    && circuitBreaker.getFailureThreshold() == other.circuitBreaker.getFailureThreshold()
+                    && Float.compare(circuitBreaker.getFailureRateThreshold(),
+                    other.circuitBreaker.getFailureRateThreshold()) == 0
+                    && circuitBreaker.getWaitDuration() == other.circuitBreaker.getWaitDuration()
+                    && circuitBreaker.getSuccessThreshold() == other.circuitBreaker.getSuccessThreshold();
+                case RATE_LIMITER -> rateLimiter.isEnabled() == other.rateLimiter.isEnabled()
+                    && rateLimiter.getLimitForPeriod() == other.rateLimiter.getLimitForPeriod()
+                    && rateLimiter.getLimitRefreshPeriod() == other.rateLimiter.getLimitRefreshPeriod()
+                    && rateLimiter.getTimeoutDuration() == other.rateLimiter.getTimeoutDuration();
+                case BULKHEAD -> bulkhead.isEnabled() == other.bulkhead.isEnabled()
+                    && bulkhead.getMaxConcurrentCalls() == other.bulkhead.getMaxConcurrentCalls()
+                    && bulkhead.getMaxWaitDuration() == other.bulkhead.getMaxWaitDuration();
+            };
+        }
     }
 }
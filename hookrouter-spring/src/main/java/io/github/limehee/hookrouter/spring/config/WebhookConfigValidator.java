@@ -1,20 +1,36 @@
 package io.github.limehee.hookrouter.spring.config;
 
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.AsyncProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.BulkheadProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.CircuitBreakerProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.DeadLetterProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.DispatchPlanProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.DistributedRateLimiterProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.ExpirationProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.IngestionProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.MetricsProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.OrderedProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.OutboxProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformMapping;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PriorityLaneProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RateLimiterProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RetryProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.SchedulerLockProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.ShutdownProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.TimeoutProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BatchConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BulkheadOverride;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CompressionConfig;
+import io.github.limehee.hookrouter.spring.support.JdbcUtils;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import org.jspecify.annotations.Nullable;
 import org.springframework.util.StringUtils;
 
 public final class WebhookConfigValidator {
@@ -33,12 +49,24 @@ public final class WebhookConfigValidator {
         validateRetryProperties(properties.getRetry(), errors);
         validateTimeoutProperties(properties.getTimeout(), errors);
         validateRateLimiterProperties(properties.getRateLimiter(), errors);
+        validateDistributedRateLimiterProperties(properties.getDistributedRateLimiter(), errors);
         validateBulkheadProperties(properties.getBulkhead(), errors);
         validateCircuitBreakerProperties(properties.getCircuitBreaker(), errors);
 
         validateDeadLetterProperties(properties.getDeadLetter(), errors);
+        validateSchedulerLockProperties(properties.getSchedulerLock(), properties.getDeadLetter(), errors);
+        validatePriorityLaneProperties(properties.getPriorityLanes(), errors);
+        validateExpirationProperties(properties.getExpiration(), errors);
+        validateMetricsProperties(properties.getMetrics(), errors);
+        validateDispatchPlanProperties(properties.getDispatchPlan(), errors);
+        validateOutboxProperties(properties.getOutbox(), errors);
+        validateShutdownProperties(properties.getShutdown(), errors);
+        validateIngestionProperties(properties.getIngestion(), errors);
+        validateOrderedProperties(properties.getOrdered(), errors);
 
         validatePlatformUrls(properties.getPlatforms(), errors);
+        validateEndpointCompression(properties.getPlatforms(), errors);
+        validateEndpointBatch(properties.getPlatforms(), properties.getAsync(), properties.getBulkhead(), errors);
         validateMappings(properties, errors);
 
         validateCrossConfiguration(properties, errors);
@@ -145,6 +173,130 @@ public final class WebhookConfigValidator {
         }
     }
 
+    private static void validateSchedulerLockProperties(SchedulerLockProperties schedulerLock,
+        DeadLetterProperties deadLetter, List<String> errors) {
+        if (!schedulerLock.isEnabled()) {
+            return;
+        }
+        if (schedulerLock.getLeaseDuration() <= deadLetter.getSchedulerInterval()) {
+            errors.add("schedulerLock.leaseDuration (" + schedulerLock.getLeaseDuration()
+                + "ms) must be > deadLetter.schedulerInterval (" + deadLetter.getSchedulerInterval()
+                + "ms). The lease is renewed when a run starts and would lapse between runs");
+        }
+        if (!JdbcUtils.isValidTableName(schedulerLock.getTableName())) {
+            errors.add("schedulerLock.tableName must be a plain SQL identifier, but was: "
+                + schedulerLock.getTableName());
+        }
+        if (!StringUtils.hasText(schedulerLock.getDirectory())) {
+            errors.add("schedulerLock.directory must not be blank when the scheduler lock is enabled");
+        }
+    }
+
+    private static void validatePriorityLaneProperties(PriorityLaneProperties priorityLanes, List<String> errors) {
+        if (!priorityLanes.isEnabled()) {
+            return;
+        }
+        if (!StringUtils.hasText(priorityLanes.getMetaKey())) {
+            errors.add("priorityLanes.metaKey must not be blank");
+        }
+        if (priorityLanes.getMaxPending() <= 0) {
+            errors.add("priorityLanes.maxPending must be > 0, but was: " + priorityLanes.getMaxPending());
+        }
+        if (priorityLanes.getHighWeight() <= 0) {
+            errors.add("priorityLanes.highWeight must be > 0, but was: " + priorityLanes.getHighWeight());
+        }
+        if (priorityLanes.getNormalWeight() <= 0) {
+            errors.add("priorityLanes.normalWeight must be > 0, but was: " + priorityLanes.getNormalWeight());
+        }
+        if (priorityLanes.getLowWeight() <= 0) {
+            errors.add("priorityLanes.lowWeight must be > 0, but was: " + priorityLanes.getLowWeight());
+        }
+    }
+
+    private static void validateExpirationProperties(ExpirationProperties expiration, List<String> errors) {
+        if (expiration.getDefaultTtl() < 0) {
+            errors.add("expiration.defaultTtl must be >= 0, but was: " + expiration.getDefaultTtl());
+        }
+        validateTtlEntries("expiration.typeTtls", expiration.getTypeTtls(), errors);
+        validateTtlEntries("expiration.categoryTtls", expiration.getCategoryTtls(), errors);
+    }
+
+    private static void validateMetricsProperties(MetricsProperties metrics, List<String> errors) {
+        double sampleRate = metrics.getStageTimingSampleRate();
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            errors.add("metrics.stageTimingSampleRate must be between 0.0 and 1.0, but was: " + sampleRate);
+        }
+        if (metrics.getTypeIdTagMode() == null) {
+            errors.add("metrics.typeIdTagMode must not be null");
+        }
+        if (metrics.getTypeIdTagLimit() < 1) {
+            errors.add("metrics.typeIdTagLimit must be >= 1, but was: " + metrics.getTypeIdTagLimit());
+        }
+    }
+
+    private static void validateDispatchPlanProperties(DispatchPlanProperties dispatchPlan, List<String> errors) {
+        if (dispatchPlan.getMaxCachedPlans() < 1) {
+            errors.add("dispatchPlan.maxCachedPlans must be >= 1, but was: " + dispatchPlan.getMaxCachedPlans());
+        }
+    }
+
+    private static void validateOutboxProperties(OutboxProperties outbox, List<String> errors) {
+        if (!outbox.isEnabled()) {
+            return;
+        }
+        if (!StringUtils.hasText(outbox.getDirectory())) {
+            errors.add("outbox.directory must not be blank when the outbox is enabled");
+        }
+        if (outbox.getSegmentSize() < OutboxJournal.MIN_SEGMENT_SIZE) {
+            errors.add("outbox.segmentSize must be >= " + OutboxJournal.MIN_SEGMENT_SIZE + ", but was: "
+                + outbox.getSegmentSize());
+        }
+        if (outbox.getFsyncInterval() < 1) {
+            errors.add("outbox.fsyncInterval must be >= 1, but was: " + outbox.getFsyncInterval());
+        }
+    }
+
+    private static void validateDistributedRateLimiterProperties(DistributedRateLimiterProperties distributed,
+        List<String> errors) {
+        if (!distributed.isEnabled()) {
+            return;
+        }
+        if (distributed.getLeaseSize() < 1) {
+            errors.add("distributedRateLimiter.leaseSize must be >= 1, but was: " + distributed.getLeaseSize());
+        }
+        if (!JdbcUtils.isValidTableName(distributed.getTableName())) {
+            errors.add("distributedRateLimiter.tableName must be a plain SQL identifier, but was: "
+                + distributed.getTableName());
+        }
+    }
+
+    private static void validateShutdownProperties(ShutdownProperties shutdown, List<String> errors) {
+        if (shutdown.getDrainTimeout() < 0) {
+            errors.add("shutdown.drainTimeout must be >= 0, but was: " + shutdown.getDrainTimeout());
+        }
+    }
+
+    private static void validateIngestionProperties(IngestionProperties ingestion, List<String> errors) {
+        if (ingestion.getMaxInFlight() < 0) {
+            errors.add("ingestion.maxInFlight must be >= 0, but was: " + ingestion.getMaxInFlight());
+        }
+    }
+
+    private static void validateOrderedProperties(OrderedProperties ordered, List<String> errors) {
+        if (ordered.getMaxPending() <= 0) {
+            errors.add("ordered.maxPending must be > 0, but was: " + ordered.getMaxPending());
+        }
+    }
+
+    private static void validateTtlEntries(String prefix, Map<String, Long> ttls, List<String> errors) {
+        for (Map.Entry<String, Long> entry : ttls.entrySet()) {
+            Long ttl = entry.getValue();
+            if (ttl == null || ttl < 0) {
+                errors.add(prefix + "[" + entry.getKey() + "] must be >= 0, but was: " + ttl);
+            }
+        }
+    }
+
     private static void validatePlatformUrls(Map<String, PlatformConfig> platforms, List<String> errors) {
         for (Map.Entry<String, PlatformConfig> platformEntry : platforms.entrySet()) {
             String platform = platformEntry.getKey();
@@ -163,6 +315,67 @@ public final class WebhookConfigValidator {
         }
     }
 
+    private static void validateEndpointCompression(Map<String, PlatformConfig> platforms, List<String> errors) {
+        for (Map.Entry<String, PlatformConfig> platformEntry : platforms.entrySet()) {
+            for (Map.Entry<String, WebhookEndpointConfig> endpointEntry
+                : platformEntry.getValue().getEndpoints().entrySet()) {
+                CompressionConfig compression = endpointEntry.getValue().getCompression();
+                if (compression == null) {
+                    continue;
+                }
+                String location = formatUrlPath(platformEntry.getKey(), endpointEntry.getKey()) + ".compression";
+                if (compression.getAlgorithm() == null) {
+                    errors.add(location + ".algorithm must not be null");
+                }
+                if (compression.getMinSize() < 0) {
+                    errors.add(location + ".minSize must be >= 0, but was: " + compression.getMinSize());
+                }
+            }
+        }
+    }
+
+    private static void validateEndpointBatch(Map<String, PlatformConfig> platforms, AsyncProperties async,
+        BulkheadProperties bulkhead, List<String> errors) {
+        for (Map.Entry<String, PlatformConfig> platformEntry : platforms.entrySet()) {
+            for (Map.Entry<String, WebhookEndpointConfig> endpointEntry
+                : platformEntry.getValue().getEndpoints().entrySet()) {
+                BatchConfig batch = endpointEntry.getValue().getBatch();
+                if (batch == null || !batch.isEnabled()) {
+                    continue;
+                }
+                String location = formatUrlPath(platformEntry.getKey(), endpointEntry.getKey()) + ".batch";
+                if (batch.getMaxSize() < 1) {
+                    errors.add(location + ".maxSize must be >= 1, but was: " + batch.getMaxSize());
+                }
+                if (batch.getMaxDelay() < 0) {
+                    errors.add(location + ".maxDelay must be >= 0, but was: " + batch.getMaxDelay());
+                }
+                validateBatchCapacity(batch, endpointEntry.getValue().getBulkhead(), async, bulkhead, location,
+                    errors);
+            }
+        }
+    }
+
+    // each waiting payload holds a worker thread and a bulkhead slot until its batch is sent
+    private static void validateBatchCapacity(BatchConfig batch, @Nullable BulkheadOverride override,
+        AsyncProperties async, BulkheadProperties bulkhead, String location, List<String> errors) {
+        boolean bulkheadEnabled = override != null && override.getEnabled() != null
+            ? override.getEnabled()
+            : bulkhead.isEnabled();
+        int maxConcurrentCalls = override != null && override.getMaxConcurrentCalls() != null
+            ? override.getMaxConcurrentCalls()
+            : bulkhead.getMaxConcurrentCalls();
+        if (batch.getMaxSize() > async.getMaxPoolSize()) {
+            errors.add(location + ".maxSize (" + batch.getMaxSize() + ") must be <= async.maxPoolSize ("
+                + async.getMaxPoolSize() + "). A batch can only fill while that many workers wait on it, so a larger "
+                + "batch is always sent after maxDelay");
+        } else if (bulkheadEnabled && batch.getMaxSize() > maxConcurrentCalls) {
+            errors.add(location + ".maxSize (" + batch.getMaxSize() + ") must be <= bulkhead.maxConcurrentCalls ("
+                + maxConcurrentCalls + "). A batch can only fill while that many bulkhead slots wait on it, so a "
+                + "larger batch is always sent after maxDelay");
+        }
+    }
+
     private static void validateUrl(String url, String location, List<String> errors) {
         try {
             URI uri = new URI(url);
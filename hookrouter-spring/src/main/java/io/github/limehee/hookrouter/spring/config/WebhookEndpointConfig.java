@@ -1,5 +1,6 @@
 package io.github.limehee.hookrouter.spring.config;
 
+import io.github.limehee.hookrouter.spring.compression.CompressionAlgorithm;
 import org.jspecify.annotations.Nullable;
 
 public class WebhookEndpointConfig {
@@ -22,6 +23,14 @@ public class WebhookEndpointConfig {
     @Nullable
     private BulkheadOverride bulkhead;
 
+    @Nullable
+    private CompressionConfig compression;
+
+    @Nullable
+    private BatchConfig batch;
+
+    private boolean ordered = false;
+
     @Nullable
     public String getUrl() {
         return this.url;
@@ -76,11 +85,38 @@ public class WebhookEndpointConfig {
         this.bulkhead = bulkhead;
     }
 
+    @Nullable
+    public CompressionConfig getCompression() {
+        return this.compression;
+    }
+
+    public void setCompression(@Nullable final CompressionConfig compression) {
+        this.compression = compression;
+    }
+
+    @Nullable
+    public BatchConfig getBatch() {
+        return this.batch;
+    }
+
+    public void setBatch(@Nullable final BatchConfig batch) {
+        this.batch = batch;
+    }
+
+    public boolean isOrdered() {
+        return this.ordered;
+    }
+
+    public void setOrdered(final boolean ordered) {
+        this.ordered = ordered;
+    }
+
     @Override
     public String toString() {
         return "WebhookEndpointConfig(url=" + this.getUrl() + ", retry=" + this.getRetry() + ", timeout="
             + this.getTimeout() + ", circuitBreaker=" + this.getCircuitBreaker() + ", rateLimiter="
-            + this.getRateLimiter() + ", bulkhead=" + this.getBulkhead() + ")";
+            + this.getRateLimiter() + ", bulkhead=" + this.getBulkhead() + ", compression=" + this.getCompression()
+            + ", batch=" + this.getBatch() + ", ordered=" + this.isOrdered() + ")";
     }
 
     public static class RetryOverride {
@@ -356,4 +392,69 @@ public class WebhookEndpointConfig {
                 + this.getMaxConcurrentCalls() + ", maxWaitDuration=" + this.getMaxWaitDuration() + ")";
         }
     }
+
+    public static class CompressionConfig {
+
+        private CompressionAlgorithm algorithm = CompressionAlgorithm.NONE;
+        private int minSize = 1024;
+
+        public CompressionAlgorithm getAlgorithm() {
+            return this.algorithm;
+        }
+
+        public void setAlgorithm(final CompressionAlgorithm algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        public int getMinSize() {
+            return this.minSize;
+        }
+
+        public void setMinSize(final int minSize) {
+            this.minSize = minSize;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookEndpointConfig.CompressionConfig(algorithm=" + this.getAlgorithm() + ", minSize="
+                + this.getMinSize() + ")";
+        }
+    }
+
+    public static class BatchConfig {
+
+        private boolean enabled = false;
+        private int maxSize = 10;
+        private long maxDelay = 50;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return this.maxSize;
+        }
+
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getMaxDelay() {
+            return this.maxDelay;
+        }
+
+        public void setMaxDelay(final long maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        @Override
+        public String toString() {
+            return "WebhookEndpointConfig.BatchConfig(enabled=" + this.isEnabled() + ", maxSize=" + this.getMaxSize()
+                + ", maxDelay=" + this.getMaxDelay() + ")";
+        }
+    }
 }
@@ -19,7 +19,10 @@ public interface DeadLetterHandler {
         EXCEPTION,
         FORMATTER_NOT_FOUND,
         PAYLOAD_CREATION_FAILED,
-        SENDER_NOT_FOUND
+        SENDER_NOT_FOUND,
+        EXPIRED,
+        SHUTDOWN,
+        SHED
     }
 
     record DeadLetter(
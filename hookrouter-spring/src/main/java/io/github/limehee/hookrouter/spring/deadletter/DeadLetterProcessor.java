@@ -16,10 +16,17 @@ public class DeadLetterProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DeadLetterProcessor.class);
     private final DeadLetterHandler deadLetterHandler;
     private final WebhookMetrics metrics;
+    private final boolean deadLetterExpired;
 
     public DeadLetterProcessor(final DeadLetterHandler deadLetterHandler, final WebhookMetrics metrics) {
+        this(deadLetterHandler, metrics, true);
+    }
+
+    public DeadLetterProcessor(final DeadLetterHandler deadLetterHandler, final WebhookMetrics metrics,
+        final boolean deadLetterExpired) {
         this.deadLetterHandler = deadLetterHandler;
         this.metrics = metrics;
+        this.deadLetterExpired = deadLetterExpired;
     }
 
     public <T> void processRateLimited(Notification<T> notification, RoutingTarget target, Object payload) {
@@ -66,6 +73,30 @@ public class DeadLetterProcessor {
         process(notification, target, payload, FailureReason.SENDER_NOT_FOUND, errorMessage, 0);
     }
 
+    public <T> void processExpired(Notification<T> notification, RoutingTarget target, @Nullable Object payload,
+        int attemptCount) {
+        recordExpiredMetric(target, notification.getTypeId());
+        if (!deadLetterExpired) {
+            return;
+        }
+        String errorMessage = String.format("Notification expired: occurredAt=%s, typeId=%s",
+            notification.getOccurredAt(), notification.getTypeId());
+        process(notification, target, payload != null ? payload : "payload_not_created", FailureReason.EXPIRED,
+            errorMessage, attemptCount);
+    }
+
+    public <T> void processShutdown(Notification<T> notification, RoutingTarget target, String errorMessage) {
+        process(notification, target, "payload_not_created", FailureReason.SHUTDOWN, errorMessage, 0);
+    }
+
+    public <T> void processShed(Notification<T> notification, RoutingTarget target) {
+        processShed(notification, target, "Shed from a full priority lane before processing");
+    }
+
+    public <T> void processShed(Notification<T> notification, RoutingTarget target, String errorMessage) {
+        process(notification, target, "payload_not_created", FailureReason.SHED, errorMessage, 0);
+    }
+
     private <T> void process(Notification<T> notification, RoutingTarget target, Object payload, FailureReason reason,
         @Nullable String errorMessage, int attemptCount) {
         DeadLetter deadLetter = DeadLetter.of(notification, target.platform(), target.webhookKey(), target.webhookUrl(),
@@ -88,6 +119,17 @@ public class DeadLetterProcessor {
         }
     }
 
+    private void recordExpiredMetric(RoutingTarget target, String typeId) {
+        try {
+            metrics.recordNotificationExpired(target.platform(), target.webhookKey(), typeId);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Expiration metric recording failed for typeId={}, platform={}, webhookKey={}",
+                    typeId, target.platform(), target.webhookKey(), e);
+            }
+        }
+    }
+
     private void recordDeadLetterMetric(RoutingTarget target, String typeId, FailureReason reason,
         boolean handlerSuccess) {
         try {
@@ -2,11 +2,14 @@ package io.github.limehee.hookrouter.spring.deadletter;
 
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.DeadLetterStatus;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.StoredDeadLetter;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.jfr.DeadLetterReprocessedEvent;
 import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
 import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway.ProcessingResult;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import org.jspecify.annotations.Nullable;
 
 public class DeadLetterReprocessor {
@@ -19,6 +22,7 @@ public class DeadLetterReprocessor {
     private final long initialDelayMs;
     private final long maxDelayMs;
     private final double multiplier;
+    private final NotificationExpirationPolicy expirationPolicy;
 
     public DeadLetterReprocessor(DeadLetterStore store, NotificationProcessingGateway notificationProcessor) {
         this(store, notificationProcessor, DEFAULT_INITIAL_DELAY_MS, DEFAULT_MAX_DELAY_MS, DEFAULT_MULTIPLIER);
@@ -27,11 +31,18 @@ public class DeadLetterReprocessor {
     public DeadLetterReprocessor(DeadLetterStore store, NotificationProcessingGateway notificationProcessor,
         long initialDelayMs,
         long maxDelayMs, double multiplier) {
+        this(store, notificationProcessor, initialDelayMs, maxDelayMs, multiplier,
+            NotificationExpirationPolicy.disabled());
+    }
+
+    public DeadLetterReprocessor(DeadLetterStore store, NotificationProcessingGateway notificationProcessor,
+        long initialDelayMs, long maxDelayMs, double multiplier, NotificationExpirationPolicy expirationPolicy) {
         this.store = store;
         this.notificationProcessor = notificationProcessor;
         this.initialDelayMs = initialDelayMs;
         this.maxDelayMs = maxDelayMs;
         this.multiplier = multiplier;
+        this.expirationPolicy = expirationPolicy;
     }
 
     public ReprocessResult reprocessById(String id) {
@@ -39,22 +50,37 @@ public class DeadLetterReprocessor {
     }
 
     public ReprocessSummary reprocessPending(int limit) {
+        return reprocessPending(limit, () -> true);
+    }
+
+    // checked before each dead letter; once it fails, the rest of the batch stays pending for the next run
+    public ReprocessSummary reprocessPending(int limit, BooleanSupplier proceed) {
         List<StoredDeadLetter> deadLetters = store.findReadyForReprocess(limit);
         int successCount = 0;
         int failedCount = 0;
         int skippedCount = 0;
         for (StoredDeadLetter deadLetter : deadLetters) {
+            if (!proceed.getAsBoolean()) {
+                break;
+            }
             ReprocessResult result = reprocess(deadLetter);
             switch (result.status()) {
                 case SUCCESS -> successCount++;
                 case FAILED -> failedCount++;
-                case ABANDONED, NOT_FOUND -> skippedCount++;
+                case ABANDONED, EXPIRED, NOT_FOUND -> skippedCount++;
             }
         }
         return new ReprocessSummary(successCount, failedCount, skippedCount);
     }
 
     private ReprocessResult reprocess(StoredDeadLetter storedDeadLetter) {
+        DeadLetterReprocessedEvent event = DeadLetterReprocessedEvent.started();
+        ReprocessResult result = reprocessDeadLetter(storedDeadLetter);
+        event.end(result.id(), result.status().name(), storedDeadLetter.retryCount());
+        return result;
+    }
+
+    private ReprocessResult reprocessDeadLetter(StoredDeadLetter storedDeadLetter) {
         String id = storedDeadLetter.id();
 
         if (!storedDeadLetter.canRetry()) {
@@ -62,6 +88,11 @@ public class DeadLetterReprocessor {
             return ReprocessResult.abandoned(id);
         }
 
+        if (expirationPolicy.isExpired(storedDeadLetter.deadLetter().notification())) {
+            store.updateStatus(id, DeadLetterStatus.ABANDONED);
+            return ReprocessResult.expired(id);
+        }
+
         store.updateStatus(id, DeadLetterStatus.PROCESSING);
         boolean success = false;
         try {
@@ -116,6 +147,7 @@ public class DeadLetterReprocessor {
         SUCCESS,
         FAILED,
         ABANDONED,
+        EXPIRED,
         NOT_FOUND;
     }
 
@@ -133,6 +165,10 @@ public class DeadLetterReprocessor {
             return new ReprocessResult(id, ReprocessStatus.ABANDONED, "Max retries exceeded");
         }
 
+        public static ReprocessResult expired(String id) {
+            return new ReprocessResult(id, ReprocessStatus.EXPIRED, "Notification expired");
+        }
+
         public static ReprocessResult notFound(String id) {
             return new ReprocessResult(id, ReprocessStatus.NOT_FOUND, "Dead letter not found");
         }
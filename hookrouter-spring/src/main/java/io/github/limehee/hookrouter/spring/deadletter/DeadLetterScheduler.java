@@ -1,6 +1,12 @@
 package io.github.limehee.hookrouter.spring.deadletter;
 
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.lock.SchedulerLock;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -10,20 +16,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.SmartLifecycle;
 
-public class DeadLetterScheduler implements InitializingBean, DisposableBean {
+public class DeadLetterScheduler implements InitializingBean, DisposableBean, SmartLifecycle {
+
+    // stops right before the shutdown drain so reprocessing does not feed work into it
+    public static final int PHASE = ShutdownCoordinator.PHASE + 1;
+    public static final String LOCK_NAME = "hookrouter-dead-letter-scheduler";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DeadLetterScheduler.class);
     private final DeadLetterReprocessor reprocessor;
     private final WebhookConfigProperties properties;
     private final ScheduledExecutorService scheduler;
     @Nullable
-    @SuppressWarnings("unused")
-    private ScheduledFuture<?> scheduledTask;
+    private final SchedulerLock lock;
+    private final String owner;
+    @Nullable
+    private volatile ScheduledFuture<?> scheduledTask;
+    private volatile boolean running;
+    private volatile boolean leader;
+    private long leaseRenewedAt;
 
     public DeadLetterScheduler(DeadLetterReprocessor reprocessor, WebhookConfigProperties properties) {
+        this(reprocessor, properties, null);
+    }
+
+    public DeadLetterScheduler(DeadLetterReprocessor reprocessor, WebhookConfigProperties properties,
+        @Nullable SchedulerLock lock) {
         this.reprocessor = reprocessor;
         this.properties = properties;
+        this.lock = lock;
+        // pid@host names the node for operators; the suffix keeps two schedulers in one JVM apart
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
         this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
             Thread thread = new Thread(r, "dead-letter-scheduler");
             thread.setDaemon(true);
@@ -39,6 +63,42 @@ public class DeadLetterScheduler implements InitializingBean, DisposableBean {
             TimeUnit.MILLISECONDS);
     }
 
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledFuture<?> task = scheduledTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        if (lock != null) {
+            try {
+                // queued behind a run still in progress, so the lease is not handed over mid-batch
+                scheduler.execute(this::releaseLease);
+            } catch (RejectedExecutionException e) {
+                releaseLease();
+            }
+        }
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
     @Override
     public void destroy() {
         scheduler.shutdown();
@@ -55,12 +115,67 @@ public class DeadLetterScheduler implements InitializingBean, DisposableBean {
 
     private void reprocessDeadLetters() {
         try {
+            if (!holdsLease()) {
+                return;
+            }
             int batchSize = properties.getDeadLetter().getSchedulerBatchSize();
-            reprocessor.reprocessPending(batchSize);
+            if (lock == null) {
+                reprocessor.reprocessPending(batchSize);
+            } else {
+                reprocessor.reprocessPending(batchSize, this::keepsLease);
+            }
         } catch (Exception e) {
             if (LOGGER.isWarnEnabled()) {
                 LOGGER.warn("Dead-letter scheduled reprocessing failed", e);
             }
         }
     }
+
+    private boolean holdsLease() {
+        if (lock == null) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = lock.tryAcquire(LOCK_NAME, owner,
+                Duration.ofMillis(properties.getSchedulerLock().getLeaseDuration()));
+        } catch (RuntimeException e) {
+            // without a confirmed lease another node may be reprocessing, so sit this run out
+            acquired = false;
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Failed to renew the dead-letter scheduler lease; skipping this run", e);
+            }
+        }
+        if (acquired) {
+            leaseRenewedAt = System.nanoTime();
+        }
+        if (acquired != leader) {
+            leader = acquired;
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info(acquired ? "Dead-letter scheduler lease acquired by {}"
+                    : "Dead-letter scheduler lease held elsewhere; {} stands by", owner);
+            }
+        }
+        return acquired;
+    }
+
+    // a batch can outlast the lease, so it is renewed between dead letters once half of it has passed
+    private boolean keepsLease() {
+        long halfLease = TimeUnit.MILLISECONDS.toNanos(properties.getSchedulerLock().getLeaseDuration()) / 2;
+        return System.nanoTime() - leaseRenewedAt < halfLease || holdsLease();
+    }
+
+    private void releaseLease() {
+        if (lock == null || !leader) {
+            return;
+        }
+        leader = false;
+        try {
+            lock.release(LOCK_NAME, owner);
+        } catch (RuntimeException e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Failed to release the dead-letter scheduler lease; it expires on its own", e);
+            }
+        }
+    }
 }
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import org.jspecify.annotations.Nullable;
 
 public class InMemoryDeadLetterStore implements DeadLetterStore {
@@ -18,6 +19,7 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
 
     private static final long PROCESSING_TIMEOUT_MS = 5 * 60 * 1000L;
     private final Map<String, StoredDeadLetter> store = new ConcurrentHashMap<>();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(DeadLetterStatus.values().length);
     private final int maxSize;
     private final int maxRetries;
 
@@ -40,6 +42,7 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
         StoredDeadLetter stored = new StoredDeadLetter(id, deadLetter, DeadLetterStatus.PENDING, 0, maxRetries, now,
             null, now, now);
         store.put(id, stored);
+        statusCounts.incrementAndGet(DeadLetterStatus.PENDING.ordinal());
         return stored;
     }
 
@@ -77,9 +80,9 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
     @Override
     public boolean updateStatus(String id, DeadLetterStatus status) {
         StoredDeadLetter result = store.computeIfPresent(id,
-            (key, existing) -> new StoredDeadLetter(existing.id(), existing.deadLetter(), status, existing.retryCount(),
-                existing.maxRetries(), existing.nextRetryAt(), existing.lastErrorMessage(), existing.createdAt(),
-                Instant.now()));
+            (key, existing) -> transition(existing, new StoredDeadLetter(existing.id(), existing.deadLetter(), status,
+                existing.retryCount(), existing.maxRetries(), existing.nextRetryAt(), existing.lastErrorMessage(),
+                existing.createdAt(), Instant.now())));
         return result != null;
     }
 
@@ -89,28 +92,32 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
         StoredDeadLetter result = store.computeIfPresent(id, (key, existing) -> {
             DeadLetterStatus newStatus =
                 retryCount >= existing.maxRetries() ? DeadLetterStatus.ABANDONED : DeadLetterStatus.PENDING;
-            return new StoredDeadLetter(existing.id(), existing.deadLetter(), newStatus, retryCount,
-                existing.maxRetries(), nextRetryAt, lastErrorMessage, existing.createdAt(), Instant.now());
+            return transition(existing, new StoredDeadLetter(existing.id(), existing.deadLetter(), newStatus,
+                retryCount, existing.maxRetries(), nextRetryAt, lastErrorMessage, existing.createdAt(), Instant.now()));
         });
         return result != null;
     }
 
     @Override
     public boolean delete(String id) {
-        return store.remove(id) != null;
+        StoredDeadLetter removed = store.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        statusCounts.decrementAndGet(removed.status().ordinal());
+        return true;
     }
 
     @Override
     public int deleteOlderThan(Instant before) {
         List<String> toDelete = store.entrySet().stream().filter(e -> e.getValue().createdAt().isBefore(before))
             .map(Map.Entry::getKey).toList();
-        toDelete.forEach(store::remove);
-        return toDelete.size();
+        return (int) toDelete.stream().filter(this::delete).count();
     }
 
     @Override
     public long countByStatus(DeadLetterStatus status) {
-        return store.values().stream().filter(dl -> dl.status() == status).count();
+        return statusCounts.get(status.ordinal());
     }
 
     public int size() {
@@ -118,7 +125,15 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
     }
 
     public void clear() {
-        store.clear();
+        store.keySet().forEach(this::delete);
+    }
+
+    private StoredDeadLetter transition(StoredDeadLetter existing, StoredDeadLetter updated) {
+        if (existing.status() != updated.status()) {
+            statusCounts.decrementAndGet(existing.status().ordinal());
+            statusCounts.incrementAndGet(updated.status().ordinal());
+        }
+        return updated;
     }
 
     private void ensureCapacity() {
@@ -139,11 +154,11 @@ public class InMemoryDeadLetterStore implements DeadLetterStore {
         List<Map.Entry<String, StoredDeadLetter>> candidates = store.entrySet().stream()
             .filter(e -> e.getValue().status() == status).toList();
         return candidates.stream().min(Comparator.comparing(e -> e.getValue().createdAt())).map(Map.Entry::getKey)
-            .map(key -> store.remove(key) != null).orElse(false);
+            .map(this::delete).orElse(false);
     }
 
     private boolean evictOldestAny() {
         return store.entrySet().stream().min(Comparator.comparing(e -> e.getValue().createdAt())).map(Map.Entry::getKey)
-            .map(key -> store.remove(key) != null).orElse(false);
+            .map(this::delete).orElse(false);
     }
 }
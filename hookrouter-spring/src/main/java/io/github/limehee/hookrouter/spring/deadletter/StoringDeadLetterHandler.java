@@ -1,6 +1,7 @@
 package io.github.limehee.hookrouter.spring.deadletter;
 
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.StoredDeadLetter;
+import io.github.limehee.hookrouter.spring.jfr.DeadLetterSavedEvent;
 
 public class StoringDeadLetterHandler implements DeadLetterHandler {
 
@@ -12,6 +13,9 @@ public class StoringDeadLetterHandler implements DeadLetterHandler {
 
     @Override
     public void handle(DeadLetter deadLetter) {
+        DeadLetterSavedEvent event = DeadLetterSavedEvent.started();
         StoredDeadLetter stored = store.save(deadLetter);
+        event.end(stored.id(), deadLetter.platform(), deadLetter.webhookKey(), deadLetter.notification().getTypeId(),
+            deadLetter.reason().name(), deadLetter.attemptCount());
     }
 }
@@ -0,0 +1,57 @@
+package io.github.limehee.hookrouter.spring.dispatcher;
+
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.ResolvedConfig;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStats;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import org.jspecify.annotations.Nullable;
+
+// resolved once per dispatch plan route; the dispatcher swaps the instances when a registry entry is removed or replaced
+public final class EndpointResilience {
+
+    private final String key;
+    private final ResolvedConfig config;
+    private final EndpointStats stats;
+    private volatile Instances instances;
+
+    EndpointResilience(String key, ResolvedConfig config, EndpointStats stats, Instances instances) {
+        this.key = key;
+        this.config = config;
+        this.stats = stats;
+        this.instances = instances;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public ResolvedConfig config() {
+        return config;
+    }
+
+    EndpointStats stats() {
+        return stats;
+    }
+
+    Instances instances() {
+        return instances;
+    }
+
+    void instances(Instances instances) {
+        this.instances = instances;
+    }
+
+    record Instances(
+        long generation,
+        @Nullable RateLimiter rateLimiter,
+        @Nullable Bulkhead bulkhead,
+        @Nullable CircuitBreaker circuitBreaker,
+        @Nullable Retry retry,
+        @Nullable TimeLimiter timeLimiter
+    ) {
+
+    }
+}
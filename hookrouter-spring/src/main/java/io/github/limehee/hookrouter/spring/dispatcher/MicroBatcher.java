@@ -0,0 +1,207 @@
+package io.github.limehee.hookrouter.spring.dispatcher;
+
+import io.github.limehee.hookrouter.core.port.BatchWebhookSender;
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.jspecify.annotations.Nullable;
+
+final class MicroBatcher {
+
+    private static final Object WITHDRAWN = new Object();
+
+    private final WebhookMetrics metrics;
+    // keyed by URL like the distributed rate limiter's leases; a batch must share one request target
+    private final ConcurrentMap<String, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    MicroBatcher(WebhookMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // blocks until the batch holding this payload has been sent, then returns this payload's own result, so the
+    // validator caps maxSize at the worker and bulkhead capacity; timeoutMillis (0 for none) replaces the
+    // TimeLimiter, which could not take a payload back out of a batch
+    SendResult send(BatchWebhookSender sender, String platform, String webhookKey, String webhookUrl, Object payload,
+        int maxSize, long maxDelayMillis, long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Accumulator accumulator = accumulators.computeIfAbsent(webhookUrl, url -> new Accumulator());
+        Batch batch;
+        int index;
+        boolean opened;
+        boolean filled;
+        synchronized (accumulator) {
+            batch = accumulator.open;
+            opened = batch == null;
+            if (opened) {
+                batch = new Batch(Math.max(maxSize, 1));
+                accumulator.open = batch;
+            }
+            index = batch.payloads.size();
+            batch.payloads.add(payload);
+            filled = batch.payloads.size() >= batch.maxSize;
+            if (filled) {
+                accumulator.open = null;
+            }
+        }
+
+        if (filled) {
+            // the caller that fills a batch sends it at once; its opener stops waiting for the deadline
+            batch.closed.countDown();
+            sendBatch(accumulator, sender, platform, webhookKey, webhookUrl, batch);
+        } else if (opened) {
+            // a timeout shorter than the delay flushes early, so the opener's own payload never expires unsent
+            long delayMillis = timeoutMillis > 0 ? Math.min(maxDelayMillis, timeoutMillis) : maxDelayMillis;
+            if (awaitDeadline(batch, delayMillis) && accumulator.close(batch)) {
+                sendBatch(accumulator, sender, platform, webhookKey, webhookUrl, batch);
+            }
+        }
+        if (timeoutMillis > 0) {
+            SendResult expired = awaitOrWithdraw(accumulator, batch, index, deadlineNanos, timeoutMillis);
+            if (expired != null) {
+                return expired;
+            }
+        }
+        return batch.result(index);
+    }
+
+    // a payload still waiting in an unsent batch is taken out, so a retry cannot send it a second time; once its
+    // batch is on the wire it waits for that result instead, bounded by the sender's own request timeout
+    @Nullable
+    private static SendResult awaitOrWithdraw(Accumulator accumulator, Batch batch, int index, long deadlineNanos,
+        long timeoutMillis) {
+        SendResult expired;
+        try {
+            batch.results.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            expired = SendResult.failure(0, "timeout: request exceeded " + timeoutMillis + "ms", true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            expired = SendResult.failure(0, "interrupted: request was cancelled", false);
+        }
+        synchronized (accumulator) {
+            if (batch.sending) {
+                return null;
+            }
+            batch.payloads.set(index, WITHDRAWN);
+            batch.withdrawn++;
+        }
+        return expired;
+    }
+
+    private static boolean awaitDeadline(Batch batch, long maxDelayMillis) {
+        try {
+            return !batch.closed.await(Math.max(maxDelayMillis, 0L), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // still send what was collected, or every caller in this batch would wait forever
+            return true;
+        }
+    }
+
+    private void sendBatch(Accumulator accumulator, BatchWebhookSender sender, String platform, String webhookKey,
+        String webhookUrl, Batch batch) {
+        int withdrawn;
+        synchronized (accumulator) {
+            batch.sending = true;
+            withdrawn = batch.withdrawn;
+        }
+        List<Object> payloads = withdrawn == 0 ? batch.payloads : remaining(batch.payloads);
+        if (payloads.isEmpty()) {
+            batch.results.complete(List.of());
+            return;
+        }
+        try {
+            List<SendResult> results = sender.sendBatch(webhookUrl, Collections.unmodifiableList(payloads));
+            if (results == null || results.size() != payloads.size()) {
+                throw new IllegalStateException("Batch sender returned "
+                    + (results == null ? "no" : Integer.toString(results.size())) + " results for "
+                    + payloads.size() + " payloads");
+            }
+            metrics.recordBatchSent(platform, webhookKey, payloads.size());
+            batch.results.complete(withdrawn == 0 ? results : realign(batch.payloads, results));
+        } catch (RuntimeException e) {
+            batch.results.completeExceptionally(e);
+        }
+    }
+
+    private static List<Object> remaining(List<Object> payloads) {
+        List<Object> remaining = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            if (payload != WITHDRAWN) {
+                remaining.add(payload);
+            }
+        }
+        return remaining;
+    }
+
+    // maps results for the payloads actually sent back onto the original slots, which callers index into
+    private static List<SendResult> realign(List<Object> payloads, List<SendResult> results) {
+        SendResult[] bySlot = new SendResult[payloads.size()];
+        int next = 0;
+        for (int slot = 0; slot < bySlot.length; slot++) {
+            if (payloads.get(slot) != WITHDRAWN) {
+                bySlot[slot] = results.get(next++);
+            }
+        }
+        return Arrays.asList(bySlot);
+    }
+
+    private static final class Accumulator {
+
+        @Nullable
+        private Batch open;
+
+        private synchronized boolean close(Batch batch) {
+            if (open != batch) {
+                return false;
+            }
+            open = null;
+            return true;
+        }
+    }
+
+    private static final class Batch {
+
+        private final int maxSize;
+        private final List<Object> payloads;
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CompletableFuture<List<SendResult>> results = new CompletableFuture<>();
+        // both guarded by the accumulator's lock
+        private boolean sending;
+        private int withdrawn;
+
+        private Batch(int maxSize) {
+            this.maxSize = maxSize;
+            this.payloads = new ArrayList<>(Math.min(maxSize, 1024));
+        }
+
+        private SendResult result(int index) {
+            List<SendResult> sent;
+            try {
+                sent = results.join();
+            } catch (CompletionException e) {
+                // rethrown as-is, so a failing batch reaches each item's exception handling like a failing send
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+            SendResult result = sent.get(index);
+            return result != null ? result : SendResult.failure(0, "batch sender returned no result", false);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import static io.github.limehee.hookrouter.spring.support.ClampUtils.clampInt;
 import static io.github.limehee.hookrouter.spring.support.ClampUtils.clampLong;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import io.github.limehee.hookrouter.core.port.BatchWebhookSender;
 import io.github.limehee.hookrouter.core.port.RoutingTarget;
 import io.github.limehee.hookrouter.core.port.WebhookSender;
 import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
@@ -13,9 +15,22 @@ import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.Circui
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RateLimiterProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RetryProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.TimeoutProperties;
+import io.github.limehee.hookrouter.spring.compression.PayloadCompressor;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.ResolvedConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BatchConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CompressionConfig;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.jfr.WebhookDispatchEvent;
+import io.github.limehee.hookrouter.spring.jfr.WebhookRejectedEvent;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStats;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStatsRegistry;
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import io.github.limehee.hookrouter.spring.metrics.SendFailureReason;
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.ratelimit.DistributedRateLimiter;
+import io.github.limehee.hookrouter.spring.ratelimit.PermitStoreException;
 import io.github.limehee.hookrouter.spring.resilience.ResilienceResourceKey;
 import io.github.limehee.hookrouter.spring.resilience.WebhookRetryFactory;
 import io.github.limehee.hookrouter.spring.resilience.WebhookRetryFactory.WebhookSendRetryableException;
@@ -27,6 +42,7 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.Registry;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
@@ -35,21 +51,27 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiter;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
 public class WebhookDispatcher {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDispatcher.class);
+
     private final WebhookConfigResolver configResolver;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final RetryRegistry retryRegistry;
@@ -60,6 +82,12 @@ public class WebhookDispatcher {
     private final WebhookMetrics metrics;
     private final DeadLetterProcessor deadLetterProcessor;
     private final ApplicationEventPublisher eventPublisher;
+    private final NotificationExpirationPolicy expirationPolicy;
+    private final EndpointStatsRegistry endpointStats;
+    @Nullable
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final MicroBatcher microBatcher;
+    private final AtomicLong resilienceGeneration = new AtomicLong();
 
     public WebhookDispatcher(
         WebhookConfigResolver configResolver,
@@ -73,16 +101,52 @@ public class WebhookDispatcher {
         DeadLetterProcessor deadLetterProcessor,
         ApplicationEventPublisher eventPublisher
     ) {
-        this.configResolver = configResolver;
-        this.circuitBreakerRegistry = circuitBreakerRegistry;
-        this.retryRegistry = retryRegistry;
-        this.timeLimiterRegistry = timeLimiterRegistry;
-        this.rateLimiterRegistry = rateLimiterRegistry;
-        this.bulkheadRegistry = bulkheadRegistry;
-        this.webhookTaskExecutor = webhookTaskExecutor;
-        this.metrics = metrics;
-        this.deadLetterProcessor = deadLetterProcessor;
-        this.eventPublisher = eventPublisher;
+        this(builder(configResolver, circuitBreakerRegistry, retryRegistry, timeLimiterRegistry, rateLimiterRegistry,
+            bulkheadRegistry, webhookTaskExecutor, metrics, deadLetterProcessor, eventPublisher));
+    }
+
+    private WebhookDispatcher(Builder builder) {
+        this.configResolver = builder.configResolver;
+        this.circuitBreakerRegistry = builder.circuitBreakerRegistry;
+        this.retryRegistry = builder.retryRegistry;
+        this.timeLimiterRegistry = builder.timeLimiterRegistry;
+        this.rateLimiterRegistry = builder.rateLimiterRegistry;
+        this.bulkheadRegistry = builder.bulkheadRegistry;
+        this.webhookTaskExecutor = builder.webhookTaskExecutor;
+        this.metrics = builder.metrics;
+        this.deadLetterProcessor = builder.deadLetterProcessor;
+        this.eventPublisher = builder.eventPublisher;
+        this.expirationPolicy = builder.expirationPolicy;
+        this.endpointStats = builder.endpointStats;
+        this.distributedRateLimiter = builder.distributedRateLimiter;
+        this.microBatcher = new MicroBatcher(metrics);
+        invalidateOnChange(circuitBreakerRegistry.getEventPublisher());
+        invalidateOnChange(retryRegistry.getEventPublisher());
+        invalidateOnChange(timeLimiterRegistry.getEventPublisher());
+        invalidateOnChange(rateLimiterRegistry.getEventPublisher());
+        invalidateOnChange(bulkheadRegistry.getEventPublisher());
+    }
+
+    // refresh eviction and rate-limit cooldowns remove or replace registry entries, so cached instances go stale
+    private <E> void invalidateOnChange(Registry.EventPublisher<E> publisher) {
+        publisher.onEntryRemoved(event -> resilienceGeneration.incrementAndGet())
+            .onEntryReplaced(event -> resilienceGeneration.incrementAndGet());
+    }
+
+    public static Builder builder(
+        WebhookConfigResolver configResolver,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        RetryRegistry retryRegistry,
+        TimeLimiterRegistry timeLimiterRegistry,
+        RateLimiterRegistry rateLimiterRegistry,
+        BulkheadRegistry bulkheadRegistry,
+        Executor webhookTaskExecutor,
+        WebhookMetrics metrics,
+        DeadLetterProcessor deadLetterProcessor,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        return new Builder(configResolver, circuitBreakerRegistry, retryRegistry, timeLimiterRegistry,
+            rateLimiterRegistry, bulkheadRegistry, webhookTaskExecutor, metrics, deadLetterProcessor, eventPublisher);
     }
 
     public <T> DispatchResult dispatch(
@@ -90,64 +154,124 @@ public class WebhookDispatcher {
         RoutingTarget target,
         WebhookSender sender,
         Object payload
+    ) {
+        return dispatch(notification, target, sender, payload,
+            configResolver.resolve(target.platform(), target.webhookKey()));
+    }
+
+    public <T> DispatchResult dispatch(
+        Notification<T> notification,
+        RoutingTarget target,
+        WebhookSender sender,
+        Object payload,
+        ResolvedConfig config
+    ) {
+        return dispatch(notification, target, sender, payload, resilienceFor(target, config));
+    }
+
+    public <T> DispatchResult dispatch(
+        Notification<T> notification,
+        RoutingTarget target,
+        WebhookSender sender,
+        Object payload,
+        EndpointResilience resilience
+    ) {
+        DispatchTrace trace = DispatchTrace.start(metrics);
+        EndpointStats stats = resilience.stats();
+        stats.dispatchStarted();
+        try {
+            DispatchResult result = dispatch(notification, target, sender, payload, resilience.config(), trace,
+                resilience.key(), stats, currentInstances(resilience));
+            trace.end(target, notification.getTypeId(), result);
+            return result;
+        } finally {
+            stats.dispatchFinished();
+        }
+    }
+
+    private <T> DispatchResult dispatch(
+        Notification<T> notification,
+        RoutingTarget target,
+        WebhookSender sender,
+        Object payload,
+        ResolvedConfig config,
+        DispatchTrace trace,
+        String resilienceKey,
+        EndpointStats stats,
+        EndpointResilience.Instances instances
     ) {
         String typeId = notification.getTypeId();
         String platform = target.platform();
         String webhookKey = target.webhookKey();
-        String resilienceKey = ResilienceResourceKey.of(platform, webhookKey);
-        Instant startTime = Instant.now();
-
-        RateLimiterProperties rateLimiterProps =
-            configResolver.resolveRateLimiterProperties(platform, webhookKey);
-        BulkheadProperties bulkheadProps =
-            configResolver.resolveBulkheadProperties(platform, webhookKey);
-        CircuitBreakerProperties circuitBreakerProps =
-            configResolver.resolveCircuitBreakerProperties(platform, webhookKey);
-        RetryProperties retryProps =
-            configResolver.resolveRetryProperties(platform, webhookKey);
-        TimeoutProperties timeoutProps =
-            configResolver.resolveTimeoutProperties(platform, webhookKey);
+        long startNanos = System.nanoTime();
+
+        RateLimiterProperties rateLimiterProps = config.rateLimiter();
+        BulkheadProperties bulkheadProps = config.bulkhead();
+        TimeoutProperties timeoutProps = config.timeout();
 
         Bulkhead bulkhead = null;
         boolean bulkheadPermissionAcquired = false;
 
         try {
-            if (!acquireRateLimiterPermission(resilienceKey, rateLimiterProps)) {
+            long rateLimiterStart = trace.stageStart();
+            boolean rateLimiterPermitted = acquireRateLimiterPermission(target, resilienceKey, rateLimiterProps,
+                instances.rateLimiter());
+            trace.recordStage(PipelineStage.RATE_LIMITER_WAIT, rateLimiterStart);
+            if (!rateLimiterPermitted) {
                 metrics.recordSendRateLimited(platform, webhookKey, typeId);
+                WebhookRejectedEvent.emit(platform, webhookKey, typeId, WebhookRejectedEvent.RATE_LIMITED);
                 deadLetterProcessor.processRateLimited(notification, target, payload);
                 return DispatchResult.failure("rate limited");
             }
 
-            bulkhead = getBulkhead(resilienceKey, bulkheadProps);
+            bulkhead = instances.bulkhead();
             if (bulkhead != null) {
-                if (!bulkhead.tryAcquirePermission()) {
+                long bulkheadStart = trace.stageStart();
+                boolean bulkheadPermitted = bulkhead.tryAcquirePermission();
+                trace.recordStage(PipelineStage.BULKHEAD_WAIT, bulkheadStart);
+                if (!bulkheadPermitted) {
                     metrics.recordSendBulkheadFull(platform, webhookKey, typeId);
+                    WebhookRejectedEvent.emit(platform, webhookKey, typeId, WebhookRejectedEvent.BULKHEAD_FULL);
                     deadLetterProcessor.processBulkheadFull(notification, target, payload);
                     return DispatchResult.failure("bulkhead is full");
                 }
                 bulkheadPermissionAcquired = true;
             }
 
-            CircuitBreaker circuitBreaker = getCircuitBreaker(resilienceKey, circuitBreakerProps);
+            CircuitBreaker circuitBreaker = instances.circuitBreaker();
             if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
                 metrics.recordSendSkipped(platform, webhookKey, typeId);
+                WebhookRejectedEvent.emit(platform, webhookKey, typeId, WebhookRejectedEvent.CIRCUIT_OPEN);
                 return DispatchResult.failure("circuit breaker is open");
             }
 
             metrics.recordSendAttempt(platform, webhookKey, typeId);
 
+            WebhookSender effectiveSender = batchingSender(sender, target, config.batch(), timeoutProps);
+            // batched payloads become elements of one request body, so only the sender can encode them
+            Object sendPayload = effectiveSender != sender
+                ? payload
+                : compressPayload(target, payload, config.compression());
+            long sendStart = System.nanoTime();
             SendResultWithAttempts resultWithAttempts = sendWithRetry(
-                sender,
+                effectiveSender,
+                notification,
                 target,
-                payload,
-                typeId,
-                retryProps,
+                sendPayload,
+                instances.retry(),
+                instances.timeLimiter(),
                 timeoutProps,
-                resilienceKey
+                trace
             );
+            stats.recordSend(System.nanoTime() - sendStart);
             SendResult result = resultWithAttempts.result();
             int attemptCount = resultWithAttempts.attemptCount();
-            Duration duration = Duration.between(startTime, Instant.now());
+            trace.attempts(attemptCount);
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            if (resultWithAttempts.expired()) {
+                return handleExpired(notification, target, payload, result, attemptCount, duration, circuitBreaker);
+            }
 
             return handleResult(
                 notification,
@@ -164,12 +288,11 @@ public class WebhookDispatcher {
                 target,
                 payload,
                 e,
-                resilienceKey,
                 webhookKey,
                 platform,
                 typeId,
-                startTime,
-                circuitBreakerProps
+                startNanos,
+                instances.circuitBreaker()
             );
         } finally {
             if (bulkheadPermissionAcquired && bulkhead != null) {
@@ -178,19 +301,119 @@ public class WebhookDispatcher {
         }
     }
 
-    private boolean acquireRateLimiterPermission(String resilienceKey, RateLimiterProperties props) {
+    private WebhookSender batchingSender(WebhookSender sender, RoutingTarget target, BatchConfig batch,
+        TimeoutProperties timeoutProps) {
+        if (!batch.isEnabled() || !(sender instanceof BatchWebhookSender batchSender)) {
+            return sender;
+        }
+        long timeoutMillis = timeoutProps.isEnabled() ? clampLong(timeoutProps.getDuration(), 1L, Long.MAX_VALUE) : 0L;
+        return new BatchingSender(microBatcher, batchSender, target, batch.getMaxSize(), batch.getMaxDelay(),
+            timeoutMillis);
+    }
+
+    private Object compressPayload(RoutingTarget target, Object payload, CompressionConfig compression) {
+        if (!(payload instanceof SerializedPayload serialized)) {
+            return payload;
+        }
+        try {
+            SerializedPayload compressed = PayloadCompressor.compress(serialized, compression.getAlgorithm(),
+                compression.getMinSize());
+            if (compressed != serialized) {
+                metrics.recordPayloadCompressed(target.platform(), target.webhookKey(), serialized.size(),
+                    compressed.size());
+            }
+            return compressed;
+        } catch (UncheckedIOException e) {
+            return payload;
+        }
+    }
+
+    private boolean acquireRateLimiterPermission(RoutingTarget target, String resilienceKey,
+        RateLimiterProperties props, @Nullable RateLimiter rateLimiter) {
         if (!props.isEnabled()) {
             return true;
         }
 
+        if (distributedRateLimiter != null) {
+            try {
+                return distributedRateLimiter.acquirePermission(target.webhookUrl(), props.getLimitForPeriod(),
+                    props.getLimitRefreshPeriod(), props.getTimeoutDuration());
+            } catch (PermitStoreException e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Shared permit store unavailable for {}; falling back to the local rate limiter",
+                        resilienceKey, e);
+                }
+            }
+        }
+
+        RateLimiter local = rateLimiter != null ? rateLimiter : getRateLimiter(resilienceKey, props);
+        return local.acquirePermission();
+    }
+
+    public EndpointResilience resilienceFor(RoutingTarget target, ResolvedConfig config) {
+        String resilienceKey = ResilienceResourceKey.of(target.platform(), target.webhookKey());
+        return new EndpointResilience(resilienceKey, config, endpointStats.forKey(resilienceKey),
+            resolveInstances(resilienceKey, config));
+    }
+
+    private EndpointResilience.Instances currentInstances(EndpointResilience resilience) {
+        EndpointResilience.Instances instances = resilience.instances();
+        if (instances.generation() != resilienceGeneration.get()) {
+            instances = resolveInstances(resilience.key(), resilience.config());
+            resilience.instances(instances);
+        }
+        return instances;
+    }
+
+    private EndpointResilience.Instances resolveInstances(String resilienceKey, ResolvedConfig config) {
+        // read first, so an entry removed while resolving forces another pass on the next dispatch
+        long generation = resilienceGeneration.get();
+        RateLimiterProperties rateLimiterProps = config.rateLimiter();
+        // with a shared permit store the local limiter is only a fallback, so it is created on first use
+        RateLimiter rateLimiter = rateLimiterProps.isEnabled() && distributedRateLimiter == null
+            ? getRateLimiter(resilienceKey, rateLimiterProps)
+            : null;
+        return new EndpointResilience.Instances(
+            generation,
+            rateLimiter,
+            getBulkhead(resilienceKey, config.bulkhead()),
+            getCircuitBreaker(resilienceKey, config.circuitBreaker()),
+            getRetry(resilienceKey, config.retry()),
+            getTimeLimiter(resilienceKey, config.timeout())
+        );
+    }
+
+    private RateLimiter getRateLimiter(String resilienceKey, RateLimiterProperties props) {
         RateLimiterConfig config = RateLimiterConfig.custom()
             .limitForPeriod(Math.max(props.getLimitForPeriod(), 1))
             .limitRefreshPeriod(Duration.ofMillis(Math.max(props.getLimitRefreshPeriod(), 1L)))
             .timeoutDuration(Duration.ofMillis(Math.max(props.getTimeoutDuration(), 0L)))
             .build();
 
-        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter(resilienceKey, config);
-        return rateLimiter.acquirePermission();
+        return rateLimiterRegistry.rateLimiter(resilienceKey, config);
+    }
+
+    @Nullable
+    private Retry getRetry(String resilienceKey, RetryProperties props) {
+        if (!props.isEnabled()) {
+            return null;
+        }
+
+        return retryRegistry.retry(resilienceKey, WebhookRetryFactory.createConfig(props));
+    }
+
+    @Nullable
+    private TimeLimiter getTimeLimiter(String resilienceKey, TimeoutProperties props) {
+        if (!props.isEnabled()) {
+            return null;
+        }
+
+        long durationMillis = clampLong(props.getDuration(), 1L, Long.MAX_VALUE);
+        TimeLimiterConfig config = TimeLimiterConfig.custom()
+            .timeoutDuration(Duration.ofMillis(durationMillis))
+            .cancelRunningFuture(true)
+            .build();
+        return timeLimiterRegistry.timeLimiter(resilienceKey, config);
     }
 
     @Nullable
@@ -270,39 +493,69 @@ public class WebhookDispatcher {
             platform,
             webhookKey,
             typeId,
-            Objects.requireNonNullElse(result.errorMessage(), "unknown error"),
+            SendFailureReason.of(result).tagValue(),
             duration
         );
         deadLetterProcessor.processSendFailure(notification, target, payload, result, attemptCount);
         return DispatchResult.failure(Objects.requireNonNullElse(result.errorMessage(), "send failed"));
     }
 
+    private <T> DispatchResult handleExpired(
+        Notification<T> notification,
+        RoutingTarget target,
+        Object payload,
+        SendResult result,
+        int attemptCount,
+        Duration duration,
+        @Nullable CircuitBreaker circuitBreaker
+    ) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onError(
+                0,
+                TimeUnit.MILLISECONDS,
+                new WebhookSendFailureException(result.errorMessage())
+            );
+            if (circuitBreaker.getState() == State.HALF_OPEN) {
+                circuitBreaker.transitionToOpenState();
+            }
+        }
+
+        // counted like any other failed send so send.total stays success + failure
+        metrics.recordSendFailure(
+            target.platform(),
+            target.webhookKey(),
+            notification.getTypeId(),
+            SendFailureReason.EXPIRED.tagValue(),
+            duration
+        );
+        deadLetterProcessor.processExpired(notification, target, payload, attemptCount);
+        return DispatchResult.failure(Objects.requireNonNullElse(result.errorMessage(), "expired"));
+    }
+
     private <T> DispatchResult handleException(
         Notification<T> notification,
         RoutingTarget target,
         Object payload,
         Exception exception,
-        String resilienceKey,
         String webhookKey,
         String platform,
         String typeId,
-        Instant startTime,
-        CircuitBreakerProperties circuitBreakerProps
+        long startNanos,
+        @Nullable CircuitBreaker circuitBreaker
     ) {
-        if (circuitBreakerProps.isEnabled()) {
-            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(resilienceKey);
+        if (circuitBreaker != null) {
             circuitBreaker.onError(0, TimeUnit.MILLISECONDS, exception);
             if (circuitBreaker.getState() == State.HALF_OPEN) {
                 circuitBreaker.transitionToOpenState();
             }
         }
 
-        Duration duration = Duration.between(startTime, Instant.now());
+        Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
         metrics.recordSendFailure(
             platform,
             webhookKey,
             typeId,
-            "exception: " + exception.getMessage(),
+            SendFailureReason.EXCEPTION.tagValue(),
             duration
         );
         deadLetterProcessor.processException(notification, target, payload, exception);
@@ -327,35 +580,49 @@ public class WebhookDispatcher {
 
     private SendResultWithAttempts sendWithRetry(
         WebhookSender sender,
+        Notification<?> notification,
         RoutingTarget target,
         Object payload,
-        String typeId,
-        RetryProperties retryProps,
+        @Nullable Retry retry,
+        @Nullable TimeLimiter timeLimiter,
         TimeoutProperties timeoutProps,
-        String resilienceKey
+        DispatchTrace trace
     ) {
-        if (!retryProps.isEnabled()) {
-            SendResult result = sendWithTimeout(sender, target.webhookUrl(), payload, resilienceKey, timeoutProps);
-            return new SendResultWithAttempts(result, 1);
+        if (retry == null) {
+            long httpStart = trace.stageStart();
+            SendResult result = sendWithTimeout(sender, target.webhookUrl(), payload, timeLimiter, timeoutProps);
+            trace.recordStage(PipelineStage.HTTP_CALL, httpStart);
+            return new SendResultWithAttempts(result, 1, false);
         }
 
-        Retry retry = retryRegistry.retry(resilienceKey, WebhookRetryFactory.createConfig(retryProps));
+        String typeId = notification.getTypeId();
         AtomicInteger attemptCount = new AtomicInteger(0);
+        AtomicBoolean expired = new AtomicBoolean(false);
         AtomicReference<SendResult> lastResult = new AtomicReference<>();
+        AtomicLong lastAttemptEnd = new AtomicLong();
 
         try {
             SendResult result = retry.executeSupplier(() -> {
                 int currentAttempt = attemptCount.incrementAndGet();
                 if (currentAttempt > 1) {
+                    if (expirationPolicy.isExpired(notification)) {
+                        attemptCount.decrementAndGet();
+                        expired.set(true);
+                        return SendResult.failure(0, "expired: notification exceeded its TTL before retry", false);
+                    }
                     metrics.recordRetry(target.platform(), target.webhookKey(), typeId, currentAttempt - 1);
+                    trace.recordStage(PipelineStage.RETRY_BACKOFF, lastAttemptEnd.get());
                 }
+                long httpStart = trace.stageStart();
                 SendResult sendResult = sendWithTimeout(
                     sender,
                     target.webhookUrl(),
                     payload,
-                    resilienceKey,
+                    timeLimiter,
                     timeoutProps
                 );
+                trace.recordStage(PipelineStage.HTTP_CALL, httpStart);
+                lastAttemptEnd.set(trace.stageStart());
                 lastResult.set(sendResult);
 
                 if (sendResult.success()) {
@@ -368,14 +635,14 @@ public class WebhookDispatcher {
                 }
                 return sendResult;
             });
-            return new SendResultWithAttempts(result, attemptCount.get());
+            return new SendResultWithAttempts(result, attemptCount.get(), expired.get());
         } catch (WebhookSendRetryableException e) {
             SendResult finalResult = lastResult.get();
             if (finalResult == null) {
                 String errorMessage = e.getMessage() != null ? e.getMessage() : "unknown error";
                 finalResult = SendResult.failure(0, errorMessage, true);
             }
-            return new SendResultWithAttempts(finalResult, attemptCount.get());
+            return new SendResultWithAttempts(finalResult, attemptCount.get(), false);
         }
     }
 
@@ -383,20 +650,14 @@ public class WebhookDispatcher {
         WebhookSender sender,
         String webhookUrl,
         Object payload,
-        String resilienceKey,
+        @Nullable TimeLimiter timeLimiter,
         TimeoutProperties timeoutProps
     ) {
-        if (!timeoutProps.isEnabled()) {
+        // a batched send enforces the timeout itself, since only the batcher can take a payload back out
+        if (timeLimiter == null || sender instanceof BatchingSender) {
             return sender.send(webhookUrl, payload);
         }
 
-        long durationMillis = clampLong(timeoutProps.getDuration(), 1L, Long.MAX_VALUE);
-        TimeLimiterConfig config = TimeLimiterConfig.custom()
-            .timeoutDuration(Duration.ofMillis(durationMillis))
-            .cancelRunningFuture(true)
-            .build();
-        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(resilienceKey, config);
-
         try {
             return timeLimiter.executeFutureSupplier(
                 () -> CompletableFuture.supplyAsync(() -> sender.send(webhookUrl, payload), webhookTaskExecutor)
@@ -427,7 +688,84 @@ public class WebhookDispatcher {
         }
     }
 
-    private record SendResultWithAttempts(SendResult result, int attemptCount) {
+    private static final class DispatchTrace {
+
+        private static final DispatchTrace DISABLED = new DispatchTrace(null, null);
+
+        @Nullable
+        private final WebhookMetrics sampledMetrics;
+        @Nullable
+        private final WebhookDispatchEvent event;
+        private int attempts;
+
+        private DispatchTrace(@Nullable WebhookMetrics sampledMetrics, @Nullable WebhookDispatchEvent event) {
+            this.sampledMetrics = sampledMetrics;
+            this.event = event;
+        }
+
+        static DispatchTrace start(WebhookMetrics metrics) {
+            WebhookMetrics sampledMetrics = metrics.isStageTimingSampled() ? metrics : null;
+            WebhookDispatchEvent event = WebhookDispatchEvent.isRecording() ? WebhookDispatchEvent.started() : null;
+            if (sampledMetrics == null && event == null) {
+                return DISABLED;
+            }
+            return new DispatchTrace(sampledMetrics, event);
+        }
+
+        long stageStart() {
+            return this == DISABLED ? 0L : System.nanoTime();
+        }
+
+        void recordStage(PipelineStage stage, long startNanos) {
+            if (this == DISABLED) {
+                return;
+            }
+            long durationNanos = System.nanoTime() - startNanos;
+            if (sampledMetrics != null) {
+                sampledMetrics.recordStageDuration(stage, durationNanos);
+            }
+            if (event != null) {
+                event.addStageDuration(stage, durationNanos);
+            }
+        }
+
+        void attempts(int attempts) {
+            if (event != null) {
+                this.attempts = attempts;
+            }
+        }
+
+        void end(RoutingTarget target, String typeId, DispatchResult result) {
+            if (event != null) {
+                event.end(target.platform(), target.webhookKey(), typeId, attempts, result.success(),
+                    result.errorMessage());
+            }
+        }
+    }
+
+    // joins each attempt to the endpoint's open batch; retries and timeouts keep applying per item
+    private record BatchingSender(
+        MicroBatcher batcher,
+        BatchWebhookSender delegate,
+        RoutingTarget target,
+        int maxSize,
+        long maxDelayMillis,
+        long timeoutMillis
+    ) implements WebhookSender {
+
+        @Override
+        public String platform() {
+            return delegate.platform();
+        }
+
+        @Override
+        public SendResult send(String webhookUrl, Object payload) {
+            return batcher.send(delegate, target.platform(), target.webhookKey(), webhookUrl, payload, maxSize,
+                maxDelayMillis, timeoutMillis);
+        }
+    }
+
+    private record SendResultWithAttempts(SendResult result, int attemptCount, boolean expired) {
 
     }
 
@@ -449,4 +787,65 @@ public class WebhookDispatcher {
         }
     }
 
+    public static final class Builder {
+
+        private final WebhookConfigResolver configResolver;
+        private final CircuitBreakerRegistry circuitBreakerRegistry;
+        private final RetryRegistry retryRegistry;
+        private final TimeLimiterRegistry timeLimiterRegistry;
+        private final RateLimiterRegistry rateLimiterRegistry;
+        private final BulkheadRegistry bulkheadRegistry;
+        private final Executor webhookTaskExecutor;
+        private final WebhookMetrics metrics;
+        private final DeadLetterProcessor deadLetterProcessor;
+        private final ApplicationEventPublisher eventPublisher;
+        private NotificationExpirationPolicy expirationPolicy = NotificationExpirationPolicy.disabled();
+        private EndpointStatsRegistry endpointStats = new EndpointStatsRegistry();
+        @Nullable
+        private DistributedRateLimiter distributedRateLimiter;
+
+        private Builder(
+            WebhookConfigResolver configResolver,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            RateLimiterRegistry rateLimiterRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            Executor webhookTaskExecutor,
+            WebhookMetrics metrics,
+            DeadLetterProcessor deadLetterProcessor,
+            ApplicationEventPublisher eventPublisher
+
+        ) {
+            this.configResolver = configResolver;
+            this.circuitBreakerRegistry = circuitBreakerRegistry;
+            this.retryRegistry = retryRegistry;
+            this.timeLimiterRegistry = timeLimiterRegistry;
+            this.rateLimiterRegistry = rateLimiterRegistry;
+            this.bulkheadRegistry = bulkheadRegistry;
+            this.webhookTaskExecutor = webhookTaskExecutor;
+            this.metrics = metrics;
+            this.deadLetterProcessor = deadLetterProcessor;
+            this.eventPublisher = eventPublisher;
+        }
+
+        public Builder expirationPolicy(NotificationExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+            return this;
+        }
+
+        public Builder endpointStats(EndpointStatsRegistry endpointStats) {
+            this.endpointStats = endpointStats;
+            return this;
+        }
+
+        public Builder distributedRateLimiter(@Nullable DistributedRateLimiter distributedRateLimiter) {
+            this.distributedRateLimiter = distributedRateLimiter;
+            return this;
+        }
+
+        public WebhookDispatcher build() {
+            return new WebhookDispatcher(this);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package io.github.limehee.hookrouter.spring.expiration;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import java.time.Clock;
+import java.util.Map;
+
+public class NotificationExpirationPolicy {
+
+    private static final NotificationExpirationPolicy DISABLED =
+        new NotificationExpirationPolicy(0L, Map.of(), Map.of());
+    private final long defaultTtlMillis;
+    private final Map<String, Long> typeTtls;
+    private final Map<String, Long> categoryTtls;
+    private final Clock clock;
+    private final boolean active;
+
+    public NotificationExpirationPolicy(long defaultTtlMillis, Map<String, Long> typeTtls,
+        Map<String, Long> categoryTtls) {
+        this(defaultTtlMillis, typeTtls, categoryTtls, Clock.systemUTC());
+    }
+
+    NotificationExpirationPolicy(long defaultTtlMillis, Map<String, Long> typeTtls, Map<String, Long> categoryTtls,
+        Clock clock) {
+        this.defaultTtlMillis = Math.max(defaultTtlMillis, 0L);
+        this.typeTtls = Map.copyOf(typeTtls);
+        this.categoryTtls = Map.copyOf(categoryTtls);
+        this.clock = clock;
+        this.active = this.defaultTtlMillis > 0 || !this.typeTtls.isEmpty() || !this.categoryTtls.isEmpty();
+    }
+
+    public static NotificationExpirationPolicy disabled() {
+        return DISABLED;
+    }
+
+    public boolean isExpired(Notification<?> notification) {
+        if (!active) {
+            return false;
+        }
+        long ttlMillis = resolveTtlMillis(notification.getTypeId(), notification.getCategory());
+        if (ttlMillis <= 0) {
+            return false;
+        }
+        return clock.millis() - notification.getOccurredAt().toEpochMilli() > ttlMillis;
+    }
+
+    public long resolveTtlMillis(String typeId, String category) {
+        Long typeTtl = typeTtls.get(typeId);
+        if (typeTtl != null) {
+            return typeTtl;
+        }
+        Long categoryTtl = categoryTtls.get(category);
+        if (categoryTtl != null) {
+            return categoryTtl;
+        }
+        return defaultTtlMillis;
+    }
+}
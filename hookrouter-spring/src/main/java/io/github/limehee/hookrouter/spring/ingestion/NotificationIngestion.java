@@ -0,0 +1,104 @@
+package io.github.limehee.hookrouter.spring.ingestion;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import org.jspecify.annotations.Nullable;
+
+public class NotificationIngestion {
+
+    private final NotificationProcessingGateway notificationProcessor;
+    private final Executor executor;
+    private final int maxInFlight;
+    @Nullable
+    private final OrderedDeliveryScheduler orderedDeliveryScheduler;
+    @Nullable
+    private final NotificationOutbox outbox;
+    @Nullable
+    private final ShutdownCoordinator shutdownCoordinator;
+
+    public NotificationIngestion(NotificationProcessingGateway notificationProcessor, Executor executor,
+        int maxInFlight) {
+        this(builder(notificationProcessor, executor, maxInFlight));
+    }
+
+    private NotificationIngestion(Builder builder) {
+        if (builder.maxInFlight < 1) {
+            throw new InvalidWebhookArgumentException("maxInFlight must be >= 1, but was: " + builder.maxInFlight);
+        }
+        this.notificationProcessor = builder.notificationProcessor;
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+        this.orderedDeliveryScheduler = builder.orderedDeliveryScheduler;
+        this.outbox = builder.outbox;
+        this.shutdownCoordinator = builder.shutdownCoordinator;
+    }
+
+    public static Builder builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+        int maxInFlight) {
+        return new Builder(notificationProcessor, executor, maxInFlight);
+    }
+
+    // a subscriber holds one publisher's demand window, so each subscription needs its own
+    public NotificationSubscriber subscriber() {
+        return NotificationSubscriber.builder(notificationProcessor, executor, maxInFlight)
+            .orderedDeliveryScheduler(orderedDeliveryScheduler)
+            .outbox(outbox)
+            .shutdownCoordinator(shutdownCoordinator)
+            .build();
+    }
+
+    public CompletableFuture<Void> ingest(Flow.Publisher<? extends Notification<?>> publisher) {
+        NotificationSubscriber subscriber = subscriber();
+        publisher.subscribe(subscriber);
+        return subscriber.completion();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public static final class Builder {
+
+        private final NotificationProcessingGateway notificationProcessor;
+        private final Executor executor;
+        private final int maxInFlight;
+        @Nullable
+        private OrderedDeliveryScheduler orderedDeliveryScheduler;
+        @Nullable
+        private NotificationOutbox outbox;
+        @Nullable
+        private ShutdownCoordinator shutdownCoordinator;
+
+        private Builder(NotificationProcessingGateway notificationProcessor, Executor executor, int maxInFlight) {
+            this.notificationProcessor = notificationProcessor;
+            this.executor = executor;
+            this.maxInFlight = maxInFlight;
+        }
+
+        public Builder orderedDeliveryScheduler(@Nullable OrderedDeliveryScheduler orderedDeliveryScheduler) {
+            this.orderedDeliveryScheduler = orderedDeliveryScheduler;
+            return this;
+        }
+
+        public Builder outbox(@Nullable NotificationOutbox outbox) {
+            this.outbox = outbox;
+            return this;
+        }
+
+        public Builder shutdownCoordinator(@Nullable ShutdownCoordinator shutdownCoordinator) {
+            this.shutdownCoordinator = shutdownCoordinator;
+            return this;
+        }
+
+        public NotificationIngestion build() {
+            return new NotificationIngestion(this);
+        }
+    }
+}
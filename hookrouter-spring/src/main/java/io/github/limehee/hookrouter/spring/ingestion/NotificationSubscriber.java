@@ -0,0 +1,241 @@
+package io.github.limehee.hookrouter.spring.ingestion;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class NotificationSubscriber implements Flow.Subscriber<Notification<?>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationSubscriber.class);
+    private final NotificationProcessingGateway notificationProcessor;
+    private final Executor executor;
+    private final int maxInFlight;
+    @Nullable
+    private final OrderedDeliveryScheduler orderedDeliveryScheduler;
+    @Nullable
+    private final NotificationOutbox outbox;
+    @Nullable
+    private final ShutdownCoordinator shutdownCoordinator;
+    private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // completions on many worker threads are merged here, since Subscription calls must never overlap
+    private final AtomicLong unrequested = new AtomicLong();
+    private final AtomicInteger signalling = new AtomicInteger();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile boolean upstreamDone;
+    private volatile boolean cancelled;
+    @Nullable
+    private volatile Throwable upstreamError;
+    private boolean cancelSignalled;
+
+    public NotificationSubscriber(NotificationProcessingGateway notificationProcessor, Executor executor,
+        int maxInFlight) {
+        this(builder(notificationProcessor, executor, maxInFlight));
+    }
+
+    private NotificationSubscriber(Builder builder) {
+        if (builder.maxInFlight < 1) {
+            throw new InvalidWebhookArgumentException("maxInFlight must be >= 1, but was: " + builder.maxInFlight);
+        }
+        this.notificationProcessor = builder.notificationProcessor;
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+        this.orderedDeliveryScheduler = builder.orderedDeliveryScheduler;
+        this.outbox = builder.outbox;
+        this.shutdownCoordinator = builder.shutdownCoordinator;
+    }
+
+    public static Builder builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+        int maxInFlight) {
+        return new Builder(notificationProcessor, executor, maxInFlight);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription must not be null");
+        if (!this.subscription.compareAndSet(null, subscription)) {
+            // a subscriber serves one publisher; its in-flight window is not shared
+            subscription.cancel();
+            return;
+        }
+        request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(Notification<?> notification) {
+        Objects.requireNonNull(notification, "notification must not be null");
+        inFlight.incrementAndGet();
+        if (shutdownCoordinator != null && !shutdownCoordinator.accept(notification)) {
+            processed();
+            return;
+        }
+        try {
+            if (outbox != null) {
+                outbox.record(notification);
+            }
+            if (orderedDeliveryScheduler != null && orderedDeliveryScheduler.submit(notification, this::processed)) {
+                return;
+            }
+            executor.execute(() -> process(notification));
+        } catch (RuntimeException e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Failed to hand off notification typeId={}, category={}",
+                    notification.getTypeId(), notification.getCategory(), e);
+            }
+            release(notification);
+            processed();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (LOGGER.isWarnEnabled()) {
+            LOGGER.warn("Notification source failed; notifications already received are still delivered", throwable);
+        }
+        upstreamError = throwable;
+        upstreamFinished();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamFinished();
+    }
+
+    public void cancel() {
+        cancelled = true;
+        request(0);
+        upstreamFinished();
+    }
+
+    // completes once the source has finished or was cancelled and every received notification was processed
+    public CompletableFuture<Void> completion() {
+        return completion.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.get();
+    }
+
+    private void process(Notification<?> notification) {
+        try {
+            notificationProcessor.process(notification);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Notification processing failed for typeId={}, category={}",
+                    notification.getTypeId(), notification.getCategory(), e);
+            }
+        } finally {
+            processed();
+        }
+    }
+
+    private void processed() {
+        int remaining = inFlight.decrementAndGet();
+        if (upstreamDone) {
+            if (remaining == 0) {
+                finish();
+            }
+            return;
+        }
+        request(1);
+    }
+
+    private void upstreamFinished() {
+        upstreamDone = true;
+        if (inFlight.get() == 0) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        Throwable error = upstreamError;
+        if (error != null) {
+            completion.completeExceptionally(error);
+        } else {
+            completion.complete(null);
+        }
+    }
+
+    private void request(long count) {
+        unrequested.addAndGet(count);
+        if (signalling.getAndIncrement() != 0) {
+            // the thread already signalling picks this up before it leaves the loop
+            return;
+        }
+        do {
+            long pending = unrequested.getAndSet(0L);
+            Flow.Subscription current = subscription.get();
+            if (current == null) {
+                continue;
+            }
+            if (cancelled) {
+                if (!cancelSignalled) {
+                    cancelSignalled = true;
+                    current.cancel();
+                }
+            } else if (pending > 0 && !upstreamDone) {
+                current.request(pending);
+            }
+        } while (signalling.decrementAndGet() != 0);
+    }
+
+    private void release(Notification<?> notification) {
+        if (outbox != null) {
+            outbox.acknowledge(notification);
+        }
+        if (shutdownCoordinator != null) {
+            shutdownCoordinator.finished(notification);
+        }
+    }
+
+    public static final class Builder {
+
+        private final NotificationProcessingGateway notificationProcessor;
+        private final Executor executor;
+        private final int maxInFlight;
+        @Nullable
+        private OrderedDeliveryScheduler orderedDeliveryScheduler;
+        @Nullable
+        private NotificationOutbox outbox;
+        @Nullable
+        private ShutdownCoordinator shutdownCoordinator;
+
+        private Builder(NotificationProcessingGateway notificationProcessor, Executor executor, int maxInFlight) {
+            this.notificationProcessor = notificationProcessor;
+            this.executor = executor;
+            this.maxInFlight = maxInFlight;
+        }
+
+        public Builder orderedDeliveryScheduler(@Nullable OrderedDeliveryScheduler orderedDeliveryScheduler) {
+            this.orderedDeliveryScheduler = orderedDeliveryScheduler;
+            return this;
+        }
+
+        public Builder outbox(@Nullable NotificationOutbox outbox) {
+            this.outbox = outbox;
+            return this;
+        }
+
+        public Builder shutdownCoordinator(@Nullable ShutdownCoordinator shutdownCoordinator) {
+            this.shutdownCoordinator = shutdownCoordinator;
+            return this;
+        }
+
+        public NotificationSubscriber build() {
+            return new NotificationSubscriber(this);
+        }
+    }
+}
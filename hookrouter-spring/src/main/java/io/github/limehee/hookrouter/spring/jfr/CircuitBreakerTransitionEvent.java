@@ -0,0 +1,34 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.limehee.hookrouter.CircuitBreakerTransition")
+@Label("Circuit Breaker Transition")
+@Category({"HookRouter", "Resilience"})
+@StackTrace(false)
+public final class CircuitBreakerTransitionEvent extends Event {
+
+    @Label("Circuit Breaker")
+    private String circuitBreaker;
+
+    @Label("From State")
+    private String fromState;
+
+    @Label("To State")
+    private String toState;
+
+    public static void emit(String circuitBreaker, String fromState, String toState) {
+        CircuitBreakerTransitionEvent event = new CircuitBreakerTransitionEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.circuitBreaker = circuitBreaker;
+        event.fromState = fromState;
+        event.toState = toState;
+        event.commit();
+    }
+}
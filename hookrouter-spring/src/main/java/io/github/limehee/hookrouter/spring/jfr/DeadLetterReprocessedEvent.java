@@ -0,0 +1,39 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.limehee.hookrouter.DeadLetterReprocessed")
+@Label("Dead Letter Reprocessed")
+@Category({"HookRouter", "Dead Letter"})
+@StackTrace(false)
+public final class DeadLetterReprocessedEvent extends Event {
+
+    @Label("Dead Letter ID")
+    private String id;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Retry Count")
+    private int retryCount;
+
+    public static DeadLetterReprocessedEvent started() {
+        DeadLetterReprocessedEvent event = new DeadLetterReprocessedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String id, String status, int retryCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.id = id;
+        this.status = status;
+        this.retryCount = retryCount;
+        commit();
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.limehee.hookrouter.DeadLetterSaved")
+@Label("Dead Letter Saved")
+@Category({"HookRouter", "Dead Letter"})
+@StackTrace(false)
+public final class DeadLetterSavedEvent extends Event {
+
+    @Label("Dead Letter ID")
+    private String id;
+
+    @Label("Platform")
+    private String platform;
+
+    @Label("Webhook Key")
+    private String webhookKey;
+
+    @Label("Type ID")
+    private String typeId;
+
+    @Label("Reason")
+    private String reason;
+
+    @Label("Attempts")
+    private int attempts;
+
+    public static DeadLetterSavedEvent started() {
+        DeadLetterSavedEvent event = new DeadLetterSavedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String id, String platform, String webhookKey, String typeId, String reason, int attempts) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.id = id;
+        this.platform = platform;
+        this.webhookKey = webhookKey;
+        this.typeId = typeId;
+        this.reason = reason;
+        this.attempts = attempts;
+        commit();
+    }
+}
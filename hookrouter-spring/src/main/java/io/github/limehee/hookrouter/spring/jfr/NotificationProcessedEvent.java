@@ -0,0 +1,57 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jspecify.annotations.Nullable;
+
+// per notification: opt-in, like WebhookDispatch
+@Name("io.github.limehee.hookrouter.NotificationProcessed")
+@Label("Notification Processed")
+@Category({"HookRouter", "Dispatch"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("10 ms")
+public final class NotificationProcessedEvent extends Event {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(NotificationProcessedEvent.class);
+
+    @Label("Type ID")
+    private String typeId;
+
+    @Label("Category")
+    private String category;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Error Message")
+    @Nullable
+    private String errorMessage;
+
+    public static boolean isRecording() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    public static NotificationProcessedEvent started() {
+        NotificationProcessedEvent event = new NotificationProcessedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String typeId, String category, boolean success, @Nullable String errorMessage) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.typeId = typeId;
+        this.category = category;
+        this.success = success;
+        this.errorMessage = errorMessage;
+        commit();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+// one per dispatch, so a recording has to opt in, and then only slow ones are kept unless the threshold is lowered
+@Name("io.github.limehee.hookrouter.WebhookDispatch")
+@Label("Webhook Dispatch")
+@Category({"HookRouter", "Dispatch"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("10 ms")
+public final class WebhookDispatchEvent extends Event {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(WebhookDispatchEvent.class);
+
+    @Label("Platform")
+    private String platform;
+
+    @Label("Webhook Key")
+    private String webhookKey;
+
+    @Label("Type ID")
+    private String typeId;
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Rate Limiter Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long rateLimiterWait;
+
+    @Label("Bulkhead Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long bulkheadWait;
+
+    @Label("Retry Backoff")
+    @Timespan(Timespan.NANOSECONDS)
+    private long retryBackoff;
+
+    @Label("HTTP Call")
+    @Timespan(Timespan.NANOSECONDS)
+    private long httpCall;
+
+    public static boolean isRecording() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    public static WebhookDispatchEvent started() {
+        WebhookDispatchEvent event = new WebhookDispatchEvent();
+        event.begin();
+        return event;
+    }
+
+    public void addStageDuration(PipelineStage stage, long durationNanos) {
+        switch (stage) {
+            case RATE_LIMITER_WAIT -> rateLimiterWait += durationNanos;
+            case BULKHEAD_WAIT -> bulkheadWait += durationNanos;
+            case RETRY_BACKOFF -> retryBackoff += durationNanos;
+            case HTTP_CALL -> httpCall += durationNanos;
+            default -> {
+                // Other stages happen outside a single dispatch
+            }
+        }
+    }
+
+    public void end(String platform, String webhookKey, String typeId, int attempts, boolean success,
+        @Nullable String errorMessage) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.platform = platform;
+        this.webhookKey = webhookKey;
+        this.typeId = typeId;
+        this.attempts = attempts;
+        this.success = success;
+        this.outcome = success ? "success" : (errorMessage != null ? errorMessage : "failure");
+        commit();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.limehee.hookrouter.WebhookRejected")
+@Label("Webhook Rejected")
+@Category({"HookRouter", "Resilience"})
+@StackTrace(false)
+public final class WebhookRejectedEvent extends Event {
+
+    public static final String RATE_LIMITED = "rate-limited";
+    public static final String BULKHEAD_FULL = "bulkhead-full";
+    public static final String CIRCUIT_OPEN = "circuit-open";
+
+    @Label("Platform")
+    private String platform;
+
+    @Label("Webhook Key")
+    private String webhookKey;
+
+    @Label("Type ID")
+    private String typeId;
+
+    @Label("Reason")
+    private String reason;
+
+    public static void emit(String platform, String webhookKey, String typeId, String reason) {
+        WebhookRejectedEvent event = new WebhookRejectedEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.platform = platform;
+        event.webhookKey = webhookKey;
+        event.typeId = typeId;
+        event.reason = reason;
+        event.commit();
+    }
+}
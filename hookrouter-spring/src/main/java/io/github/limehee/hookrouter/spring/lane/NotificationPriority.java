@@ -0,0 +1,8 @@
+package io.github.limehee.hookrouter.spring.lane;
+
+public enum NotificationPriority {
+
+    HIGH,
+    NORMAL,
+    LOW
+}
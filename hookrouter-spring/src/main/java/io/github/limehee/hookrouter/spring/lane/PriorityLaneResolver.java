@@ -0,0 +1,40 @@
+package io.github.limehee.hookrouter.spring.lane;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+public class PriorityLaneResolver {
+
+    private final String metaKey;
+    private final Map<String, NotificationPriority> categoryPriorities;
+
+    public PriorityLaneResolver(String metaKey, Map<String, NotificationPriority> categoryPriorities) {
+        this.metaKey = metaKey;
+        this.categoryPriorities = Map.copyOf(categoryPriorities);
+    }
+
+    public NotificationPriority resolve(Notification<?> notification) {
+        NotificationPriority metaPriority = parse(notification.getMetaValue(metaKey));
+        if (metaPriority != null) {
+            return metaPriority;
+        }
+        return categoryPriorities.getOrDefault(notification.getCategory(), NotificationPriority.NORMAL);
+    }
+
+    @Nullable
+    private static NotificationPriority parse(@Nullable Object value) {
+        if (value instanceof NotificationPriority priority) {
+            return priority;
+        }
+        if (value instanceof CharSequence text) {
+            try {
+                return NotificationPriority.valueOf(text.toString().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
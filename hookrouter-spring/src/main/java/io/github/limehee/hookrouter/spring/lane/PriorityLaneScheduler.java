@@ -0,0 +1,235 @@
+package io.github.limehee.hookrouter.spring.lane;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PriorityLaneScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PriorityLaneScheduler.class);
+    private static final NotificationPriority[] PRIORITIES = NotificationPriority.values();
+    private final NotificationProcessingGateway notificationProcessor;
+    private final Executor executor;
+    private final PriorityLaneResolver resolver;
+    private final WebhookMetrics metrics;
+    private final int maxPending;
+    private final Lane[] lanes;
+    private final Consumer<Notification<?>> shedHandler;
+    private int pendingCount;
+
+    private PriorityLaneScheduler(Builder builder) {
+        this.notificationProcessor = builder.notificationProcessor;
+        this.executor = builder.executor;
+        this.resolver = builder.resolver;
+        this.metrics = builder.metrics;
+        this.maxPending = Math.max(builder.maxPending, 1);
+        this.lanes = new Lane[PRIORITIES.length];
+        this.lanes[NotificationPriority.HIGH.ordinal()] = new Lane(builder.highWeight);
+        this.lanes[NotificationPriority.NORMAL.ordinal()] = new Lane(builder.normalWeight);
+        this.lanes[NotificationPriority.LOW.ordinal()] = new Lane(builder.lowWeight);
+        this.shedHandler = builder.shedHandler;
+    }
+
+    public static Builder builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+        PriorityLaneResolver resolver) {
+        return new Builder(notificationProcessor, executor, resolver);
+    }
+
+    public boolean submit(Notification<?> notification) {
+        NotificationPriority priority = resolver.resolve(notification);
+        NotificationPriority shedPriority = null;
+        Notification<?> shed = null;
+        boolean accepted = true;
+
+        synchronized (this) {
+            if (pendingCount >= maxPending) {
+                int victim = lowestNonEmptyLaneAtOrBelow(priority);
+                if (victim < 0) {
+                    accepted = false;
+                } else {
+                    shed = lanes[victim].queue.pollFirst();
+                    pendingCount--;
+                    shedPriority = PRIORITIES[victim];
+                }
+            }
+            if (accepted) {
+                lanes[priority.ordinal()].queue.addLast(notification);
+                pendingCount++;
+            }
+        }
+
+        if (shed != null) {
+            recordShed(shedPriority);
+            releaseShed(shed);
+        }
+        if (!accepted) {
+            recordShed(priority);
+            releaseShed(notification);
+            return false;
+        }
+        try {
+            executor.execute(this::drainOne);
+        } catch (RuntimeException e) {
+            if (withdraw(notification, priority)) {
+                throw e;
+            }
+            // a running drain already took it, so the refused task would have served another queued notification
+            drainOne();
+        }
+        return true;
+    }
+
+    public synchronized int pendingCount() {
+        return pendingCount;
+    }
+
+    public synchronized int pendingCount(NotificationPriority priority) {
+        return lanes[priority.ordinal()].queue.size();
+    }
+
+    void drainOne() {
+        Notification<?> next = poll();
+        if (next == null) {
+            return;
+        }
+        try {
+            notificationProcessor.process(next);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Priority lane processing failed for typeId={}, category={}",
+                    next.getTypeId(), next.getCategory(), e);
+            }
+        }
+    }
+
+    // the caller sees the rejection and releases the notification, so it must not stay queued behind its back
+    private synchronized boolean withdraw(Notification<?> notification, NotificationPriority priority) {
+        Iterator<Notification<?>> queued = lanes[priority.ordinal()].queue.descendingIterator();
+        while (queued.hasNext()) {
+            if (queued.next() == notification) {
+                queued.remove();
+                pendingCount--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private synchronized Notification<?> poll() {
+        int totalWeight = 0;
+        Lane selected = null;
+        for (Lane lane : lanes) {
+            if (lane.queue.isEmpty()) {
+                continue;
+            }
+            lane.credit += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.credit > selected.credit) {
+                selected = lane;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.credit -= totalWeight;
+        pendingCount--;
+        return selected.queue.pollFirst();
+    }
+
+    private int lowestNonEmptyLaneAtOrBelow(NotificationPriority priority) {
+        for (int i = lanes.length - 1; i >= priority.ordinal(); i--) {
+            if (!lanes[i].queue.isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void recordShed(NotificationPriority priority) {
+        try {
+            metrics.recordPriorityLaneShed(priority.name());
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Priority lane shed metric recording failed for lane={}", priority.name(), e);
+            }
+        }
+    }
+
+    private void releaseShed(Notification<?> shed) {
+        try {
+            shedHandler.accept(shed);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Priority lane shed handler failed for typeId={}, category={}",
+                    shed.getTypeId(), shed.getCategory(), e);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final NotificationProcessingGateway notificationProcessor;
+        private final Executor executor;
+        private final PriorityLaneResolver resolver;
+        private WebhookMetrics metrics = NoOpWebhookMetrics.INSTANCE;
+        private int maxPending = 1000;
+        private int highWeight = 6;
+        private int normalWeight = 3;
+        private int lowWeight = 1;
+        private Consumer<Notification<?>> shedHandler = notification -> {
+        };
+
+        private Builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+            PriorityLaneResolver resolver) {
+            this.notificationProcessor = notificationProcessor;
+            this.executor = executor;
+            this.resolver = resolver;
+        }
+
+        public Builder metrics(WebhookMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public Builder weights(int highWeight, int normalWeight, int lowWeight) {
+            this.highWeight = highWeight;
+            this.normalWeight = normalWeight;
+            this.lowWeight = lowWeight;
+            return this;
+        }
+
+        public Builder shedHandler(Consumer<Notification<?>> shedHandler) {
+            this.shedHandler = shedHandler;
+            return this;
+        }
+
+        public PriorityLaneScheduler build() {
+            return new PriorityLaneScheduler(this);
+        }
+    }
+
+    private static final class Lane {
+
+        private final ArrayDeque<Notification<?>> queue = new ArrayDeque<>();
+        private final int weight;
+        private int credit;
+
+        private Lane(int weight) {
+            this.weight = Math.max(weight, 1);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.limehee.hookrouter.spring.listener;
+
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.PayloadSerializer;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.spring.dispatcher.EndpointResilience;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+public final class DispatchPlan {
+
+    private final List<RoutingTarget> targets;
+    private final Route[] routes;
+    private final long formatterVersion;
+    private final long configGeneration;
+
+    DispatchPlan(List<RoutingTarget> targets, Route[] routes, long formatterVersion, long configGeneration) {
+        this.targets = List.copyOf(targets);
+        this.routes = routes;
+        this.formatterVersion = formatterVersion;
+        this.configGeneration = configGeneration;
+    }
+
+    public List<RoutingTarget> targets() {
+        return targets;
+    }
+
+    public int size() {
+        return routes.length;
+    }
+
+    Route route(int index) {
+        return routes[index];
+    }
+
+    boolean isCurrent(long formatterVersion, long configGeneration) {
+        return this.formatterVersion == formatterVersion && this.configGeneration == configGeneration;
+    }
+
+    record Route(
+        RoutingTarget target,
+        @Nullable WebhookFormatter<?, ?> formatter,
+        @Nullable String contextMismatch,
+        @Nullable PayloadSerializer serializer,
+        @Nullable WebhookSender sender,
+        @Nullable EndpointResilience resilience
+    ) {
+
+        static Route of(RoutingTarget target, @Nullable WebhookFormatter<?, ?> formatter, Class<?> contextClass,
+            @Nullable PayloadSerializer serializer, @Nullable WebhookSender sender,
+            @Nullable EndpointResilience resilience) {
+            return new Route(target, formatter, contextMismatch(formatter, contextClass), serializer, sender,
+                resilience);
+        }
+
+        @Nullable
+        private static String contextMismatch(@Nullable WebhookFormatter<?, ?> formatter, Class<?> contextClass) {
+            if (formatter == null) {
+                return null;
+            }
+            Class<?> expected = formatter.contextClass();
+            if (Object.class.equals(expected) || expected.isAssignableFrom(contextClass)) {
+                return null;
+            }
+            return "Formatter context type mismatch: expected " + expected.getName() + ", actual "
+                + contextClass.getName();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.limehee.hookrouter.spring.listener;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.Symbol;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.port.PayloadSerializer;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.dispatcher.EndpointResilience;
+import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
+import io.github.limehee.hookrouter.spring.listener.DispatchPlan.Route;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// a fixed table probed from the key's hash: lookups compare fields in place instead of allocating a key, and a full
+// probe window evicts one stale or home-slot plan rather than dropping the whole cache
+public class DispatchPlanCache {
+
+    private static final int PROBES = 4;
+
+    private final RoutingPolicy routingPolicy;
+    private final FormatterRegistry formatterRegistry;
+    private final Map<String, WebhookSender> senderMap;
+    private final Map<String, PayloadSerializer> serializerMap;
+    private final WebhookConfigResolver configResolver;
+    private final WebhookDispatcher dispatcher;
+    private final AtomicReferenceArray<Entry> slots;
+
+    public DispatchPlanCache(
+        final RoutingPolicy routingPolicy,
+        final FormatterRegistry formatterRegistry,
+        final List<WebhookSender> senders,
+        final List<PayloadSerializer> serializers,
+        final WebhookConfigResolver configResolver,
+        final WebhookDispatcher dispatcher,
+        final int maxSize
+    ) {
+        if (maxSize < 1) {
+            throw new InvalidWebhookArgumentException("maxSize must be >= 1, but was: " + maxSize);
+        }
+        this.routingPolicy = routingPolicy;
+        this.formatterRegistry = formatterRegistry;
+        this.senderMap = senders.stream().collect(Collectors.toMap(WebhookSender::platform, Function.identity()));
+        this.serializerMap = serializers.stream()
+            .collect(Collectors.toMap(PayloadSerializer::platform, Function.identity()));
+        this.configResolver = configResolver;
+        this.dispatcher = dispatcher;
+        this.slots = new AtomicReferenceArray<>(maxSize);
+    }
+
+    public DispatchPlan planFor(Notification<?> notification) {
+        long formatterVersion = formatterRegistry.version();
+        long configGeneration = configResolver.generation();
+        Symbol typeId = notification.getTypeSymbol();
+        Symbol category = notification.getCategorySymbol();
+        Class<?> contextClass = notification.getContext().getClass();
+        int home = home(typeId, category, contextClass);
+        for (int probe = 0; probe < PROBES; probe++) {
+            Entry entry = slots.get(slot(home, probe));
+            if (entry != null && entry.matches(typeId, category, contextClass)
+                && entry.plan().isCurrent(formatterVersion, configGeneration)) {
+                return entry.plan();
+            }
+        }
+        DispatchPlan plan = compile(notification, contextClass, formatterVersion, configGeneration);
+        slots.set(victim(home, typeId, category, contextClass, formatterVersion, configGeneration),
+            new Entry(typeId, category, contextClass, plan));
+        return plan;
+    }
+
+    public void invalidate() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    // prefer the key's own slot, then an empty one, then an outdated plan; only then evict the home slot
+    private int victim(int home, Symbol typeId, Symbol category, Class<?> contextClass, long formatterVersion,
+        long configGeneration) {
+        int empty = -1;
+        int stale = -1;
+        for (int probe = 0; probe < PROBES; probe++) {
+            int index = slot(home, probe);
+            Entry entry = slots.get(index);
+            if (entry == null) {
+                if (empty < 0) {
+                    empty = index;
+                }
+            } else if (entry.matches(typeId, category, contextClass)) {
+                return index;
+            } else if (stale < 0 && !entry.plan().isCurrent(formatterVersion, configGeneration)) {
+                stale = index;
+            }
+        }
+        if (empty >= 0) {
+            return empty;
+        }
+        return stale >= 0 ? stale : slot(home, 0);
+    }
+
+    private int home(Symbol typeId, Symbol category, Class<?> contextClass) {
+        int hash = (typeId.hashCode() * 31 + category.hashCode()) * 31 + contextClass.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), slots.length());
+    }
+
+    private int slot(int home, int probe) {
+        return (home + probe) % slots.length();
+    }
+
+    private DispatchPlan compile(Notification<?> notification, Class<?> contextClass, long formatterVersion,
+        long configGeneration) {
+        List<RoutingTarget> targets = routingPolicy.resolve(notification.getTypeId(), notification.getCategory());
+        Route[] routes = new Route[targets.size()];
+        for (int i = 0; i < routes.length; i++) {
+            RoutingTarget target = targets.get(i);
+            String platform = target.platform();
+            WebhookSender sender = senderMap.get(platform);
+            // resilience instances are resolved here once, rather than built and looked up on every dispatch
+            EndpointResilience resilience = sender != null && platform != null && target.webhookKey() != null
+                ? dispatcher.resilienceFor(target, configResolver.resolve(platform, target.webhookKey()))
+                : null;
+            routes[i] = Route.of(
+                target,
+                formatterRegistry.lookup(target.platformSymbol(), notification.getTypeSymbol()),
+                contextClass,
+                serializerMap.get(platform),
+                sender,
+                resilience
+            );
+        }
+        return new DispatchPlan(targets, routes, formatterVersion, configGeneration);
+    }
+
+    private record Entry(Symbol typeId, Symbol category, Class<?> contextClass, DispatchPlan plan) {
+
+        boolean matches(Symbol typeId, Symbol category, Class<?> contextClass) {
+            return this.contextClass == contextClass && this.typeId.equals(typeId) && this.category.equals(category);
+        }
+    }
+}
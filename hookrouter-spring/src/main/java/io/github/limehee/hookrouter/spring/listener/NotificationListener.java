@@ -1,7 +1,9 @@
 package io.github.limehee.hookrouter.spring.listener;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
 import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.PayloadSerializer;
 import io.github.limehee.hookrouter.core.port.RoutingPolicy;
 import io.github.limehee.hookrouter.core.port.RoutingTarget;
 import io.github.limehee.hookrouter.core.port.WebhookSender;
@@ -9,9 +11,18 @@ import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher.DispatchResult;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.jfr.NotificationProcessedEvent;
+import io.github.limehee.hookrouter.spring.listener.DispatchPlan.Route;
+import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -27,14 +38,44 @@ public class NotificationListener implements NotificationProcessingGateway {
     private final Map<String, WebhookSender> senderMap;
     private final WebhookDispatcher dispatcher;
     private final DeadLetterProcessor deadLetterProcessor;
+    private final NotificationExpirationPolicy expirationPolicy;
+    private final Map<String, PayloadSerializer> serializerMap;
+    private final WebhookMetrics metrics;
+    @Nullable
+    private final DispatchPlanCache planCache;
+    @Nullable
+    private final NotificationOutbox outbox;
+    @Nullable
+    private final ShutdownCoordinator shutdownCoordinator;
 
     public NotificationListener(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry,
         List<WebhookSender> senders, WebhookDispatcher dispatcher, DeadLetterProcessor deadLetterProcessor) {
-        this.routingPolicy = routingPolicy;
-        this.formatterRegistry = formatterRegistry;
-        this.senderMap = senders.stream().collect(Collectors.toMap(WebhookSender::platform, Function.identity()));
-        this.dispatcher = dispatcher;
-        this.deadLetterProcessor = deadLetterProcessor;
+        this(builder(routingPolicy, formatterRegistry, senders, dispatcher, deadLetterProcessor));
+    }
+
+    private NotificationListener(Builder builder) {
+        this.routingPolicy = builder.routingPolicy;
+        this.formatterRegistry = builder.formatterRegistry;
+        this.senderMap = builder.senders.stream()
+            .collect(Collectors.toMap(WebhookSender::platform, Function.identity()));
+        this.dispatcher = builder.dispatcher;
+        this.deadLetterProcessor = builder.deadLetterProcessor;
+        this.expirationPolicy = builder.expirationPolicy;
+        this.serializerMap = builder.serializers.stream()
+            .collect(Collectors.toMap(PayloadSerializer::platform, Function.identity()));
+        this.metrics = builder.metrics;
+        this.planCache = builder.planCache;
+        this.outbox = builder.outbox;
+        this.shutdownCoordinator = builder.shutdownCoordinator;
+    }
+
+    public static Builder builder(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry,
+        List<WebhookSender> senders, WebhookDispatcher dispatcher, DeadLetterProcessor deadLetterProcessor) {
+        return new Builder(routingPolicy, formatterRegistry, senders, dispatcher, deadLetterProcessor);
+    }
+
+    public boolean isPlanCacheEnabled() {
+        return planCache != null;
     }
 
     @Async("webhookTaskExecutor")
@@ -45,17 +86,91 @@ public class NotificationListener implements NotificationProcessingGateway {
 
     @Override
     public <T> ProcessingResult process(Notification<T> notification) {
-        String typeId = notification.getTypeId();
+        if (shutdownCoordinator != null && !shutdownCoordinator.begin(notification)) {
+            // the entry stays pending so the next startup replays it
+            return ProcessingResult.failed("Dead-lettered at shutdown before processing started");
+        }
+        ProcessingResult result;
         try {
+            result = processRecorded(notification, null);
+        } finally {
+            if (shutdownCoordinator != null) {
+                shutdownCoordinator.finished(notification);
+            }
+        }
+        if (outbox != null) {
+            // failed targets are owned by the dead-letter path from here on
+            outbox.acknowledge(notification);
+        }
+        return result;
+    }
 
-            List<RoutingTarget> targets = routingPolicy.resolve(typeId, notification.getCategory());
+    @Override
+    public <T> ProcessingResult process(Notification<T> notification, Predicate<RoutingTarget> targetFilter,
+        NotificationParts parts) {
+        if (shutdownCoordinator != null && !parts.begin(() -> shutdownCoordinator.begin(notification))) {
+            return ProcessingResult.failed("Dead-lettered at shutdown before processing started");
+        }
+        ProcessingResult result;
+        boolean last;
+        try {
+            result = processRecorded(notification, targetFilter);
+        } finally {
+            last = parts.finishPart();
+            if (last && shutdownCoordinator != null) {
+                shutdownCoordinator.finished(notification);
+            }
+        }
+        if (last && outbox != null) {
+            outbox.acknowledge(notification);
+        }
+        return result;
+    }
+
+    private <T> ProcessingResult processRecorded(Notification<T> notification,
+        @Nullable Predicate<RoutingTarget> targetFilter) {
+        if (!NotificationProcessedEvent.isRecording()) {
+            return processNotification(notification, targetFilter);
+        }
+        NotificationProcessedEvent event = NotificationProcessedEvent.started();
+        ProcessingResult result = processNotification(notification, targetFilter);
+        event.end(notification.getTypeId(), notification.getCategory(), result.success(), result.errorMessage());
+        return result;
+    }
+
+    private <T> ProcessingResult processNotification(Notification<T> notification,
+        @Nullable Predicate<RoutingTarget> targetFilter) {
+        String typeId = notification.getTypeId();
+        boolean stageTimed = metrics.isStageTimingSampled();
+        try {
+            long routingStart = stageTimed ? System.nanoTime() : 0L;
+            DispatchPlan plan = planCache != null ? planCache.planFor(notification) : null;
+            List<RoutingTarget> targets = plan != null
+                ? plan.targets()
+                : routingPolicy.resolve(typeId, notification.getCategory());
+            if (stageTimed) {
+                metrics.recordStageDuration(PipelineStage.ROUTING, System.nanoTime() - routingStart);
+            }
             if (targets.isEmpty()) {
                 return ProcessingResult.failed("No routing targets resolved");
             }
+            if (expirationPolicy.isExpired(notification)) {
+                for (RoutingTarget target : targets) {
+                    if (targetFilter == null || targetFilter.test(target)) {
+                        deadLetterProcessor.processExpired(notification, target, null, 0);
+                    }
+                }
+                return ProcessingResult.failed("Notification expired");
+            }
 
             String firstFailureMessage = null;
-            for (RoutingTarget target : targets) {
-                ProcessingResult targetResult = dispatchToTarget(notification, target);
+            int targetCount = targets.size();
+            for (int i = 0; i < targetCount; i++) {
+                if (targetFilter != null && !targetFilter.test(targets.get(i))) {
+                    continue;
+                }
+                Route route = plan != null ? plan.route(i) : resolveRoute(notification, targets.get(i));
+                ProcessingResult targetResult = dispatchRoute(notification, route, stageTimed);
                 if (!targetResult.success() && firstFailureMessage == null) {
                     firstFailureMessage = targetResult.errorMessage();
                 }
@@ -73,17 +188,37 @@ public class NotificationListener implements NotificationProcessingGateway {
         }
     }
 
-    private <T> ProcessingResult dispatchToTarget(Notification<T> notification, RoutingTarget target) {
-        String typeId = notification.getTypeId();
+    private <T> Route resolveRoute(Notification<T> notification, RoutingTarget target) {
         String platform = target.platform();
+        return Route.of(
+            target,
+            formatterRegistry.lookup(target.platformSymbol(), notification.getTypeSymbol()),
+            notification.getContext().getClass(),
+            serializerMap.get(platform),
+            senderMap.get(platform),
+            null
+        );
+    }
 
-        WebhookFormatter<?, ?> formatter = formatterRegistry.getOrFallback(platform, typeId);
+    private <T> ProcessingResult dispatchRoute(Notification<T> notification, Route route, boolean stageTimed) {
+        RoutingTarget target = route.target();
+        String platform = target.platform();
+
+        long formattingStart = stageTimed ? System.nanoTime() : 0L;
+        WebhookFormatter<?, ?> formatter = route.formatter();
         if (formatter == null) {
             deadLetterProcessor.processFormatterNotFound(notification, target);
-            return ProcessingResult.failed("Formatter not found for platform=" + platform + ", typeId=" + typeId);
+            return ProcessingResult.failed("Formatter not found for platform=" + platform + ", typeId="
+                + notification.getTypeId());
         }
 
-        PayloadResult payloadResult = formatPayload(notification, formatter);
+        PayloadResult formatted = route.contextMismatch() != null
+            ? new PayloadResult(null, route.contextMismatch())
+            : formatPayload(notification, formatter);
+        PayloadResult payloadResult = serializePayload(notification, platform, route.serializer(), formatted);
+        if (stageTimed) {
+            metrics.recordStageDuration(PipelineStage.FORMATTING, System.nanoTime() - formattingStart);
+        }
         Object payload = payloadResult.payload();
         if (payload == null) {
             String reason = payloadResult.errorMessage() != null
@@ -93,13 +228,15 @@ public class NotificationListener implements NotificationProcessingGateway {
             return ProcessingResult.failed(reason);
         }
 
-        WebhookSender sender = senderMap.get(platform);
+        WebhookSender sender = route.sender();
         if (sender == null) {
             deadLetterProcessor.processSenderNotFound(notification, target, payload);
             return ProcessingResult.failed("Sender not found for platform=" + platform);
         }
 
-        DispatchResult dispatchResult = dispatcher.dispatch(notification, target, sender, payload);
+        DispatchResult dispatchResult = route.resilience() != null
+            ? dispatcher.dispatch(notification, target, sender, payload, route.resilience())
+            : dispatcher.dispatch(notification, target, sender, payload);
         if (!dispatchResult.success()) {
             String errorMessage = dispatchResult.errorMessage() != null
                 ? dispatchResult.errorMessage()
@@ -112,13 +249,6 @@ public class NotificationListener implements NotificationProcessingGateway {
     @SuppressWarnings("unchecked")
     private <T> PayloadResult formatPayload(Notification<T> notification, WebhookFormatter<?, ?> formatter) {
         try {
-            Class<?> contextClass = formatter.contextClass();
-            Object context = notification.getContext();
-            if (!contextClass.isInstance(context) && !Object.class.equals(contextClass)) {
-                return new PayloadResult(null,
-                    "Formatter context type mismatch: expected " + contextClass.getName() + ", actual "
-                        + context.getClass().getName());
-            }
             WebhookFormatter<Object, Object> typedFormatter = (WebhookFormatter<Object, Object>) formatter;
             Notification<Object> typedNotification = (Notification<Object>) notification;
             return new PayloadResult(typedFormatter.format(typedNotification), null);
@@ -134,7 +264,86 @@ public class NotificationListener implements NotificationProcessingGateway {
         }
     }
 
+    private <T> PayloadResult serializePayload(Notification<T> notification, String platform,
+        @Nullable PayloadSerializer serializer, PayloadResult payloadResult) {
+        Object payload = payloadResult.payload();
+        if (payload == null || serializer == null || payload instanceof SerializedPayload) {
+            return payloadResult;
+        }
+        try {
+            return new PayloadResult(serializer.serialize(payload), null);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Payload serializer failed for typeId={}, platform={}",
+                    notification.getTypeId(), platform, e);
+            }
+            return new PayloadResult(null,
+                "Payload serialization failed: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getName()));
+        }
+    }
+
     private record PayloadResult(@Nullable Object payload, @Nullable String errorMessage) {
 
     }
+
+    public static final class Builder {
+
+        private final RoutingPolicy routingPolicy;
+        private final FormatterRegistry formatterRegistry;
+        private final List<WebhookSender> senders;
+        private final WebhookDispatcher dispatcher;
+        private final DeadLetterProcessor deadLetterProcessor;
+        private NotificationExpirationPolicy expirationPolicy = NotificationExpirationPolicy.disabled();
+        private List<PayloadSerializer> serializers = List.of();
+        private WebhookMetrics metrics = NoOpWebhookMetrics.INSTANCE;
+        @Nullable
+        private DispatchPlanCache planCache;
+        @Nullable
+        private NotificationOutbox outbox;
+        @Nullable
+        private ShutdownCoordinator shutdownCoordinator;
+
+        private Builder(RoutingPolicy routingPolicy, FormatterRegistry formatterRegistry, List<WebhookSender> senders,
+            WebhookDispatcher dispatcher, DeadLetterProcessor deadLetterProcessor) {
+            this.routingPolicy = routingPolicy;
+            this.formatterRegistry = formatterRegistry;
+            this.senders = senders;
+            this.dispatcher = dispatcher;
+            this.deadLetterProcessor = deadLetterProcessor;
+        }
+
+        public Builder expirationPolicy(NotificationExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+            return this;
+        }
+
+        public Builder serializers(List<PayloadSerializer> serializers) {
+            this.serializers = serializers;
+            return this;
+        }
+
+        public Builder metrics(WebhookMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder planCache(@Nullable DispatchPlanCache planCache) {
+            this.planCache = planCache;
+            return this;
+        }
+
+        public Builder outbox(@Nullable NotificationOutbox outbox) {
+            this.outbox = outbox;
+            return this;
+        }
+
+        public Builder shutdownCoordinator(@Nullable ShutdownCoordinator shutdownCoordinator) {
+            this.shutdownCoordinator = shutdownCoordinator;
+            return this;
+        }
+
+        public NotificationListener build() {
+            return new NotificationListener(this);
+        }
+    }
 }
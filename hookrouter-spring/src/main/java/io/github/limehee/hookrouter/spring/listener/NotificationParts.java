@@ -0,0 +1,31 @@
+package io.github.limehee.hookrouter.spring.listener;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// one notification whose targets are processed in separate parts; the part that finishes last releases it
+public final class NotificationParts {
+
+    private final AtomicInteger unfinished;
+    private boolean abandoned;
+
+    public NotificationParts(int count) {
+        if (count < 1) {
+            throw new InvalidWebhookArgumentException("count must be >= 1, but was: " + count);
+        }
+        this.unfinished = new AtomicInteger(count);
+    }
+
+    // shutdown may dead-letter the notification before its first part begins; every later part then skips it too
+    synchronized boolean begin(BooleanSupplier begin) {
+        if (!abandoned && !begin.getAsBoolean()) {
+            abandoned = true;
+        }
+        return !abandoned;
+    }
+
+    boolean finishPart() {
+        return unfinished.decrementAndGet() == 0;
+    }
+}
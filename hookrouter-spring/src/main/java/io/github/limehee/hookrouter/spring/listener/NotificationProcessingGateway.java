@@ -1,12 +1,21 @@
 package io.github.limehee.hookrouter.spring.listener;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import java.util.function.Predicate;
 import org.jspecify.annotations.Nullable;
 
 public interface NotificationProcessingGateway {
 
     <T> ProcessingResult process(Notification<T> notification);
 
+    // processes only the targets the filter accepts, as one of the notification's parts; a gateway that cannot
+    // split a notification processes it whole once its last part arrives
+    default <T> ProcessingResult process(Notification<T> notification, Predicate<RoutingTarget> targetFilter,
+        NotificationParts parts) {
+        return parts.finishPart() ? process(notification) : ProcessingResult.ok();
+    }
+
     record ProcessingResult(boolean success, @Nullable String errorMessage) {
 
         public static ProcessingResult ok() {
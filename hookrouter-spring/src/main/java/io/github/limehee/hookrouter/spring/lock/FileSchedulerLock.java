@@ -0,0 +1,89 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+public class FileSchedulerLock implements SchedulerLock {
+
+    private static final Pattern LOCK_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private final Path directory;
+    private final Map<String, Held> held = new HashMap<>();
+
+    public FileSchedulerLock(Path directory) {
+        this.directory = directory;
+    }
+
+    // the operating system drops the lock when the process dies, so failover needs no lease expiry
+    @Override
+    public synchronized boolean tryAcquire(String lockName, String owner, Duration leaseDuration) {
+        if (!LOCK_NAME.matcher(lockName).matches()) {
+            throw new InvalidWebhookArgumentException(
+                "lockName must only contain letters, digits, '.', '_' or '-', but was: " + lockName);
+        }
+        Held current = held.get(lockName);
+        if (current != null) {
+            return current.owner.equals(owner) && current.lock.isValid();
+        }
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve(lockName + ".lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return false;
+            }
+            held.put(lockName, new Held(owner, channel, lock));
+            return true;
+        } catch (OverlappingFileLockException e) {
+            // another FileSchedulerLock in this JVM holds the file
+            closeQuietly(channel);
+            return false;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new SchedulerLockException("Failed to acquire scheduler lock " + lockName, e);
+        }
+    }
+
+    @Override
+    public synchronized void release(String lockName, String owner) {
+        Held current = held.get(lockName);
+        if (current == null || !current.owner.equals(owner)) {
+            return;
+        }
+        held.remove(lockName);
+        try {
+            current.lock.release();
+            current.channel.close();
+        } catch (IOException e) {
+            throw new SchedulerLockException("Failed to release scheduler lock " + lockName, e);
+        }
+    }
+
+    private static void closeQuietly(@Nullable FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the lock was not taken, so there is nothing left to clean up
+        }
+    }
+
+    private record Held(String owner, FileChannel channel, FileLock lock) {
+
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+import io.github.limehee.hookrouter.spring.support.JdbcUtils;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+
+public class JdbcSchedulerLock implements SchedulerLock {
+
+    public static final String DEFAULT_TABLE_NAME = "hookrouter_scheduler_lock";
+
+    // SQLSTATE class 23 is an integrity constraint violation, raised when another node inserted the lock first
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+    private final DataSource dataSource;
+    private final String tableName;
+    private final LongSupplier clock;
+    private final String selectSql;
+    private final String insertSql;
+    private final String updateSql;
+    private final String deleteSql;
+
+    public JdbcSchedulerLock(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcSchedulerLock(DataSource dataSource, String tableName) {
+        this(dataSource, tableName, System::currentTimeMillis);
+    }
+
+    JdbcSchedulerLock(DataSource dataSource, String tableName, LongSupplier clock) {
+        this.dataSource = dataSource;
+        this.tableName = JdbcUtils.requireValidTableName(tableName);
+        this.clock = clock;
+        this.selectSql = "SELECT owner, expires_at FROM " + tableName + " WHERE lock_name = ? FOR UPDATE";
+        this.insertSql = "INSERT INTO " + tableName + " (lock_name, owner, expires_at) VALUES (?, ?, ?)";
+        this.updateSql = "UPDATE " + tableName + " SET owner = ?, expires_at = ? WHERE lock_name = ?";
+        this.deleteSql = "DELETE FROM " + tableName + " WHERE lock_name = ? AND owner = ?";
+    }
+
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + tableName
+                + " (lock_name VARCHAR(128) NOT NULL PRIMARY KEY, owner VARCHAR(255) NOT NULL,"
+                + " expires_at BIGINT NOT NULL)");
+        } catch (SQLException e) {
+            throw new SchedulerLockException("Failed to create scheduler lock table " + tableName, e);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String lockName, String owner, Duration leaseDuration) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                boolean acquired = tryAcquire(connection, lockName, owner, leaseDuration.toMillis());
+                connection.commit();
+                return acquired;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            String sqlState = e.getSQLState();
+            if (sqlState != null && sqlState.startsWith(INTEGRITY_VIOLATION_CLASS)) {
+                // another node created the row between our select and insert, so it holds the lease
+                return false;
+            }
+            throw new SchedulerLockException("Failed to acquire scheduler lock " + lockName, e);
+        }
+    }
+
+    @Override
+    public void release(String lockName, String owner) {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement delete = connection.prepareStatement(deleteSql)) {
+            delete.setString(1, lockName);
+            delete.setString(2, owner);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new SchedulerLockException("Failed to release scheduler lock " + lockName, e);
+        }
+    }
+
+    private boolean tryAcquire(Connection connection, String lockName, String owner, long leaseMillis)
+        throws SQLException {
+        long now = clock.getAsLong();
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setString(1, lockName);
+            try (ResultSet row = select.executeQuery()) {
+                if (!row.next()) {
+                    try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                        insert.setString(1, lockName);
+                        insert.setString(2, owner);
+                        insert.setLong(3, now + leaseMillis);
+                        insert.executeUpdate();
+                    }
+                    return true;
+                }
+                if (!owner.equals(row.getString(1)) && row.getLong(2) > now) {
+                    return false;
+                }
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+            update.setString(1, owner);
+            update.setLong(2, now + leaseMillis);
+            update.setString(3, lockName);
+            update.executeUpdate();
+        }
+        return true;
+    }
+}
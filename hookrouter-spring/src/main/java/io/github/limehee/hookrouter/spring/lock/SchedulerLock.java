@@ -0,0 +1,11 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+import java.time.Duration;
+
+public interface SchedulerLock {
+
+    // acquires `lockName` for `owner`, or extends the lease when `owner` already holds it
+    boolean tryAcquire(String lockName, String owner, Duration leaseDuration);
+
+    void release(String lockName, String owner);
+}
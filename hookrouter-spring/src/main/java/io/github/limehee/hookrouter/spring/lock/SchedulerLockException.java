@@ -0,0 +1,8 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+public class SchedulerLockException extends RuntimeException {
+
+    public SchedulerLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
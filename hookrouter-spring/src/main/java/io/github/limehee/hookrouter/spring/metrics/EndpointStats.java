@@ -0,0 +1,41 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class EndpointStats {
+
+    static final Duration WINDOW = Duration.ofMinutes(1);
+    static final int SLOTS = 6;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final RollingLatencyHistogram latency;
+
+    EndpointStats() {
+        this(new RollingLatencyHistogram(WINDOW, SLOTS));
+    }
+
+    EndpointStats(RollingLatencyHistogram latency) {
+        this.latency = latency;
+    }
+
+    public void dispatchStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    public void dispatchFinished() {
+        inFlight.decrementAndGet();
+    }
+
+    public void recordSend(long durationNanos) {
+        latency.record(durationNanos);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public RollingLatencyHistogram.Snapshot latency() {
+        return latency.snapshot();
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class EndpointStatsRegistry {
+
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public EndpointStats forKey(String resilienceKey) {
+        EndpointStats existing = stats.get(resilienceKey);
+        if (existing != null) {
+            return existing;
+        }
+        return stats.computeIfAbsent(resilienceKey, key -> new EndpointStats());
+    }
+
+    public Map<String, EndpointStats> all() {
+        return Collections.unmodifiableMap(stats);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jspecify.annotations.Nullable;
+
+public final class MetricTagPolicy {
+
+    public static final String OTHER = "other";
+    public static final int DEFAULT_TYPE_ID_LIMIT = 100;
+
+    private final TypeIdTagMode typeIdMode;
+    private final Set<String> typeIdAllowlist;
+    private final int typeIdLimit;
+    private final ConcurrentMap<String, String> admittedTypeIds = new ConcurrentHashMap<>();
+
+    private MetricTagPolicy(TypeIdTagMode typeIdMode, Set<String> typeIdAllowlist, int typeIdLimit) {
+        this.typeIdMode = typeIdMode;
+        this.typeIdAllowlist = typeIdAllowlist;
+        this.typeIdLimit = typeIdLimit;
+    }
+
+    public static MetricTagPolicy of(TypeIdTagMode typeIdMode, Collection<String> typeIdAllowlist, int typeIdLimit) {
+        if (typeIdMode == null) {
+            throw new InvalidWebhookArgumentException("typeIdMode must not be null");
+        }
+        if (typeIdLimit < 1) {
+            throw new InvalidWebhookArgumentException("typeIdLimit must be >= 1, but was: " + typeIdLimit);
+        }
+        return new MetricTagPolicy(typeIdMode, Set.copyOf(typeIdAllowlist), typeIdLimit);
+    }
+
+    public static MetricTagPolicy defaults() {
+        return of(TypeIdTagMode.LIMIT, Set.of(), DEFAULT_TYPE_ID_LIMIT);
+    }
+
+    public boolean includesTypeId() {
+        return typeIdMode != TypeIdTagMode.NONE;
+    }
+
+    public String typeIdTag(String typeId) {
+        return switch (typeIdMode) {
+            case FULL -> typeId;
+            case ALLOWLIST -> typeIdAllowlist.contains(typeId) ? typeId : OTHER;
+            case LIMIT -> admitTypeId(typeId);
+            case NONE -> OTHER;
+        };
+    }
+
+    public String reasonTag(@Nullable String reason) {
+        return SendFailureReason.fromTagValue(reason).tagValue();
+    }
+
+    private String admitTypeId(String typeId) {
+        String admitted = admittedTypeIds.get(typeId);
+        if (admitted != null) {
+            return admitted;
+        }
+        if (admittedTypeIds.size() >= typeIdLimit) {
+            return OTHER;
+        }
+        String previous = admittedTypeIds.putIfAbsent(typeId, typeId);
+        return previous != null ? previous : typeId;
+    }
+}
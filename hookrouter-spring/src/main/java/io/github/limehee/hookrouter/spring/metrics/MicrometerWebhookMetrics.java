@@ -1,8 +1,13 @@
 package io.github.limehee.hookrouter.spring.metrics;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 import org.jspecify.annotations.Nullable;
 
 public class MicrometerWebhookMetrics implements WebhookMetrics {
@@ -13,73 +18,86 @@ public class MicrometerWebhookMetrics implements WebhookMetrics {
     private static final String TAG_TYPE_ID = "typeId";
     private static final String TAG_RESULT = "result";
     private static final String TAG_REASON = "reason";
+    private static final String TAG_LANE = "lane";
+    private static final String TAG_STAGE = "stage";
+    private static final String TAG_PHASE = "phase";
     private final MeterRegistry meterRegistry;
+    private final MetricTagPolicy tagPolicy;
+    private final double stageTimingSampleRate;
+    private final Timer @Nullable [] stageTimers;
 
     public MicrometerWebhookMetrics(final MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        this(builder(meterRegistry));
+    }
+
+    private MicrometerWebhookMetrics(final Builder builder) {
+        this.meterRegistry = builder.meterRegistry;
+        this.tagPolicy = builder.tagPolicy;
+        this.stageTimingSampleRate = Math.min(Math.max(builder.stageTimingSampleRate, 0.0), 1.0);
+        this.stageTimers = this.stageTimingSampleRate > 0.0 ? registerStageTimers(meterRegistry) : null;
+    }
+
+    public static Builder builder(final MeterRegistry meterRegistry) {
+        return new Builder(meterRegistry);
     }
 
     @Override
     public void recordSendAttempt(String platform, String webhookKey, String typeId) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.total", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.total", endpointTags(platform, webhookKey, typeId)).increment();
     }
 
     @Override
     public void recordSendSuccess(String platform, String webhookKey, String typeId, Duration duration) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.success", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.success", endpointTags(platform, webhookKey, typeId)).increment();
         recordSendDuration(platform, webhookKey, typeId, "success", duration);
     }
 
     @Override
     public void recordSendFailure(String platform, String webhookKey, String typeId, String reason, Duration duration) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.failure", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId, TAG_REASON, reason).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.failure",
+            endpointTags(platform, webhookKey, typeId).and(TAG_REASON, tagPolicy.reasonTag(reason))).increment();
         recordSendDuration(platform, webhookKey, typeId, "failure", duration);
     }
 
     @Override
     public void recordSendSkipped(String platform, String webhookKey, String typeId) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.skipped", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.skipped", endpointTags(platform, webhookKey, typeId)).increment();
     }
 
     @Override
     public void recordSendRateLimited(String platform, String webhookKey, String typeId) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.rate-limited", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.rate-limited", endpointTags(platform, webhookKey, typeId))
+            .increment();
     }
 
     @Override
     public void recordSendBulkheadFull(String platform, String webhookKey, String typeId) {
-        meterRegistry.counter(METRIC_PREFIX + ".send.bulkhead-full", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY,
-            webhookKey, TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".send.bulkhead-full", endpointTags(platform, webhookKey, typeId))
+            .increment();
     }
 
     @Override
     public void recordRetry(String platform, String webhookKey, String typeId, int attemptNumber) {
-        meterRegistry.counter(METRIC_PREFIX + ".retry.total", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".retry.total", endpointTags(platform, webhookKey, typeId)).increment();
     }
 
     @Override
     public void recordDeadLetter(String platform, String webhookKey, String typeId, String reason) {
-        meterRegistry.counter(METRIC_PREFIX + ".dead-letter.total", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId, TAG_REASON, reason).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".dead-letter.total",
+            endpointTags(platform, webhookKey, typeId).and(TAG_REASON, reason)).increment();
     }
 
     @Override
     public void recordDeadLetterHandlerFailure(String platform, String webhookKey, String typeId) {
-        meterRegistry.counter(METRIC_PREFIX + ".dead-letter.handler-failure", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY,
-            webhookKey, TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".dead-letter.handler-failure",
+            endpointTags(platform, webhookKey, typeId)).increment();
     }
 
     @Override
     public void recordExternalRateLimitDetected(String platform, String webhookKey, String typeId,
         @Nullable Long retryAfterMillis) {
-        meterRegistry.counter(METRIC_PREFIX + ".external-rate-limit.detected", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY,
-            webhookKey, TAG_TYPE_ID, typeId).increment();
+        meterRegistry.counter(METRIC_PREFIX + ".external-rate-limit.detected",
+            endpointTags(platform, webhookKey, typeId)).increment();
         if (retryAfterMillis != null && retryAfterMillis > 0) {
             meterRegistry.summary(METRIC_PREFIX + ".external-rate-limit.retry-after", TAG_PLATFORM, platform,
                 TAG_WEBHOOK_KEY, webhookKey).record(retryAfterMillis);
@@ -91,9 +109,113 @@ public class MicrometerWebhookMetrics implements WebhookMetrics {
         meterRegistry.counter(METRIC_PREFIX + ".async.caller-runs.count").increment();
     }
 
+    @Override
+    public void recordPriorityLaneShed(String lane) {
+        meterRegistry.counter(METRIC_PREFIX + ".priority-lane.shed", TAG_LANE, lane).increment();
+    }
+
+    @Override
+    public void recordNotificationExpired(String platform, String webhookKey, String typeId) {
+        meterRegistry.counter(METRIC_PREFIX + ".expired.total", endpointTags(platform, webhookKey, typeId)).increment();
+    }
+
+    @Override
+    public void recordPayloadCompressed(String platform, String webhookKey, int originalBytes, int compressedBytes) {
+        meterRegistry.counter(METRIC_PREFIX + ".compression.bytes.saved", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY,
+            webhookKey).increment(Math.max(originalBytes - compressedBytes, 0));
+    }
+
+    @Override
+    public void recordBatchSent(String platform, String webhookKey, int batchSize) {
+        meterRegistry.summary(METRIC_PREFIX + ".batch.size", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey)
+            .record(batchSize);
+    }
+
+    @Override
+    public boolean isStageTimingSampled() {
+        if (stageTimers == null) {
+            return false;
+        }
+        return stageTimingSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < stageTimingSampleRate;
+    }
+
+    @Override
+    public void recordStageDuration(PipelineStage stage, long durationNanos) {
+        Timer[] timers = stageTimers;
+        if (timers != null) {
+            timers[stage.ordinal()].record(Math.max(durationNanos, 0L), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordShutdownPhase(ShutdownPhase phase, long durationNanos, int notificationCount) {
+        meterRegistry.timer(METRIC_PREFIX + ".shutdown.phase.duration", TAG_PHASE, phase.tagValue())
+            .record(Math.max(durationNanos, 0L), TimeUnit.NANOSECONDS);
+        meterRegistry.counter(METRIC_PREFIX + ".shutdown.notifications", TAG_PHASE, phase.tagValue())
+            .increment(Math.max(notificationCount, 0));
+    }
+
+    @Override
+    public void recordShutdownRejected() {
+        meterRegistry.counter(METRIC_PREFIX + ".shutdown.rejected").increment();
+    }
+
+    @Override
+    public void registerOrderedQueueDepth(String platform, String webhookKey, IntSupplier depth) {
+        // gauges hold their source weakly by default, and nothing else references the supplier
+        Gauge.builder(METRIC_PREFIX + ".ordered.queue.depth", depth, IntSupplier::getAsInt)
+            .tags(TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey)
+            .strongReference(true)
+            .register(meterRegistry);
+    }
+
+    private static Timer[] registerStageTimers(MeterRegistry meterRegistry) {
+        PipelineStage[] stages = PipelineStage.values();
+        Timer[] timers = new Timer[stages.length];
+        for (PipelineStage stage : stages) {
+            timers[stage.ordinal()] = meterRegistry.timer(METRIC_PREFIX + ".stage.duration", TAG_STAGE,
+                stage.tagValue());
+        }
+        return timers;
+    }
+
+    private Tags endpointTags(String platform, String webhookKey, String typeId) {
+        Tags tags = Tags.of(TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey);
+        if (!tagPolicy.includesTypeId()) {
+            return tags;
+        }
+        return tags.and(TAG_TYPE_ID, tagPolicy.typeIdTag(typeId));
+    }
+
     private void recordSendDuration(String platform, String webhookKey, String typeId, String result,
         Duration duration) {
-        meterRegistry.timer(METRIC_PREFIX + ".send.duration", TAG_PLATFORM, platform, TAG_WEBHOOK_KEY, webhookKey,
-            TAG_TYPE_ID, typeId, TAG_RESULT, result).record(duration.toMillis(), TimeUnit.MILLISECONDS);
+        meterRegistry.timer(METRIC_PREFIX + ".send.duration",
+            endpointTags(platform, webhookKey, typeId).and(TAG_RESULT, result))
+            .record(duration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static final class Builder {
+
+        private final MeterRegistry meterRegistry;
+        private double stageTimingSampleRate = 0.0;
+        private MetricTagPolicy tagPolicy = MetricTagPolicy.defaults();
+
+        private Builder(final MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        public Builder stageTimingSampleRate(final double stageTimingSampleRate) {
+            this.stageTimingSampleRate = stageTimingSampleRate;
+            return this;
+        }
+
+        public Builder tagPolicy(final MetricTagPolicy tagPolicy) {
+            this.tagPolicy = tagPolicy;
+            return this;
+        }
+
+        public MicrometerWebhookMetrics build() {
+            return new MicrometerWebhookMetrics(this);
+        }
     }
 }
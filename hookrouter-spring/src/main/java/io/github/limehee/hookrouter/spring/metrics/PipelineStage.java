@@ -0,0 +1,22 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+public enum PipelineStage {
+
+    QUEUE_WAIT("queue-wait"),
+    ROUTING("routing"),
+    FORMATTING("formatting"),
+    RATE_LIMITER_WAIT("rate-limiter-wait"),
+    BULKHEAD_WAIT("bulkhead-wait"),
+    RETRY_BACKOFF("retry-backoff"),
+    HTTP_CALL("http-call");
+
+    private final String tagValue;
+
+    PipelineStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+public final class RollingLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final Slot[] slots;
+    private final long slotNanos;
+    private final LongSupplier nanoClock;
+
+    public RollingLatencyHistogram(final Duration window, final int slotCount) {
+        this(window, slotCount, System::nanoTime);
+    }
+
+    RollingLatencyHistogram(Duration window, int slotCount, LongSupplier nanoClock) {
+        if (slotCount < 1) {
+            throw new InvalidWebhookArgumentException("slotCount must be >= 1, but was: " + slotCount);
+        }
+        if (window.toNanos() < slotCount) {
+            throw new InvalidWebhookArgumentException("window must be at least slotCount nanoseconds, but was: "
+                + window);
+        }
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+        }
+        this.slotNanos = window.toNanos() / slotCount;
+        this.nanoClock = nanoClock;
+    }
+
+    public void record(long durationNanos) {
+        Slot slot = currentSlot(nanoClock.getAsLong() / slotNanos);
+        slot.counts.incrementAndGet(bucketIndex(Math.max(durationNanos, 0L) / 1_000L));
+        slot.total.incrementAndGet();
+    }
+
+    public Snapshot snapshot() {
+        long epoch = nanoClock.getAsLong() / slotNanos;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (Slot slot : slots) {
+            long age = epoch - slot.epoch.get();
+            if (age < 0 || age >= slots.length) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += slot.counts.get(i);
+            }
+            total += slot.total.get();
+        }
+        double windowSeconds = (double) slotNanos * slots.length / 1_000_000_000.0;
+        return new Snapshot(total, total / windowSeconds, percentileMillis(counts, total, 0.50),
+            percentileMillis(counts, total, 0.99));
+    }
+
+    private Slot currentSlot(long epoch) {
+        Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        long slotEpoch = slot.epoch.get();
+        if (slotEpoch != epoch && slot.epoch.compareAndSet(slotEpoch, epoch)) {
+            slot.reset();
+        }
+        return slot;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBoundMicros(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + index % SUB_BUCKETS) * width + width - 1;
+    }
+
+    private static double percentileMillis(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBoundMicros(i) / 1_000.0;
+            }
+        }
+        return bucketUpperBoundMicros(counts.length - 1) / 1_000.0;
+    }
+
+    public record Snapshot(long count, double ratePerSecond, double p50Millis, double p99Millis) {
+
+    }
+
+    private static final class Slot {
+
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong total = new AtomicLong();
+
+        private void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0L);
+            }
+            total.set(0L);
+        }
+    }
+}
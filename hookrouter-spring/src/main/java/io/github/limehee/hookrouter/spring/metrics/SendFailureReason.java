@@ -0,0 +1,68 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import org.jspecify.annotations.Nullable;
+
+public enum SendFailureReason {
+
+    TIMEOUT("timeout"),
+    RATE_LIMITED("rate_limited"),
+    CLIENT_ERROR("client_error"),
+    SERVER_ERROR("server_error"),
+    NETWORK_ERROR("network_error"),
+    SENDER_ERROR("sender_error"),
+    INTERRUPTED("interrupted"),
+    EXPIRED("expired"),
+    EXCEPTION("exception"),
+    OTHER("other");
+
+    private static final SendFailureReason[] VALUES = values();
+
+    private final String tagValue;
+
+    SendFailureReason(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+
+    public static SendFailureReason of(SendResult result) {
+        if (result.isRateLimited()) {
+            return RATE_LIMITED;
+        }
+        int statusCode = result.statusCode();
+        if (statusCode >= 500) {
+            return SERVER_ERROR;
+        }
+        if (statusCode >= 400) {
+            return CLIENT_ERROR;
+        }
+        String message = result.errorMessage();
+        if (message != null) {
+            if (message.startsWith("timeout")) {
+                return TIMEOUT;
+            }
+            if (message.startsWith("interrupted")) {
+                return INTERRUPTED;
+            }
+            if (message.startsWith("expired")) {
+                return EXPIRED;
+            }
+        }
+        if (statusCode <= 0) {
+            return result.retryable() ? NETWORK_ERROR : SENDER_ERROR;
+        }
+        return OTHER;
+    }
+
+    public static SendFailureReason fromTagValue(@Nullable String tagValue) {
+        for (SendFailureReason reason : VALUES) {
+            if (reason.tagValue.equals(tagValue)) {
+                return reason;
+            }
+        }
+        return OTHER;
+    }
+}
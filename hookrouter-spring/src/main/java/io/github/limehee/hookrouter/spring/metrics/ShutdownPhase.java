@@ -0,0 +1,18 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+public enum ShutdownPhase {
+
+    STOP_ACCEPTING("stop-accepting"),
+    DRAIN("drain"),
+    DEAD_LETTER("dead-letter");
+
+    private final String tagValue;
+
+    ShutdownPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
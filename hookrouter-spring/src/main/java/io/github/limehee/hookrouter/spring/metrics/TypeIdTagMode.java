@@ -0,0 +1,9 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+public enum TypeIdTagMode {
+
+    FULL,
+    ALLOWLIST,
+    LIMIT,
+    NONE
+}
@@ -1,6 +1,7 @@
 package io.github.limehee.hookrouter.spring.metrics;
 
 import java.time.Duration;
+import java.util.function.IntSupplier;
 import org.jspecify.annotations.Nullable;
 
 public interface WebhookMetrics {
@@ -27,4 +28,33 @@ public interface WebhookMetrics {
         @Nullable Long retryAfterMillis);
 
     void recordAsyncCallerRuns();
+
+    // metrics added after the core set are optional: they default to no-ops so existing implementations keep working
+    default void recordPriorityLaneShed(String lane) {
+    }
+
+    default void recordNotificationExpired(String platform, String webhookKey, String typeId) {
+    }
+
+    default void recordPayloadCompressed(String platform, String webhookKey, int originalBytes, int compressedBytes) {
+    }
+
+    default void recordBatchSent(String platform, String webhookKey, int batchSize) {
+    }
+
+    default boolean isStageTimingSampled() {
+        return false;
+    }
+
+    default void recordStageDuration(PipelineStage stage, long durationNanos) {
+    }
+
+    default void recordShutdownPhase(ShutdownPhase phase, long durationNanos, int notificationCount) {
+    }
+
+    default void recordShutdownRejected() {
+    }
+
+    default void registerOrderedQueueDepth(String platform, String webhookKey, IntSupplier depth) {
+    }
 }
@@ -0,0 +1,207 @@
+package io.github.limehee.hookrouter.spring.ordering;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.spring.async.KeyedSerialExecutor;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.listener.NotificationParts;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.resilience.ResilienceResourceKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class OrderedDeliveryScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderedDeliveryScheduler.class);
+    private static final Runnable NO_CALLBACK = () -> {
+    };
+    private static final Predicate<RoutingTarget> NO_TARGETS = target -> false;
+    private final NotificationProcessingGateway notificationProcessor;
+    private final Executor executor;
+    private final RoutingPolicy routingPolicy;
+    private final WebhookConfigResolver configResolver;
+    private final WebhookMetrics metrics;
+    private final KeyedSerialExecutor keyedExecutor;
+    private final BiConsumer<Notification<?>, RoutingTarget> shedHandler;
+
+    private OrderedDeliveryScheduler(Builder builder) {
+        this.notificationProcessor = builder.notificationProcessor;
+        this.executor = builder.executor;
+        this.routingPolicy = builder.routingPolicy;
+        this.configResolver = builder.configResolver;
+        this.metrics = builder.metrics;
+        this.keyedExecutor = new KeyedSerialExecutor(builder.executor, builder.maxPending, this::registerQueueDepth);
+        this.shedHandler = builder.shedHandler;
+    }
+
+    public static Builder builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+        RoutingPolicy routingPolicy, WebhookConfigResolver configResolver) {
+        return new Builder(notificationProcessor, executor, routingPolicy, configResolver);
+    }
+
+    // returns false when no ordered endpoint is routed to, leaving the notification to the regular path
+    public boolean submit(Notification<?> notification) {
+        return submit(notification, NO_CALLBACK);
+    }
+
+    // onProcessed runs once after every part of the notification was processed or shed, only when it was accepted
+    public boolean submit(Notification<?> notification, Runnable onProcessed) {
+        if (!configResolver.hasOrderedEndpoints()) {
+            return false;
+        }
+        List<RoutingTarget> targets = routingPolicy.resolve(notification.getTypeId(), notification.getCategory());
+        List<RoutingTarget> ordered = null;
+        List<String> keys = null;
+        for (RoutingTarget target : targets) {
+            if (!configResolver.resolve(target.platform(), target.webhookKey()).ordered()) {
+                continue;
+            }
+            if (ordered == null) {
+                ordered = new ArrayList<>(targets.size());
+                keys = new ArrayList<>(targets.size());
+            }
+            ordered.add(target);
+            keys.add(ResilienceResourceKey.of(target.platform(), target.webhookKey()));
+        }
+        if (ordered == null) {
+            return false;
+        }
+        if (ordered.size() == targets.size()) {
+            // every ordered endpoint of the notification waits for it, so each keeps its own order
+            if (!keyedExecutor.execute(keys, () -> process(notification, onProcessed))) {
+                shed(notification, ordered, new NotificationParts(1), onProcessed);
+            }
+            return true;
+        }
+
+        // only the ordered targets wait in the serial queues; the others are sent on the regular path meanwhile
+        List<RoutingTarget> orderedTargets = ordered;
+        Predicate<RoutingTarget> inOrder = orderedTargets::contains;
+        NotificationParts parts = new NotificationParts(2);
+        Runnable partDone = onProcessed == NO_CALLBACK ? NO_CALLBACK : countDown(2, onProcessed);
+        if (!keyedExecutor.execute(keys, () -> processPart(notification, inOrder, parts, partDone))) {
+            shed(notification, orderedTargets, parts, partDone);
+        }
+        Runnable unorderedPart = () -> processPart(notification, inOrder.negate(), parts, partDone);
+        try {
+            executor.execute(unorderedPart);
+        } catch (RejectedExecutionException e) {
+            // the part is already counted, so dropping it would leave the notification unreleased
+            unorderedPart.run();
+        }
+        return true;
+    }
+
+    public int queueDepth(String platform, String webhookKey) {
+        return keyedExecutor.queueDepth(ResilienceResourceKey.of(platform, webhookKey));
+    }
+
+    // a full serial queue sheds through the dead-letter path like a full priority lane; the empty part then releases
+    // the notification once its other part, if any, is done
+    private void shed(Notification<?> notification, List<RoutingTarget> targets, NotificationParts parts,
+        Runnable onProcessed) {
+        for (RoutingTarget target : targets) {
+            try {
+                shedHandler.accept(notification, target);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Ordered delivery shed handler failed for typeId={}, category={}",
+                        notification.getTypeId(), notification.getCategory(), e);
+                }
+            }
+        }
+        processPart(notification, NO_TARGETS, parts, onProcessed);
+    }
+
+    private void processPart(Notification<?> notification, Predicate<RoutingTarget> targetFilter,
+        NotificationParts parts, Runnable onProcessed) {
+        try {
+            notificationProcessor.process(notification, targetFilter, parts);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Ordered delivery processing failed for typeId={}, category={}",
+                    notification.getTypeId(), notification.getCategory(), e);
+            }
+        } finally {
+            onProcessed.run();
+        }
+    }
+
+    private static Runnable countDown(int count, Runnable onZero) {
+        AtomicInteger remaining = new AtomicInteger(count);
+        return () -> {
+            if (remaining.decrementAndGet() == 0) {
+                onZero.run();
+            }
+        };
+    }
+
+    private void process(Notification<?> notification, Runnable onProcessed) {
+        try {
+            notificationProcessor.process(notification);
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Ordered delivery processing failed for typeId={}, category={}",
+                    notification.getTypeId(), notification.getCategory(), e);
+            }
+        } finally {
+            onProcessed.run();
+        }
+    }
+
+    private void registerQueueDepth(String key, IntSupplier depth) {
+        // ResilienceResourceKey joins platform and webhook key with the first ':'
+        int separator = key.indexOf(':');
+        metrics.registerOrderedQueueDepth(key.substring(0, separator), key.substring(separator + 1), depth);
+    }
+
+    public static final class Builder {
+
+        private final NotificationProcessingGateway notificationProcessor;
+        private final Executor executor;
+        private final RoutingPolicy routingPolicy;
+        private final WebhookConfigResolver configResolver;
+        private WebhookMetrics metrics = NoOpWebhookMetrics.INSTANCE;
+        private int maxPending = 1000;
+        private BiConsumer<Notification<?>, RoutingTarget> shedHandler = (notification, target) -> {
+        };
+
+        private Builder(NotificationProcessingGateway notificationProcessor, Executor executor,
+            RoutingPolicy routingPolicy, WebhookConfigResolver configResolver) {
+            this.notificationProcessor = notificationProcessor;
+            this.executor = executor;
+            this.routingPolicy = routingPolicy;
+            this.configResolver = configResolver;
+        }
+
+        public Builder metrics(WebhookMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public Builder shedHandler(BiConsumer<Notification<?>, RoutingTarget> shedHandler) {
+            this.shedHandler = shedHandler;
+            return this;
+        }
+
+        public OrderedDeliveryScheduler build() {
+            return new OrderedDeliveryScheduler(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.limehee.hookrouter.spring.outbox;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JavaSerializationOutboxCodec implements OutboxCodec {
+
+    @Override
+    public byte[] encode(Notification<?> notification) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeUTF(notification.getTypeId());
+            out.writeUTF(notification.getCategory());
+            out.writeLong(notification.getOccurredAt().getEpochSecond());
+            out.writeInt(notification.getOccurredAt().getNano());
+            out.writeObject(notification.getContext());
+            out.writeObject(notification.getMeta().isEmpty() ? null : new HashMap<>(notification.getMeta()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode notification typeId=" + notification.getTypeId()
+                + " for the outbox", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Notification<?> decode(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            String typeId = in.readUTF();
+            String category = in.readUTF();
+            Instant occurredAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            Object context = in.readObject();
+            Map<String, Object> meta = (Map<String, Object>) in.readObject();
+            return Notification.builder(typeId)
+                .category(category)
+                .occurredAt(occurredAt)
+                .context(context)
+                .meta(meta)
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode outbox entry", e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to decode outbox entry: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.limehee.hookrouter.spring.outbox;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal;
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal.RecoveredEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+public class NotificationOutbox implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationOutbox.class);
+    private final OutboxJournal journal;
+    private final OutboxCodec codec;
+    // Notification keeps identity equality, so this tracks the exact instance handed to the dispatcher;
+    // an instance published more than once holds one entry id per publish, oldest first
+    private final Map<Notification<?>, long[]> entryIds = new ConcurrentHashMap<>();
+
+    public NotificationOutbox(OutboxJournal journal, OutboxCodec codec) {
+        this.journal = journal;
+        this.codec = codec;
+    }
+
+    public boolean record(Notification<?> notification) {
+        byte[] payload;
+        try {
+            payload = codec.encode(notification);
+        } catch (RuntimeException e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Notification typeId={} could not be encoded and is dispatched without the outbox",
+                    notification.getTypeId(), e);
+            }
+            return false;
+        }
+        track(notification, journal.append(payload));
+        return true;
+    }
+
+    public boolean acknowledge(Notification<?> notification) {
+        // arrays compare by identity, so remove and replace only succeed against the array that was read
+        while (true) {
+            long[] ids = entryIds.get(notification);
+            if (ids == null) {
+                return false;
+            }
+            boolean taken = ids.length == 1
+                ? entryIds.remove(notification, ids)
+                : entryIds.replace(notification, ids, Arrays.copyOfRange(ids, 1, ids.length));
+            if (taken) {
+                return journal.acknowledge(ids[0]);
+            }
+        }
+    }
+
+    public List<Notification<?>> recover() {
+        List<RecoveredEntry> entries = journal.drainRecoveredEntries();
+        List<Notification<?>> notifications = new ArrayList<>(entries.size());
+        for (RecoveredEntry entry : entries) {
+            Notification<?> notification;
+            try {
+                notification = codec.decode(entry.payload());
+            } catch (RuntimeException e) {
+                if (LOGGER.isErrorEnabled()) {
+                    LOGGER.error("Dropping outbox entry {} that could not be decoded", entry.entryId(), e);
+                }
+                journal.acknowledge(entry.entryId());
+                continue;
+            }
+            track(notification, entry.entryId());
+            notifications.add(notification);
+        }
+        return notifications;
+    }
+
+    private void track(Notification<?> notification, long entryId) {
+        entryIds.merge(notification, new long[] {entryId}, NotificationOutbox::append);
+    }
+
+    private static long[] append(long[] ids, long[] added) {
+        long[] merged = Arrays.copyOf(ids, ids.length + added.length);
+        System.arraycopy(added, 0, merged, ids.length, added.length);
+        return merged;
+    }
+
+    public int pendingCount() {
+        return journal.pendingCount();
+    }
+
+    @Override
+    public void destroy() {
+        journal.close();
+    }
+}
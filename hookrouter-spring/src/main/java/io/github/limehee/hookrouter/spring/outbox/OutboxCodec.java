@@ -0,0 +1,10 @@
+package io.github.limehee.hookrouter.spring.outbox;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+
+public interface OutboxCodec {
+
+    byte[] encode(Notification<?> notification);
+
+    Notification<?> decode(byte[] payload);
+}
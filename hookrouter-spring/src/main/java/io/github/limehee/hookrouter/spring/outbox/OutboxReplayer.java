@@ -0,0 +1,25 @@
+package io.github.limehee.hookrouter.spring.outbox;
+
+import io.github.limehee.hookrouter.spring.publisher.NotificationPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+public class OutboxReplayer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxReplayer.class);
+    private final NotificationPublisher notificationPublisher;
+
+    public OutboxReplayer(NotificationPublisher notificationPublisher) {
+        this.notificationPublisher = notificationPublisher;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        int replayed = notificationPublisher.replayOutbox();
+        if (replayed > 0 && LOGGER.isInfoEnabled()) {
+            LOGGER.info("Replayed {} unacknowledged notifications from the outbox", replayed);
+        }
+    }
+}
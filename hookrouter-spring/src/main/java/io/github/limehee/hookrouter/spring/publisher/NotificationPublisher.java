@@ -1,22 +1,96 @@
 package io.github.limehee.hookrouter.spring.publisher;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.spring.lane.PriorityLaneScheduler;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
 
 public class NotificationPublisher {
 
     private final ApplicationEventPublisher eventPublisher;
+    @Nullable
+    private final PriorityLaneScheduler priorityLaneScheduler;
+    @Nullable
+    private final NotificationOutbox outbox;
+    @Nullable
+    private final ShutdownCoordinator shutdownCoordinator;
+    @Nullable
+    private final OrderedDeliveryScheduler orderedDeliveryScheduler;
 
     public NotificationPublisher(final ApplicationEventPublisher eventPublisher) {
-        this.eventPublisher = eventPublisher;
+        this(builder(eventPublisher));
+    }
+
+    private NotificationPublisher(final Builder builder) {
+        this.eventPublisher = builder.eventPublisher;
+        this.priorityLaneScheduler = builder.priorityLaneScheduler;
+        this.outbox = builder.outbox;
+        this.shutdownCoordinator = builder.shutdownCoordinator;
+        this.orderedDeliveryScheduler = builder.orderedDeliveryScheduler;
+    }
+
+    public static Builder builder(final ApplicationEventPublisher eventPublisher) {
+        return new Builder(eventPublisher);
     }
 
     public <T> void publish(Notification<T> notification) {
-        eventPublisher.publishEvent(notification);
+        if (shutdownCoordinator != null && !shutdownCoordinator.accept(notification)) {
+            return;
+        }
+        dispatch(notification, true);
+    }
+
+    public int replayOutbox() {
+        if (outbox == null) {
+            return 0;
+        }
+        List<Notification<?>> recovered = outbox.recover();
+        int replayed = 0;
+        for (Notification<?> notification : recovered) {
+            if (shutdownCoordinator == null || shutdownCoordinator.accept(notification)) {
+                dispatch(notification, false);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private void release(Notification<?> notification) {
+        if (outbox != null) {
+            outbox.acknowledge(notification);
+        }
+        if (shutdownCoordinator != null) {
+            shutdownCoordinator.finished(notification);
+        }
+    }
+
+    private void dispatch(Notification<?> notification, boolean record) {
+        try {
+            if (record && outbox != null) {
+                outbox.record(notification);
+            }
+            // ordered endpoints bypass the lanes, whose weighting would reorder them
+            if (orderedDeliveryScheduler != null && orderedDeliveryScheduler.submit(notification)) {
+                return;
+            }
+            if (priorityLaneScheduler != null) {
+                // a notification the lanes turn away goes to their shed handler, which dead-letters and releases it
+                priorityLaneScheduler.submit(notification);
+                return;
+            }
+            eventPublisher.publishEvent(notification);
+        } catch (RuntimeException e) {
+            // the caller sees the rejection, so the entry must not be replayed or awaited behind its back
+            release(notification);
+            throw e;
+        }
     }
 
     public int publishAll(Collection<? extends Notification<?>> notifications) {
@@ -86,4 +160,45 @@ public class NotificationPublisher {
         }
         return new ArrayList<>(collection);
     }
+
+    public static final class Builder {
+
+        private final ApplicationEventPublisher eventPublisher;
+        @Nullable
+        private PriorityLaneScheduler priorityLaneScheduler;
+        @Nullable
+        private NotificationOutbox outbox;
+        @Nullable
+        private ShutdownCoordinator shutdownCoordinator;
+        @Nullable
+        private OrderedDeliveryScheduler orderedDeliveryScheduler;
+
+        private Builder(final ApplicationEventPublisher eventPublisher) {
+            this.eventPublisher = eventPublisher;
+        }
+
+        public Builder priorityLaneScheduler(@Nullable final PriorityLaneScheduler priorityLaneScheduler) {
+            this.priorityLaneScheduler = priorityLaneScheduler;
+            return this;
+        }
+
+        public Builder outbox(@Nullable final NotificationOutbox outbox) {
+            this.outbox = outbox;
+            return this;
+        }
+
+        public Builder shutdownCoordinator(@Nullable final ShutdownCoordinator shutdownCoordinator) {
+            this.shutdownCoordinator = shutdownCoordinator;
+            return this;
+        }
+
+        public Builder orderedDeliveryScheduler(@Nullable final OrderedDeliveryScheduler orderedDeliveryScheduler) {
+            this.orderedDeliveryScheduler = orderedDeliveryScheduler;
+            return this;
+        }
+
+        public NotificationPublisher build() {
+            return new NotificationPublisher(this);
+        }
+    }
 }
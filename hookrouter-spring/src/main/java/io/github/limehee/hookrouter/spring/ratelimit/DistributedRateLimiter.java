@@ -0,0 +1,105 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class DistributedRateLimiter {
+
+    private final PermitStore store;
+    private final int leaseSize;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    public DistributedRateLimiter(PermitStore store, int leaseSize) {
+        this(store, leaseSize, System::currentTimeMillis);
+    }
+
+    DistributedRateLimiter(PermitStore store, int leaseSize, LongSupplier clock) {
+        if (leaseSize < 1) {
+            throw new InvalidWebhookArgumentException("leaseSize must be >= 1, but was: " + leaseSize);
+        }
+        this.store = store;
+        this.leaseSize = leaseSize;
+        this.clock = clock;
+    }
+
+    public boolean acquirePermission(String webhookUrl, int limitForPeriod, long periodMillis, long timeoutMillis) {
+        int limit = Math.max(limitForPeriod, 1);
+        long period = Math.max(periodMillis, 1L);
+        Lease lease = leases.computeIfAbsent(webhookUrl, url -> new Lease(storeKey(url)));
+        long deadline = clock.getAsLong() + Math.max(timeoutMillis, 0L);
+        while (true) {
+            long now = clock.getAsLong();
+            if (lease.tryAcquire(now / period, limit)) {
+                return true;
+            }
+            long nextWindowStart = (now / period + 1) * period;
+            if (nextWindowStart > deadline) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(nextWindowStart - now);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // webhook URLs carry their credentials, so the shared store only ever sees a digest
+    static String storeKey(String webhookUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(webhookUrl.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private final class Lease {
+
+        private final String storeKey;
+        private long window = Long.MIN_VALUE;
+        private int remaining;
+        private int leased;
+
+        private Lease(String storeKey) {
+            this.storeKey = storeKey;
+        }
+
+        // one store round trip per lease; concurrent senders to the same URL queue here instead of on the store
+        private synchronized boolean tryAcquire(long currentWindow, int limit) {
+            if (window == currentWindow) {
+                if (remaining > 0) {
+                    remaining--;
+                    return true;
+                }
+                // this node already leased the whole quota, so the store has nothing left to give
+                if (remaining < 0 || leased >= limit) {
+                    return false;
+                }
+            } else {
+                // permits of the previous window must not survive a store failure in this one
+                window = currentWindow;
+                remaining = 0;
+                leased = 0;
+            }
+            int granted = store.acquire(storeKey, currentWindow, Math.min(leaseSize, limit - leased), limit);
+            if (granted <= 0) {
+                // the window is exhausted cluster-wide; remember that until it rolls over
+                remaining = -1;
+                return false;
+            }
+            leased += granted;
+            remaining = granted - 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class InMemoryPermitStore implements PermitStore {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public int acquire(String key, long window, int requested, int limitForPeriod) {
+        Window current = windows.computeIfAbsent(key, k -> new Window());
+        synchronized (current) {
+            if (current.index < window) {
+                current.index = window;
+                current.used = 0;
+            } else if (current.index > window) {
+                return 0;
+            }
+            int granted = Math.max(Math.min(requested, limitForPeriod - current.used), 0);
+            current.used += granted;
+            return granted;
+        }
+    }
+
+    private static final class Window {
+
+        private long index = Long.MIN_VALUE;
+        private int used;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import io.github.limehee.hookrouter.spring.support.JdbcUtils;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+public class JdbcPermitStore implements PermitStore {
+
+    public static final String DEFAULT_TABLE_NAME = "hookrouter_rate_limit";
+
+    // SQLSTATE class 23 is an integrity constraint violation, raised when another node inserted the key first
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+    private static final int MAX_INSERT_ATTEMPTS = 2;
+    private final DataSource dataSource;
+    private final String tableName;
+    private final String selectSql;
+    private final String insertSql;
+    private final String updateSql;
+
+    public JdbcPermitStore(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcPermitStore(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = JdbcUtils.requireValidTableName(tableName);
+        this.selectSql = "SELECT window_index, used FROM " + tableName + " WHERE permit_key = ? FOR UPDATE";
+        this.insertSql = "INSERT INTO " + tableName + " (permit_key, window_index, used) VALUES (?, ?, ?)";
+        this.updateSql = "UPDATE " + tableName + " SET window_index = ?, used = ? WHERE permit_key = ?";
+    }
+
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + tableName
+                + " (permit_key VARCHAR(64) NOT NULL PRIMARY KEY, window_index BIGINT NOT NULL, used INT NOT NULL)");
+        } catch (SQLException e) {
+            throw new PermitStoreException("Failed to create rate-limit table " + tableName, e);
+        }
+    }
+
+    @Override
+    public int acquire(String key, long window, int requested, int limitForPeriod) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return acquireInTransaction(key, window, requested, limitForPeriod);
+            } catch (SQLException e) {
+                String sqlState = e.getSQLState();
+                boolean lostInsertRace = sqlState != null && sqlState.startsWith(INTEGRITY_VIOLATION_CLASS);
+                if (!lostInsertRace || attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw new PermitStoreException("Failed to acquire rate-limit permits for key " + key, e);
+                }
+            }
+        }
+    }
+
+    private int acquireInTransaction(String key, long window, int requested, int limitForPeriod)
+        throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int granted = acquire(connection, key, window, requested, limitForPeriod);
+                connection.commit();
+                return granted;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private int acquire(Connection connection, String key, long window, int requested, int limitForPeriod)
+        throws SQLException {
+        long storedWindow;
+        int used;
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setString(1, key);
+            try (ResultSet row = select.executeQuery()) {
+                if (!row.next()) {
+                    int granted = Math.max(Math.min(requested, limitForPeriod), 0);
+                    try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                        insert.setString(1, key);
+                        insert.setLong(2, window);
+                        insert.setInt(3, granted);
+                        insert.executeUpdate();
+                    }
+                    return granted;
+                }
+                storedWindow = row.getLong(1);
+                used = row.getInt(2);
+            }
+        }
+        if (storedWindow > window) {
+            // another node's clock is already in the next window; do not hand out permits of a closed one
+            return 0;
+        }
+        if (storedWindow < window) {
+            used = 0;
+        }
+        int granted = Math.max(Math.min(requested, limitForPeriod - used), 0);
+        if (granted > 0 || storedWindow < window) {
+            try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                update.setLong(1, window);
+                update.setInt(2, used + granted);
+                update.setString(3, key);
+                update.executeUpdate();
+            }
+        }
+        return granted;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+public interface PermitStore {
+
+    // grants up to `requested` of the `limitForPeriod` permits of `window` for `key`, returning how many were granted
+    int acquire(String key, long window, int requested, int limitForPeriod);
+}
@@ -0,0 +1,8 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+public class PermitStoreException extends RuntimeException {
+
+    public PermitStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
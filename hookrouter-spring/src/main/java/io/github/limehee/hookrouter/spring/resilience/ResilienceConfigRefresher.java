@@ -0,0 +1,92 @@
+package io.github.limehee.hookrouter.spring.resilience;
+
+import io.github.limehee.hookrouter.spring.config.WebhookConfigRefreshEvent;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.RefreshResult;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.ResilienceComponent;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+public class ResilienceConfigRefresher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilienceConfigRefresher.class);
+    private final WebhookConfigResolver configResolver;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienceConfigRefresher(
+        final WebhookConfigResolver configResolver,
+        final CircuitBreakerRegistry circuitBreakerRegistry,
+        final RetryRegistry retryRegistry,
+        final TimeLimiterRegistry timeLimiterRegistry,
+        final RateLimiterRegistry rateLimiterRegistry,
+        final BulkheadRegistry bulkheadRegistry
+    ) {
+        this.configResolver = configResolver;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @EventListener
+    public void onRefresh(WebhookConfigRefreshEvent event) {
+        refresh();
+    }
+
+    public RefreshResult refresh() {
+        RefreshResult result = configResolver.refresh();
+        if (!result.hasChanges()) {
+            return result;
+        }
+
+        int evicted = 0;
+        evicted += evict(result, ResilienceComponent.CIRCUIT_BREAKER, circuitBreakerRegistry.getAllCircuitBreakers(),
+            CircuitBreaker::getName, circuitBreakerRegistry::remove);
+        evicted += evict(result, ResilienceComponent.RETRY, retryRegistry.getAllRetries(),
+            Retry::getName, retryRegistry::remove);
+        evicted += evict(result, ResilienceComponent.TIMEOUT, timeLimiterRegistry.getAllTimeLimiters(),
+            TimeLimiter::getName, timeLimiterRegistry::remove);
+        evicted += evict(result, ResilienceComponent.RATE_LIMITER, rateLimiterRegistry.getAllRateLimiters(),
+            RateLimiter::getName, rateLimiterRegistry::remove);
+        evicted += evict(result, ResilienceComponent.BULKHEAD, bulkheadRegistry.getAllBulkheads(),
+            Bulkhead::getName, bulkheadRegistry::remove);
+
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Webhook configuration refreshed: changedKeys={}, changedDefaults={}, evictedInstances={}",
+                result.changedKeys(), result.changedDefaults(), evicted);
+        }
+        return result;
+    }
+
+    private <E> int evict(RefreshResult result, ResilienceComponent component, Collection<E> instances,
+        Function<E, String> nameOf, Consumer<String> remove) {
+        int evicted = 0;
+        for (E instance : instances) {
+            String name = nameOf.apply(instance);
+            if (result.affects(component, name)) {
+                remove.accept(name);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.limehee.hookrouter.spring.resilience.event;
 
+import io.github.limehee.hookrouter.spring.jfr.CircuitBreakerTransitionEvent;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
 import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
@@ -41,6 +42,7 @@ public class CircuitBreakerEventListener implements RegistryEventConsumer<Circui
     private void handleStateTransition(String webhookKey, CircuitBreakerOnStateTransitionEvent event) {
         State fromState = event.getStateTransition().getFromState();
         State toState = event.getStateTransition().getToState();
+        CircuitBreakerTransitionEvent.emit(webhookKey, fromState.name(), toState.name());
         publishSpringEvent(webhookKey, fromState, toState);
     }
 
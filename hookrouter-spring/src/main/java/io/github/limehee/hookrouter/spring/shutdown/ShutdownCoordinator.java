@@ -0,0 +1,183 @@
+package io.github.limehee.hookrouter.spring.shutdown;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.metrics.ShutdownPhase;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+public class ShutdownCoordinator implements SmartLifecycle {
+
+    // stops after the embedded web server's graceful shutdown, so requests still finishing can publish
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShutdownCoordinator.class);
+    private static final String REJECTED_MESSAGE = "Rejected: application is shutting down";
+    private static final String NOT_DRAINED_MESSAGE = "Not dispatched before the shutdown drain deadline";
+    private final RoutingPolicy routingPolicy;
+    private final DeadLetterProcessor deadLetterProcessor;
+    private final WebhookMetrics metrics;
+    private final Duration drainTimeout;
+    // Notification keeps identity equality, so entries track the exact instance handed to the executor
+    private final Map<Notification<?>, State> tracked = new ConcurrentHashMap<>();
+    private final Object drainMonitor = new Object();
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+
+    public ShutdownCoordinator(RoutingPolicy routingPolicy, DeadLetterProcessor deadLetterProcessor,
+        WebhookMetrics metrics, Duration drainTimeout) {
+        this.routingPolicy = routingPolicy;
+        this.deadLetterProcessor = deadLetterProcessor;
+        this.metrics = metrics;
+        this.drainTimeout = drainTimeout;
+    }
+
+    public boolean accept(Notification<?> notification) {
+        if (accepting) {
+            tracked.put(notification, State.QUEUED);
+            // a concurrent stop() either saw this entry or flipped the flag first; re-check to find out which
+            if (accepting || !tracked.remove(notification, State.QUEUED)) {
+                return true;
+            }
+        }
+        metrics.recordShutdownRejected();
+        deadLetter(notification, REJECTED_MESSAGE);
+        return false;
+    }
+
+    public boolean begin(Notification<?> notification) {
+        if (tracked.replace(notification, State.QUEUED, State.STARTED)) {
+            return true;
+        }
+        return !tracked.remove(notification, State.DEAD_LETTERED);
+    }
+
+    public void finished(Notification<?> notification) {
+        if (tracked.remove(notification) != null && !accepting) {
+            synchronized (drainMonitor) {
+                drainMonitor.notifyAll();
+            }
+        }
+    }
+
+    public boolean isAccepting() {
+        return accepting;
+    }
+
+    public int inFlightCount() {
+        int count = 0;
+        for (State state : tracked.values()) {
+            if (state != State.DEAD_LETTERED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        long phaseStart = System.nanoTime();
+        accepting = false;
+        int inFlightAtStop = inFlightCount();
+        metrics.recordShutdownPhase(ShutdownPhase.STOP_ACCEPTING, System.nanoTime() - phaseStart, inFlightAtStop);
+
+        phaseStart = System.nanoTime();
+        int remaining = awaitDrained(phaseStart + drainTimeout.toNanos());
+        metrics.recordShutdownPhase(ShutdownPhase.DRAIN, System.nanoTime() - phaseStart,
+            Math.max(inFlightAtStop - remaining, 0));
+
+        phaseStart = System.nanoTime();
+        int deadLettered = 0;
+        int stillSending = 0;
+        for (Map.Entry<Notification<?>, State> entry : tracked.entrySet()) {
+            Notification<?> notification = entry.getKey();
+            if (tracked.replace(notification, State.QUEUED, State.DEAD_LETTERED)) {
+                deadLetter(notification, NOT_DRAINED_MESSAGE);
+                deadLettered++;
+            } else if (entry.getValue() == State.STARTED) {
+                stillSending++;
+            }
+        }
+        metrics.recordShutdownPhase(ShutdownPhase.DEAD_LETTER, System.nanoTime() - phaseStart, deadLettered);
+
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Webhook shutdown: {} in flight at stop, {} drained, {} queued notifications dead-lettered",
+                inFlightAtStop, Math.max(inFlightAtStop - remaining, 0), deadLettered);
+        }
+        if (stillSending > 0 && LOGGER.isWarnEnabled()) {
+            LOGGER.warn("{} notifications were still sending at the drain deadline; they finish or fail into the "
+                + "dead-letter path while the executor shuts down", stillSending);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private int awaitDrained(long deadlineNanos) {
+        synchronized (drainMonitor) {
+            int remaining = inFlightCount();
+            while (remaining > 0) {
+                long waitNanos = deadlineNanos - System.nanoTime();
+                if (waitNanos <= 0) {
+                    break;
+                }
+                try {
+                    // bounded wait: finished() only signals once an entry leaves the map
+                    drainMonitor.wait(Math.max(1L, Math.min(waitNanos / 1_000_000L, 50L)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = inFlightCount();
+            }
+            return remaining;
+        }
+    }
+
+    // an outbox entry stays pending: the dead-letter handler may not be durable, so the next start replays it
+    private void deadLetter(Notification<?> notification, String errorMessage) {
+        try {
+            List<RoutingTarget> targets = routingPolicy.resolve(notification.getTypeId(), notification.getCategory());
+            for (RoutingTarget target : targets) {
+                deadLetterProcessor.processShutdown(notification, target, errorMessage);
+            }
+        } catch (Exception e) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Failed to dead-letter notification typeId={}, category={} during shutdown",
+                    notification.getTypeId(), notification.getCategory(), e);
+            }
+        }
+    }
+
+    private enum State {
+        QUEUED,
+        STARTED,
+        DEAD_LETTERED
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.limehee.hookrouter.spring.support;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+public final class JdbcUtils {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private JdbcUtils() {
+    }
+
+    // table names are concatenated into SQL, so only unquoted, optionally schema-qualified identifiers are accepted
+    public static boolean isValidTableName(@Nullable String tableName) {
+        return tableName != null && TABLE_NAME.matcher(tableName).matches();
+    }
+
+    public static String requireValidTableName(@Nullable String tableName) {
+        if (!isValidTableName(tableName)) {
+            throw new InvalidWebhookArgumentException(
+                "tableName must be a plain SQL identifier, but was: " + tableName);
+        }
+        return tableName;
+    }
+}
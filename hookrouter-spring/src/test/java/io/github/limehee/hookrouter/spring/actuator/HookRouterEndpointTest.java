@@ -0,0 +1,98 @@
+package io.github.limehee.hookrouter.spring.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.spring.actuator.HookRouterEndpoint.EndpointReport;
+import io.github.limehee.hookrouter.spring.actuator.HookRouterEndpoint.HookRouterReport;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStats;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStatsRegistry;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class HookRouterEndpointTest {
+
+    private final EndpointStatsRegistry endpointStats = new EndpointStatsRegistry();
+    private final RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    private HookRouterEndpoint endpoint(Set<String> configuredKeys, Executor executor) {
+        return new HookRouterEndpoint(endpointStats, rateLimiterRegistry, bulkheadRegistry, configuredKeys, executor);
+    }
+
+    @Nested
+    class EndpointReportTest {
+
+        @Test
+        void shouldReportConfiguredEndpointsWithoutTraffic() {
+            // Given
+            HookRouterEndpoint endpoint = endpoint(Set.of("slack:general"), Runnable::run);
+
+            // When
+            HookRouterReport report = endpoint.report();
+
+            // Then
+            assertThat(report.executor()).isNull();
+            EndpointReport general = report.endpoints().get("slack:general");
+            assertThat(general.inFlight()).isZero();
+            assertThat(general.sendsInWindow()).isZero();
+            assertThat(general.rateLimiterAvailablePermissions()).isNull();
+            assertThat(general.bulkheadAvailableConcurrentCalls()).isNull();
+        }
+
+        @Test
+        void shouldCombineInProcessStatsWithResilienceState() {
+            // Given
+            EndpointStats stats = endpointStats.forKey("slack:alerts");
+            stats.dispatchStarted();
+            stats.recordSend(Duration.ofMillis(20).toNanos());
+            rateLimiterRegistry.rateLimiter("slack:alerts", RateLimiterConfig.custom().limitForPeriod(7).build());
+            bulkheadRegistry.bulkhead("slack:alerts", BulkheadConfig.custom().maxConcurrentCalls(4).build())
+                .tryAcquirePermission();
+
+            // When
+            EndpointReport alerts = endpoint(Set.of(), Runnable::run).report().endpoints().get("slack:alerts");
+
+            // Then
+            assertThat(alerts.inFlight()).isEqualTo(1);
+            assertThat(alerts.sendsInWindow()).isEqualTo(1);
+            assertThat(alerts.p50LatencyMillis()).isBetween(20.0, 20.0 * 1.125);
+            assertThat(alerts.rateLimiterAvailablePermissions()).isEqualTo(7);
+            assertThat(alerts.bulkheadAvailableConcurrentCalls()).isEqualTo(3);
+            assertThat(alerts.bulkheadMaxConcurrentCalls()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    class ExecutorReportTest {
+
+        @Test
+        void shouldReportThreadPoolQueueDepth() {
+            // Given
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.setQueueCapacity(10);
+            executor.initialize();
+
+            try {
+                // When
+                HookRouterEndpoint.ExecutorReport report = endpoint(Set.of(), executor).report().executor();
+
+                // Then
+                assertThat(report).isNotNull();
+                assertThat(report.queueDepth()).isZero();
+                assertThat(report.queueRemainingCapacity()).isEqualTo(10);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
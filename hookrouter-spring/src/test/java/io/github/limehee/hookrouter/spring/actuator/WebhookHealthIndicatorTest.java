@@ -2,7 +2,6 @@ package io.github.limehee.hookrouter.spring.actuator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.DeadLetterStatus;
@@ -22,8 +21,7 @@ import org.springframework.boot.health.contributor.Status;
 @ExtendWith(MockitoExtension.class)
 class WebhookHealthIndicatorTest {
 
-    @Mock
-    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
 
     @Mock
     private DeadLetterStore deadLetterStore;
@@ -59,10 +57,8 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1", "channel-2");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.CLOSED);
-            CircuitBreaker cb2 = createMockCircuitBreaker(State.CLOSED);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
-            given(circuitBreakerRegistry.circuitBreaker("channel-2")).willReturn(cb2);
+            circuitBreakerIn("channel-1", State.CLOSED);
+            circuitBreakerIn("channel-2", State.CLOSED);
 
             // When
             Health health = healthIndicator.health();
@@ -88,10 +84,8 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1", "channel-2");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.OPEN);
-            CircuitBreaker cb2 = createMockCircuitBreaker(State.OPEN);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
-            given(circuitBreakerRegistry.circuitBreaker("channel-2")).willReturn(cb2);
+            circuitBreakerIn("channel-1", State.OPEN);
+            circuitBreakerIn("channel-2", State.OPEN);
 
             // When
             Health health = healthIndicator.health();
@@ -112,10 +106,8 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1", "channel-2");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.CLOSED);
-            CircuitBreaker cb2 = createMockCircuitBreaker(State.OPEN);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
-            given(circuitBreakerRegistry.circuitBreaker("channel-2")).willReturn(cb2);
+            circuitBreakerIn("channel-1", State.CLOSED);
+            circuitBreakerIn("channel-2", State.OPEN);
 
             // When
             Health health = healthIndicator.health();
@@ -136,10 +128,8 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1", "channel-2");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.CLOSED);
-            CircuitBreaker cb2 = createMockCircuitBreaker(State.HALF_OPEN);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
-            given(circuitBreakerRegistry.circuitBreaker("channel-2")).willReturn(cb2);
+            circuitBreakerIn("channel-1", State.CLOSED);
+            circuitBreakerIn("channel-2", State.HALF_OPEN);
 
             // When
             Health health = healthIndicator.health();
@@ -160,8 +150,7 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.FORCED_OPEN);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
+            circuitBreakerIn("channel-1", State.FORCED_OPEN);
 
             // When
             Health health = healthIndicator.health();
@@ -180,8 +169,7 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.DISABLED);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
+            circuitBreakerIn("channel-1", State.DISABLED);
 
             // When
             Health health = healthIndicator.health();
@@ -200,8 +188,7 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.METRICS_ONLY);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
+            circuitBreakerIn("channel-1", State.METRICS_ONLY);
 
             // When
             Health health = healthIndicator.health();
@@ -220,14 +207,10 @@ class WebhookHealthIndicatorTest {
             Set<String> webhookKeys = Set.of("channel-1", "channel-2", "channel-3", "channel-4");
             healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, webhookKeys, null);
 
-            CircuitBreaker cb1 = createMockCircuitBreaker(State.CLOSED);
-            CircuitBreaker cb2 = createMockCircuitBreaker(State.OPEN);
-            CircuitBreaker cb3 = createMockCircuitBreaker(State.HALF_OPEN);
-            CircuitBreaker cb4 = createMockCircuitBreaker(State.CLOSED);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
-            given(circuitBreakerRegistry.circuitBreaker("channel-2")).willReturn(cb2);
-            given(circuitBreakerRegistry.circuitBreaker("channel-3")).willReturn(cb3);
-            given(circuitBreakerRegistry.circuitBreaker("channel-4")).willReturn(cb4);
+            circuitBreakerIn("channel-1", State.CLOSED);
+            circuitBreakerIn("channel-2", State.OPEN);
+            circuitBreakerIn("channel-3", State.HALF_OPEN);
+            circuitBreakerIn("channel-4", State.CLOSED);
 
             // When
             Health health = healthIndicator.health();
@@ -246,11 +229,105 @@ class WebhookHealthIndicatorTest {
             assertThat(circuits).hasSize(4);
         }
 
-        private CircuitBreaker createMockCircuitBreaker(State state) {
-            CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
-            given(circuitBreaker.getState()).willReturn(state);
-            return circuitBreaker;
+    }
+
+    @Nested
+    class CachedStateTest {
+
+        @Test
+        void shouldNotCreateCircuitBreakersWhenCheckingHealth() {
+            // Given
+            healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, Set.of("channel-1"), null);
+
+            // When
+            Health health = healthIndicator.health();
+
+            // Then
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(circuitBreakerRegistry.getAllCircuitBreakers()).isEmpty();
+        }
+
+        @Test
+        void shouldPickUpCircuitBreakersCreatedBeforeIndicator() {
+            // Given
+            circuitBreakerIn("channel-1", State.OPEN);
+
+            // When
+            healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, Set.of("channel-1"), null);
+
+            // Then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+        }
+
+        @Test
+        void shouldFollowStateTransitions() {
+            // Given
+            healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, Set.of("channel-1", "channel-2"),
+                null);
+            CircuitBreaker circuitBreaker = circuitBreakerIn("channel-1", State.OPEN);
+            assertThat(healthIndicator.health().getStatus().getCode()).isEqualTo("DEGRADED");
+
+            // When
+            circuitBreaker.transitionToHalfOpenState();
+            circuitBreaker.transitionToClosedState();
+
+            // Then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        void shouldResetStateWhenCircuitBreakerIsReplacedOrRemoved() {
+            // Given
+            healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, Set.of("channel-1"), null);
+            CircuitBreaker original = circuitBreakerIn("channel-1", State.OPEN);
+
+            // When
+            circuitBreakerRegistry.replace("channel-1", CircuitBreaker.ofDefaults("channel-1"));
+            original.transitionToForcedOpenState();
+
+            // Then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+            // When
+            circuitBreakerRegistry.circuitBreaker("channel-1").transitionToOpenState();
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+            circuitBreakerRegistry.remove("channel-1");
+
+            // Then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        void shouldIgnoreUnmonitoredCircuitBreakers() {
+            // Given
+            healthIndicator = new WebhookHealthIndicator(circuitBreakerRegistry, Set.of("channel-1"), null);
+
+            // When
+            circuitBreakerIn("other", State.OPEN);
+
+            // Then
+            @SuppressWarnings("unchecked")
+            Map<String, String> circuits = (Map<String, String>) ((Map<String, Object>) healthIndicator.health()
+                .getDetails().get("circuitBreaker")).get("circuits");
+            assertThat(circuits).containsOnlyKeys("channel-1");
+        }
+    }
+
+    private CircuitBreaker circuitBreakerIn(String name, State state) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        switch (state) {
+            case OPEN -> circuitBreaker.transitionToOpenState();
+            case HALF_OPEN -> {
+                circuitBreaker.transitionToOpenState();
+                circuitBreaker.transitionToHalfOpenState();
+            }
+            case FORCED_OPEN -> circuitBreaker.transitionToForcedOpenState();
+            case DISABLED -> circuitBreaker.transitionToDisabledState();
+            case METRICS_ONLY -> circuitBreaker.transitionToMetricsOnlyState();
+            case CLOSED -> {
+            }
         }
+        return circuitBreaker;
     }
 
     @Nested
@@ -301,9 +378,7 @@ class WebhookHealthIndicatorTest {
             healthIndicator = new WebhookHealthIndicator(
                 circuitBreakerRegistry, webhookKeys, deadLetterStore);
 
-            CircuitBreaker cb1 = mock(CircuitBreaker.class);
-            given(cb1.getState()).willReturn(State.CLOSED);
-            given(circuitBreakerRegistry.circuitBreaker("channel-1")).willReturn(cb1);
+            circuitBreakerIn("channel-1", State.CLOSED);
 
             given(deadLetterStore.countByStatus(DeadLetterStatus.PENDING)).willReturn(3L);
             given(deadLetterStore.countByStatus(DeadLetterStatus.PROCESSING)).willReturn(0L);
@@ -0,0 +1,195 @@
+package io.github.limehee.hookrouter.spring.allocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.deadletter.NoOpDeadLetterHandler;
+import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
+import io.github.limehee.hookrouter.spring.listener.DispatchPlanCache;
+import io.github.limehee.hookrouter.spring.listener.NotificationListener;
+import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
+import io.github.limehee.hookrouter.spring.resilience.WebhookRetryFactory;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+// every collaborator is a real no-op rather than a Mockito mock, since mocks allocate on each invocation
+class AllocationBudgetTest {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+    private static final Properties BUDGETS = loadBudgets();
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+    private static final int ROUNDS = 5;
+
+    private static final RoutingTarget TARGET = RoutingTarget.of("slack", "alerts", "https://hooks.slack.com/a");
+    private static final Notification<String> NOTIFICATION = Notification.of("order.created", "orders", "ctx");
+
+    private final WebhookConfigProperties properties = new WebhookConfigProperties();
+    private final WebhookSender sender = new NoOpWebhookSender();
+    private WebhookConfigResolver configResolver;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeAll
+    static void enableAllocationCounting() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "per-thread allocation counting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        configResolver = new WebhookConfigResolver(properties);
+        configResolver.refresh();
+        // Runnable::run keeps every allocation of a dispatch on the measuring thread
+        dispatcher = new WebhookDispatcher(configResolver, CircuitBreakerRegistry.ofDefaults(),
+            WebhookRetryFactory.createRegistry(properties.getRetry()), TimeLimiterRegistry.ofDefaults(),
+            RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), Runnable::run,
+            NoOpWebhookMetrics.INSTANCE, new DeadLetterProcessor(NoOpDeadLetterHandler.INSTANCE,
+            NoOpWebhookMetrics.INSTANCE), event -> {
+            });
+    }
+
+    private static Properties loadBudgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            if (in == null) {
+                throw new IllegalStateException("allocation-budgets.properties is missing from the test classpath");
+            }
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return budgets;
+    }
+
+    private static long budget(String name) {
+        String value = BUDGETS.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException("No allocation budget for " + name);
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    // the quietest round wins: JIT and GC noise only ever add bytes, never remove them
+    private static long bytesPerOperation(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                operation.run();
+            }
+            long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+            best = Math.min(best, allocated / MEASURED_ITERATIONS);
+        }
+        return best;
+    }
+
+    private static final class NoOpWebhookSender implements WebhookSender {
+
+        private static final SendResult OK = SendResult.success(200);
+
+        @Override
+        public String platform() {
+            return "slack";
+        }
+
+        @Override
+        public SendResult send(String webhookUrl, Object payload) {
+            return OK;
+        }
+    }
+
+    private static final class ConstantFormatter implements WebhookFormatter<String, String> {
+
+        @Override
+        public FormatterKey key() {
+            return FormatterKey.of("slack", "order.created");
+        }
+
+        @Override
+        public Class<String> contextClass() {
+            return String.class;
+        }
+
+        @Override
+        public String format(Notification<String> notification) {
+            return notification.getContext();
+        }
+    }
+
+    @Nested
+    class DispatchTest {
+
+        @Test
+        void shouldStayWithinBudgetPerDispatch() {
+            // Given
+            long budget = budget("webhook-dispatcher.dispatch");
+            assertThat(dispatcher.dispatch(NOTIFICATION, TARGET, sender, "payload").success()).isTrue();
+
+            // When
+            long bytes = bytesPerOperation(() -> dispatcher.dispatch(NOTIFICATION, TARGET, sender, "payload"));
+
+            // Then
+            assertThat(bytes)
+                .as("bytes allocated per WebhookDispatcher.dispatch (budget %d)", budget)
+                .isLessThanOrEqualTo(budget);
+        }
+    }
+
+    @Nested
+    class ProcessTest {
+
+        @Test
+        void shouldStayWithinBudgetPerProcess() {
+            // Given
+            long budget = budget("notification-listener.process");
+            FormatterRegistry formatterRegistry = new FormatterRegistry();
+            formatterRegistry.register(new ConstantFormatter());
+            formatterRegistry.freeze();
+            List<RoutingTarget> targets = List.of(TARGET);
+            RoutingPolicy routingPolicy = (typeId, category) -> targets;
+            List<WebhookSender> senders = List.of(sender);
+            DispatchPlanCache planCache = new DispatchPlanCache(routingPolicy, formatterRegistry, senders, List.of(),
+                configResolver, dispatcher, properties.getDispatchPlan().getMaxCachedPlans());
+            NotificationListener listener = NotificationListener.builder(routingPolicy, formatterRegistry, senders,
+                    dispatcher, new DeadLetterProcessor(NoOpDeadLetterHandler.INSTANCE, NoOpWebhookMetrics.INSTANCE))
+                .planCache(planCache)
+                .build();
+            assertThat(listener.process(NOTIFICATION).success()).isTrue();
+
+            // When
+            long bytes = bytesPerOperation(() -> listener.process(NOTIFICATION));
+
+            // Then
+            assertThat(bytes)
+                .as("bytes allocated per NotificationListener.process (budget %d)", budget)
+                .isLessThanOrEqualTo(budget);
+        }
+    }
+}
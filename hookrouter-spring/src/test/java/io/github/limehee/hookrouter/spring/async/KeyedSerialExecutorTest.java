@@ -0,0 +1,274 @@
+package io.github.limehee.hookrouter.spring.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class KeyedSerialExecutorTest {
+
+    private final Queue<Runnable> executorQueue = new ArrayDeque<>();
+    private final List<String> executed = new ArrayList<>();
+
+    private void drainAll() {
+        Runnable task;
+        while ((task = executorQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private Runnable record(String name) {
+        return () -> executed.add(name);
+    }
+
+    private KeyedSerialExecutor unbounded(Executor executor) {
+        return new KeyedSerialExecutor(executor, Integer.MAX_VALUE, (key, depth) -> {
+        });
+    }
+
+    @Nested
+    class SingleKeyTest {
+
+        @Test
+        void shouldRunTasksOfOneKeyInSubmissionOrderFromOneDrain() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+
+            // When
+            executor.execute("slack:orders", record("first"));
+            executor.execute("slack:orders", record("second"));
+            executor.execute("slack:orders", record("third"));
+
+            // Then
+            assertThat(executorQueue).hasSize(1);
+            assertThat(executor.queueDepth("slack:orders")).isEqualTo(3);
+            drainAll();
+            assertThat(executed).containsExactly("first", "second", "third");
+            assertThat(executor.queueDepth("slack:orders")).isZero();
+        }
+
+        @Test
+        void shouldScheduleOneDrainPerKey() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+
+            // When
+            executor.execute("slack:orders", record("orders"));
+            executor.execute("slack:alerts", record("alerts"));
+
+            // Then
+            assertThat(executorQueue).hasSize(2);
+            drainAll();
+            assertThat(executed).containsExactlyInAnyOrder("orders", "alerts");
+        }
+
+        @Test
+        void shouldKeepDrainingAfterTaskFailure() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+            executor.execute("slack:orders", () -> {
+                throw new IllegalStateException("boom");
+            });
+            executor.execute("slack:orders", record("after"));
+
+            // When
+            drainAll();
+
+            // Then
+            assertThat(executed).containsExactly("after");
+            assertThat(executor.queueDepth("slack:orders")).isZero();
+        }
+
+        @Test
+        void shouldRunDrainOnCallerWhenExecutorRejects() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(task -> {
+                throw new RejectedExecutionException("shut down");
+            });
+
+            // When
+            executor.execute("slack:orders", record("inline"));
+
+            // Then
+            assertThat(executed).containsExactly("inline");
+            assertThat(executor.queueDepth("slack:orders")).isZero();
+        }
+
+        @Test
+        void shouldNotifyListenerOncePerKey() {
+            // Given
+            Map<String, IntSupplier> created = new HashMap<>();
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(executorQueue::add, 1000, created::put);
+
+            // When
+            executor.execute("slack:orders", record("first"));
+            executor.execute("slack:orders", record("second"));
+
+            // Then
+            assertThat(created).containsOnlyKeys("slack:orders");
+            assertThat(created.get("slack:orders").getAsInt()).isEqualTo(2);
+            drainAll();
+            assertThat(created.get("slack:orders").getAsInt()).isZero();
+        }
+    }
+
+    @Nested
+    class MultiKeyTest {
+
+        @Test
+        void shouldWaitForEveryKeyBeforeRunning() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+            executor.execute("slack:orders", record("orders-1"));
+            executor.execute("slack:alerts", record("alerts-1"));
+
+            // When
+            executor.execute(List.of("slack:orders", "slack:alerts"), record("both"));
+            executor.execute("slack:orders", record("orders-2"));
+            executor.execute("slack:alerts", record("alerts-2"));
+            drainAll();
+
+            // Then
+            assertThat(executed).containsSubsequence("orders-1", "both", "orders-2");
+            assertThat(executed).containsSubsequence("alerts-1", "both", "alerts-2");
+            assertThat(executed).containsOnlyOnce("both");
+            assertThat(executor.queueDepths()).containsEntry("slack:orders", 0).containsEntry("slack:alerts", 0);
+        }
+
+        @Test
+        void shouldTreatDuplicateKeysAsOne() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+
+            // When
+            executor.execute(List.of("slack:orders", "slack:orders"), record("once"));
+            drainAll();
+
+            // Then
+            assertThat(executed).containsExactly("once");
+        }
+
+        @Test
+        void shouldRejectEmptyKeys() {
+            // Given
+            KeyedSerialExecutor executor = unbounded(executorQueue::add);
+
+            // When / Then
+            assertThatThrownBy(() -> executor.execute(List.of(), record("never")))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("keys must not be empty");
+        }
+    }
+
+    @Nested
+    class BoundTest {
+
+        @Test
+        void shouldRejectTaskWhenKeyIsFull() {
+            // Given
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(executorQueue::add, 2, (key, depth) -> {
+            });
+            executor.execute("slack:orders", record("first"));
+            executor.execute("slack:orders", record("second"));
+
+            // When
+            boolean accepted = executor.execute("slack:orders", record("third"));
+            boolean otherAccepted = executor.execute("slack:alerts", record("alerts"));
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(otherAccepted).isTrue();
+            drainAll();
+            assertThat(executed).containsExactlyInAnyOrder("first", "second", "alerts");
+            assertThat(executor.execute("slack:orders", record("after-drain"))).isTrue();
+        }
+
+        @Test
+        void shouldRejectMultiKeyTaskWhenAnyKeyIsFull() {
+            // Given
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(executorQueue::add, 1, (key, depth) -> {
+            });
+            executor.execute("slack:orders", record("orders"));
+
+            // When
+            boolean accepted = executor.execute(List.of("slack:alerts", "slack:orders"), record("both"));
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(executor.queueDepth("slack:alerts")).isZero();
+            drainAll();
+            assertThat(executed).containsExactly("orders");
+        }
+
+        @Test
+        void shouldRejectNonPositiveMaxPending() {
+            // When / Then
+            assertThatThrownBy(() -> new KeyedSerialExecutor(executorQueue::add, 0, (key, depth) -> {
+            }))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("maxPending must be >= 1");
+        }
+    }
+
+    @Nested
+    class ConcurrencyTest {
+
+        @Test
+        void shouldNeverOverlapTasksOfOneKeyWhileOtherKeysRunInParallel() throws InterruptedException {
+            // Given
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            KeyedSerialExecutor executor = unbounded(pool);
+            String[] keys = {"slack:a", "slack:b", "slack:c"};
+            Map<String, AtomicInteger> running = new HashMap<>();
+            Map<String, List<Integer>> order = new HashMap<>();
+            for (String key : keys) {
+                running.put(key, new AtomicInteger());
+                order.put(key, new ArrayList<>());
+            }
+            AtomicInteger overlaps = new AtomicInteger();
+            int taskCount = 3000;
+            CountDownLatch done = new CountDownLatch(taskCount);
+
+            // When
+            for (int i = 0; i < taskCount; i++) {
+                String key = keys[i % keys.length];
+                int sequence = i;
+                executor.execute(key, () -> {
+                    if (running.get(key).incrementAndGet() != 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    order.get(key).add(sequence);
+                    running.get(key).decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            // Then
+            try {
+                assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+                assertThat(overlaps.get()).isZero();
+                for (String key : keys) {
+                    assertThat(order.get(key)).isSorted();
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
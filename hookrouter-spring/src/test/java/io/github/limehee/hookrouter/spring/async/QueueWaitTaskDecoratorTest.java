@@ -0,0 +1,54 @@
+package io.github.limehee.hookrouter.spring.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueueWaitTaskDecoratorTest {
+
+    @Mock
+    private WebhookMetrics metrics;
+
+    @Test
+    void shouldReturnOriginalTaskWhenNotSampled() {
+        // Given
+        QueueWaitTaskDecorator decorator = new QueueWaitTaskDecorator(() -> metrics);
+        Runnable task = () -> {
+        };
+
+        // When
+        Runnable decorated = decorator.decorate(task);
+
+        // Then
+        assertThat(decorated).isSameAs(task);
+        verify(metrics, never()).recordStageDuration(any(), anyLong());
+    }
+
+    @Test
+    void shouldRecordQueueWaitBeforeRunningSampledTask() {
+        // Given
+        given(metrics.isStageTimingSampled()).willReturn(true);
+        QueueWaitTaskDecorator decorator = new QueueWaitTaskDecorator(() -> metrics);
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        // When
+        decorator.decorate(() -> ran.set(true)).run();
+
+        // Then
+        assertThat(ran).isTrue();
+        verify(metrics).recordStageDuration(eq(PipelineStage.QUEUE_WAIT), anyLong());
+    }
+}
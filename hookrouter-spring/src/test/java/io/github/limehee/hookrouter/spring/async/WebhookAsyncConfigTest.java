@@ -1,7 +1,9 @@
 package io.github.limehee.hookrouter.spring.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
@@ -9,6 +11,7 @@ import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.AsyncP
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -238,6 +241,20 @@ class WebhookAsyncConfigTest {
             verify(webhookMetrics).recordAsyncCallerRuns();
             executor.shutdown();
         }
+
+        @Test
+        void shouldRejectInsteadOfDroppingTasksAfterShutdown() {
+            given(environment.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.class, false))
+                .willReturn(false);
+            given(configProperties.getAsync()).willReturn(createDefaultAsyncProperties());
+
+            ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) config.webhookTaskExecutor();
+            executor.shutdown();
+
+            assertThatThrownBy(() -> executor.execute(() -> {
+            })).isInstanceOf(RejectedExecutionException.class);
+            verify(webhookMetrics, never()).recordAsyncCallerRuns();
+        }
     }
 
     @Nested
@@ -0,0 +1,93 @@
+package io.github.limehee.hookrouter.spring.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+
+class PayloadCompressorTest {
+
+    private static final String LARGE_JSON = "{\"items\":[" + "{\"id\":1,\"status\":\"ok\"},".repeat(200) + "]}";
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void shouldGzipPayloadAtOrAboveThreshold() throws IOException {
+        // Given
+        SerializedPayload payload = SerializedPayload.json(LARGE_JSON);
+
+        // When
+        SerializedPayload result = PayloadCompressor.compress(payload, CompressionAlgorithm.GZIP, payload.size());
+
+        // Then
+        assertThat(result.contentEncoding()).isEqualTo("gzip");
+        assertThat(result.contentType()).isEqualTo("application/json");
+        assertThat(result.size()).isLessThan(payload.size());
+        assertThat(new String(gunzip(result.toByteArray()), StandardCharsets.UTF_8)).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void shouldDeflatePayloadWithZlibFraming() throws IOException {
+        // Given
+        SerializedPayload payload = SerializedPayload.json(LARGE_JSON);
+
+        // When
+        SerializedPayload result = PayloadCompressor.compress(payload, CompressionAlgorithm.DEFLATE, 0);
+
+        // Then
+        assertThat(result.contentEncoding()).isEqualTo("deflate");
+        assertThat(new String(inflate(result.toByteArray()), StandardCharsets.UTF_8)).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void shouldKeepPayloadBelowThreshold() {
+        // Given
+        SerializedPayload payload = SerializedPayload.json(LARGE_JSON);
+
+        // When
+        SerializedPayload result = PayloadCompressor.compress(payload, CompressionAlgorithm.GZIP,
+            payload.size() + 1);
+
+        // Then
+        assertThat(result).isSameAs(payload);
+    }
+
+    @Test
+    void shouldKeepPayloadWhenCompressionDoesNotShrinkIt() {
+        // Given
+        SerializedPayload payload = SerializedPayload.json("{}");
+
+        // When
+        SerializedPayload result = PayloadCompressor.compress(payload, CompressionAlgorithm.GZIP, 0);
+
+        // Then
+        assertThat(result).isSameAs(payload);
+    }
+
+    @Test
+    void shouldNotCompressWhenAlgorithmIsNoneOrPayloadIsAlreadyEncoded() {
+        // Given
+        SerializedPayload plain = SerializedPayload.json(LARGE_JSON);
+        SerializedPayload encoded = PayloadCompressor.compress(plain, CompressionAlgorithm.GZIP, 0);
+
+        // When & Then
+        assertThat(PayloadCompressor.compress(plain, CompressionAlgorithm.NONE, 0)).isSameAs(plain);
+        assertThat(PayloadCompressor.compress(encoded, CompressionAlgorithm.DEFLATE, 0)).isSameAs(encoded);
+    }
+}
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,7 +52,42 @@ class ConfigurationMetadataConsistencyTest {
         "hookrouter.async.max-pool-size",
         "hookrouter.async.queue-capacity",
         "hookrouter.async.thread-name-prefix",
-        "hookrouter.async.await-termination-seconds"
+        "hookrouter.async.await-termination-seconds",
+        "hookrouter.priority-lanes.enabled",
+        "hookrouter.priority-lanes.meta-key",
+        "hookrouter.priority-lanes.max-pending",
+        "hookrouter.priority-lanes.high-weight",
+        "hookrouter.priority-lanes.normal-weight",
+        "hookrouter.priority-lanes.low-weight",
+        "hookrouter.priority-lanes.category-priorities",
+        "hookrouter.ordered.max-pending",
+        "hookrouter.expiration.default-ttl",
+        "hookrouter.expiration.type-ttls",
+        "hookrouter.expiration.category-ttls",
+        "hookrouter.expiration.dead-letter-expired",
+        "hookrouter.metrics.stage-timing-sample-rate",
+        "hookrouter.metrics.type-id-tag-mode",
+        "hookrouter.metrics.type-id-allowlist",
+        "hookrouter.metrics.type-id-tag-limit",
+        "hookrouter.dispatch-plan.cache-enabled",
+        "hookrouter.dispatch-plan.cache-custom-routing-policy",
+        "hookrouter.dispatch-plan.max-cached-plans",
+        "hookrouter.outbox.enabled",
+        "hookrouter.outbox.directory",
+        "hookrouter.outbox.segment-size",
+        "hookrouter.outbox.fsync-interval",
+        "hookrouter.shutdown.enabled",
+        "hookrouter.shutdown.drain-timeout",
+        "hookrouter.distributed-rate-limiter.enabled",
+        "hookrouter.distributed-rate-limiter.lease-size",
+        "hookrouter.distributed-rate-limiter.table-name",
+        "hookrouter.distributed-rate-limiter.initialize-schema",
+        "hookrouter.scheduler-lock.enabled",
+        "hookrouter.scheduler-lock.lease-duration",
+        "hookrouter.scheduler-lock.table-name",
+        "hookrouter.scheduler-lock.initialize-schema",
+        "hookrouter.scheduler-lock.directory",
+        "hookrouter.ingestion.max-in-flight"
     );
 
     @Test
@@ -178,6 +214,49 @@ class ConfigurationMetadataConsistencyTest {
         expectedDefaults.put("hookrouter.async.thread-name-prefix", properties.getAsync().getThreadNamePrefix());
         expectedDefaults.put("hookrouter.async.await-termination-seconds",
             properties.getAsync().getAwaitTerminationSeconds());
+        expectedDefaults.put("hookrouter.priority-lanes.enabled", properties.getPriorityLanes().isEnabled());
+        expectedDefaults.put("hookrouter.priority-lanes.meta-key", properties.getPriorityLanes().getMetaKey());
+        expectedDefaults.put("hookrouter.priority-lanes.max-pending", properties.getPriorityLanes().getMaxPending());
+        expectedDefaults.put("hookrouter.priority-lanes.high-weight", properties.getPriorityLanes().getHighWeight());
+        expectedDefaults.put("hookrouter.priority-lanes.normal-weight",
+            properties.getPriorityLanes().getNormalWeight());
+        expectedDefaults.put("hookrouter.priority-lanes.low-weight", properties.getPriorityLanes().getLowWeight());
+        expectedDefaults.put("hookrouter.ordered.max-pending", properties.getOrdered().getMaxPending());
+        expectedDefaults.put("hookrouter.expiration.default-ttl", properties.getExpiration().getDefaultTtl());
+        expectedDefaults.put("hookrouter.expiration.dead-letter-expired",
+            properties.getExpiration().isDeadLetterExpired());
+        expectedDefaults.put("hookrouter.metrics.stage-timing-sample-rate",
+            properties.getMetrics().getStageTimingSampleRate());
+        expectedDefaults.put("hookrouter.metrics.type-id-tag-mode",
+            properties.getMetrics().getTypeIdTagMode().name().toLowerCase(Locale.ROOT));
+        expectedDefaults.put("hookrouter.metrics.type-id-tag-limit", properties.getMetrics().getTypeIdTagLimit());
+        expectedDefaults.put("hookrouter.dispatch-plan.cache-enabled", properties.getDispatchPlan().isCacheEnabled());
+        expectedDefaults.put("hookrouter.dispatch-plan.cache-custom-routing-policy",
+            properties.getDispatchPlan().isCacheCustomRoutingPolicy());
+        expectedDefaults.put("hookrouter.dispatch-plan.max-cached-plans",
+            properties.getDispatchPlan().getMaxCachedPlans());
+        expectedDefaults.put("hookrouter.outbox.enabled", properties.getOutbox().isEnabled());
+        expectedDefaults.put("hookrouter.outbox.directory", properties.getOutbox().getDirectory());
+        expectedDefaults.put("hookrouter.outbox.segment-size", properties.getOutbox().getSegmentSize());
+        expectedDefaults.put("hookrouter.outbox.fsync-interval", properties.getOutbox().getFsyncInterval());
+        expectedDefaults.put("hookrouter.shutdown.enabled", properties.getShutdown().isEnabled());
+        expectedDefaults.put("hookrouter.shutdown.drain-timeout", properties.getShutdown().getDrainTimeout());
+        expectedDefaults.put("hookrouter.distributed-rate-limiter.enabled",
+            properties.getDistributedRateLimiter().isEnabled());
+        expectedDefaults.put("hookrouter.distributed-rate-limiter.lease-size",
+            properties.getDistributedRateLimiter().getLeaseSize());
+        expectedDefaults.put("hookrouter.distributed-rate-limiter.table-name",
+            properties.getDistributedRateLimiter().getTableName());
+        expectedDefaults.put("hookrouter.distributed-rate-limiter.initialize-schema",
+            properties.getDistributedRateLimiter().isInitializeSchema());
+        expectedDefaults.put("hookrouter.scheduler-lock.enabled", properties.getSchedulerLock().isEnabled());
+        expectedDefaults.put("hookrouter.scheduler-lock.lease-duration",
+            properties.getSchedulerLock().getLeaseDuration());
+        expectedDefaults.put("hookrouter.scheduler-lock.table-name", properties.getSchedulerLock().getTableName());
+        expectedDefaults.put("hookrouter.scheduler-lock.initialize-schema",
+            properties.getSchedulerLock().isInitializeSchema());
+        expectedDefaults.put("hookrouter.scheduler-lock.directory", properties.getSchedulerLock().getDirectory());
+        expectedDefaults.put("hookrouter.ingestion.max-in-flight", properties.getIngestion().getMaxInFlight());
         return expectedDefaults;
     }
 
@@ -2,14 +2,19 @@ package io.github.limehee.hookrouter.spring.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.limehee.hookrouter.spring.compression.CompressionAlgorithm;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.BulkheadProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.CircuitBreakerProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RateLimiterProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RetryProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.TimeoutProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.RefreshResult;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.ResilienceComponent;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BatchConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.BulkheadOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CircuitBreakerOverride;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.CompressionConfig;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.RateLimiterOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.RetryOverride;
 import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.TimeoutOverride;
@@ -282,6 +287,106 @@ class WebhookConfigResolverTest {
         }
     }
 
+    @Nested
+    class ResolveCompressionTest {
+
+        @Test
+        void shouldDisableCompressionWhenEndpointHasNoSettings() {
+            // When
+            CompressionConfig result = resolver.resolveCompression("slack", "general-channel");
+
+            // Then
+            assertThat(result.getAlgorithm()).isEqualTo(CompressionAlgorithm.NONE);
+        }
+
+        @Test
+        void shouldReturnEndpointCompressionSettings() {
+            // Given
+            WebhookEndpointConfig endpointConfig = createEndpointConfig();
+            CompressionConfig compression = new CompressionConfig();
+            compression.setAlgorithm(CompressionAlgorithm.GZIP);
+            compression.setMinSize(4096);
+            endpointConfig.setCompression(compression);
+            addEndpointConfig("custom", "digest", endpointConfig);
+
+            // When
+            CompressionConfig result = resolver.resolveCompression("custom", "digest");
+
+            // Then
+            assertThat(result.getAlgorithm()).isEqualTo(CompressionAlgorithm.GZIP);
+            assertThat(result.getMinSize()).isEqualTo(4096);
+        }
+    }
+
+    @Nested
+    class ResolveBatchTest {
+
+        @Test
+        void shouldDisableBatchingWhenEndpointHasNoSettings() {
+            // When
+            BatchConfig result = resolver.resolve("slack", "general-channel").batch();
+
+            // Then
+            assertThat(result.isEnabled()).isFalse();
+        }
+
+        @Test
+        void shouldReturnCopyOfEndpointBatchSettings() {
+            // Given
+            WebhookEndpointConfig endpointConfig = createEndpointConfig();
+            BatchConfig batch = new BatchConfig();
+            batch.setEnabled(true);
+            batch.setMaxSize(250);
+            batch.setMaxDelay(20);
+            endpointConfig.setBatch(batch);
+            addEndpointConfig("custom", "events", endpointConfig);
+
+            // When
+            BatchConfig result = resolver.resolve("custom", "events").batch();
+
+            // Then
+            assertThat(result).isNotSameAs(batch);
+            assertThat(result.isEnabled()).isTrue();
+            assertThat(result.getMaxSize()).isEqualTo(250);
+            assertThat(result.getMaxDelay()).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    class ResolveOrderedTest {
+
+        @Test
+        void shouldReportNoOrderedEndpointsByDefault() {
+            // Given
+            addEndpointConfig("slack", "general-channel", createEndpointConfig());
+
+            // When
+            boolean result = resolver.hasOrderedEndpoints();
+
+            // Then
+            assertThat(result).isFalse();
+            assertThat(resolver.resolve("slack", "general-channel").ordered()).isFalse();
+        }
+
+        @Test
+        void shouldResolveOrderedFlagPerEndpoint() {
+            // Given
+            WebhookEndpointConfig orderedConfig = createEndpointConfig();
+            orderedConfig.setOrdered(true);
+            addEndpointConfig("slack", "orders", orderedConfig);
+            addEndpointConfig("slack", "alerts", createEndpointConfig());
+
+            // When
+            boolean result = resolver.hasOrderedEndpoints();
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(resolver.resolve("slack", "orders").ordered()).isTrue();
+            assertThat(resolver.resolve("slack", "alerts").ordered()).isFalse();
+            assertThat(resolver.resolve("slack", "unknown").ordered()).isFalse();
+        }
+    }
+
     @Nested
     class CachingTest {
 
@@ -335,4 +440,84 @@ class WebhookConfigResolverTest {
             assertThat(result.getMaxAttempts()).isEqualTo(3);
         }
     }
+
+    @Nested
+    class SnapshotRefreshTest {
+
+        @Test
+        void shouldExposeBundledConfigAndBumpGenerationOnRefresh() {
+            // Given
+            long generation = resolver.generation();
+            WebhookConfigResolver.ResolvedConfig before = resolver.resolve("slack", "general-channel");
+            assertThat(before.retry()).isSameAs(resolver.resolveRetryProperties("slack", "general-channel"));
+
+            // When
+            resolver.refresh();
+
+            // Then
+            assertThat(resolver.generation()).isEqualTo(generation + 1);
+            assertThat(resolver.resolve("slack", "general-channel")).isNotSameAs(before);
+        }
+
+        @Test
+        void shouldIgnorePropertyChangesUntilRefresh() {
+            // Given
+            properties.getRetry().setMaxAttempts(3);
+            RetryProperties before = resolver.resolveRetryProperties("slack", "general-channel");
+            properties.getRetry().setMaxAttempts(7);
+
+            // When
+            RetryProperties cached = resolver.resolveRetryProperties("slack", "general-channel");
+            resolver.refresh();
+            RetryProperties refreshed = resolver.resolveRetryProperties("slack", "general-channel");
+
+            // Then
+            assertThat(cached).isSameAs(before);
+            assertThat(cached.getMaxAttempts()).isEqualTo(3);
+            assertThat(refreshed.getMaxAttempts()).isEqualTo(7);
+        }
+
+        @Test
+        void shouldNotExposeBoundPropertiesBean() {
+            // When
+            RetryProperties result = resolver.resolveRetryProperties("slack", "general-channel");
+
+            // Then
+            assertThat(result).isNotSameAs(properties.getRetry());
+        }
+
+        @Test
+        void shouldPickUpEndpointsAddedBeforeRefresh() {
+            // Given
+            resolver.resolveRetryProperties("slack", "error-channel");
+            WebhookEndpointConfig endpointConfig = createEndpointConfig();
+            RetryOverride retryOverride = new RetryOverride();
+            retryOverride.setMaxAttempts(9);
+            endpointConfig.setRetry(retryOverride);
+            addEndpointConfig("slack", "error-channel", endpointConfig);
+
+            // When
+            RefreshResult result = resolver.refresh();
+
+            // Then
+            assertThat(resolver.resolveRetryProperties("slack", "error-channel").getMaxAttempts()).isEqualTo(9);
+            assertThat(result.changedKeys().get(ResilienceComponent.RETRY)).containsExactly("slack:error-channel");
+            assertThat(result.changedDefaults()).isEmpty();
+        }
+
+        @Test
+        void shouldReportChangedDefaults() {
+            // Given
+            resolver.refresh();
+            properties.getBulkhead().setMaxConcurrentCalls(99);
+
+            // When
+            RefreshResult result = resolver.refresh();
+
+            // Then
+            assertThat(result.changedDefaults()).containsExactly(ResilienceComponent.BULKHEAD);
+            assertThat(result.affects(ResilienceComponent.BULKHEAD, "slack:any")).isTrue();
+            assertThat(result.affects(ResilienceComponent.RETRY, "slack:any")).isFalse();
+        }
+    }
 }
@@ -520,6 +520,465 @@ class WebhookConfigValidatorTest {
         }
     }
 
+    @Nested
+    class PriorityLanePropertiesValidationTest {
+
+        @Test
+        void shouldIgnoreLaneSettingsWhenDisabled() {
+            // Given
+            properties.getPriorityLanes().setEnabled(false);
+            properties.getPriorityLanes().setMaxPending(0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxPendingIsZero() {
+            // Given
+            properties.getPriorityLanes().setEnabled(true);
+            properties.getPriorityLanes().setMaxPending(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("priorityLanes.maxPending must be > 0");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenWeightIsNotPositive() {
+            // Given
+            properties.getPriorityLanes().setEnabled(true);
+            properties.getPriorityLanes().setLowWeight(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("priorityLanes.lowWeight must be > 0");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMetaKeyIsBlank() {
+            // Given
+            properties.getPriorityLanes().setEnabled(true);
+            properties.getPriorityLanes().setMetaKey(" ");
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("priorityLanes.metaKey must not be blank");
+        }
+    }
+
+    @Nested
+    class OrderedPropertiesValidationTest {
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxPendingIsZero() {
+            // Given
+            properties.getOrdered().setMaxPending(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("ordered.maxPending must be > 0");
+        }
+    }
+
+    @Nested
+    class EndpointCompressionValidationTest {
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMinSizeIsNegative() {
+            // Given
+            WebhookEndpointConfig endpointConfig = new WebhookEndpointConfig();
+            endpointConfig.setUrl("https://example.com/hook");
+            WebhookEndpointConfig.CompressionConfig compression = new WebhookEndpointConfig.CompressionConfig();
+            compression.setMinSize(-1);
+            endpointConfig.setCompression(compression);
+            properties.getPlatforms().computeIfAbsent("custom", key -> new PlatformConfig())
+                .getEndpoints().put("digest", endpointConfig);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("platforms.custom.endpoints.digest.compression.minSize must be >= 0");
+        }
+    }
+
+    @Nested
+    class EndpointBatchValidationTest {
+
+        private WebhookEndpointConfig.BatchConfig addBatchedEndpoint() {
+            WebhookEndpointConfig endpointConfig = new WebhookEndpointConfig();
+            endpointConfig.setUrl("https://example.com/events");
+            WebhookEndpointConfig.BatchConfig batch = new WebhookEndpointConfig.BatchConfig();
+            endpointConfig.setBatch(batch);
+            properties.getPlatforms().computeIfAbsent("custom", key -> new PlatformConfig())
+                .getEndpoints().put("events", endpointConfig);
+            return batch;
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxSizeIsZero() {
+            // Given
+            WebhookEndpointConfig.BatchConfig batch = addBatchedEndpoint();
+            batch.setEnabled(true);
+            batch.setMaxSize(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("platforms.custom.endpoints.events.batch.maxSize must be >= 1");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxDelayIsNegative() {
+            // Given
+            WebhookEndpointConfig.BatchConfig batch = addBatchedEndpoint();
+            batch.setEnabled(true);
+            batch.setMaxDelay(-1);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("platforms.custom.endpoints.events.batch.maxDelay must be >= 0");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxSizeExceedsMaxPoolSize() {
+            // Given
+            properties.getAsync().setMaxPoolSize(4);
+            WebhookEndpointConfig.BatchConfig batch = addBatchedEndpoint();
+            batch.setEnabled(true);
+            batch.setMaxSize(5);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("platforms.custom.endpoints.events.batch.maxSize (5) must be <= "
+                    + "async.maxPoolSize (4)");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxSizeExceedsEndpointBulkhead() {
+            // Given
+            WebhookEndpointConfig.BatchConfig batch = addBatchedEndpoint();
+            batch.setEnabled(true);
+            batch.setMaxSize(5);
+            WebhookEndpointConfig.BulkheadOverride bulkhead = new WebhookEndpointConfig.BulkheadOverride();
+            bulkhead.setEnabled(true);
+            bulkhead.setMaxConcurrentCalls(2);
+            properties.getPlatforms().get("custom").getEndpoints().get("events").setBulkhead(bulkhead);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("platforms.custom.endpoints.events.batch.maxSize (5) must be <= "
+                    + "bulkhead.maxConcurrentCalls (2)");
+        }
+
+        @Test
+        void shouldAcceptDefaultMaxSizeWithDefaultPool() {
+            // Given
+            addBatchedEndpoint().setEnabled(true);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties)).doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldIgnoreBatchSettingsWhenDisabled() {
+            // Given
+            WebhookEndpointConfig.BatchConfig batch = addBatchedEndpoint();
+            batch.setMaxSize(0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    class ExpirationPropertiesValidationTest {
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenDefaultTtlIsNegative() {
+            // Given
+            properties.getExpiration().setDefaultTtl(-1L);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("expiration.defaultTtl must be >= 0");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenTypeTtlIsNegative() {
+            // Given
+            properties.getExpiration().getTypeTtls().put("ORDER_CREATED", -5L);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("expiration.typeTtls[ORDER_CREATED] must be >= 0");
+        }
+
+        @Test
+        void shouldAcceptZeroTtlAsDisabled() {
+            // Given
+            properties.getExpiration().setDefaultTtl(0L);
+            properties.getExpiration().getCategoryTtls().put("general", 0L);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    class MetricsPropertiesValidationTest {
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenStageTimingSampleRateIsAboveOne() {
+            // Given
+            properties.getMetrics().setStageTimingSampleRate(1.5);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("metrics.stageTimingSampleRate must be between 0.0 and 1.0");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenTypeIdTagLimitIsZero() {
+            // Given
+            properties.getMetrics().setTypeIdTagLimit(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("metrics.typeIdTagLimit must be >= 1");
+        }
+
+        @Test
+        void shouldAcceptFullSampling() {
+            // Given
+            properties.getMetrics().setStageTimingSampleRate(1.0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    class DispatchPlanPropertiesValidationTest {
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxCachedPlansIsZero() {
+            // Given
+            properties.getDispatchPlan().setMaxCachedPlans(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("dispatchPlan.maxCachedPlans must be >= 1");
+        }
+    }
+
+    @Nested
+    class OutboxPropertiesValidationTest {
+
+        @Test
+        void shouldIgnoreOutboxSettingsWhenDisabled() {
+            // Given
+            properties.getOutbox().setSegmentSize(0);
+            properties.getOutbox().setFsyncInterval(0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenSegmentSizeIsTooSmall() {
+            // Given
+            properties.getOutbox().setEnabled(true);
+            properties.getOutbox().setSegmentSize(1024);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("outbox.segmentSize must be >= 4096");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenFsyncIntervalIsZero() {
+            // Given
+            properties.getOutbox().setEnabled(true);
+            properties.getOutbox().setFsyncInterval(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("outbox.fsyncInterval must be >= 1");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenDirectoryIsBlank() {
+            // Given
+            properties.getOutbox().setEnabled(true);
+            properties.getOutbox().setDirectory(" ");
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("outbox.directory must not be blank");
+        }
+    }
+
+    @Nested
+    class DistributedRateLimiterPropertiesValidationTest {
+
+        @Test
+        void shouldIgnoreDistributedSettingsWhenDisabled() {
+            // Given
+            properties.getDistributedRateLimiter().setLeaseSize(0);
+            properties.getDistributedRateLimiter().setTableName("bad name");
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenLeaseSizeIsZero() {
+            // Given
+            properties.getDistributedRateLimiter().setEnabled(true);
+            properties.getDistributedRateLimiter().setLeaseSize(0);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("distributedRateLimiter.leaseSize must be >= 1");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenTableNameIsNotIdentifier() {
+            // Given
+            properties.getDistributedRateLimiter().setEnabled(true);
+            properties.getDistributedRateLimiter().setTableName("limits; DROP TABLE users");
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("distributedRateLimiter.tableName must be a plain SQL identifier");
+        }
+    }
+
+    @Nested
+    class SchedulerLockPropertiesValidationTest {
+
+        @Test
+        void shouldIgnoreSchedulerLockSettingsWhenDisabled() {
+            // Given
+            properties.getSchedulerLock().setLeaseDuration(0);
+            properties.getSchedulerLock().setDirectory(" ");
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenLeaseDoesNotOutliveSchedulerInterval() {
+            // Given
+            properties.getSchedulerLock().setEnabled(true);
+            properties.getDeadLetter().setSchedulerInterval(60000L);
+            properties.getSchedulerLock().setLeaseDuration(60000L);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("schedulerLock.leaseDuration (60000ms) must be > deadLetter.schedulerInterval");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenTableNameIsNotIdentifier() {
+            // Given
+            properties.getSchedulerLock().setEnabled(true);
+            properties.getSchedulerLock().setTableName("locks; DROP TABLE users");
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("schedulerLock.tableName must be a plain SQL identifier");
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenDirectoryIsBlank() {
+            // Given
+            properties.getSchedulerLock().setEnabled(true);
+            properties.getSchedulerLock().setDirectory(" ");
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("schedulerLock.directory must not be blank");
+        }
+    }
+
+    @Nested
+    class ShutdownPropertiesValidationTest {
+
+        @Test
+        void shouldAcceptZeroDrainTimeout() {
+            // Given
+            properties.getShutdown().setDrainTimeout(0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenDrainTimeoutIsNegative() {
+            // Given
+            properties.getShutdown().setDrainTimeout(-1);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("shutdown.drainTimeout must be >= 0");
+        }
+    }
+
+    @Nested
+    class IngestionPropertiesValidationTest {
+
+        @Test
+        void shouldAcceptZeroMaxInFlightAsDerived() {
+            // Given
+            properties.getIngestion().setMaxInFlight(0);
+
+            // When & Then
+            assertThatCode(() -> WebhookConfigValidator.validate(properties))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowWebhookConfigValidationExceptionWhenMaxInFlightIsNegative() {
+            // Given
+            properties.getIngestion().setMaxInFlight(-1);
+
+            // When & Then
+            assertThatThrownBy(() -> WebhookConfigValidator.validate(properties))
+                .isInstanceOf(WebhookConfigValidationException.class)
+                .hasMessageContaining("ingestion.maxInFlight must be >= 0");
+        }
+    }
+
     @Nested
     class WebhookConfigValidationExceptionTest {
 
@@ -24,7 +24,7 @@ class DeadLetterHandlerTest {
             FailureReason[] values = FailureReason.values();
 
             // Then
-            assertThat(values).hasSize(9);
+            assertThat(values).hasSize(12);
             assertThat(values).containsExactlyInAnyOrder(
                 FailureReason.MAX_RETRIES_EXCEEDED,
                 FailureReason.NON_RETRYABLE_ERROR,
@@ -34,7 +34,10 @@ class DeadLetterHandlerTest {
                 FailureReason.EXCEPTION,
                 FailureReason.FORMATTER_NOT_FOUND,
                 FailureReason.PAYLOAD_CREATION_FAILED,
-                FailureReason.SENDER_NOT_FOUND
+                FailureReason.SENDER_NOT_FOUND,
+                FailureReason.EXPIRED,
+                FailureReason.SHUTDOWN,
+                FailureReason.SHED
             );
         }
 
@@ -391,6 +391,109 @@ class DeadLetterProcessorTest {
         }
     }
 
+    @Nested
+    class ProcessShutdownTest {
+
+        @Test
+        void shouldDeadLetterWithShutdownReason() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+
+            // When
+            processor.processShutdown(notification, target, "Not dispatched before the shutdown drain deadline");
+
+            // Then
+            ArgumentCaptor<DeadLetter> captor = ArgumentCaptor.forClass(DeadLetter.class);
+            verify(deadLetterHandler).handle(captor.capture());
+
+            DeadLetter deadLetter = captor.getValue();
+            assertThat(deadLetter.reason()).isEqualTo(FailureReason.SHUTDOWN);
+            assertThat(deadLetter.errorMessage()).contains("shutdown drain deadline");
+            assertThat(deadLetter.payload()).isEqualTo("payload_not_created");
+            assertThat(deadLetter.attemptCount()).isZero();
+            verify(metrics).recordDeadLetter("slack", "slack-key", "test-type", "SHUTDOWN");
+        }
+    }
+
+    @Nested
+    class ProcessShedTest {
+
+        @Test
+        void shouldDeadLetterWithShedReason() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+
+            // When
+            processor.processShed(notification, target);
+
+            // Then
+            ArgumentCaptor<DeadLetter> captor = ArgumentCaptor.forClass(DeadLetter.class);
+            verify(deadLetterHandler).handle(captor.capture());
+            assertThat(captor.getValue().reason()).isEqualTo(FailureReason.SHED);
+            assertThat(captor.getValue().attemptCount()).isZero();
+            verify(metrics).recordDeadLetter("slack", "slack-key", "test-type", "SHED");
+        }
+    }
+
+    @Nested
+    class ProcessExpiredTest {
+
+        @Test
+        void shouldDeadLetterWithExpiredReason() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            Map<String, Object> payload = Map.of("text", "Hello");
+
+            // When
+            processor.processExpired(notification, target, payload, 2);
+
+            // Then
+            ArgumentCaptor<DeadLetter> captor = ArgumentCaptor.forClass(DeadLetter.class);
+            verify(deadLetterHandler).handle(captor.capture());
+
+            DeadLetter deadLetter = captor.getValue();
+            assertThat(deadLetter.reason()).isEqualTo(FailureReason.EXPIRED);
+            assertThat(deadLetter.errorMessage()).contains("Notification expired");
+            assertThat(deadLetter.payload()).isEqualTo(payload);
+            assertThat(deadLetter.attemptCount()).isEqualTo(2);
+            verify(metrics).recordNotificationExpired("slack", "slack-key", "test-type");
+            verify(metrics).recordDeadLetter("slack", "slack-key", "test-type", "EXPIRED");
+        }
+
+        @Test
+        void shouldUsePlaceholderPayloadWhenPayloadWasNotCreated() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+
+            // When
+            processor.processExpired(notification, target, null, 0);
+
+            // Then
+            ArgumentCaptor<DeadLetter> captor = ArgumentCaptor.forClass(DeadLetter.class);
+            verify(deadLetterHandler).handle(captor.capture());
+            assertThat(captor.getValue().payload()).isEqualTo("payload_not_created");
+        }
+
+        @Test
+        void shouldOnlyRecordMetricWhenDeadLetteringExpiredIsDisabled() {
+            // Given
+            DeadLetterProcessor countingOnly = new DeadLetterProcessor(deadLetterHandler, metrics, false);
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+
+            // When
+            countingOnly.processExpired(notification, target, null, 0);
+
+            // Then
+            verify(metrics).recordNotificationExpired("slack", "slack-key", "test-type");
+            verify(deadLetterHandler, never()).handle(any());
+        }
+    }
+
     @Nested
     class ExceptionHandlingTest {
 
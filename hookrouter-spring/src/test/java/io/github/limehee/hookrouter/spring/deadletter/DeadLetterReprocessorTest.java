@@ -20,10 +20,13 @@ import io.github.limehee.hookrouter.spring.deadletter.DeadLetterReprocessor.Repr
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterReprocessor.ReprocessSummary;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.DeadLetterStatus;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterStore.StoredDeadLetter;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
 import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
 import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway.ProcessingResult;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -54,8 +57,13 @@ class DeadLetterReprocessorTest {
     }
 
     private StoredDeadLetter createStoredDeadLetter(String id, int retryCount, int maxRetries) {
+        return createStoredDeadLetter(id, retryCount, maxRetries, Instant.now());
+    }
+
+    private StoredDeadLetter createStoredDeadLetter(String id, int retryCount, int maxRetries, Instant occurredAt) {
         Notification<String> notification = Notification.<String>builder("TEST_TYPE")
             .category("general")
+            .occurredAt(occurredAt)
             .context("test payload")
             .build();
 
@@ -267,6 +275,24 @@ class DeadLetterReprocessorTest {
             assertThat(summary.skippedCount()).isZero();
             assertThat(summary.totalCount()).isZero();
         }
+
+        @Test
+        void shouldLeaveRestOfBatchPendingOnceProceedFails() {
+            // Given
+            StoredDeadLetter stored1 = createStoredDeadLetter("id-1", 0, 3);
+            StoredDeadLetter stored2 = createStoredDeadLetter("id-2", 0, 3);
+            given(store.findReadyForReprocess(10)).willReturn(List.of(stored1, stored2));
+            given(store.updateStatus(anyString(), any(DeadLetterStatus.class))).willReturn(true);
+            AtomicInteger checks = new AtomicInteger();
+
+            // When
+            ReprocessSummary summary = reprocessor.reprocessPending(10, () -> checks.incrementAndGet() == 1);
+
+            // Then
+            assertThat(summary.successCount()).isEqualTo(1);
+            assertThat(summary.totalCount()).isEqualTo(1);
+            verify(store, never()).updateStatus(eq("id-2"), any(DeadLetterStatus.class));
+        }
     }
 
     @Nested
@@ -351,16 +377,58 @@ class DeadLetterReprocessorTest {
             ReprocessStatus[] values = ReprocessStatus.values();
 
             // Then
-            assertThat(values).hasSize(4);
+            assertThat(values).hasSize(5);
             assertThat(values).containsExactlyInAnyOrder(
                 ReprocessStatus.SUCCESS,
                 ReprocessStatus.FAILED,
                 ReprocessStatus.ABANDONED,
+                ReprocessStatus.EXPIRED,
                 ReprocessStatus.NOT_FOUND
             );
         }
     }
 
+    @Nested
+    class ExpirationTest {
+
+        @Test
+        void shouldAbandonExpiredDeadLetterWithoutReprocessing() {
+            // Given
+            DeadLetterReprocessor expiringReprocessor = new DeadLetterReprocessor(store, notificationProcessor,
+                DeadLetterReprocessor.DEFAULT_INITIAL_DELAY_MS, DeadLetterReprocessor.DEFAULT_MAX_DELAY_MS,
+                DeadLetterReprocessor.DEFAULT_MULTIPLIER, new NotificationExpirationPolicy(1L, Map.of(), Map.of()));
+            String id = "expired-id";
+            StoredDeadLetter storedDeadLetter = createStoredDeadLetter(id, 0, 3, Instant.now().minusSeconds(60));
+            given(store.findById(id)).willReturn(Optional.of(storedDeadLetter));
+
+            // When
+            ReprocessResult result = expiringReprocessor.reprocessById(id);
+
+            // Then
+            assertThat(result.status()).isEqualTo(ReprocessStatus.EXPIRED);
+            assertThat(result.errorMessage()).isEqualTo("Notification expired");
+            verify(store).updateStatus(id, DeadLetterStatus.ABANDONED);
+            verify(notificationProcessor, never()).process(anyNotification());
+        }
+
+        @Test
+        void shouldCountExpiredDeadLettersAsSkipped() {
+            // Given
+            DeadLetterReprocessor expiringReprocessor = new DeadLetterReprocessor(store, notificationProcessor,
+                DeadLetterReprocessor.DEFAULT_INITIAL_DELAY_MS, DeadLetterReprocessor.DEFAULT_MAX_DELAY_MS,
+                DeadLetterReprocessor.DEFAULT_MULTIPLIER, new NotificationExpirationPolicy(1L, Map.of(), Map.of()));
+            given(store.findReadyForReprocess(10)).willReturn(
+                List.of(createStoredDeadLetter("expired-id", 0, 3, Instant.now().minusSeconds(60))));
+
+            // When
+            ReprocessSummary summary = expiringReprocessor.reprocessPending(10);
+
+            // Then
+            assertThat(summary.skippedCount()).isEqualTo(1);
+            assertThat(summary.successCount()).isZero();
+        }
+    }
+
     @Nested
     class ConstructorTest {
 
@@ -1,22 +1,36 @@
 package io.github.limehee.hookrouter.spring.deadletter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.DeadLetterProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.SchedulerLockProperties;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterReprocessor.ReprocessSummary;
+import io.github.limehee.hookrouter.spring.lock.FileSchedulerLock;
+import io.github.limehee.hookrouter.spring.lock.SchedulerLock;
+import io.github.limehee.hookrouter.spring.lock.SchedulerLockException;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -85,6 +99,27 @@ class DeadLetterSchedulerTest {
         }
     }
 
+    @Nested
+    class LifecycleTest {
+
+        @Test
+        void shouldStopReprocessingWhenLifecycleStops() {
+            // Given
+            given(deadLetterProperties.getSchedulerInterval()).willReturn(60_000L);
+            scheduler = new DeadLetterScheduler(reprocessor, properties);
+            scheduler.afterPropertiesSet();
+            scheduler.start();
+
+            // When
+            scheduler.stop();
+
+            // Then
+            assertThat(scheduler.isRunning()).isFalse();
+            assertThat(scheduler.getPhase()).isGreaterThan(ShutdownCoordinator.PHASE);
+            verify(reprocessor, never()).reprocessPending(anyInt());
+        }
+    }
+
     @Nested
     class DestroyTest {
 
@@ -153,4 +188,156 @@ class DeadLetterSchedulerTest {
                 .untilAsserted(() -> verify(reprocessor, atLeast(2)).reprocessPending(10));
         }
     }
+
+    @Nested
+    class LeaderElectionTest {
+
+        @Mock
+        private SchedulerLock schedulerLock;
+
+        private final SchedulerLockProperties schedulerLockProperties = new SchedulerLockProperties();
+
+        @BeforeEach
+        void setUp() {
+            given(properties.getSchedulerLock()).willReturn(schedulerLockProperties);
+            given(deadLetterProperties.getSchedulerInterval()).willReturn(50L);
+        }
+
+        @Test
+        void shouldReprocessWhileHoldingLease() {
+            // Given
+            given(deadLetterProperties.getSchedulerBatchSize()).willReturn(10);
+            given(schedulerLock.tryAcquire(eq(DeadLetterScheduler.LOCK_NAME), anyString(), any()))
+                .willReturn(true);
+            given(reprocessor.reprocessPending(anyInt(), any())).willReturn(new ReprocessSummary(0, 0, 0));
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+
+            // When
+            scheduler.afterPropertiesSet();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> verify(reprocessor, atLeast(1)).reprocessPending(eq(10), any()));
+            assertThat(scheduler.isLeader()).isTrue();
+            verify(schedulerLock, atLeast(1)).tryAcquire(eq(DeadLetterScheduler.LOCK_NAME), anyString(),
+                eq(Duration.ofMillis(schedulerLockProperties.getLeaseDuration())));
+        }
+
+        @Test
+        void shouldNotPollStoreWhileLeaseIsHeldElsewhere() {
+            // Given
+            given(schedulerLock.tryAcquire(eq(DeadLetterScheduler.LOCK_NAME), anyString(), any()))
+                .willReturn(false);
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+
+            // When
+            scheduler.afterPropertiesSet();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> verify(schedulerLock, atLeast(2)).tryAcquire(anyString(), anyString(), any()));
+            assertThat(scheduler.isLeader()).isFalse();
+            verify(reprocessor, never()).reprocessPending(anyInt(), any());
+        }
+
+        @Test
+        void shouldSkipRunWhenLeaseCannotBeRenewed() {
+            // Given
+            given(schedulerLock.tryAcquire(anyString(), anyString(), any()))
+                .willThrow(new SchedulerLockException("Failed", new IllegalStateException("database down")));
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+
+            // When
+            scheduler.afterPropertiesSet();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> verify(schedulerLock, atLeast(2)).tryAcquire(anyString(), anyString(), any()));
+            verify(reprocessor, never()).reprocessPending(anyInt(), any());
+        }
+
+        @Test
+        void shouldReleaseLeaseWhenLifecycleStops() throws Exception {
+            // Given
+            given(deadLetterProperties.getSchedulerBatchSize()).willReturn(10);
+            given(schedulerLock.tryAcquire(anyString(), anyString(), any())).willReturn(true);
+            given(reprocessor.reprocessPending(anyInt(), any())).willReturn(new ReprocessSummary(0, 0, 0));
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+            scheduler.afterPropertiesSet();
+            scheduler.start();
+            await().atMost(Duration.ofSeconds(1)).until(scheduler::isLeader);
+
+            // When
+            scheduler.stop();
+            scheduler.destroy();
+            scheduler = null;
+
+            // Then
+            verify(schedulerLock).release(eq(DeadLetterScheduler.LOCK_NAME), anyString());
+        }
+
+        @Test
+        void shouldStopBatchWhenLeaseIsLostMidRun() {
+            // Given
+            schedulerLockProperties.setLeaseDuration(2L);
+            given(deadLetterProperties.getSchedulerBatchSize()).willReturn(10);
+            given(schedulerLock.tryAcquire(anyString(), anyString(), any())).willReturn(true, false);
+            AtomicReference<Boolean> proceed = new AtomicReference<>();
+            given(reprocessor.reprocessPending(anyInt(), any())).willAnswer(invocation -> {
+                Thread.sleep(5L);
+                proceed.compareAndSet(null, invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+                return new ReprocessSummary(0, 0, 0);
+            });
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+
+            // When
+            scheduler.afterPropertiesSet();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1)).until(() -> proceed.get() != null);
+            assertThat(proceed.get()).isFalse();
+        }
+
+        @Test
+        void shouldNotRenewLeaseBetweenDeadLettersWithinFirstHalfOfLease() {
+            // Given
+            given(deadLetterProperties.getSchedulerBatchSize()).willReturn(10);
+            given(schedulerLock.tryAcquire(anyString(), anyString(), any())).willReturn(true, false);
+            AtomicReference<Boolean> proceed = new AtomicReference<>();
+            given(reprocessor.reprocessPending(anyInt(), any())).willAnswer(invocation -> {
+                proceed.compareAndSet(null, invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+                return new ReprocessSummary(0, 0, 0);
+            });
+            scheduler = new DeadLetterScheduler(reprocessor, properties, schedulerLock);
+
+            // When
+            scheduler.afterPropertiesSet();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1)).until(() -> proceed.get() != null);
+            assertThat(proceed.get()).isTrue();
+        }
+
+        @Test
+        void shouldFailOverToStandbyWhenLeaderStops(@TempDir Path directory) throws Exception {
+            // Given
+            given(deadLetterProperties.getSchedulerBatchSize()).willReturn(10);
+            given(reprocessor.reprocessPending(anyInt(), any())).willReturn(new ReprocessSummary(0, 0, 0));
+            DeadLetterScheduler leader = new DeadLetterScheduler(reprocessor, properties,
+                new FileSchedulerLock(directory));
+            scheduler = new DeadLetterScheduler(reprocessor, properties, new FileSchedulerLock(directory));
+            leader.afterPropertiesSet();
+            leader.start();
+            await().atMost(Duration.ofSeconds(1)).until(leader::isLeader);
+            scheduler.afterPropertiesSet();
+
+            // When
+            leader.stop();
+            leader.destroy();
+
+            // Then
+            await().atMost(Duration.ofSeconds(1)).until(scheduler::isLeader);
+            assertThat(leader.isLeader()).isFalse();
+        }
+    }
 }
@@ -356,6 +356,41 @@ class InMemoryDeadLetterStoreTest {
             assertThat(pendingCount).isEqualTo(2);
             assertThat(resolvedCount).isEqualTo(1);
         }
+
+        @Test
+        void shouldKeepCountsInSyncWithRetriesDeletesAndEviction() {
+            // Given
+            store = new InMemoryDeadLetterStore(2, 1);
+            StoredDeadLetter abandoned = store.save(createDeadLetter("slack", "channel-1"));
+            StoredDeadLetter deleted = store.save(createDeadLetter("slack", "channel-2"));
+            store.updateRetryInfo(abandoned.id(), 1, null, "still failing");
+            store.delete(deleted.id());
+            store.delete(deleted.id());
+
+            // When
+            store.save(createDeadLetter("slack", "channel-3"));
+            store.save(createDeadLetter("slack", "channel-4"));
+
+            // Then
+            for (DeadLetterStatus status : DeadLetterStatus.values()) {
+                assertThat(store.countByStatus(status))
+                    .isEqualTo(store.findByStatus(status).size());
+            }
+            assertThat(store.countByStatus(DeadLetterStatus.PENDING)).isEqualTo(2);
+            assertThat(store.countByStatus(DeadLetterStatus.ABANDONED)).isZero();
+        }
+
+        @Test
+        void shouldResetCountsOnClear() {
+            // Given
+            store.save(createDeadLetter("slack", "channel-1"));
+
+            // When
+            store.clear();
+
+            // Then
+            assertThat(store.countByStatus(DeadLetterStatus.PENDING)).isZero();
+        }
     }
 
     @Nested
@@ -0,0 +1,234 @@
+package io.github.limehee.hookrouter.spring.dispatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.port.BatchWebhookSender;
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MicroBatcherTest {
+
+    private static final String URL = "https://example.com/events";
+
+    @Mock
+    private WebhookMetrics metrics;
+
+    private MicroBatcher batcher;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new MicroBatcher(metrics);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    private static SendResult statusOf(Object payload) {
+        return SendResult.success(Integer.parseInt((String) payload));
+    }
+
+    @Nested
+    class BatchingTest {
+
+        @Test
+        void shouldSendFullBatchInOneCallAndHandEachCallerItsOwnResult() throws Exception {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> {
+                List<SendResult> results = new ArrayList<>();
+                payloads.forEach(payload -> results.add(statusOf(payload)));
+                return results;
+            });
+            List<Future<SendResult>> futures = new ArrayList<>();
+
+            // When
+            for (String payload : List.of("201", "202", "203")) {
+                futures.add(callers.submit(() ->
+                    batcher.send(sender, "custom", "events", URL, payload, 3, 10_000, 0)));
+            }
+
+            // Then
+            List<Integer> statusCodes = new ArrayList<>();
+            for (Future<SendResult> future : futures) {
+                statusCodes.add(future.get(5, TimeUnit.SECONDS).statusCode());
+            }
+            assertThat(statusCodes).containsExactly(201, 202, 203);
+            assertThat(sender.batches).hasSize(1);
+            assertThat(sender.batches.get(0)).containsExactlyInAnyOrder("201", "202", "203");
+            verify(metrics).recordBatchSent("custom", "events", 3);
+        }
+
+        @Test
+        void shouldSendPartialBatchOnceMaxDelayElapses() {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> List.of(statusOf(payloads.get(0))));
+
+            // When
+            SendResult result = batcher.send(sender, "custom", "events", URL, "200", 100, 20, 0);
+
+            // Then
+            assertThat(result.statusCode()).isEqualTo(200);
+            assertThat(sender.batches).containsExactly(List.of("200"));
+            verify(metrics).recordBatchSent("custom", "events", 1);
+        }
+
+        @Test
+        void shouldStartNewBatchAfterPreviousOneWasSent() {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> List.of(statusOf(payloads.get(0))));
+
+            // When
+            batcher.send(sender, "custom", "events", URL, "200", 1, 0, 0);
+            batcher.send(sender, "custom", "events", URL, "202", 1, 0, 0);
+
+            // Then
+            assertThat(sender.batches).containsExactly(List.of("200"), List.of("202"));
+        }
+    }
+
+    @Nested
+    class TimeoutTest {
+
+        @Test
+        void shouldWithdrawPayloadThatTimesOutBeforeItsBatchIsSent() throws Exception {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> {
+                List<SendResult> results = new ArrayList<>();
+                payloads.forEach(payload -> results.add(statusOf(payload)));
+                return results;
+            });
+            Future<SendResult> opener = callers.submit(() ->
+                batcher.send(sender, "custom", "events", URL, "200", 10, 500, 0));
+            TimeUnit.MILLISECONDS.sleep(100);
+
+            // When
+            SendResult expired = batcher.send(sender, "custom", "events", URL, "201", 10, 500, 20);
+
+            // Then
+            assertThat(expired.success()).isFalse();
+            assertThat(expired.retryable()).isTrue();
+            assertThat(expired.errorMessage()).startsWith("timeout:");
+            assertThat(opener.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+            assertThat(sender.batches).containsExactly(List.of("200"));
+        }
+
+        @Test
+        void shouldWaitForBatchAlreadyBeingSentInsteadOfTimingOut() throws Exception {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> {
+                sleep(200);
+                List<SendResult> results = new ArrayList<>();
+                payloads.forEach(payload -> results.add(statusOf(payload)));
+                return results;
+            });
+            Future<SendResult> opener = callers.submit(() ->
+                batcher.send(sender, "custom", "events", URL, "200", 10, 30, 0));
+            TimeUnit.MILLISECONDS.sleep(10);
+
+            // When
+            SendResult joined = batcher.send(sender, "custom", "events", URL, "201", 10, 30, 60);
+
+            // Then
+            assertThat(joined.statusCode()).isEqualTo(201);
+            assertThat(opener.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+            assertThat(sender.batches).singleElement()
+                .satisfies(batch -> assertThat(batch).containsExactlyInAnyOrder("200", "201"));
+        }
+
+        @Test
+        void shouldFlushEarlyWhenTimeoutIsShorterThanMaxDelay() {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> List.of(statusOf(payloads.get(0))));
+
+            // When
+            SendResult result = batcher.send(sender, "custom", "events", URL, "200", 100, 10_000, 20);
+
+            // Then
+            assertThat(result.statusCode()).isEqualTo(200);
+            assertThat(sender.batches).containsExactly(List.of("200"));
+        }
+    }
+
+    @Nested
+    class FailureTest {
+
+        @Test
+        void shouldRethrowSenderExceptionToCaller() {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> {
+                throw new IllegalStateException("connection reset");
+            });
+
+            // When & Then
+            assertThatThrownBy(() -> batcher.send(sender, "custom", "events", URL, "200", 1, 0, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("connection reset");
+        }
+
+        @Test
+        void shouldRejectResultCountThatDoesNotMatchPayloads() {
+            // Given
+            RecordingBatchSender sender = new RecordingBatchSender(payloads -> List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> batcher.send(sender, "custom", "events", URL, "200", 1, 0, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("returned 0 results for 1 payloads");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingBatchSender implements BatchWebhookSender {
+
+        private final Function<List<Object>, List<SendResult>> responder;
+        private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+        private RecordingBatchSender(Function<List<Object>, List<SendResult>> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public String platform() {
+            return "custom";
+        }
+
+        @Override
+        public SendResult send(String webhookUrl, Object payload) {
+            throw new UnsupportedOperationException("batched endpoints send through sendBatch");
+        }
+
+        @Override
+        public List<SendResult> sendBatch(String webhookUrl, List<Object> payloads) {
+            batches.add(List.copyOf(payloads));
+            return responder.apply(payloads);
+        }
+    }
+}
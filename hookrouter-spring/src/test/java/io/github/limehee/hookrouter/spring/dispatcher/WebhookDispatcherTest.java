@@ -2,6 +2,8 @@ package io.github.limehee.hookrouter.spring.dispatcher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -11,9 +13,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import io.github.limehee.hookrouter.core.port.BatchWebhookSender;
 import io.github.limehee.hookrouter.core.port.RoutingTarget;
 import io.github.limehee.hookrouter.core.port.WebhookSender;
 import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import io.github.limehee.hookrouter.spring.compression.CompressionAlgorithm;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.BulkheadProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.CircuitBreakerProperties;
@@ -21,8 +26,15 @@ import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RateLi
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.RetryProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.TimeoutProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.ratelimit.DistributedRateLimiter;
+import io.github.limehee.hookrouter.spring.ratelimit.InMemoryPermitStore;
+import io.github.limehee.hookrouter.spring.ratelimit.PermitStore;
+import io.github.limehee.hookrouter.spring.ratelimit.PermitStoreException;
 import io.github.limehee.hookrouter.spring.resilience.ResilienceResourceKey;
 import io.github.limehee.hookrouter.spring.resilience.WebhookRetryFactory;
 import io.github.resilience4j.bulkhead.BulkheadConfig;
@@ -36,6 +48,9 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -118,6 +133,14 @@ class WebhookDispatcherTest {
         );
     }
 
+    private WebhookDispatcher createDispatcher(DistributedRateLimiter distributedRateLimiter) {
+        configResolver = new WebhookConfigResolver(configProperties);
+        return WebhookDispatcher.builder(configResolver, circuitBreakerRegistry, retryRegistry, timeLimiterRegistry,
+                rateLimiterRegistry, bulkheadRegistry, Runnable::run, metrics, deadLetterProcessor, eventPublisher)
+            .distributedRateLimiter(distributedRateLimiter)
+            .build();
+    }
+
     private RetryProperties createDefaultRetryProperties() {
         RetryProperties props = new RetryProperties();
         props.setEnabled(true);
@@ -284,7 +307,7 @@ class WebhookDispatcherTest {
                 verify(deadLetterProcessor).processSendFailure(
                     eq(notification), eq(target), eq(payload), eq(failureResult), eq(1));
                 verify(metrics).recordSendFailure(
-                    eq("slack"), eq("slack-key"), eq("test-type"), eq("Internal Server Error"), any(Duration.class));
+                    eq("slack"), eq("slack-key"), eq("test-type"), eq("server_error"), any(Duration.class));
             }
 
             @Test
@@ -307,7 +330,7 @@ class WebhookDispatcherTest {
                     eq("slack"),
                     eq("slack-key"),
                     eq("test-type"),
-                    eq("exception: boom"),
+                    eq("exception"),
                     any(Duration.class)
                 );
             }
@@ -362,6 +385,66 @@ class WebhookDispatcherTest {
             }
         }
 
+        @Nested
+        class DistributedRateLimiterTest {
+
+            @BeforeEach
+            void enableSingleSendPerMinute() {
+                configProperties.getRateLimiter().setEnabled(true);
+                configProperties.getRateLimiter().setLimitForPeriod(1);
+                configProperties.getRateLimiter().setLimitRefreshPeriod(60000);
+                configProperties.getRateLimiter().setTimeoutDuration(0);
+                rateLimiterRegistry = createRateLimiterRegistry();
+            }
+
+            @Test
+            void shouldShareLimitAcrossDispatchersUsingSameStore() {
+                // Given
+                PermitStore sharedStore = new InMemoryPermitStore();
+                WebhookDispatcher firstNode = createDispatcher(new DistributedRateLimiter(sharedStore, 10));
+                WebhookDispatcher secondNode = createDispatcher(new DistributedRateLimiter(sharedStore, 10));
+
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                Map<String, Object> payload = Map.of("text", "Hello");
+                given(slackSender.send(anyString(), any())).willReturn(SendResult.success(200));
+
+                // When
+                WebhookDispatcher.DispatchResult first = firstNode.dispatch(notification, target, slackSender,
+                    payload);
+                WebhookDispatcher.DispatchResult second = secondNode.dispatch(notification, target, slackSender,
+                    payload);
+
+                // Then
+                assertThat(first.success()).isTrue();
+                assertThat(second.success()).isFalse();
+                verify(slackSender, times(1)).send(anyString(), any());
+                verify(deadLetterProcessor).processRateLimited(notification, target, payload);
+            }
+
+            @Test
+            void shouldFallBackToLocalLimiterWhenStoreFails() {
+                // Given
+                PermitStore failingStore = (key, window, requested, limitForPeriod) -> {
+                    throw new PermitStoreException("database unavailable", new IllegalStateException());
+                };
+                dispatcher = createDispatcher(new DistributedRateLimiter(failingStore, 10));
+
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                Map<String, Object> payload = Map.of("text", "Hello");
+                given(slackSender.send(anyString(), any())).willReturn(SendResult.success(200));
+
+                // When
+                dispatcher.dispatch(notification, target, slackSender, payload);
+                dispatcher.dispatch(notification, target, slackSender, payload);
+
+                // Then
+                verify(slackSender, times(1)).send(anyString(), any());
+                verify(metrics).recordSendRateLimited("slack", "slack-key", "test-type");
+            }
+        }
+
         @Nested
         class BulkheadTest {
 
@@ -516,6 +599,35 @@ class WebhookDispatcherTest {
 
                 verify(deadLetterProcessor, never()).processRateLimited(any(), any(), any());
             }
+
+            @Test
+            void shouldResolveReplacementCircuitBreakerAfterRegistryRemoval() {
+                // Given
+                configProperties.getRetry().setEnabled(false);
+                configProperties.getCircuitBreaker().setEnabled(true);
+                circuitBreakerRegistry = createCircuitBreakerRegistry();
+                dispatcher = createDispatcher();
+
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                Map<String, Object> payload = Map.of("text", "Hello");
+                EndpointResilience resilience = dispatcher.resilienceFor(target,
+                    configResolver.resolve("slack", "slack-key"));
+                given(slackSender.send(anyString(), any())).willReturn(SendResult.success(200));
+                dispatcher.dispatch(notification, target, slackSender, payload, resilience);
+
+                circuitBreakerRegistry.remove(resilienceKey("slack", "slack-key"));
+                circuitBreakerRegistry.circuitBreaker(resilienceKey("slack", "slack-key")).transitionToOpenState();
+
+                // When
+                WebhookDispatcher.DispatchResult result =
+                    dispatcher.dispatch(notification, target, slackSender, payload, resilience);
+
+                // Then
+                assertThat(result.success()).isFalse();
+                verify(slackSender, times(1)).send(anyString(), any());
+                verify(metrics).recordSendSkipped("slack", "slack-key", "test-type");
+            }
         }
 
         @Nested
@@ -614,6 +726,239 @@ class WebhookDispatcherTest {
             }
         }
 
+        @Nested
+        class CompressionTest {
+
+            @Test
+            void shouldSendCompressedBytesOnEveryRetryAndKeepOriginalForDeadLetter() {
+                // Given
+                WebhookEndpointConfig endpointConfig = new WebhookEndpointConfig();
+                endpointConfig.setUrl("https://example.com/digest");
+                WebhookEndpointConfig.CompressionConfig compression = new WebhookEndpointConfig.CompressionConfig();
+                compression.setAlgorithm(CompressionAlgorithm.GZIP);
+                compression.setMinSize(0);
+                endpointConfig.setCompression(compression);
+                configProperties.getPlatforms()
+                    .computeIfAbsent("slack", key -> new WebhookConfigProperties.PlatformConfig())
+                    .getEndpoints().put("slack-key", endpointConfig);
+                configProperties.getRetry().setMaxAttempts(2);
+                configProperties.getRetry().setInitialDelay(1);
+                retryRegistry = WebhookRetryFactory.createRegistry(configProperties.getRetry());
+                dispatcher = createDispatcher();
+
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://example.com/digest");
+                SerializedPayload payload = SerializedPayload.json("{\"line\":\"" + "x".repeat(4096) + "\"}");
+                List<Object> sentBodies = new ArrayList<>();
+                given(slackSender.send(anyString(), any())).willAnswer(invocation -> {
+                    sentBodies.add(invocation.getArgument(1));
+                    return SendResult.failure(503, "Service Unavailable", true);
+                });
+
+                // When
+                dispatcher.dispatch(notification, target, slackSender, payload);
+
+                // Then
+                assertThat(sentBodies).hasSize(2);
+                assertThat(sentBodies.get(0)).isSameAs(sentBodies.get(1));
+                SerializedPayload sent = (SerializedPayload) sentBodies.get(0);
+                assertThat(sent.contentEncoding()).isEqualTo("gzip");
+                assertThat(sent.size()).isLessThan(payload.size());
+                verify(metrics).recordPayloadCompressed("slack", "slack-key", payload.size(), sent.size());
+                verify(deadLetterProcessor).processSendFailure(eq(notification), eq(target), eq(payload), any(),
+                    eq(2));
+            }
+        }
+
+        @Nested
+        class BatchTest {
+
+            @Mock
+            private BatchWebhookSender batchSender;
+
+            private RoutingTarget configureBatchedEndpoint() {
+                WebhookEndpointConfig endpointConfig = new WebhookEndpointConfig();
+                endpointConfig.setUrl("https://example.com/events");
+                WebhookEndpointConfig.CompressionConfig compression = new WebhookEndpointConfig.CompressionConfig();
+                compression.setAlgorithm(CompressionAlgorithm.GZIP);
+                compression.setMinSize(0);
+                endpointConfig.setCompression(compression);
+                WebhookEndpointConfig.BatchConfig batch = new WebhookEndpointConfig.BatchConfig();
+                batch.setEnabled(true);
+                batch.setMaxSize(1);
+                batch.setMaxDelay(0);
+                endpointConfig.setBatch(batch);
+                configProperties.getPlatforms()
+                    .computeIfAbsent("custom", key -> new WebhookConfigProperties.PlatformConfig())
+                    .getEndpoints().put("events", endpointConfig);
+                dispatcher = createDispatcher();
+                return createRoutingTarget("custom", "events", "https://example.com/events");
+            }
+
+            @Test
+            void shouldSendUncompressedPayloadThroughBatchSender() {
+                // Given
+                RoutingTarget target = configureBatchedEndpoint();
+                SerializedPayload payload = SerializedPayload.json("{\"line\":\"" + "x".repeat(4096) + "\"}");
+                given(batchSender.sendBatch("https://example.com/events", List.of(payload)))
+                    .willReturn(List.of(SendResult.success(202)));
+
+                // When
+                WebhookDispatcher.DispatchResult result = dispatcher.dispatch(createNotification("test-type"),
+                    target, batchSender, payload);
+
+                // Then
+                assertThat(result.success()).isTrue();
+                verify(batchSender, never()).send(anyString(), any());
+                verify(metrics).recordBatchSent("custom", "events", 1);
+                verify(metrics, never()).recordPayloadCompressed(anyString(), anyString(), anyInt(), anyInt());
+            }
+
+            @Test
+            void shouldDeadLetterFailedItemWithItsOwnResult() {
+                // Given
+                RoutingTarget target = configureBatchedEndpoint();
+                Notification<TestContext> notification = createNotification("test-type");
+                SendResult rejected = SendResult.failure(400, "invalid event", false);
+                given(batchSender.sendBatch(anyString(), any())).willReturn(List.of(rejected));
+
+                // When
+                WebhookDispatcher.DispatchResult result = dispatcher.dispatch(notification, target, batchSender,
+                    "event-body");
+
+                // Then
+                assertThat(result.success()).isFalse();
+                verify(deadLetterProcessor).processSendFailure(notification, target, "event-body", rejected, 1);
+            }
+
+            @Test
+            void shouldSendSinglePayloadWhenSenderCannotBatch() {
+                // Given
+                RoutingTarget target = configureBatchedEndpoint();
+                given(slackSender.send("https://example.com/events", "event-body"))
+                    .willReturn(SendResult.success(200));
+
+                // When
+                WebhookDispatcher.DispatchResult result = dispatcher.dispatch(createNotification("test-type"),
+                    target, slackSender, "event-body");
+
+                // Then
+                assertThat(result.success()).isTrue();
+                verify(metrics, never()).recordBatchSent(anyString(), anyString(), anyInt());
+            }
+        }
+
+        @Nested
+        class ExpirationTest {
+
+            private WebhookDispatcher expiringDispatcher() {
+                configProperties.getRetry().setEnabled(true);
+                configProperties.getRetry().setMaxAttempts(3);
+                configProperties.getRetry().setInitialDelay(1);
+                retryRegistry = WebhookRetryFactory.createRegistry(configProperties.getRetry());
+                return WebhookDispatcher.builder(configResolver, circuitBreakerRegistry, retryRegistry,
+                        timeLimiterRegistry, rateLimiterRegistry, bulkheadRegistry, Runnable::run, metrics,
+                        deadLetterProcessor, eventPublisher)
+                    .expirationPolicy(new NotificationExpirationPolicy(1_000L, Map.of(), Map.of()))
+                    .build();
+            }
+
+            private Notification<TestContext> expiredNotification() {
+                return Notification.<TestContext>builder("test-type")
+                    .category("general")
+                    .occurredAt(Instant.now().minusSeconds(60))
+                    .context(new TestContext("test-data"))
+                    .build();
+            }
+
+            @Test
+            void shouldStopRetryingAndDeadLetterAsExpiredOnceTtlHasElapsed() {
+                // Given
+                dispatcher = expiringDispatcher();
+                Notification<TestContext> notification = expiredNotification();
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                Map<String, Object> payload = Map.of("text", "Hello");
+
+                given(slackSender.send(anyString(), any()))
+                    .willReturn(SendResult.failure(503, "Service Unavailable", true));
+
+                // When
+                WebhookDispatcher.DispatchResult result = dispatcher.dispatch(notification, target, slackSender,
+                    payload);
+
+                // Then
+                assertThat(result.success()).isFalse();
+                assertThat(result.errorMessage()).startsWith("expired");
+                verify(slackSender, times(1)).send(anyString(), any());
+                verify(metrics, never()).recordRetry(anyString(), anyString(), anyString(), eq(1));
+                verify(deadLetterProcessor).processExpired(notification, target, payload, 1);
+                verify(deadLetterProcessor, never()).processSendFailure(any(), any(), any(), any(), eq(1));
+            }
+
+            @Test
+            void shouldRecordExpiredSendAsFailure() {
+                // Given
+                dispatcher = expiringDispatcher();
+                Notification<TestContext> notification = expiredNotification();
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                given(slackSender.send(anyString(), any()))
+                    .willReturn(SendResult.failure(503, "Service Unavailable", true));
+
+                // When
+                dispatcher.dispatch(notification, target, slackSender, Map.of("text", "Hello"));
+
+                // Then
+                verify(metrics).recordSendFailure(
+                    eq("slack"), eq("slack-key"), eq("test-type"), eq("expired"), any(Duration.class));
+                verify(metrics, never()).recordSendSuccess(anyString(), anyString(), anyString(), any());
+            }
+        }
+
+        @Nested
+        class StageTimingTest {
+
+            @Test
+            void shouldRecordEachStageWhenSampled() {
+                // Given
+                configProperties.getRateLimiter().setEnabled(true);
+                configProperties.getBulkhead().setEnabled(true);
+                configProperties.getRetry().setMaxAttempts(2);
+                configProperties.getRetry().setInitialDelay(1);
+                retryRegistry = WebhookRetryFactory.createRegistry(configProperties.getRetry());
+                dispatcher = createDispatcher();
+                given(metrics.isStageTimingSampled()).willReturn(true);
+
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                given(slackSender.send(anyString(), any()))
+                    .willReturn(SendResult.failure(503, "Service Unavailable", true))
+                    .willReturn(SendResult.success(200));
+
+                // When
+                dispatcher.dispatch(notification, target, slackSender, Map.of("text", "Hello"));
+
+                // Then
+                verify(metrics).recordStageDuration(eq(PipelineStage.RATE_LIMITER_WAIT), anyLong());
+                verify(metrics).recordStageDuration(eq(PipelineStage.BULKHEAD_WAIT), anyLong());
+                verify(metrics, times(2)).recordStageDuration(eq(PipelineStage.HTTP_CALL), anyLong());
+                verify(metrics).recordStageDuration(eq(PipelineStage.RETRY_BACKOFF), anyLong());
+            }
+
+            @Test
+            void shouldNotRecordStagesWhenNotSampled() {
+                // Given
+                Notification<TestContext> notification = createNotification("test-type");
+                RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+                given(slackSender.send(anyString(), any())).willReturn(SendResult.success(200));
+
+                // When
+                dispatcher.dispatch(notification, target, slackSender, Map.of("text", "Hello"));
+
+                // Then
+                verify(metrics, never()).recordStageDuration(any(), anyLong());
+            }
+        }
+
         @Nested
         class TimeoutTest {
 
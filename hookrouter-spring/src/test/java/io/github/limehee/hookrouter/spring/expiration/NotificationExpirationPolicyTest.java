@@ -0,0 +1,67 @@
+package io.github.limehee.hookrouter.spring.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NotificationExpirationPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private Notification<String> notificationAged(String typeId, String category, long ageMillis) {
+        return Notification.<String>builder(typeId)
+            .category(category)
+            .occurredAt(NOW.minusMillis(ageMillis))
+            .context("ctx")
+            .build();
+    }
+
+    @Test
+    void shouldNeverExpireWhenDisabled() {
+        // Given
+        NotificationExpirationPolicy policy = NotificationExpirationPolicy.disabled();
+
+        // When & Then
+        assertThat(policy.isExpired(notificationAged("ORDER_CREATED", "order", Long.MAX_VALUE / 2))).isFalse();
+    }
+
+    @Test
+    void shouldExpireOnlyWhenAgeExceedsDefaultTtl() {
+        // Given
+        NotificationExpirationPolicy policy = new NotificationExpirationPolicy(1_000L, Map.of(), Map.of(), clock);
+
+        // When & Then
+        assertThat(policy.isExpired(notificationAged("ORDER_CREATED", "order", 1_000L))).isFalse();
+        assertThat(policy.isExpired(notificationAged("ORDER_CREATED", "order", 1_001L))).isTrue();
+    }
+
+    @Test
+    void shouldPreferTypeTtlOverCategoryAndDefault() {
+        // Given
+        NotificationExpirationPolicy policy = new NotificationExpirationPolicy(1_000L,
+            Map.of("ORDER_CREATED", 10_000L), Map.of("order", 100L), clock);
+
+        // When & Then
+        assertThat(policy.resolveTtlMillis("ORDER_CREATED", "order")).isEqualTo(10_000L);
+        assertThat(policy.resolveTtlMillis("ORDER_SHIPPED", "order")).isEqualTo(100L);
+        assertThat(policy.resolveTtlMillis("USER_SIGNUP", "user")).isEqualTo(1_000L);
+        assertThat(policy.isExpired(notificationAged("ORDER_CREATED", "order", 5_000L))).isFalse();
+        assertThat(policy.isExpired(notificationAged("ORDER_SHIPPED", "order", 5_000L))).isTrue();
+    }
+
+    @Test
+    void shouldTreatZeroOverrideAsNoTtl() {
+        // Given
+        NotificationExpirationPolicy policy = new NotificationExpirationPolicy(1_000L,
+            Map.of("AUDIT_LOG", 0L), Map.of(), clock);
+
+        // When & Then
+        assertThat(policy.isExpired(notificationAged("AUDIT_LOG", "audit", 60_000L))).isFalse();
+    }
+}
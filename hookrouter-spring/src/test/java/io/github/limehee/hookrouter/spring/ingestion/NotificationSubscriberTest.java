@@ -0,0 +1,379 @@
+package io.github.limehee.hookrouter.spring.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway.ProcessingResult;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSubscriberTest {
+
+    private final Queue<Runnable> executorQueue = new ArrayDeque<>();
+
+    @Mock
+    private NotificationProcessingGateway notificationProcessor;
+
+    private static Notification<String> notification(String typeId) {
+        return Notification.of(typeId, "general", "ctx");
+    }
+
+    private void drainAll() {
+        Runnable task;
+        while ((task = executorQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Nested
+    class ConstructionTest {
+
+        @Test
+        void shouldRejectMaxInFlightBelowOne() {
+            // When & Then
+            assertThatThrownBy(() -> new NotificationSubscriber(notificationProcessor, executorQueue::add, 0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessage("maxInFlight must be >= 1, but was: 0");
+        }
+    }
+
+    @Nested
+    class DemandTest {
+
+        @Test
+        void shouldRequestMaxInFlightOnSubscribe() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                4);
+            RecordingSubscription subscription = new RecordingSubscription();
+
+            // When
+            subscriber.onSubscribe(subscription);
+
+            // Then
+            assertThat(subscription.requests).containsExactly(4L);
+        }
+
+        @Test
+        void shouldRequestOneMoreOnlyAfterNotificationWasProcessed() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                2);
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            Notification<String> created = notification("order.created");
+
+            // When
+            subscriber.onNext(created);
+            subscriber.onNext(notification("order.paid"));
+
+            // Then
+            assertThat(subscription.requests).containsExactly(2L);
+            assertThat(subscriber.inFlightCount()).isEqualTo(2);
+            drainAll();
+            verify(notificationProcessor).process(created);
+            assertThat(subscription.requests).containsExactly(2L, 1L, 1L);
+            assertThat(subscriber.inFlightCount()).isZero();
+        }
+
+        @Test
+        void shouldReplenishDemandWhenProcessingThrows() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                1);
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            given(notificationProcessor.process(any())).willThrow(new IllegalStateException("boom"));
+
+            // When
+            subscriber.onNext(notification("order.created"));
+            drainAll();
+
+            // Then
+            assertThat(subscription.requests).containsExactly(1L, 1L);
+        }
+
+        @Test
+        void shouldCancelSecondSubscription() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                2);
+            RecordingSubscription first = new RecordingSubscription();
+            RecordingSubscription second = new RecordingSubscription();
+            subscriber.onSubscribe(first);
+
+            // When
+            subscriber.onSubscribe(second);
+
+            // Then
+            assertThat(second.cancelled).isTrue();
+            assertThat(second.requests).isEmpty();
+            assertThat(first.cancelled).isFalse();
+        }
+
+        @Test
+        void shouldNeverExceedMaxInFlightWithConcurrentPublisher() throws Exception {
+            // Given
+            int maxInFlight = 3;
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            AtomicInteger processed = new AtomicInteger();
+            given(notificationProcessor.process(any())).willAnswer(invocation -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(1);
+                running.decrementAndGet();
+                processed.incrementAndGet();
+                return ProcessingResult.ok();
+            });
+            ExecutorService workers = Executors.newFixedThreadPool(8);
+            NotificationIngestion ingestion = new NotificationIngestion(notificationProcessor, workers, maxInFlight);
+            CompletableFuture<Void> completion;
+
+            // When
+            try (SubmissionPublisher<Notification<?>> publisher = new SubmissionPublisher<>()) {
+                completion = ingestion.ingest(publisher);
+                for (int i = 0; i < 200; i++) {
+                    publisher.submit(notification("order." + i));
+                }
+            }
+
+            // Then
+            try {
+                completion.get(10, TimeUnit.SECONDS);
+            } finally {
+                workers.shutdownNow();
+            }
+            assertThat(processed).hasValue(200);
+            assertThat(peak.get()).isLessThanOrEqualTo(maxInFlight);
+        }
+    }
+
+    @Nested
+    class HandOffTest {
+
+        private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+        private final ShutdownCoordinator shutdownCoordinator = mock(ShutdownCoordinator.class);
+        private final OrderedDeliveryScheduler orderedScheduler = mock(OrderedDeliveryScheduler.class);
+
+        @Test
+        void shouldRecordInOutboxBeforeHandOff() {
+            // Given
+            given(shutdownCoordinator.accept(any())).willReturn(true);
+            NotificationSubscriber subscriber = NotificationSubscriber.builder(notificationProcessor,
+                    executorQueue::add, 1)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            subscriber.onSubscribe(new RecordingSubscription());
+            Notification<String> notification = notification("order.created");
+
+            // When
+            subscriber.onNext(notification);
+
+            // Then
+            verify(outbox).record(notification);
+            assertThat(executorQueue).hasSize(1);
+        }
+
+        @Test
+        void shouldSkipNotificationRejectedDuringShutdownAndRequestAnother() {
+            // Given
+            given(shutdownCoordinator.accept(any())).willReturn(false);
+            NotificationSubscriber subscriber = NotificationSubscriber.builder(notificationProcessor,
+                    executorQueue::add, 1)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+
+            // When
+            subscriber.onNext(notification("order.created"));
+
+            // Then
+            verify(outbox, never()).record(any());
+            assertThat(executorQueue).isEmpty();
+            assertThat(subscription.requests).containsExactly(1L, 1L);
+        }
+
+        @Test
+        void shouldReleaseNotificationWhenExecutorRejects() {
+            // Given
+            given(shutdownCoordinator.accept(any())).willReturn(true);
+            NotificationSubscriber subscriber = NotificationSubscriber.builder(notificationProcessor, task -> {
+                    throw new RejectedExecutionException("saturated");
+                }, 1)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            Notification<String> notification = notification("order.created");
+
+            // When
+            subscriber.onNext(notification);
+
+            // Then
+            verify(outbox).acknowledge(notification);
+            verify(shutdownCoordinator).finished(notification);
+            assertThat(subscriber.inFlightCount()).isZero();
+            assertThat(subscription.requests).containsExactly(1L, 1L);
+        }
+
+        @Test
+        void shouldReleaseNotificationWhenOutboxRecordFails() {
+            // Given
+            given(shutdownCoordinator.accept(any())).willReturn(true);
+            NotificationSubscriber subscriber = NotificationSubscriber.builder(notificationProcessor,
+                    executorQueue::add, 1)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            Notification<String> notification = notification("order.created");
+            given(outbox.record(notification)).willThrow(new IllegalStateException("outbox journal is closed"));
+
+            // When
+            subscriber.onNext(notification);
+
+            // Then
+            verify(shutdownCoordinator).finished(notification);
+            assertThat(executorQueue).isEmpty();
+            assertThat(subscriber.inFlightCount()).isZero();
+            assertThat(subscription.requests).containsExactly(1L, 1L);
+        }
+
+        @Test
+        void shouldHandOrderedNotificationToOrderedScheduler() {
+            // Given
+            List<Runnable> callbacks = new ArrayList<>();
+            given(orderedScheduler.submit(any(), any())).willAnswer(invocation -> {
+                callbacks.add(invocation.getArgument(1));
+                return true;
+            });
+            NotificationSubscriber subscriber = NotificationSubscriber.builder(notificationProcessor,
+                    executorQueue::add, 1)
+                .orderedDeliveryScheduler(orderedScheduler)
+                .build();
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+
+            // When
+            subscriber.onNext(notification("order.created"));
+
+            // Then
+            assertThat(executorQueue).isEmpty();
+            assertThat(subscription.requests).containsExactly(1L);
+            callbacks.forEach(Runnable::run);
+            assertThat(subscription.requests).containsExactly(1L, 1L);
+        }
+    }
+
+    @Nested
+    class CompletionTest {
+
+        @Test
+        void shouldCompleteOnlyAfterInFlightNotificationsFinish() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                2);
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            subscriber.onNext(notification("order.created"));
+
+            // When
+            subscriber.onComplete();
+
+            // Then
+            assertThat(subscriber.completion()).isNotDone();
+            drainAll();
+            assertThat(subscriber.completion()).isCompleted();
+            assertThat(subscription.requests).containsExactly(2L);
+        }
+
+        @Test
+        void shouldCompleteExceptionallyWithSourceErrorAfterDraining() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                2);
+            subscriber.onSubscribe(new RecordingSubscription());
+            Notification<String> created = notification("order.created");
+            subscriber.onNext(created);
+
+            // When
+            subscriber.onError(new IllegalStateException("source failed"));
+
+            // Then
+            assertThat(subscriber.completion()).isNotDone();
+            drainAll();
+            verify(notificationProcessor).process(created);
+            assertThatThrownBy(() -> subscriber.completion().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("source failed");
+        }
+
+        @Test
+        void shouldCancelSubscriptionAndStopRequesting() {
+            // Given
+            NotificationSubscriber subscriber = new NotificationSubscriber(notificationProcessor, executorQueue::add,
+                1);
+            RecordingSubscription subscription = new RecordingSubscription();
+            subscriber.onSubscribe(subscription);
+            subscriber.onNext(notification("order.created"));
+
+            // When
+            subscriber.cancel();
+            drainAll();
+
+            // Then
+            assertThat(subscription.cancelled).isTrue();
+            assertThat(subscription.requests).containsExactly(1L);
+            assertThat(subscriber.completion()).isCompleted();
+        }
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private final List<Long> requests = new ArrayList<>();
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.github.limehee.hookrouter.core.port.RoutingPolicy;
 import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
 import io.github.limehee.hookrouter.core.registry.NotificationTypeRegistry;
+import io.github.limehee.hookrouter.spring.actuator.HookRouterEndpoint;
 import io.github.limehee.hookrouter.spring.config.WebhookAutoConfiguration;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
 import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
@@ -13,12 +14,23 @@ import io.github.limehee.hookrouter.spring.deadletter.DeadLetterHandler;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
 import io.github.limehee.hookrouter.spring.deadletter.LoggingDeadLetterHandler;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
+import io.github.limehee.hookrouter.spring.ingestion.NotificationIngestion;
 import io.github.limehee.hookrouter.spring.listener.NotificationListener;
+import io.github.limehee.hookrouter.spring.lock.FileSchedulerLock;
+import io.github.limehee.hookrouter.spring.lock.SchedulerLock;
+import io.github.limehee.hookrouter.spring.metrics.EndpointStatsRegistry;
 import io.github.limehee.hookrouter.spring.metrics.MicrometerWebhookMetrics;
 import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.outbox.OutboxReplayer;
 import io.github.limehee.hookrouter.spring.publisher.NotificationPublisher;
+import io.github.limehee.hookrouter.spring.ratelimit.DistributedRateLimiter;
+import io.github.limehee.hookrouter.spring.ratelimit.InMemoryPermitStore;
+import io.github.limehee.hookrouter.spring.ratelimit.PermitStore;
 import io.github.limehee.hookrouter.spring.resilience.event.CircuitBreakerEventListener;
 import io.github.limehee.hookrouter.spring.routing.ConfigBasedRoutingPolicy;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
@@ -26,8 +38,11 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -310,6 +325,173 @@ class WebhookAutoConfigurationIntegrationTest {
                     assertThat(context).hasSingleBean(WebhookDispatcher.class);
                 });
         }
+
+        @Test
+        void shouldRegisterHookRouterEndpointBackedByEndpointStats() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> {
+                    assertThat(context).hasSingleBean(EndpointStatsRegistry.class);
+                    assertThat(context).hasSingleBean(HookRouterEndpoint.class);
+                    assertThat(context.getBean(HookRouterEndpoint.class).report().endpoints())
+                        .containsKey("slack:general-channel");
+                });
+        }
+
+        @Test
+        void shouldNotRegisterOutboxByDefault() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(NotificationOutbox.class);
+                    assertThat(context).doesNotHaveBean(OutboxReplayer.class);
+                });
+        }
+
+        @Test
+        void shouldRegisterOutboxWhenEnabled(@TempDir Path outboxDirectory) {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues(
+                    "hookrouter.outbox.enabled=true",
+                    "hookrouter.outbox.directory=" + outboxDirectory,
+                    "hookrouter.outbox.segment-size=65536"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(NotificationOutbox.class);
+                    assertThat(context).hasSingleBean(OutboxReplayer.class);
+                    assertThat(context.getBean(NotificationOutbox.class).pendingCount()).isZero();
+                });
+        }
+
+        @Test
+        void shouldNotRegisterDistributedRateLimiterByDefault() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(PermitStore.class);
+                    assertThat(context).doesNotHaveBean(DistributedRateLimiter.class);
+                });
+        }
+
+        @Test
+        void shouldUseInMemoryPermitStoreWithoutDataSource() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues("hookrouter.distributed-rate-limiter.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(DistributedRateLimiter.class);
+                    assertThat(context.getBean(PermitStore.class)).isInstanceOf(InMemoryPermitStore.class);
+                });
+        }
+
+        @Test
+        void shouldNotRegisterSchedulerLockByDefault() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> assertThat(context).doesNotHaveBean(SchedulerLock.class));
+        }
+
+        @Test
+        void shouldUseFileSchedulerLockWithoutDataSource(@TempDir Path lockDirectory) {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues(
+                    "hookrouter.scheduler-lock.enabled=true",
+                    "hookrouter.scheduler-lock.directory=" + lockDirectory
+                )
+                .run(context -> assertThat(context.getBean(SchedulerLock.class))
+                    .isInstanceOf(FileSchedulerLock.class));
+        }
+
+        @Test
+        void shouldRegisterShutdownCoordinatorByDefault() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ShutdownCoordinator.class);
+                    assertThat(context.getBean(ShutdownCoordinator.class).isAccepting()).isTrue();
+                });
+        }
+
+        @Test
+        void shouldNotRegisterShutdownCoordinatorWhenDisabled() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues("hookrouter.shutdown.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ShutdownCoordinator.class));
+        }
+
+        @Test
+        void shouldRegisterOrderedDeliverySchedulerForOrderedEndpoint() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues("hookrouter.platforms.slack.endpoints.general-channel.ordered=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(OrderedDeliveryScheduler.class);
+                    assertThat(context.getBean(WebhookConfigResolver.class).hasOrderedEndpoints()).isTrue();
+                });
+        }
+
+        @Test
+        void shouldCacheDispatchPlansForConfigBasedRoutingPolicy() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .run(context -> assertThat(context.getBean(NotificationListener.class).isPlanCacheEnabled()).isTrue());
+        }
+
+        @Test
+        void shouldNotCacheDispatchPlansForCustomRoutingPolicy() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withBean(RoutingPolicy.class, () -> (typeId, category) -> List.of())
+                .run(context -> assertThat(context.getBean(NotificationListener.class).isPlanCacheEnabled())
+                    .isFalse());
+        }
+
+        @Test
+        void shouldCacheDispatchPlansForCustomRoutingPolicyWhenRequested() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues("hookrouter.dispatch-plan.cache-custom-routing-policy=true")
+                .withBean(RoutingPolicy.class, () -> (typeId, category) -> List.of())
+                .run(context -> assertThat(context.getBean(NotificationListener.class).isPlanCacheEnabled()).isTrue());
+        }
+
+        @Test
+        void shouldDeriveIngestionWindowFromExecutorAndBulkhead() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues(
+                    "hookrouter.async.max-pool-size=8",
+                    "hookrouter.bulkhead.enabled=true",
+                    "hookrouter.bulkhead.max-concurrent-calls=5"
+                )
+                .run(context -> assertThat(context.getBean(NotificationIngestion.class).maxInFlight()).isEqualTo(5));
+        }
+
+        @Test
+        void shouldUseConfiguredIngestionWindow() {
+
+            contextRunner
+                .withPropertyValues(baseProperties())
+                .withPropertyValues("hookrouter.ingestion.max-in-flight=32")
+                .run(context -> assertThat(context.getBean(NotificationIngestion.class).maxInFlight()).isEqualTo(32));
+        }
     }
 
     @Nested
@@ -0,0 +1,145 @@
+package io.github.limehee.hookrouter.spring.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.SettingDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HookRouterJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Class<? extends Event> eventClass, Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(eventClass).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = tempDir.resolve(eventClass.getSimpleName() + ".jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    private static String defaultSetting(Class<? extends Event> eventClass, String name) {
+        return EventType.getEventType(eventClass).getSettingDescriptors().stream()
+            .filter(setting -> setting.getName().equals(name))
+            .map(SettingDescriptor::getDefaultValue)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Nested
+    class DefaultSettingsTest {
+
+        @Test
+        void shouldKeepPerDispatchEventsOptInWithThreshold() {
+            // When & Then
+            assertThat(defaultSetting(WebhookDispatchEvent.class, "enabled")).isEqualTo("false");
+            assertThat(defaultSetting(WebhookDispatchEvent.class, "threshold")).isEqualTo("10 ms");
+            assertThat(defaultSetting(NotificationProcessedEvent.class, "enabled")).isEqualTo("false");
+            assertThat(defaultSetting(NotificationProcessedEvent.class, "threshold")).isEqualTo("10 ms");
+        }
+
+        @Test
+        void shouldKeepRareEventsEnabled() {
+            // When & Then
+            assertThat(defaultSetting(WebhookRejectedEvent.class, "enabled")).isEqualTo("true");
+            assertThat(defaultSetting(DeadLetterSavedEvent.class, "enabled")).isEqualTo("true");
+        }
+    }
+
+    @Nested
+    class WebhookDispatchEventTest {
+
+        @Test
+        void shouldNotBeRecordingWithoutActiveRecording() {
+            // When & Then
+            assertThat(WebhookDispatchEvent.isRecording()).isFalse();
+        }
+
+        @Test
+        void shouldRecordAttemptsOutcomeAndStageDurations() throws IOException {
+            // When
+            List<RecordedEvent> events = record(WebhookDispatchEvent.class, () -> {
+                WebhookDispatchEvent event = WebhookDispatchEvent.started();
+                event.addStageDuration(PipelineStage.HTTP_CALL, 3_000L);
+                event.addStageDuration(PipelineStage.HTTP_CALL, 2_000L);
+                event.addStageDuration(PipelineStage.RETRY_BACKOFF, 7_000L);
+                event.end("slack", "alerts", "order.failed", 2, false, "Service Unavailable");
+            });
+
+            // Then
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.get(0);
+            assertThat(event.getString("platform")).isEqualTo("slack");
+            assertThat(event.getString("webhookKey")).isEqualTo("alerts");
+            assertThat(event.getInt("attempts")).isEqualTo(2);
+            assertThat(event.getBoolean("success")).isFalse();
+            assertThat(event.getString("outcome")).isEqualTo("Service Unavailable");
+            assertThat(event.getDuration("httpCall")).isEqualTo(Duration.ofNanos(5_000L));
+            assertThat(event.getDuration("retryBackoff")).isEqualTo(Duration.ofNanos(7_000L));
+        }
+    }
+
+    @Nested
+    class InstantEventTest {
+
+        @Test
+        void shouldRecordRejectionReason() throws IOException {
+            // When
+            List<RecordedEvent> events = record(WebhookRejectedEvent.class,
+                () -> WebhookRejectedEvent.emit("slack", "alerts", "order.failed", WebhookRejectedEvent.BULKHEAD_FULL));
+
+            // Then
+            assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getString("reason")).isEqualTo("bulkhead-full"));
+        }
+
+        @Test
+        void shouldRecordCircuitBreakerTransition() throws IOException {
+            // When
+            List<RecordedEvent> events = record(CircuitBreakerTransitionEvent.class,
+                () -> CircuitBreakerTransitionEvent.emit("slack:alerts", "CLOSED", "OPEN"));
+
+            // Then
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("circuitBreaker")).isEqualTo("slack:alerts");
+                assertThat(event.getString("toState")).isEqualTo("OPEN");
+            });
+        }
+
+        @Test
+        void shouldNotRecordWhenEventIsDisabled() throws IOException {
+            // Given
+            Path file = tempDir.resolve("disabled.jfr");
+
+            // When
+            try (Recording recording = new Recording()) {
+                // rare events are enabled by default, so a recording only skips them when told to
+                recording.disable(WebhookRejectedEvent.class);
+                recording.start();
+                WebhookRejectedEvent.emit("slack", "alerts", "order.failed", WebhookRejectedEvent.RATE_LIMITED);
+                recording.stop();
+                recording.dump(file);
+            }
+
+            // Then
+            assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().endsWith("WebhookRejected"));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.limehee.hookrouter.spring.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PriorityLaneResolverTest {
+
+    private final PriorityLaneResolver resolver = new PriorityLaneResolver("priority",
+        Map.of("security", NotificationPriority.HIGH, "info", NotificationPriority.LOW));
+
+    @Test
+    void shouldResolvePriorityFromCategory() {
+        // Given
+        Notification<String> notification = Notification.of("auth.failed", "security", "ctx");
+
+        // When
+        NotificationPriority result = resolver.resolve(notification);
+
+        // Then
+        assertThat(result).isEqualTo(NotificationPriority.HIGH);
+    }
+
+    @Test
+    void shouldPreferMetaPriorityOverCategory() {
+        // Given
+        Notification<String> notification = Notification.<String>builder("auth.failed")
+            .category("security")
+            .context("ctx")
+            .meta("priority", " low ")
+            .build();
+
+        // When
+        NotificationPriority result = resolver.resolve(notification);
+
+        // Then
+        assertThat(result).isEqualTo(NotificationPriority.LOW);
+    }
+
+    @Test
+    void shouldAcceptEnumMetaValue() {
+        // Given
+        Notification<String> notification = Notification.<String>builder("digest.ready")
+            .category("info")
+            .context("ctx")
+            .meta("priority", NotificationPriority.HIGH)
+            .build();
+
+        // When
+        NotificationPriority result = resolver.resolve(notification);
+
+        // Then
+        assertThat(result).isEqualTo(NotificationPriority.HIGH);
+    }
+
+    @Test
+    void shouldFallBackToCategoryWhenMetaValueIsUnknown() {
+        // Given
+        Notification<String> notification = Notification.<String>builder("digest.ready")
+            .category("info")
+            .context("ctx")
+            .meta("priority", "urgent")
+            .build();
+
+        // When
+        NotificationPriority result = resolver.resolve(notification);
+
+        // Then
+        assertThat(result).isEqualTo(NotificationPriority.LOW);
+    }
+
+    @Test
+    void shouldUseNormalForUnmappedCategory() {
+        // Given
+        Notification<String> notification = Notification.of("order.created", "general", "ctx");
+
+        // When
+        NotificationPriority result = resolver.resolve(notification);
+
+        // Then
+        assertThat(result).isEqualTo(NotificationPriority.NORMAL);
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.limehee.hookrouter.spring.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway.ProcessingResult;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriorityLaneSchedulerTest {
+
+    private final Queue<Runnable> executorQueue = new ArrayDeque<>();
+    private final List<String> processedTypeIds = new ArrayList<>();
+
+    @Mock
+    private NotificationProcessingGateway notificationProcessor;
+
+    @Mock
+    private WebhookMetrics metrics;
+
+    private PriorityLaneResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new PriorityLaneResolver("priority",
+            Map.of("security", NotificationPriority.HIGH, "info", NotificationPriority.LOW));
+    }
+
+    private PriorityLaneScheduler createScheduler(int maxPending, int highWeight, int normalWeight, int lowWeight) {
+        return PriorityLaneScheduler.builder(notificationProcessor, executorQueue::add, resolver)
+            .metrics(metrics)
+            .maxPending(maxPending)
+            .weights(highWeight, normalWeight, lowWeight)
+            .build();
+    }
+
+    private void recordProcessed() {
+        given(notificationProcessor.process(any())).willAnswer(invocation -> {
+            Notification<?> notification = invocation.getArgument(0);
+            processedTypeIds.add(notification.getTypeId());
+            return ProcessingResult.ok();
+        });
+    }
+
+    private void drainAll() {
+        Runnable task;
+        while ((task = executorQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Nested
+    class SchedulingTest {
+
+        @Test
+        void shouldProcessHighLaneBeforeEarlierLowLaneWork() {
+            // Given
+            recordProcessed();
+            PriorityLaneScheduler scheduler = createScheduler(100, 100, 10, 1);
+            scheduler.submit(Notification.of("info-1", "info", "ctx"));
+            scheduler.submit(Notification.of("info-2", "info", "ctx"));
+            scheduler.submit(Notification.of("security-1", "security", "ctx"));
+
+            // When
+            drainAll();
+
+            // Then
+            assertThat(processedTypeIds).containsExactly("security-1", "info-1", "info-2");
+            assertThat(scheduler.pendingCount()).isZero();
+        }
+
+        @Test
+        void shouldInterleaveLanesByWeight() {
+            // Given
+            recordProcessed();
+            PriorityLaneScheduler scheduler = createScheduler(100, 2, 1, 1);
+            for (int i = 0; i < 4; i++) {
+                scheduler.submit(Notification.of("high-" + i, "security", "ctx"));
+                scheduler.submit(Notification.of("low-" + i, "info", "ctx"));
+            }
+
+            // When
+            for (int i = 0; i < 3; i++) {
+                executorQueue.poll().run();
+            }
+
+            // Then
+            assertThat(processedTypeIds).containsExactly("high-0", "low-0", "high-1");
+        }
+    }
+
+    @Nested
+    class SheddingTest {
+
+        @Test
+        void shouldShedLowLaneWhenHighPriorityArrivesAtCapacity() {
+            // Given
+            recordProcessed();
+            PriorityLaneScheduler scheduler = createScheduler(2, 6, 3, 1);
+            scheduler.submit(Notification.of("info-1", "info", "ctx"));
+            scheduler.submit(Notification.of("info-2", "info", "ctx"));
+
+            // When
+            boolean accepted = scheduler.submit(Notification.of("security-1", "security", "ctx"));
+            drainAll();
+
+            // Then
+            assertThat(accepted).isTrue();
+            assertThat(processedTypeIds).containsExactly("security-1", "info-2");
+            verify(metrics).recordPriorityLaneShed("LOW");
+        }
+
+        @Test
+        void shouldRejectLowPriorityWhenOnlyHigherLanesArePending() {
+            // Given
+            PriorityLaneScheduler scheduler = createScheduler(1, 6, 3, 1);
+            scheduler.submit(Notification.of("security-1", "security", "ctx"));
+
+            // When
+            boolean accepted = scheduler.submit(Notification.of("info-1", "info", "ctx"));
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(scheduler.pendingCount(NotificationPriority.HIGH)).isEqualTo(1);
+            assertThat(scheduler.pendingCount(NotificationPriority.LOW)).isZero();
+            verify(metrics, times(1)).recordPriorityLaneShed("LOW");
+        }
+
+        @Test
+        void shouldIgnoreDrainTokenOfShedNotification() {
+            // Given
+            recordProcessed();
+            PriorityLaneScheduler scheduler = createScheduler(1, 6, 3, 1);
+            scheduler.submit(Notification.of("normal-1", "general", "ctx"));
+            scheduler.submit(Notification.of("normal-2", "general", "ctx"));
+
+            // When
+            drainAll();
+
+            // Then
+            assertThat(processedTypeIds).containsExactly("normal-2");
+            verify(notificationProcessor, times(1)).process(any());
+        }
+
+        @Test
+        void shouldHandEvictedAndRejectedNotificationsToShedHandler() {
+            // Given
+            List<Notification<?>> shed = new ArrayList<>();
+            PriorityLaneScheduler scheduler = PriorityLaneScheduler.builder(notificationProcessor, executorQueue::add,
+                    resolver)
+                .metrics(metrics)
+                .maxPending(1)
+                .shedHandler(shed::add)
+                .build();
+            Notification<String> evicted = Notification.of("info-1", "info", "ctx");
+            Notification<String> rejected = Notification.of("info-2", "info", "ctx");
+            scheduler.submit(evicted);
+
+            // When
+            scheduler.submit(Notification.of("security-1", "security", "ctx"));
+            scheduler.submit(rejected);
+
+            // Then
+            assertThat(shed).containsExactly(evicted, rejected);
+        }
+    }
+
+    @Nested
+    class ExecutorRejectionTest {
+
+        @Test
+        void shouldWithdrawNotificationAndRethrowWhenExecutorRejects() {
+            // Given
+            PriorityLaneScheduler scheduler = PriorityLaneScheduler.builder(notificationProcessor, task -> {
+                    throw new RejectedExecutionException("saturated");
+                }, resolver)
+                .metrics(metrics)
+                .maxPending(10)
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> scheduler.submit(Notification.of("order.created", "general", "ctx")))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(scheduler.pendingCount()).isZero();
+        }
+
+        @Test
+        void shouldDrainLeftoverOnCallerWhenRejectedNotificationWasAlreadyTaken() {
+            // Given
+            recordProcessed();
+            List<Runnable> accepted = new ArrayList<>();
+            // the queued low-lane drain task runs while the high-priority notification is being submitted and takes
+            // it first, so the executor's refusal strands the low-lane notification instead
+            PriorityLaneScheduler scheduler = PriorityLaneScheduler.builder(notificationProcessor, task -> {
+                    if (accepted.isEmpty()) {
+                        accepted.add(task);
+                        return;
+                    }
+                    accepted.get(0).run();
+                    throw new RejectedExecutionException("saturated");
+                }, resolver)
+                .metrics(metrics)
+                .maxPending(10)
+                .build();
+            scheduler.submit(Notification.of("info-1", "info", "ctx"));
+
+            // When
+            boolean submitted = scheduler.submit(Notification.of("security-1", "security", "ctx"));
+
+            // Then
+            assertThat(submitted).isTrue();
+            assertThat(processedTypeIds).containsExactly("security-1", "info-1");
+            assertThat(scheduler.pendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldContinueWhenProcessorThrows() {
+        // Given
+        given(notificationProcessor.process(any())).willThrow(new IllegalStateException("boom"));
+        PriorityLaneScheduler scheduler = createScheduler(10, 6, 3, 1);
+        scheduler.submit(Notification.of("order.created", "general", "ctx"));
+
+        // When
+        drainAll();
+
+        // Then
+        assertThat(scheduler.pendingCount()).isZero();
+        verify(metrics, never()).recordPriorityLaneShed(any());
+    }
+}
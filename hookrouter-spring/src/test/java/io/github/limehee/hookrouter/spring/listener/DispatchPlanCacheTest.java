@@ -0,0 +1,242 @@
+package io.github.limehee.hookrouter.spring.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.domain.FormatterKey;
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.core.port.WebhookSender;
+import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig;
+import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.deadletter.NoOpDeadLetterHandler;
+import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
+import io.github.limehee.hookrouter.spring.listener.DispatchPlan.Route;
+import io.github.limehee.hookrouter.spring.metrics.NoOpWebhookMetrics;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchPlanCacheTest {
+
+    private static final RoutingTarget SLACK = RoutingTarget.of("slack", "alerts", "https://hooks.slack.com/a");
+    private static final RoutingTarget DISCORD = RoutingTarget.of("discord", "ops", "https://discord.com/api/o");
+
+    @Mock
+    private RoutingPolicy routingPolicy;
+
+    @Mock
+    private WebhookSender slackSender;
+
+    private final FormatterRegistry formatterRegistry = new FormatterRegistry();
+    private final WebhookConfigProperties properties = new WebhookConfigProperties();
+    private final WebhookConfigResolver configResolver = new WebhookConfigResolver(properties);
+    private final WebhookDispatcher dispatcher = new WebhookDispatcher(configResolver,
+        CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(),
+        RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), Runnable::run, NoOpWebhookMetrics.INSTANCE,
+        new DeadLetterProcessor(NoOpDeadLetterHandler.INSTANCE, NoOpWebhookMetrics.INSTANCE), event -> {
+        });
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(slackSender.platform()).thenReturn("slack");
+        formatterRegistry.register(formatter("slack", "order.created", String.class));
+    }
+
+    private DispatchPlanCache cache(int maxSize) {
+        return new DispatchPlanCache(routingPolicy, formatterRegistry, List.of(slackSender), List.of(),
+            configResolver, dispatcher, maxSize);
+    }
+
+    private static <C> WebhookFormatter<C, String> formatter(String platform, String typeId, Class<C> contextClass) {
+        return new WebhookFormatter<>() {
+            @Override
+            public FormatterKey key() {
+                return FormatterKey.of(platform, typeId);
+            }
+
+            @Override
+            public Class<C> contextClass() {
+                return contextClass;
+            }
+
+            @Override
+            public String format(Notification<C> notification) {
+                return String.valueOf(notification.getContext());
+            }
+        };
+    }
+
+    @Nested
+    class CompileTest {
+
+        @Test
+        void shouldBundleFormatterSenderAndConfigPerTarget() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK, DISCORD));
+
+            // When
+            DispatchPlan plan = cache(16).planFor(Notification.of("order.created", "orders", "ctx"));
+
+            // Then
+            assertThat(plan.targets()).containsExactly(SLACK, DISCORD);
+            Route slack = plan.route(0);
+            assertThat(slack.formatter()).isNotNull();
+            assertThat(slack.contextMismatch()).isNull();
+            assertThat(slack.sender()).isSameAs(slackSender);
+            assertThat(slack.resilience().config()).isSameAs(configResolver.resolve("slack", "alerts"));
+            assertThat(slack.resilience().key()).isEqualTo("slack:alerts");
+            Route discord = plan.route(1);
+            assertThat(discord.formatter()).isNull();
+            assertThat(discord.sender()).isNull();
+        }
+
+        @Test
+        void shouldPrecomputeContextMismatch() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+
+            // When
+            DispatchPlan plan = cache(16).planFor(Notification.of("order.created", "orders", 42));
+
+            // Then
+            assertThat(plan.route(0).contextMismatch())
+                .isEqualTo("Formatter context type mismatch: expected java.lang.String, actual java.lang.Integer");
+        }
+    }
+
+    @Nested
+    class CachingTest {
+
+        @Test
+        void shouldReusePlanForSameTypeCategoryAndContextClass() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+            DispatchPlanCache cache = cache(16);
+
+            // When
+            DispatchPlan first = cache.planFor(Notification.of("order.created", "orders", "a"));
+            DispatchPlan second = cache.planFor(Notification.of("order.created", "orders", "b"));
+            DispatchPlan otherContext = cache.planFor(Notification.of("order.created", "orders", 1));
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(otherContext).isNotSameAs(first);
+            verify(routingPolicy, times(2)).resolve("order.created", "orders");
+        }
+
+        @Test
+        void shouldRecompileAfterFormatterRegistration() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK, DISCORD));
+            DispatchPlanCache cache = cache(16);
+            DispatchPlan before = cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // When
+            formatterRegistry.register(formatter("discord", "order.created", Object.class));
+            DispatchPlan after = cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // Then
+            assertThat(before.route(1).formatter()).isNull();
+            assertThat(after.route(1).formatter()).isNotNull();
+        }
+
+        @Test
+        void shouldRecompileAfterConfigRefresh() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+            DispatchPlanCache cache = cache(16);
+            DispatchPlan before = cache.planFor(Notification.of("order.created", "orders", "a"));
+            WebhookEndpointConfig endpoint = new WebhookEndpointConfig();
+            endpoint.setUrl("https://hooks.slack.com/a");
+            properties.getPlatforms().computeIfAbsent("slack", key -> new WebhookConfigProperties.PlatformConfig())
+                .getEndpoints().put("alerts", endpoint);
+
+            // When
+            configResolver.refresh();
+            DispatchPlan after = cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // Then
+            assertThat(after).isNotSameAs(before);
+            assertThat(after.route(0).resilience().config()).isSameAs(configResolver.resolve("slack", "alerts"));
+        }
+
+        @Test
+        void shouldEvictOnePlanWhenMaxSizeIsReached() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+            given(routingPolicy.resolve("order.created", "refunds")).willReturn(List.of(SLACK));
+            DispatchPlanCache cache = cache(1);
+            cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // When
+            DispatchPlan refunds = cache.planFor(Notification.of("order.created", "refunds", "a"));
+
+            // Then
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.planFor(Notification.of("order.created", "refunds", "b"))).isSameAs(refunds);
+            verify(routingPolicy, times(1)).resolve("order.created", "refunds");
+        }
+
+        @Test
+        void shouldKeepEarlierPlansWhileBelowMaxSize() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+            given(routingPolicy.resolve("order.created", "refunds")).willReturn(List.of(SLACK));
+            DispatchPlanCache cache = cache(16);
+            DispatchPlan orders = cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // When
+            cache.planFor(Notification.of("order.created", "refunds", "a"));
+
+            // Then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.planFor(Notification.of("order.created", "orders", "b"))).isSameAs(orders);
+        }
+
+        @Test
+        void shouldRecompileAfterInvalidate() {
+            // Given
+            given(routingPolicy.resolve("order.created", "orders")).willReturn(List.of(SLACK));
+            DispatchPlanCache cache = cache(16);
+            DispatchPlan before = cache.planFor(Notification.of("order.created", "orders", "a"));
+
+            // When
+            cache.invalidate();
+
+            // Then
+            assertThat(cache.planFor(Notification.of("order.created", "orders", "a"))).isNotSameAs(before);
+        }
+    }
+
+    @Nested
+    class ValidationTest {
+
+        @Test
+        void shouldRejectNonPositiveMaxSize() {
+            assertThatThrownBy(() -> cache(0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("maxSize must be >= 1");
+        }
+    }
+}
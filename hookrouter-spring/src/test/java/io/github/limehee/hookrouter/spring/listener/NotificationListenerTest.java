@@ -3,9 +3,11 @@ package io.github.limehee.hookrouter.spring.listener;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -14,21 +16,35 @@ import static org.mockito.Mockito.verify;
 
 import io.github.limehee.hookrouter.core.domain.FormatterKey;
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.domain.SerializedPayload;
+import io.github.limehee.hookrouter.core.domain.Symbol;
 import io.github.limehee.hookrouter.core.domain.WebhookFormatter;
+import io.github.limehee.hookrouter.core.port.PayloadSerializer;
 import io.github.limehee.hookrouter.core.port.RoutingPolicy;
 import io.github.limehee.hookrouter.core.port.RoutingTarget;
 import io.github.limehee.hookrouter.core.port.WebhookSender;
 import io.github.limehee.hookrouter.core.registry.FormatterRegistry;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
 import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.dispatcher.EndpointResilience;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher;
 import io.github.limehee.hookrouter.spring.dispatcher.WebhookDispatcher.DispatchResult;
+import io.github.limehee.hookrouter.spring.expiration.NotificationExpirationPolicy;
+import io.github.limehee.hookrouter.spring.metrics.PipelineStage;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -104,7 +120,7 @@ class NotificationListenerTest {
                 notificationListener.handleNotification(notification);
 
                 // Then
-                verify(formatterRegistry, never()).getOrFallback(any(), any());
+                verify(formatterRegistry, never()).lookup(any(), any());
                 verify(dispatcher, never()).dispatch(any(), any(), any(), any());
             }
 
@@ -116,13 +132,13 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                given(formatterRegistry.getOrFallback("slack", "test-type")).willReturn(null);
+                given(formatterRegistry.lookup(Symbol.of("slack"), Symbol.of("test-type"))).willReturn(null);
 
                 // When
                 notificationListener.handleNotification(notification);
 
                 // Then
-                verify(formatterRegistry).getOrFallback("slack", "test-type");
+                verify(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
             }
 
             @Test
@@ -135,15 +151,15 @@ class NotificationListenerTest {
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(slackTarget, discordTarget));
 
-                given(formatterRegistry.getOrFallback("slack", "test-type")).willReturn(null);
-                given(formatterRegistry.getOrFallback("discord", "test-type")).willReturn(null);
+                given(formatterRegistry.lookup(Symbol.of("slack"), Symbol.of("test-type"))).willReturn(null);
+                given(formatterRegistry.lookup(Symbol.of("discord"), Symbol.of("test-type"))).willReturn(null);
 
                 // When
                 notificationListener.handleNotification(notification);
 
                 // Then
-                verify(formatterRegistry).getOrFallback("slack", "test-type");
-                verify(formatterRegistry).getOrFallback("discord", "test-type");
+                verify(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+                verify(formatterRegistry).lookup(Symbol.of("discord"), Symbol.of("test-type"));
             }
 
             @Test
@@ -154,7 +170,7 @@ class NotificationListenerTest {
 
                 assertDoesNotThrow(() -> notificationListener.handleNotification(notification));
 
-                verify(formatterRegistry, never()).getOrFallback(any(), any());
+                verify(formatterRegistry, never()).lookup(any(), any());
                 verify(dispatcher, never()).dispatch(any(), any(), any(), any());
             }
         }
@@ -170,7 +186,7 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                given(formatterRegistry.getOrFallback("slack", "test-type")).willReturn(null);
+                given(formatterRegistry.lookup(Symbol.of("slack"), Symbol.of("test-type"))).willReturn(null);
 
                 // When
                 notificationListener.handleNotification(notification);
@@ -189,7 +205,7 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "test-type");
+                doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
                 doReturn(null).when(formatter).format(any());
 
                 // When
@@ -211,7 +227,7 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "test-type");
+                doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
                 doReturn(payload).when(formatter).format(any());
                 doReturn(Object.class).when(formatter).contextClass();
 
@@ -230,7 +246,7 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "test-type");
+                doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
                 doReturn(Object.class).when(formatter).contextClass();
                 given(formatter.format(any())).willThrow(new IllegalStateException("format-failure"));
 
@@ -258,7 +274,7 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(target));
-                doReturn(formatter).when(formatterRegistry).getOrFallback("unknown", "test-type");
+                doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("unknown"), Symbol.of("test-type"));
                 doReturn(payload).when(formatter).format(any());
                 doReturn(Object.class).when(formatter).contextClass();
 
@@ -300,8 +316,8 @@ class NotificationListenerTest {
 
                 given(routingPolicy.resolve("test-type", "general"))
                     .willReturn(List.of(slackTarget, discordTarget));
-                doReturn(slackFormatter).when(formatterRegistry).getOrFallback("slack", "test-type");
-                doReturn(discordFormatter).when(formatterRegistry).getOrFallback("discord", "test-type");
+                doReturn(slackFormatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+                doReturn(discordFormatter).when(formatterRegistry).lookup(Symbol.of("discord"), Symbol.of("test-type"));
                 doReturn(slackPayload).when(slackFormatter).format(any());
                 doReturn(Object.class).when(slackFormatter).contextClass();
                 doReturn(discordPayload).when(discordFormatter).format(any());
@@ -330,7 +346,7 @@ class NotificationListenerTest {
 
             given(routingPolicy.resolve("order.created", "general"))
                 .willReturn(List.of(target));
-            doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "order.created");
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("order.created"));
             doReturn(payload).when(formatter).format(any());
             doReturn(Object.class).when(formatter).contextClass();
 
@@ -339,7 +355,7 @@ class NotificationListenerTest {
 
             // Then
             verify(routingPolicy).resolve("order.created", "general");
-            verify(formatterRegistry).getOrFallback("slack", "order.created");
+            verify(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("order.created"));
             verify(formatter).format(any());
             verify(dispatcher).dispatch(notification, target, slackSender, payload);
         }
@@ -356,7 +372,7 @@ class NotificationListenerTest {
 
             given(routingPolicy.resolve("test-type", "general"))
                 .willReturn(List.of(target1, target2));
-            doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "test-type");
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
             doReturn(payload).when(formatter).format(any());
             doReturn(Object.class).when(formatter).contextClass();
 
@@ -379,7 +395,7 @@ class NotificationListenerTest {
             Map<String, Object> payload = Map.of("text", "Hello");
 
             given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
-            doReturn(formatter).when(formatterRegistry).getOrFallback("slack", "test-type");
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
             doReturn(payload).when(formatter).format(any());
             doReturn(Object.class).when(formatter).contextClass();
             given(dispatcher.dispatch(notification, target, slackSender, payload))
@@ -402,4 +418,430 @@ class NotificationListenerTest {
             assertThat(result.errorMessage()).isEqualTo("No routing targets resolved");
         }
     }
+
+    @Nested
+    class SerializationStageTest {
+
+        private NotificationListener listenerWith(PayloadSerializer serializer) {
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                deadLetterProcessor)
+                .serializers(List.of(serializer))
+                .build();
+        }
+
+        private PayloadSerializer serializer(Function<Object, SerializedPayload> function) {
+            return new PayloadSerializer() {
+                @Override
+                public String platform() {
+                    return "slack";
+                }
+
+                @Override
+                public SerializedPayload serialize(Object payload) {
+                    return function.apply(payload);
+                }
+            };
+        }
+
+        @Test
+        void shouldDispatchSerializedPayloadProducedOnce() {
+            // Given
+            SerializedPayload serialized = SerializedPayload.json("{\"text\":\"Hello\"}");
+            NotificationListener serializingListener = listenerWith(serializer(payload -> serialized));
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(Map.of("text", "Hello")).when(formatter).format(any());
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = serializingListener.process(notification);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            verify(dispatcher).dispatch(notification, target, slackSender, serialized);
+        }
+
+        @Test
+        void shouldDeadLetterWhenSerializerFails() {
+            // Given
+            NotificationListener serializingListener = listenerWith(serializer(payload -> {
+                throw new IllegalStateException("not serializable");
+            }));
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(Map.of("text", "Hello")).when(formatter).format(any());
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = serializingListener.process(notification);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            verify(deadLetterProcessor).processPayloadCreationFailed(notification, target,
+                "Payload serialization failed: not serializable");
+            verify(dispatcher, never()).dispatch(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    class ExpirationTest {
+
+        @Test
+        void shouldShedExpiredNotificationBeforeFormatting() {
+            // Given
+            NotificationListener expiringListener = NotificationListener.builder(routingPolicy, formatterRegistry,
+                    List.of(slackSender), dispatcher, deadLetterProcessor)
+                .expirationPolicy(new NotificationExpirationPolicy(0L, Map.of("test-type", 1_000L), Map.of()))
+                .build();
+            Notification<TestContext> notification = Notification.<TestContext>builder("test-type")
+                .category("general")
+                .occurredAt(Instant.now().minusSeconds(60))
+                .context(new TestContext("test-data"))
+                .build();
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = expiringListener.process(notification);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo("Notification expired");
+            verify(deadLetterProcessor).processExpired(notification, target, null, 0);
+            verify(formatterRegistry, never()).lookup(any(), any());
+            verify(dispatcher, never()).dispatch(any(), any(), any(), any());
+        }
+
+        @Test
+        void shouldDeliverNotificationWithinTtl() {
+            // Given
+            NotificationListener expiringListener = NotificationListener.builder(routingPolicy, formatterRegistry,
+                    List.of(slackSender), dispatcher, deadLetterProcessor)
+                .expirationPolicy(new NotificationExpirationPolicy(60_000L, Map.of(), Map.of()))
+                .build();
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+            Map<String, Object> payload = Map.of("text", "Hello");
+
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(payload).when(formatter).format(any());
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = expiringListener.process(notification);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            verify(deadLetterProcessor, never()).processExpired(any(), any(), any(), eq(0));
+        }
+    }
+
+    @Nested
+    class StageTimingTest {
+
+        @Mock
+        private WebhookMetrics metrics;
+
+        private NotificationListener timedListener() {
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                deadLetterProcessor)
+                .metrics(metrics)
+                .build();
+        }
+
+        @Test
+        void shouldRecordRoutingAndFormattingStagesWhenSampled() {
+            // Given
+            given(metrics.isStageTimingSampled()).willReturn(true);
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(Map.of("text", "Hello")).when(formatter).format(any());
+
+            // When
+            timedListener().process(notification);
+
+            // Then
+            verify(metrics).recordStageDuration(eq(PipelineStage.ROUTING), anyLong());
+            verify(metrics).recordStageDuration(eq(PipelineStage.FORMATTING), anyLong());
+        }
+
+        @Test
+        void shouldSkipStageTimingWhenNotSampled() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            given(routingPolicy.resolve("test-type", "general")).willReturn(Collections.emptyList());
+
+            // When
+            timedListener().process(notification);
+
+            // Then
+            verify(metrics, never()).recordStageDuration(any(), anyLong());
+        }
+    }
+
+    @Nested
+    class PlanCacheTest {
+
+        private final WebhookConfigResolver configResolver = new WebhookConfigResolver(new WebhookConfigProperties());
+
+        private NotificationListener plannedListener() {
+            DispatchPlanCache planCache = new DispatchPlanCache(routingPolicy, formatterRegistry, List.of(slackSender),
+                List.of(), configResolver, dispatcher, 16);
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                deadLetterProcessor)
+                .planCache(planCache)
+                .build();
+        }
+
+        @Test
+        void shouldResolveRoutingAndFormatterOnceAcrossNotifications() {
+            // Given
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(Map.of("text", "Hello")).when(formatter).format(any());
+            EndpointResilience resilience = mock(EndpointResilience.class);
+            given(dispatcher.resilienceFor(target, configResolver.resolve("slack", "slack-key"))).willReturn(resilience);
+            given(dispatcher.dispatch(any(), any(), any(), any(), any(EndpointResilience.class)))
+                .willReturn(DispatchResult.ok());
+            NotificationListener listener = plannedListener();
+
+            // When
+            listener.process(createNotification("test-type"));
+            NotificationProcessingGateway.ProcessingResult result = listener.process(createNotification("test-type"));
+
+            // Then
+            assertThat(result.success()).isTrue();
+            verify(routingPolicy, times(1)).resolve("test-type", "general");
+            verify(formatterRegistry, times(1)).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            verify(dispatcher, times(1)).resilienceFor(any(), any());
+            verify(dispatcher, times(2)).dispatch(any(), eq(target), eq(slackSender), any(), eq(resilience));
+        }
+
+        @Test
+        void shouldReportPrecomputedContextMismatch() {
+            // Given
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+            doReturn(String.class).when(formatter).contextClass();
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result =
+                plannedListener().process(createNotification("test-type"));
+
+            // Then
+            assertThat(result.errorMessage()).startsWith("Formatter context type mismatch: expected java.lang.String");
+            verify(deadLetterProcessor).processPayloadCreationFailed(any(), eq(target), any());
+            verify(dispatcher, never()).dispatch(any(), any(), any(), any(), any(EndpointResilience.class));
+        }
+    }
+
+    @Nested
+    class OutboxAcknowledgementTest {
+
+        @Mock
+        private NotificationOutbox outbox;
+
+        private NotificationListener outboxListener() {
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                deadLetterProcessor)
+                .outbox(outbox)
+                .build();
+        }
+
+        @Test
+        void shouldAcknowledgeAfterSuccessfulDispatch() {
+            // Given
+            RoutingTarget target = createRoutingTarget("slack", "slack-key", "https://hooks.slack.com/test");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(target));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(Map.of("text", "Hello")).when(formatter).format(any());
+            Notification<TestContext> notification = createNotification("test-type");
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = outboxListener().process(notification);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            verify(outbox).acknowledge(notification);
+        }
+
+        @Test
+        void shouldAcknowledgeWhenProcessingFails() {
+            // Given
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of());
+            Notification<TestContext> notification = createNotification("test-type");
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = outboxListener().process(notification);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            verify(outbox).acknowledge(notification);
+        }
+    }
+
+    @Nested
+    class ShutdownTrackingTest {
+
+        @Mock
+        private ShutdownCoordinator shutdownCoordinator;
+
+        @Mock
+        private NotificationOutbox outbox;
+
+        private NotificationListener trackedListener() {
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                deadLetterProcessor)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+        }
+
+        @Test
+        void shouldSkipNotificationDeadLetteredDuringShutdown() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            given(shutdownCoordinator.begin(notification)).willReturn(false);
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = trackedListener().process(notification);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            verify(routingPolicy, never()).resolve(any(), any());
+            verify(shutdownCoordinator, never()).finished(notification);
+            verify(outbox, never()).acknowledge(notification);
+        }
+
+        @Test
+        void shouldFinishTrackingAfterProcessing() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            given(shutdownCoordinator.begin(notification)).willReturn(true);
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of());
+
+            // When
+            trackedListener().process(notification);
+
+            // Then
+            InOrder inOrder = inOrder(shutdownCoordinator, routingPolicy);
+            inOrder.verify(shutdownCoordinator).begin(notification);
+            inOrder.verify(routingPolicy).resolve("test-type", "general");
+            inOrder.verify(shutdownCoordinator).finished(notification);
+        }
+
+        @Test
+        void shouldFinishTrackingWhenRoutingFails() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            given(shutdownCoordinator.begin(notification)).willReturn(true);
+            given(routingPolicy.resolve("test-type", "general")).willThrow(new IllegalStateException("boom"));
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = trackedListener().process(notification);
+
+            // Then
+            assertThat(result.success()).isFalse();
+            verify(shutdownCoordinator).finished(notification);
+        }
+    }
+
+    @Nested
+    class PartProcessingTest {
+
+        @Mock
+        private ShutdownCoordinator shutdownCoordinator;
+
+        @Mock
+        private NotificationOutbox outbox;
+
+        private NotificationListener trackedListener() {
+            return NotificationListener.builder(routingPolicy, formatterRegistry, List.of(slackSender), dispatcher,
+                    deadLetterProcessor)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+        }
+
+        @Test
+        void shouldDispatchOnlyTargetsAcceptedByFilter() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            RoutingTarget orders = createRoutingTarget("slack", "orders", "https://hooks.slack.com/orders");
+            RoutingTarget alerts = createRoutingTarget("slack", "alerts", "https://hooks.slack.com/alerts");
+            WebhookFormatter<?, ?> formatter = createFormatter("slack", "test-type");
+            Map<String, Object> payload = Map.of("text", "Hello");
+            given(shutdownCoordinator.begin(notification)).willReturn(true);
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of(orders, alerts));
+            doReturn(formatter).when(formatterRegistry).lookup(Symbol.of("slack"), Symbol.of("test-type"));
+            doReturn(payload).when(formatter).format(any());
+
+            // When
+            NotificationProcessingGateway.ProcessingResult result = trackedListener()
+                .process(notification, orders::equals, new NotificationParts(1));
+
+            // Then
+            assertThat(result.success()).isTrue();
+            verify(dispatcher).dispatch(eq(notification), eq(orders), eq(slackSender), eq(payload));
+            verify(dispatcher, never()).dispatch(any(), eq(alerts), any(), any());
+        }
+
+        @Test
+        void shouldReleaseNotificationOnlyAfterLastPart() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            NotificationParts parts = new NotificationParts(2);
+            NotificationListener listener = trackedListener();
+            given(shutdownCoordinator.begin(notification)).willReturn(true);
+            given(routingPolicy.resolve("test-type", "general")).willReturn(List.of());
+
+            // When
+            listener.process(notification, target -> true, parts);
+
+            // Then
+            verify(shutdownCoordinator, never()).finished(notification);
+            verify(outbox, never()).acknowledge(notification);
+            listener.process(notification, target -> false, parts);
+            verify(shutdownCoordinator).finished(notification);
+            verify(outbox).acknowledge(notification);
+        }
+
+        @Test
+        void shouldSkipLaterPartsOfNotificationDeadLetteredDuringShutdown() {
+            // Given
+            Notification<TestContext> notification = createNotification("test-type");
+            NotificationParts parts = new NotificationParts(2);
+            NotificationListener listener = trackedListener();
+            given(shutdownCoordinator.begin(notification)).willReturn(false);
+
+            // When
+            NotificationProcessingGateway.ProcessingResult first = listener.process(notification, target -> true,
+                parts);
+            NotificationProcessingGateway.ProcessingResult second = listener.process(notification, target -> false,
+                parts);
+
+            // Then
+            assertThat(first.success()).isFalse();
+            assertThat(second.success()).isFalse();
+            verify(shutdownCoordinator).begin(notification);
+            verify(routingPolicy, never()).resolve(any(), any());
+            verify(outbox, never()).acknowledge(notification);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSchedulerLockTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @TempDir
+    private Path directory;
+
+    @Nested
+    class AcquireTest {
+
+        @Test
+        void shouldCreateLockFileInMissingDirectory() {
+            // Given
+            FileSchedulerLock lock = new FileSchedulerLock(directory.resolve("nested"));
+
+            // When
+            boolean acquired = lock.tryAcquire("scheduler", "node-a", LEASE);
+
+            // Then
+            assertThat(acquired).isTrue();
+            assertThat(directory.resolve("nested").resolve("scheduler.lock")).exists();
+            lock.release("scheduler", "node-a");
+        }
+
+        @Test
+        void shouldKeepLockForSameOwnerAndRejectOthers() {
+            // Given
+            FileSchedulerLock lock = new FileSchedulerLock(directory);
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            boolean renewed = lock.tryAcquire("scheduler", "node-a", LEASE);
+            boolean other = lock.tryAcquire("scheduler", "node-b", LEASE);
+
+            // Then
+            assertThat(renewed).isTrue();
+            assertThat(other).isFalse();
+            lock.release("scheduler", "node-a");
+        }
+
+        @Test
+        void shouldRejectSecondInstanceSharingDirectory() {
+            // Given
+            FileSchedulerLock first = new FileSchedulerLock(directory);
+            FileSchedulerLock second = new FileSchedulerLock(directory);
+            first.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            boolean acquired = second.tryAcquire("scheduler", "node-b", LEASE);
+
+            // Then
+            assertThat(acquired).isFalse();
+            first.release("scheduler", "node-a");
+        }
+
+        @Test
+        void shouldRejectLockNameThatIsNotFileSafe() {
+            // Given
+            FileSchedulerLock lock = new FileSchedulerLock(directory);
+
+            // When / Then
+            assertThatThrownBy(() -> lock.tryAcquire("../scheduler", "node-a", LEASE))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("lockName must only contain");
+        }
+    }
+
+    @Nested
+    class ReleaseTest {
+
+        @Test
+        void shouldHandOverToOtherInstanceAfterRelease() {
+            // Given
+            FileSchedulerLock first = new FileSchedulerLock(directory);
+            FileSchedulerLock second = new FileSchedulerLock(directory);
+            first.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            first.release("scheduler", "node-a");
+
+            // Then
+            assertThat(second.tryAcquire("scheduler", "node-b", LEASE)).isTrue();
+            second.release("scheduler", "node-b");
+        }
+
+        @Test
+        void shouldIgnoreReleaseFromNonOwner() {
+            // Given
+            FileSchedulerLock lock = new FileSchedulerLock(directory);
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            lock.release("scheduler", "node-b");
+
+            // Then
+            assertThat(lock.tryAcquire("scheduler", "node-b", LEASE)).isFalse();
+            lock.release("scheduler", "node-a");
+        }
+    }
+}
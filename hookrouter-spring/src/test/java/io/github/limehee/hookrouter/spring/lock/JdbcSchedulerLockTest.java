@@ -0,0 +1,145 @@
+package io.github.limehee.hookrouter.spring.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JdbcSchedulerLockTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private JdbcDataSource dataSource;
+    private JdbcSchedulerLock lock;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        lock = new JdbcSchedulerLock(dataSource, JdbcSchedulerLock.DEFAULT_TABLE_NAME, clock::get);
+        lock.initializeSchema();
+    }
+
+    @Nested
+    class SchemaTest {
+
+        @Test
+        void shouldTolerateRepeatedSchemaInitialization() {
+            // When
+            lock.initializeSchema();
+
+            // Then
+            assertThat(lock.tryAcquire("scheduler", "node-a", LEASE)).isTrue();
+        }
+
+        @Test
+        void shouldRejectTableNameThatIsNotPlainIdentifier() {
+            // When / Then
+            assertThatThrownBy(() -> new JdbcSchedulerLock(dataSource, "locks; DROP TABLE users"))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("tableName must be a plain SQL identifier");
+        }
+
+        @Test
+        void shouldWrapFailureWhenTableIsMissing() {
+            // Given
+            JdbcSchedulerLock missing = new JdbcSchedulerLock(dataSource, "missing_lock_table");
+
+            // When / Then
+            assertThatThrownBy(() -> missing.tryAcquire("scheduler", "node-a", LEASE))
+                .isInstanceOf(SchedulerLockException.class)
+                .hasMessageContaining("scheduler");
+        }
+    }
+
+    @Nested
+    class AcquireTest {
+
+        @Test
+        void shouldGrantLockToFirstOwnerOnly() {
+            // When
+            boolean first = lock.tryAcquire("scheduler", "node-a", LEASE);
+            boolean second = lock.tryAcquire("scheduler", "node-b", LEASE);
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        void shouldRenewLeaseForCurrentOwner() {
+            // Given
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+            clock.addAndGet(20_000L);
+
+            // When
+            boolean renewed = lock.tryAcquire("scheduler", "node-a", LEASE);
+            clock.addAndGet(20_000L);
+
+            // Then
+            assertThat(renewed).isTrue();
+            assertThat(lock.tryAcquire("scheduler", "node-b", LEASE)).isFalse();
+        }
+
+        @Test
+        void shouldFailOverOnceLeaseExpires() {
+            // Given
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+            clock.addAndGet(LEASE.toMillis());
+
+            // When
+            boolean taken = lock.tryAcquire("scheduler", "node-b", LEASE);
+
+            // Then
+            assertThat(taken).isTrue();
+            assertThat(lock.tryAcquire("scheduler", "node-a", LEASE)).isFalse();
+        }
+
+        @Test
+        void shouldKeepLocksWithDifferentNamesIndependent() {
+            // When
+            boolean first = lock.tryAcquire("scheduler-0", "node-a", LEASE);
+            boolean second = lock.tryAcquire("scheduler-1", "node-b", LEASE);
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+        }
+    }
+
+    @Nested
+    class ReleaseTest {
+
+        @Test
+        void shouldHandOverImmediatelyAfterRelease() {
+            // Given
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            lock.release("scheduler", "node-a");
+
+            // Then
+            assertThat(lock.tryAcquire("scheduler", "node-b", LEASE)).isTrue();
+        }
+
+        @Test
+        void shouldIgnoreReleaseFromNonOwner() {
+            // Given
+            lock.tryAcquire("scheduler", "node-a", LEASE);
+
+            // When
+            lock.release("scheduler", "node-b");
+
+            // Then
+            assertThat(lock.tryAcquire("scheduler", "node-b", LEASE)).isFalse();
+        }
+    }
+}
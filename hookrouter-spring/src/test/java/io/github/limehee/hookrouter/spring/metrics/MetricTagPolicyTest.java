@@ -0,0 +1,89 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MetricTagPolicyTest {
+
+    @Nested
+    class TypeIdTagTest {
+
+        @Test
+        void shouldKeepEveryTypeIdInFullMode() {
+            // Given
+            MetricTagPolicy policy = MetricTagPolicy.of(TypeIdTagMode.FULL, List.of(), 1);
+
+            // When & Then
+            assertThat(policy.typeIdTag("order.created")).isEqualTo("order.created");
+            assertThat(policy.typeIdTag("order.failed")).isEqualTo("order.failed");
+        }
+
+        @Test
+        void shouldBucketTypeIdsOutsideAllowlist() {
+            // Given
+            MetricTagPolicy policy = MetricTagPolicy.of(TypeIdTagMode.ALLOWLIST, List.of("order.failed"), 1);
+
+            // When & Then
+            assertThat(policy.typeIdTag("order.failed")).isEqualTo("order.failed");
+            assertThat(policy.typeIdTag("order.created")).isEqualTo(MetricTagPolicy.OTHER);
+        }
+
+        @Test
+        void shouldAdmitOnlyFirstDistinctTypeIdsInLimitMode() {
+            // Given
+            MetricTagPolicy policy = MetricTagPolicy.of(TypeIdTagMode.LIMIT, List.of(), 2);
+
+            // When
+            String first = policy.typeIdTag("a");
+            String second = policy.typeIdTag("b");
+            String third = policy.typeIdTag("c");
+            String firstAgain = policy.typeIdTag("a");
+
+            // Then
+            assertThat(first).isEqualTo("a");
+            assertThat(second).isEqualTo("b");
+            assertThat(third).isEqualTo(MetricTagPolicy.OTHER);
+            assertThat(firstAgain).isEqualTo("a");
+        }
+
+        @Test
+        void shouldDropTypeIdTagInNoneMode() {
+            // Given
+            MetricTagPolicy policy = MetricTagPolicy.of(TypeIdTagMode.NONE, List.of(), 1);
+
+            // When & Then
+            assertThat(policy.includesTypeId()).isFalse();
+        }
+
+        @Test
+        void shouldRejectNonPositiveLimit() {
+            // When & Then
+            assertThatThrownBy(() -> MetricTagPolicy.of(TypeIdTagMode.LIMIT, List.of(), 0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("typeIdLimit must be >= 1");
+        }
+    }
+
+    @Nested
+    class ReasonTagTest {
+
+        @Test
+        void shouldKeepKnownReasonTag() {
+            // When & Then
+            assertThat(MetricTagPolicy.defaults().reasonTag("timeout")).isEqualTo("timeout");
+        }
+
+        @Test
+        void shouldCollapseFreeFormReasonToOther() {
+            // When & Then
+            assertThat(MetricTagPolicy.defaults().reasonTag("exception: connection reset by 10.0.0.7"))
+                .isEqualTo("other");
+            assertThat(MetricTagPolicy.defaults().reasonTag(null)).isEqualTo("other");
+        }
+    }
+}
@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -314,6 +318,116 @@ class MicrometerWebhookMetricsTest {
         }
     }
 
+    @Nested
+    class RecordPriorityLaneShedTest {
+
+        @Test
+        void shouldIncrementShedCounterPerLane() {
+            webhookMetrics.recordPriorityLaneShed("LOW");
+            webhookMetrics.recordPriorityLaneShed("LOW");
+
+            Counter counter = meterRegistry.find("hookrouter.priority-lane.shed").tag("lane", "LOW").counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    class RecordShutdownTest {
+
+        @Test
+        void shouldRecordPhaseDurationAndNotificationCount() {
+            webhookMetrics.recordShutdownPhase(ShutdownPhase.DRAIN, 2_000_000L, 5);
+
+            Timer timer = meterRegistry.find("hookrouter.shutdown.phase.duration").tag("phase", "drain").timer();
+            Counter counter = meterRegistry.find("hookrouter.shutdown.notifications").tag("phase", "drain").counter();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(5.0);
+        }
+
+        @Test
+        void shouldIncrementRejectedCounter() {
+            webhookMetrics.recordShutdownRejected();
+
+            Counter counter = meterRegistry.find("hookrouter.shutdown.rejected").counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    class RecordBatchSentTest {
+
+        @Test
+        void shouldRecordBatchSizePerEndpoint() {
+            webhookMetrics.recordBatchSent("custom", "events", 40);
+            webhookMetrics.recordBatchSent("custom", "events", 10);
+
+            DistributionSummary summary = meterRegistry.find("hookrouter.batch.size")
+                .tag("platform", "custom")
+                .tag("webhookKey", "events")
+                .summary();
+            assertThat(summary).isNotNull();
+            assertThat(summary.count()).isEqualTo(2);
+            assertThat(summary.totalAmount()).isEqualTo(50.0);
+        }
+    }
+
+    @Nested
+    class RegisterOrderedQueueDepthTest {
+
+        @Test
+        void shouldReportCurrentQueueDepth() {
+            AtomicInteger depth = new AtomicInteger(3);
+            webhookMetrics.registerOrderedQueueDepth("slack", "orders", depth::get);
+
+            Gauge gauge = meterRegistry.find("hookrouter.ordered.queue.depth")
+                .tag("platform", "slack")
+                .tag("webhookKey", "orders")
+                .gauge();
+            assertThat(gauge).isNotNull();
+            assertThat(gauge.value()).isEqualTo(3.0);
+            depth.set(0);
+            assertThat(gauge.value()).isZero();
+        }
+    }
+
+    @Nested
+    class RecordNotificationExpiredTest {
+
+        @Test
+        void shouldIncrementExpiredCounterWithTags() {
+            webhookMetrics.recordNotificationExpired("slack", "alerts", "ORDER_CREATED");
+
+            Counter counter = meterRegistry.find("hookrouter.expired.total")
+                .tag("platform", "slack")
+                .tag("webhookKey", "alerts")
+                .tag("typeId", "ORDER_CREATED")
+                .counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    class RecordPayloadCompressedTest {
+
+        @Test
+        void shouldAccumulateBytesSaved() {
+            webhookMetrics.recordPayloadCompressed("custom", "digest", 10_000, 2_500);
+            webhookMetrics.recordPayloadCompressed("custom", "digest", 4_000, 1_000);
+
+            Counter counter = meterRegistry.find("hookrouter.compression.bytes.saved")
+                .tag("platform", "custom")
+                .tag("webhookKey", "digest")
+                .counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(10_500.0);
+        }
+    }
+
     @Nested
     class TagVerificationTest {
 
@@ -327,7 +441,7 @@ class MicrometerWebhookMetricsTest {
             // When
             webhookMetrics.recordSendAttempt(platform, webhookKey, typeId);
             webhookMetrics.recordSendSuccess(platform, webhookKey, typeId, Duration.ofMillis(100));
-            webhookMetrics.recordSendFailure(platform, webhookKey, typeId, "error", Duration.ofMillis(200));
+            webhookMetrics.recordSendFailure(platform, webhookKey, typeId, "server_error", Duration.ofMillis(200));
             webhookMetrics.recordSendSkipped(platform, webhookKey, typeId);
             webhookMetrics.recordRetry(platform, webhookKey, typeId, 1);
             webhookMetrics.recordDeadLetter(platform, webhookKey, typeId, "CIRCUIT_OPEN");
@@ -351,7 +465,7 @@ class MicrometerWebhookMetricsTest {
                 .tag("platform", platform)
                 .tag("webhookKey", webhookKey)
                 .tag("typeId", typeId)
-                .tag("reason", "error")
+                .tag("reason", "server_error")
                 .counter()).isNotNull();
 
             assertThat(meterRegistry.find("hookrouter.send.skipped")
@@ -391,4 +505,92 @@ class MicrometerWebhookMetricsTest {
                 .summary()).isNotNull();
         }
     }
+
+    @Nested
+    class StageTimingTest {
+
+        @Test
+        void shouldNeverSampleWhenSampleRateIsZero() {
+            // When
+            boolean sampled = webhookMetrics.isStageTimingSampled();
+            webhookMetrics.recordStageDuration(PipelineStage.HTTP_CALL, 1_000_000L);
+
+            // Then
+            assertThat(sampled).isFalse();
+            assertThat(meterRegistry.find("hookrouter.stage.duration").timer()).isNull();
+        }
+
+        @Test
+        void shouldRecordStageDurationTaggedByStage() {
+            // Given
+            MicrometerWebhookMetrics sampledMetrics = MicrometerWebhookMetrics.builder(meterRegistry)
+                .stageTimingSampleRate(1.0)
+                .build();
+
+            // When
+            boolean sampled = sampledMetrics.isStageTimingSampled();
+            sampledMetrics.recordStageDuration(PipelineStage.QUEUE_WAIT, 2_000_000L);
+
+            // Then
+            Timer timer = meterRegistry.find("hookrouter.stage.duration")
+                .tag("stage", "queue-wait")
+                .timer();
+            assertThat(sampled).isTrue();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1L);
+            assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    class TagPolicyTest {
+
+        @Test
+        void shouldNormalizeFreeFormFailureReason() {
+            // When
+            webhookMetrics.recordSendFailure("slack", "test-channel", "ORDER_CREATED",
+                "exception: Read timed out at 2024-01-01T00:00:00Z", Duration.ofMillis(10));
+
+            // Then
+            assertThat(meterRegistry.find("hookrouter.send.failure").tag("reason", "other").counter()).isNotNull();
+            assertThat(meterRegistry.find("hookrouter.send.failure").counters()).hasSize(1);
+        }
+
+        @Test
+        void shouldOmitTypeIdTagWhenPolicyDropsIt() {
+            // Given
+            MicrometerWebhookMetrics untypedMetrics = MicrometerWebhookMetrics.builder(meterRegistry)
+                .tagPolicy(MetricTagPolicy.of(TypeIdTagMode.NONE, List.of(), 1))
+                .build();
+
+            // When
+            untypedMetrics.recordSendAttempt("slack", "test-channel", "ORDER_CREATED");
+            untypedMetrics.recordSendAttempt("slack", "test-channel", "ORDER_FAILED");
+
+            // Then
+            Counter counter = meterRegistry.find("hookrouter.send.total").counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.getId().getTag("typeId")).isNull();
+            assertThat(counter.count()).isEqualTo(2.0);
+        }
+
+        @Test
+        void shouldBucketTypeIdsBeyondLimit() {
+            // Given
+            MicrometerWebhookMetrics limitedMetrics = MicrometerWebhookMetrics.builder(meterRegistry)
+                .tagPolicy(MetricTagPolicy.of(TypeIdTagMode.LIMIT, List.of(), 1))
+                .build();
+
+            // When
+            limitedMetrics.recordSendAttempt("slack", "test-channel", "ORDER_CREATED");
+            limitedMetrics.recordSendAttempt("slack", "test-channel", "ORDER_FAILED");
+            limitedMetrics.recordSendAttempt("slack", "test-channel", "ORDER_SHIPPED");
+
+            // Then
+            assertThat(meterRegistry.find("hookrouter.send.total").tag("typeId", "ORDER_CREATED").counter())
+                .isNotNull();
+            assertThat(meterRegistry.find("hookrouter.send.total").tag("typeId", "other").counter().count())
+                .isEqualTo(2.0);
+        }
+    }
 }
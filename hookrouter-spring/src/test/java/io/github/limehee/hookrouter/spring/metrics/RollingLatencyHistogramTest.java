@@ -0,0 +1,127 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RollingLatencyHistogramTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RollingLatencyHistogram histogram() {
+        return new RollingLatencyHistogram(Duration.ofSeconds(60), 6, clock::get);
+    }
+
+    @Nested
+    class BucketTest {
+
+        @Test
+        void shouldMapEveryBucketBoundaryToContiguousIndexes() {
+            for (int i = 0; i < RollingLatencyHistogram.BUCKETS - 1; i++) {
+                long upperBound = RollingLatencyHistogram.bucketUpperBoundMicros(i);
+
+                assertThat(RollingLatencyHistogram.bucketIndex(upperBound)).isEqualTo(i);
+                assertThat(RollingLatencyHistogram.bucketIndex(upperBound + 1)).isEqualTo(i + 1);
+            }
+        }
+
+        @Test
+        void shouldKeepRelativeErrorBelowOneEighth() {
+            for (long micros = 8; micros < 10_000_000L; micros = micros * 3 / 2) {
+                long upperBound = RollingLatencyHistogram.bucketUpperBoundMicros(
+                    RollingLatencyHistogram.bucketIndex(micros));
+
+                assertThat((double) (upperBound - micros) / micros).isLessThanOrEqualTo(0.125);
+            }
+        }
+
+        @Test
+        void shouldClampHugeDurationsIntoLastBucket() {
+            assertThat(RollingLatencyHistogram.bucketIndex(Long.MAX_VALUE))
+                .isEqualTo(RollingLatencyHistogram.BUCKETS - 1);
+        }
+    }
+
+    @Nested
+    class SnapshotTest {
+
+        @Test
+        void shouldReportEmptySnapshotWhenNothingRecorded() {
+            // When
+            RollingLatencyHistogram.Snapshot snapshot = histogram().snapshot();
+
+            // Then
+            assertThat(snapshot.count()).isZero();
+            assertThat(snapshot.ratePerSecond()).isZero();
+            assertThat(snapshot.p50Millis()).isZero();
+            assertThat(snapshot.p99Millis()).isZero();
+        }
+
+        @Test
+        void shouldComputePercentilesAndRateWithinWindow() {
+            // Given
+            RollingLatencyHistogram histogram = histogram();
+            for (int i = 1; i <= 100; i++) {
+                histogram.record(Duration.ofMillis(i).toNanos());
+            }
+
+            // When
+            RollingLatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.count()).isEqualTo(100);
+            assertThat(snapshot.ratePerSecond()).isCloseTo(100 / 60.0, within(1e-9));
+            assertThat(snapshot.p50Millis()).isBetween(50.0, 50.0 * 1.125);
+            assertThat(snapshot.p99Millis()).isBetween(99.0, 99.0 * 1.125);
+        }
+
+        @Test
+        void shouldDropSamplesOlderThanWindow() {
+            // Given
+            RollingLatencyHistogram histogram = histogram();
+            histogram.record(Duration.ofMillis(500).toNanos());
+            clock.set(Duration.ofSeconds(30).toNanos());
+            histogram.record(Duration.ofMillis(5).toNanos());
+
+            // When
+            clock.set(Duration.ofSeconds(65).toNanos());
+            RollingLatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.count()).isEqualTo(1);
+            assertThat(snapshot.p99Millis()).isLessThan(6.0);
+        }
+
+        @Test
+        void shouldResetReusedSlotOnNextRecord() {
+            // Given
+            RollingLatencyHistogram histogram = histogram();
+            histogram.record(Duration.ofMillis(500).toNanos());
+
+            // When
+            clock.set(Duration.ofSeconds(60).toNanos());
+            histogram.record(Duration.ofMillis(1).toNanos());
+
+            // Then
+            assertThat(histogram.snapshot().count()).isEqualTo(1);
+            assertThat(histogram.snapshot().p99Millis()).isLessThan(2.0);
+        }
+    }
+
+    @Nested
+    class ValidationTest {
+
+        @Test
+        void shouldRejectNonPositiveSlotCount() {
+            assertThatThrownBy(() -> new RollingLatencyHistogram(Duration.ofSeconds(1), 0))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("slotCount must be >= 1");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.limehee.hookrouter.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.core.port.WebhookSender.SendResult;
+import org.junit.jupiter.api.Test;
+
+class SendFailureReasonTest {
+
+    @Test
+    void shouldClassifyByStatusCode() {
+        // When & Then
+        assertThat(SendFailureReason.of(SendResult.rateLimited("HTTP error: status=429", 1_000L)))
+            .isEqualTo(SendFailureReason.RATE_LIMITED);
+        assertThat(SendFailureReason.of(SendResult.failure(503, "HTTP error: status=503, body=down", true)))
+            .isEqualTo(SendFailureReason.SERVER_ERROR);
+        assertThat(SendFailureReason.of(SendResult.failure(404, "HTTP error: status=404, body=no_team", false)))
+            .isEqualTo(SendFailureReason.CLIENT_ERROR);
+    }
+
+    @Test
+    void shouldClassifyTransportFailures() {
+        // When & Then
+        assertThat(SendFailureReason.of(SendResult.failure(0, "timeout: request exceeded 5000ms", true)))
+            .isEqualTo(SendFailureReason.TIMEOUT);
+        assertThat(SendFailureReason.of(SendResult.failure(0, "interrupted: request was cancelled", false)))
+            .isEqualTo(SendFailureReason.INTERRUPTED);
+        assertThat(SendFailureReason.of(SendResult.networkError("Connection refused")))
+            .isEqualTo(SendFailureReason.NETWORK_ERROR);
+        assertThat(SendFailureReason.of(SendResult.failure(-1, "Invalid payload type", false)))
+            .isEqualTo(SendFailureReason.SENDER_ERROR);
+    }
+
+    @Test
+    void shouldResolveUnknownTagValueToOther() {
+        // When & Then
+        assertThat(SendFailureReason.fromTagValue("server_error")).isEqualTo(SendFailureReason.SERVER_ERROR);
+        assertThat(SendFailureReason.fromTagValue("Slack API error: status=500")).isEqualTo(SendFailureReason.OTHER);
+    }
+}
@@ -0,0 +1,344 @@
+package io.github.limehee.hookrouter.spring.ordering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig;
+import io.github.limehee.hookrouter.spring.listener.NotificationParts;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway;
+import io.github.limehee.hookrouter.spring.listener.NotificationProcessingGateway.ProcessingResult;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderedDeliverySchedulerTest {
+
+    private static final RoutingTarget ORDERS = new RoutingTarget("slack", "orders", "https://hooks.slack.com/orders");
+    private static final RoutingTarget AUDIT = new RoutingTarget("slack", "audit", "https://hooks.slack.com/audit");
+    private static final RoutingTarget ALERTS = new RoutingTarget("slack", "alerts", "https://hooks.slack.com/alerts");
+
+    private final Queue<Runnable> executorQueue = new ArrayDeque<>();
+    private final List<RoutingTarget> shed = new ArrayList<>();
+    private int maxPending = 1000;
+
+    @Mock
+    private NotificationProcessingGateway notificationProcessor;
+
+    @Mock
+    private RoutingPolicy routingPolicy;
+
+    @Mock
+    private WebhookMetrics metrics;
+
+    private OrderedDeliveryScheduler createScheduler(String... orderedWebhookKeys) {
+        WebhookConfigProperties properties = new WebhookConfigProperties();
+        PlatformConfig slack = new PlatformConfig();
+        for (String webhookKey : List.of("orders", "audit", "alerts")) {
+            WebhookEndpointConfig endpoint = new WebhookEndpointConfig();
+            endpoint.setUrl("https://hooks.slack.com/" + webhookKey);
+            endpoint.setOrdered(List.of(orderedWebhookKeys).contains(webhookKey));
+            slack.getEndpoints().put(webhookKey, endpoint);
+        }
+        properties.getPlatforms().put("slack", slack);
+        return OrderedDeliveryScheduler.builder(notificationProcessor, executorQueue::add, routingPolicy,
+                new WebhookConfigResolver(properties))
+            .metrics(metrics)
+            .maxPending(maxPending)
+            .shedHandler((notification, target) -> shed.add(target))
+            .build();
+    }
+
+    private static Notification<String> notification(String typeId) {
+        return Notification.of(typeId, "general", "ctx");
+    }
+
+    private void drainAll() {
+        Runnable task;
+        while ((task = executorQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Nested
+    class SubmitTest {
+
+        @Test
+        void shouldSkipRoutingWhenNoEndpointIsOrdered() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler();
+
+            // When
+            boolean accepted = scheduler.submit(notification("order.created"));
+
+            // Then
+            assertThat(accepted).isFalse();
+            verify(routingPolicy, never()).resolve(any(), any());
+        }
+
+        @Test
+        void shouldLeaveNotificationWithoutOrderedTargetToRegularPath() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("alert.raised", "general")).willReturn(List.of(ALERTS));
+
+            // When
+            boolean accepted = scheduler.submit(notification("alert.raised"));
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(executorQueue).isEmpty();
+        }
+
+        @Test
+        void shouldProcessNotificationsOfOrderedEndpointInPublishOrder() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve(any(), eq("general"))).willReturn(List.of(ORDERS));
+            List<String> processed = new ArrayList<>();
+            given(notificationProcessor.process(any())).willAnswer(invocation -> {
+                processed.add(invocation.<Notification<?>>getArgument(0).getTypeId());
+                return ProcessingResult.ok();
+            });
+
+            // When
+            boolean first = scheduler.submit(notification("order.created"));
+            boolean second = scheduler.submit(notification("order.paid"));
+            boolean third = scheduler.submit(notification("order.shipped"));
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isTrue();
+            assertThat(scheduler.queueDepth("slack", "orders")).isEqualTo(3);
+            drainAll();
+            assertThat(processed).containsExactly("order.created", "order.paid", "order.shipped");
+            assertThat(scheduler.queueDepth("slack", "orders")).isZero();
+        }
+
+        @Test
+        void shouldHoldNotificationForEveryOrderedEndpointItTargets() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders", "audit");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(ORDERS));
+            given(routingPolicy.resolve("order.audited", "general")).willReturn(List.of(ORDERS, AUDIT));
+            given(notificationProcessor.process(any())).willReturn(ProcessingResult.ok());
+
+            // When
+            scheduler.submit(notification("order.created"));
+            scheduler.submit(notification("order.audited"));
+
+            // Then
+            assertThat(scheduler.queueDepth("slack", "orders")).isEqualTo(2);
+            assertThat(scheduler.queueDepth("slack", "audit")).isEqualTo(1);
+            drainAll();
+            verify(notificationProcessor, times(2)).process(any());
+            assertThat(scheduler.queueDepth("slack", "audit")).isZero();
+        }
+
+        @Test
+        void shouldKeepDrainingWhenProcessingThrows() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve(any(), eq("general"))).willReturn(List.of(ORDERS));
+            given(notificationProcessor.process(any()))
+                .willThrow(new IllegalStateException("boom"))
+                .willReturn(ProcessingResult.ok());
+
+            // When
+            scheduler.submit(notification("order.created"));
+            scheduler.submit(notification("order.paid"));
+            drainAll();
+
+            // Then
+            verify(notificationProcessor, times(2)).process(any());
+        }
+
+        @Test
+        void shouldRunCallbackAfterProcessingEvenWhenProcessingThrows() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve(any(), eq("general"))).willReturn(List.of(ORDERS));
+            given(notificationProcessor.process(any())).willThrow(new IllegalStateException("boom"));
+            AtomicInteger callbacks = new AtomicInteger();
+
+            // When
+            boolean accepted = scheduler.submit(notification("order.created"), callbacks::incrementAndGet);
+
+            // Then
+            assertThat(accepted).isTrue();
+            assertThat(callbacks).hasValue(0);
+            drainAll();
+            assertThat(callbacks).hasValue(1);
+        }
+
+        @Test
+        void shouldNotRunCallbackWhenNotificationIsLeftToRegularPath() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("alert.raised", "general")).willReturn(List.of(ALERTS));
+            AtomicInteger callbacks = new AtomicInteger();
+
+            // When
+            boolean accepted = scheduler.submit(notification("alert.raised"), callbacks::incrementAndGet);
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(callbacks).hasValue(0);
+        }
+    }
+
+    @Nested
+    class SplitTest {
+
+        @Test
+        void shouldQueueOnlyOrderedTargetsAndSendOthersOnRegularPath() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(ORDERS, ALERTS));
+            List<List<RoutingTarget>> processedParts = new ArrayList<>();
+            given(notificationProcessor.process(any(), any(), any())).willAnswer(invocation -> {
+                Predicate<RoutingTarget> filter = invocation.getArgument(1);
+                processedParts.add(Stream.of(ORDERS, ALERTS).filter(filter).toList());
+                return ProcessingResult.ok();
+            });
+
+            // When
+            boolean accepted = scheduler.submit(notification("order.created"));
+
+            // Then
+            assertThat(accepted).isTrue();
+            assertThat(scheduler.queueDepth("slack", "orders")).isEqualTo(1);
+            assertThat(executorQueue).hasSize(2);
+            drainAll();
+            assertThat(processedParts).containsExactlyInAnyOrder(List.of(ORDERS), List.of(ALERTS));
+            verify(notificationProcessor, never()).process(any());
+        }
+
+        @Test
+        void shouldShareOnePartsTrackerBetweenBothParts() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(ORDERS, ALERTS));
+            List<NotificationParts> parts = new ArrayList<>();
+            given(notificationProcessor.process(any(), any(), any())).willAnswer(invocation -> {
+                parts.add(invocation.getArgument(2));
+                return ProcessingResult.ok();
+            });
+
+            // When
+            scheduler.submit(notification("order.created"));
+            drainAll();
+
+            // Then
+            assertThat(parts).hasSize(2);
+            assertThat(parts.get(0)).isSameAs(parts.get(1));
+        }
+
+        @Test
+        void shouldRunCallbackOnceAfterBothParts() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(ORDERS, ALERTS));
+            given(notificationProcessor.process(any(), any(), any())).willReturn(ProcessingResult.ok());
+            AtomicInteger callbacks = new AtomicInteger();
+
+            // When
+            scheduler.submit(notification("order.created"), callbacks::incrementAndGet);
+            executorQueue.poll().run();
+
+            // Then
+            assertThat(callbacks).hasValue(0);
+            drainAll();
+            assertThat(callbacks).hasValue(1);
+        }
+    }
+
+    @Nested
+    class BoundTest {
+
+        @Test
+        void shouldShedNotificationWhenOrderedQueueIsFull() {
+            // Given
+            maxPending = 1;
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve(any(), eq("general"))).willReturn(List.of(ORDERS));
+            AtomicInteger callbacks = new AtomicInteger();
+            scheduler.submit(notification("order.created"));
+
+            // When
+            boolean accepted = scheduler.submit(notification("order.paid"), callbacks::incrementAndGet);
+
+            // Then
+            assertThat(accepted).isTrue();
+            assertThat(shed).containsExactly(ORDERS);
+            assertThat(callbacks).hasValue(1);
+            assertThat(scheduler.queueDepth("slack", "orders")).isEqualTo(1);
+            verify(notificationProcessor).process(any(), any(), any(NotificationParts.class));
+        }
+
+        @Test
+        void shouldShedOnlyOrderedTargetsAndStillSendOthers() {
+            // Given
+            maxPending = 1;
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(ORDERS));
+            given(routingPolicy.resolve("order.paid", "general")).willReturn(List.of(ORDERS, ALERTS));
+            List<List<RoutingTarget>> processedParts = new ArrayList<>();
+            given(notificationProcessor.process(any(), any(), any())).willAnswer(invocation -> {
+                Predicate<RoutingTarget> filter = invocation.getArgument(1);
+                processedParts.add(Stream.of(ORDERS, ALERTS).filter(filter).toList());
+                return ProcessingResult.ok();
+            });
+            scheduler.submit(notification("order.created"));
+
+            // When
+            scheduler.submit(notification("order.paid"));
+
+            // Then
+            assertThat(shed).containsExactly(ORDERS);
+            assertThat(processedParts).containsExactly(List.of());
+            drainAll();
+            assertThat(processedParts).containsExactly(List.of(), List.of(ALERTS));
+        }
+    }
+
+    @Nested
+    class MetricsTest {
+
+        @Test
+        void shouldRegisterQueueDepthGaugeOncePerOrderedEndpoint() {
+            // Given
+            OrderedDeliveryScheduler scheduler = createScheduler("orders");
+            given(routingPolicy.resolve(any(), eq("general"))).willReturn(List.of(ORDERS));
+
+            // When
+            scheduler.submit(notification("order.created"));
+            scheduler.submit(notification("order.paid"));
+
+            // Then
+            verify(metrics).registerOrderedQueueDepth(eq("slack"), eq("orders"), any());
+        }
+    }
+}
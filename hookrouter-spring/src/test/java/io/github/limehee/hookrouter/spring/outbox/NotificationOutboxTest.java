@@ -0,0 +1,156 @@
+package io.github.limehee.hookrouter.spring.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.outbox.OutboxJournal;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NotificationOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private NotificationOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        if (outbox != null) {
+            outbox.destroy();
+        }
+    }
+
+    private NotificationOutbox open() throws IOException {
+        if (outbox != null) {
+            outbox.destroy();
+        }
+        outbox = new NotificationOutbox(OutboxJournal.open(directory, 64 * 1024, Duration.ofMillis(5)),
+            new JavaSerializationOutboxCodec());
+        return outbox;
+    }
+
+    private record OrderContext(long orderId, String description) implements Serializable {
+
+    }
+
+    private record UnserializableContext(Object payload) {
+
+    }
+
+    @Nested
+    class RecordTest {
+
+        @Test
+        void shouldKeepEntryPendingUntilAcknowledged() throws IOException {
+            // Given
+            NotificationOutbox opened = open();
+            Notification<OrderContext> notification = Notification.of("demo.order.created", "orders",
+                new OrderContext(1L, "created"));
+
+            // When
+            boolean recorded = opened.record(notification);
+
+            // Then
+            assertThat(recorded).isTrue();
+            assertThat(opened.pendingCount()).isEqualTo(1);
+            assertThat(opened.acknowledge(notification)).isTrue();
+            assertThat(opened.pendingCount()).isZero();
+        }
+
+        @Test
+        void shouldKeepOneEntryPerPublishOfTheSameInstance() throws IOException {
+            // Given
+            NotificationOutbox opened = open();
+            Notification<OrderContext> notification = Notification.of("demo.order.created", "orders",
+                new OrderContext(1L, "created"));
+
+            // When
+            opened.record(notification);
+            opened.record(notification);
+
+            // Then
+            assertThat(opened.pendingCount()).isEqualTo(2);
+            assertThat(opened.acknowledge(notification)).isTrue();
+            assertThat(opened.pendingCount()).isEqualTo(1);
+            assertThat(opened.acknowledge(notification)).isTrue();
+            assertThat(opened.pendingCount()).isZero();
+            assertThat(opened.acknowledge(notification)).isFalse();
+        }
+
+        @Test
+        void shouldSkipNotificationThatCannotBeEncoded() throws IOException {
+            // Given
+            NotificationOutbox opened = open();
+            Notification<UnserializableContext> notification = Notification.of("demo.raw", "general",
+                new UnserializableContext(new Object()));
+
+            // When
+            boolean recorded = opened.record(notification);
+
+            // Then
+            assertThat(recorded).isFalse();
+            assertThat(opened.pendingCount()).isZero();
+            assertThat(opened.acknowledge(notification)).isFalse();
+        }
+    }
+
+    @Nested
+    class RecoverTest {
+
+        @Test
+        void shouldRecoverUnacknowledgedNotificationsAfterRestart() throws IOException {
+            // Given
+            Instant occurredAt = Instant.parse("2026-01-15T10:15:30.123456789Z");
+            Notification<OrderContext> delivered = Notification.of("demo.order.created", "orders",
+                new OrderContext(1L, "delivered"));
+            Notification<OrderContext> pending = Notification.<OrderContext>builder("demo.order.created")
+                .category("orders")
+                .occurredAt(occurredAt)
+                .context(new OrderContext(2L, "pending"))
+                .meta("priority", "HIGH")
+                .build();
+            NotificationOutbox opened = open();
+            opened.record(delivered);
+            opened.record(pending);
+            opened.acknowledge(delivered);
+
+            // When
+            NotificationOutbox reopened = open();
+            List<Notification<?>> recovered = reopened.recover();
+
+            // Then
+            assertThat(recovered).hasSize(1);
+            Notification<?> replayed = recovered.get(0);
+            assertThat(replayed.getTypeId()).isEqualTo("demo.order.created");
+            assertThat(replayed.getCategory()).isEqualTo("orders");
+            assertThat(replayed.getOccurredAt()).isEqualTo(occurredAt);
+            assertThat(replayed.getContext()).isEqualTo(new OrderContext(2L, "pending"));
+            assertThat(replayed.getMeta()).containsEntry("priority", "HIGH");
+        }
+
+        @Test
+        void shouldAcknowledgeReplayedNotificationAgainstOriginalEntry() throws IOException {
+            // Given
+            open().record(Notification.of("demo.order.created", "orders", new OrderContext(3L, "pending")));
+            NotificationOutbox reopened = open();
+            Notification<?> replayed = reopened.recover().get(0);
+
+            // When
+            boolean acknowledged = reopened.acknowledge(replayed);
+
+            // Then
+            assertThat(acknowledged).isTrue();
+            assertThat(reopened.pendingCount()).isZero();
+            assertThat(open().recover()).isEmpty();
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package io.github.limehee.hookrouter.spring.publisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.spring.lane.PriorityLaneScheduler;
+import io.github.limehee.hookrouter.spring.ordering.OrderedDeliveryScheduler;
+import io.github.limehee.hookrouter.spring.outbox.NotificationOutbox;
+import io.github.limehee.hookrouter.spring.shutdown.ShutdownCoordinator;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -82,6 +92,289 @@ class NotificationPublisherTest {
         }
     }
 
+    @Nested
+    class PriorityLanePublishTest {
+
+        @Test
+        void shouldSubmitToPriorityLaneSchedulerInsteadOfPublishingEvent() {
+            // Given
+            PriorityLaneScheduler scheduler = mock(PriorityLaneScheduler.class);
+            NotificationPublisher lanePublisher = NotificationPublisher.builder(eventPublisher)
+                .priorityLaneScheduler(scheduler)
+                .build();
+            Notification<TestContext> notification = Notification.<TestContext>builder("demo.test.event")
+                .category("general")
+                .context(new TestContext("test message"))
+                .build();
+
+            // When
+            lanePublisher.publish(notification);
+
+            // Then
+            verify(scheduler).submit(notification);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    class OrderedDeliveryPublishTest {
+
+        @Test
+        void shouldSubmitToOrderedSchedulerBeforePriorityLanes() {
+            // Given
+            PriorityLaneScheduler laneScheduler = mock(PriorityLaneScheduler.class);
+            OrderedDeliveryScheduler orderedScheduler = mock(OrderedDeliveryScheduler.class);
+            NotificationPublisher orderedPublisher = NotificationPublisher.builder(eventPublisher)
+                .priorityLaneScheduler(laneScheduler)
+                .orderedDeliveryScheduler(orderedScheduler)
+                .build();
+            Notification<TestContext> notification = Notification.of("demo.test.event", "general",
+                new TestContext("ordered"));
+            given(orderedScheduler.submit(notification)).willReturn(true);
+
+            // When
+            orderedPublisher.publish(notification);
+
+            // Then
+            verify(laneScheduler, never()).submit(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void shouldPublishEventWhenNoOrderedEndpointIsTargeted() {
+            // Given
+            OrderedDeliveryScheduler orderedScheduler = mock(OrderedDeliveryScheduler.class);
+            NotificationPublisher orderedPublisher = NotificationPublisher.builder(eventPublisher)
+                .orderedDeliveryScheduler(orderedScheduler)
+                .build();
+            Notification<TestContext> notification = Notification.of("demo.test.event", "general",
+                new TestContext("unordered"));
+            given(orderedScheduler.submit(notification)).willReturn(false);
+
+            // When
+            orderedPublisher.publish(notification);
+
+            // Then
+            verify(eventPublisher).publishEvent(notification);
+        }
+    }
+
+    @Nested
+    class OutboxPublishTest {
+
+        private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+
+        private Notification<TestContext> notification(String message) {
+            return Notification.of("demo.test.event", "general", new TestContext(message));
+        }
+
+        @Test
+        void shouldRecordBeforePublishingEvent() {
+            // Given
+            NotificationPublisher outboxPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .build();
+            Notification<TestContext> notification = notification("test message");
+
+            // When
+            outboxPublisher.publish(notification);
+
+            // Then
+            InOrder inOrder = inOrder(outbox, eventPublisher);
+            inOrder.verify(outbox).record(notification);
+            inOrder.verify(eventPublisher).publishEvent(notification);
+        }
+
+        @Test
+        void shouldReplayRecoveredNotificationsWithoutRecordingThemAgain() {
+            // Given
+            NotificationPublisher outboxPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .build();
+            Notification<TestContext> recovered = notification("recovered");
+            given(outbox.recover()).willReturn(List.of(recovered));
+
+            // When
+            int replayed = outboxPublisher.replayOutbox();
+
+            // Then
+            assertThat(replayed).isEqualTo(1);
+            verify(eventPublisher).publishEvent(recovered);
+            verify(outbox, never()).record(any());
+        }
+
+        @Test
+        void shouldReplayNothingWithoutOutbox() {
+            // When
+            int replayed = notificationPublisher.replayOutbox();
+
+            // Then
+            assertThat(replayed).isZero();
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void shouldLeaveNotificationRejectedByPriorityLaneToShedHandler() {
+            // Given
+            PriorityLaneScheduler scheduler = mock(PriorityLaneScheduler.class);
+            NotificationPublisher outboxPublisher = NotificationPublisher.builder(eventPublisher)
+                .priorityLaneScheduler(scheduler)
+                .outbox(outbox)
+                .build();
+            Notification<TestContext> notification = notification("rejected");
+            given(scheduler.submit(notification)).willReturn(false);
+
+            // When
+            outboxPublisher.publish(notification);
+
+            // Then
+            verify(outbox).record(notification);
+            verify(outbox, never()).acknowledge(any());
+        }
+
+        @Test
+        void shouldAcknowledgeAndRethrowWhenPublishingFails() {
+            // Given
+            NotificationPublisher outboxPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .build();
+            Notification<TestContext> notification = notification("failing");
+            willThrow(new IllegalStateException("executor saturated")).given(eventPublisher)
+                .publishEvent(notification);
+
+            // When / Then
+            assertThatThrownBy(() -> outboxPublisher.publish(notification))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("executor saturated");
+            verify(outbox).acknowledge(notification);
+        }
+    }
+
+    @Nested
+    class ShutdownTrackingTest {
+
+        private final ShutdownCoordinator shutdownCoordinator = mock(ShutdownCoordinator.class);
+        private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+
+        private Notification<TestContext> notification(String message) {
+            return Notification.of("demo.test.event", "general", new TestContext(message));
+        }
+
+        @Test
+        void shouldNeitherRecordNorPublishWhenShutdownRejects() {
+            // Given
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> notification = notification("late");
+            given(shutdownCoordinator.accept(notification)).willReturn(false);
+
+            // When
+            trackedPublisher.publish(notification);
+
+            // Then
+            verify(outbox, never()).record(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void shouldTrackBeforeRecordingAndPublishing() {
+            // Given
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> notification = notification("accepted");
+            given(shutdownCoordinator.accept(notification)).willReturn(true);
+
+            // When
+            trackedPublisher.publish(notification);
+
+            // Then
+            InOrder inOrder = inOrder(shutdownCoordinator, outbox, eventPublisher);
+            inOrder.verify(shutdownCoordinator).accept(notification);
+            inOrder.verify(outbox).record(notification);
+            inOrder.verify(eventPublisher).publishEvent(notification);
+        }
+
+        @Test
+        void shouldReleaseTrackingWhenOutboxRecordFails() {
+            // Given
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> notification = notification("unrecorded");
+            given(shutdownCoordinator.accept(notification)).willReturn(true);
+            given(outbox.record(notification)).willThrow(new IllegalStateException("outbox journal is closed"));
+
+            // When & Then
+            assertThatThrownBy(() -> trackedPublisher.publish(notification))
+                .isInstanceOf(IllegalStateException.class);
+            verify(shutdownCoordinator).finished(notification);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void shouldLeaveTrackingToShedHandlerWhenPriorityLaneRejects() {
+            // Given
+            PriorityLaneScheduler scheduler = mock(PriorityLaneScheduler.class);
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .priorityLaneScheduler(scheduler)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> notification = notification("rejected");
+            given(shutdownCoordinator.accept(notification)).willReturn(true);
+            given(scheduler.submit(notification)).willReturn(false);
+
+            // When
+            trackedPublisher.publish(notification);
+
+            // Then
+            verify(shutdownCoordinator, never()).finished(any());
+        }
+
+        @Test
+        void shouldReleaseTrackingAndRethrowWhenPublishingFails() {
+            // Given
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> notification = notification("failing");
+            given(shutdownCoordinator.accept(notification)).willReturn(true);
+            willThrow(new IllegalStateException("executor saturated")).given(eventPublisher)
+                .publishEvent(notification);
+
+            // When / Then
+            assertThatThrownBy(() -> trackedPublisher.publish(notification))
+                .isInstanceOf(IllegalStateException.class);
+            verify(shutdownCoordinator).finished(notification);
+        }
+
+        @Test
+        void shouldSkipRecoveredNotificationsRejectedDuringShutdown() {
+            // Given
+            NotificationPublisher trackedPublisher = NotificationPublisher.builder(eventPublisher)
+                .outbox(outbox)
+                .shutdownCoordinator(shutdownCoordinator)
+                .build();
+            Notification<TestContext> accepted = notification("accepted");
+            Notification<TestContext> rejected = notification("rejected");
+            given(outbox.recover()).willReturn(List.of(accepted, rejected));
+            given(shutdownCoordinator.accept(accepted)).willReturn(true);
+            given(shutdownCoordinator.accept(rejected)).willReturn(false);
+
+            // When
+            int replayed = trackedPublisher.replayOutbox();
+
+            // Then
+            assertThat(replayed).isEqualTo(1);
+            verify(eventPublisher).publishEvent(accepted);
+            verify(eventPublisher, never()).publishEvent(rejected);
+        }
+    }
+
     @Nested
     class PublishAllTest {
 
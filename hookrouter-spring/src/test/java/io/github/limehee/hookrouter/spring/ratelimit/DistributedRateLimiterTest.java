@@ -0,0 +1,166 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DistributedRateLimiterTest {
+
+    private static final String URL = "https://hooks.slack.com/services/T000/B000/secret";
+
+    private final AtomicLong now = new AtomicLong(10_000L);
+    private final RecordingPermitStore store = new RecordingPermitStore();
+
+    private DistributedRateLimiter limiter(int leaseSize) {
+        return new DistributedRateLimiter(store, leaseSize, now::get);
+    }
+
+    private static final class RecordingPermitStore implements PermitStore {
+
+        private final InMemoryPermitStore delegate = new InMemoryPermitStore();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Integer> requests = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public int acquire(String key, long window, int requested, int limitForPeriod) {
+            keys.add(key);
+            requests.add(requested);
+            if (failing) {
+                throw new IllegalStateException("store unavailable");
+            }
+            return delegate.acquire(key, window, requested, limitForPeriod);
+        }
+    }
+
+    @Nested
+    class LeaseTest {
+
+        @Test
+        void shouldCallStoreOncePerLease() {
+            // Given
+            DistributedRateLimiter limiter = limiter(5);
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                assertThat(limiter.acquirePermission(URL, 100, 1000L, 0L)).isTrue();
+            }
+
+            // Then
+            assertThat(store.requests).containsExactly(5);
+        }
+
+        @Test
+        void shouldCapLeaseAtLimitForPeriod() {
+            // Given
+            DistributedRateLimiter limiter = limiter(10);
+
+            // When
+            boolean first = limiter.acquirePermission(URL, 1, 1000L, 0L);
+            boolean second = limiter.acquirePermission(URL, 1, 1000L, 0L);
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(store.requests).containsExactly(1);
+        }
+
+        @Test
+        void shouldNotAskStoreAgainOnceWindowIsExhausted() {
+            // Given
+            DistributedRateLimiter otherNode = limiter(2);
+            otherNode.acquirePermission(URL, 2, 1000L, 0L);
+            DistributedRateLimiter limiter = limiter(2);
+
+            // When
+            boolean first = limiter.acquirePermission(URL, 2, 1000L, 0L);
+            boolean second = limiter.acquirePermission(URL, 2, 1000L, 0L);
+
+            // Then
+            assertThat(first).isFalse();
+            assertThat(second).isFalse();
+            assertThat(store.requests).hasSize(2);
+        }
+
+        @Test
+        void shouldLeaseAgainInNextWindow() {
+            // Given
+            DistributedRateLimiter limiter = limiter(1);
+            limiter.acquirePermission(URL, 1, 1000L, 0L);
+
+            // When
+            now.addAndGet(1000L);
+            boolean permitted = limiter.acquirePermission(URL, 1, 1000L, 0L);
+
+            // Then
+            assertThat(permitted).isTrue();
+        }
+
+        @Test
+        void shouldNotCarryPermitsIntoNextWindowWhenStoreFails() {
+            // Given
+            DistributedRateLimiter limiter = limiter(5);
+            limiter.acquirePermission(URL, 100, 1000L, 0L);
+            now.addAndGet(1000L);
+            store.failing = true;
+            assertThatThrownBy(() -> limiter.acquirePermission(URL, 100, 1000L, 0L))
+                .isInstanceOf(IllegalStateException.class);
+
+            // When
+            store.failing = false;
+            boolean permitted = limiter.acquirePermission(URL, 100, 1000L, 0L);
+
+            // Then
+            assertThat(permitted).isTrue();
+            assertThat(store.requests).containsExactly(5, 5, 5);
+        }
+    }
+
+    @Nested
+    class ClusterTest {
+
+        @Test
+        void shouldEnforceLimitAcrossNodesSharingStore() {
+            // Given
+            DistributedRateLimiter firstNode = limiter(3);
+            DistributedRateLimiter secondNode = limiter(3);
+
+            // When
+            int permitted = 0;
+            for (int i = 0; i < 10; i++) {
+                permitted += firstNode.acquirePermission(URL, 5, 1000L, 0L) ? 1 : 0;
+                permitted += secondNode.acquirePermission(URL, 5, 1000L, 0L) ? 1 : 0;
+            }
+
+            // Then
+            assertThat(permitted).isEqualTo(5);
+        }
+
+        @Test
+        void shouldKeyStoreByUrlDigestRatherThanRawUrl() {
+            // Given
+            DistributedRateLimiter limiter = limiter(1);
+
+            // When
+            limiter.acquirePermission(URL, 1, 1000L, 0L);
+
+            // Then
+            assertThat(store.keys).containsExactly(DistributedRateLimiter.storeKey(URL));
+            assertThat(store.keys.get(0)).hasSize(64).doesNotContain("secret");
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveLeaseSize() {
+        // When / Then
+        assertThatThrownBy(() -> new DistributedRateLimiter(store, 0))
+            .isInstanceOf(InvalidWebhookArgumentException.class)
+            .hasMessageContaining("leaseSize must be >= 1");
+    }
+}
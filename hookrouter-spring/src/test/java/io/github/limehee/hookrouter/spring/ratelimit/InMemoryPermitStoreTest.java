@@ -0,0 +1,59 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryPermitStoreTest {
+
+    private final InMemoryPermitStore store = new InMemoryPermitStore();
+
+    @Test
+    void shouldGrantPartialBatchWhenFewerPermitsRemain() {
+        // Given
+        store.acquire("key", 1L, 8, 10);
+
+        // When
+        int granted = store.acquire("key", 1L, 8, 10);
+
+        // Then
+        assertThat(granted).isEqualTo(2);
+        assertThat(store.acquire("key", 1L, 8, 10)).isZero();
+    }
+
+    @Test
+    void shouldResetUsageWhenWindowAdvances() {
+        // Given
+        store.acquire("key", 1L, 10, 10);
+
+        // When
+        int granted = store.acquire("key", 2L, 4, 10);
+
+        // Then
+        assertThat(granted).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotGrantPermitsOfClosedWindow() {
+        // Given
+        store.acquire("key", 2L, 1, 10);
+
+        // When
+        int granted = store.acquire("key", 1L, 1, 10);
+
+        // Then
+        assertThat(granted).isZero();
+    }
+
+    @Test
+    void shouldTrackKeysIndependently() {
+        // Given
+        store.acquire("first", 1L, 10, 10);
+
+        // When
+        int granted = store.acquire("second", 1L, 10, 10);
+
+        // Then
+        assertThat(granted).isEqualTo(10);
+    }
+}
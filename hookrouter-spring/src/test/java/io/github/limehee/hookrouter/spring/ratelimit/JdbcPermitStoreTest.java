@@ -0,0 +1,137 @@
+package io.github.limehee.hookrouter.spring.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JdbcPermitStoreTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcPermitStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        store = new JdbcPermitStore(dataSource);
+        store.initializeSchema();
+    }
+
+    @Nested
+    class SchemaTest {
+
+        @Test
+        void shouldTolerateRepeatedSchemaInitialization() {
+            // When
+            store.initializeSchema();
+
+            // Then
+            assertThat(store.acquire("key", 1L, 1, 1)).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectTableNameThatIsNotPlainIdentifier() {
+            // When / Then
+            assertThatThrownBy(() -> new JdbcPermitStore(dataSource, "permits; DROP TABLE users"))
+                .isInstanceOf(InvalidWebhookArgumentException.class)
+                .hasMessageContaining("tableName must be a plain SQL identifier");
+        }
+
+        @Test
+        void shouldAcceptSchemaQualifiedTableName() {
+            // When / Then
+            assertThatCode(() -> new JdbcPermitStore(dataSource, "ops.hookrouter_rate_limit"))
+                .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    class AcquireTest {
+
+        @Test
+        void shouldGrantUpToLimitWithinWindow() {
+            // When
+            int first = store.acquire("key", 1L, 6, 10);
+            int second = store.acquire("key", 1L, 6, 10);
+            int third = store.acquire("key", 1L, 6, 10);
+
+            // Then
+            assertThat(first).isEqualTo(6);
+            assertThat(second).isEqualTo(4);
+            assertThat(third).isZero();
+        }
+
+        @Test
+        void shouldResetUsageWhenWindowAdvances() {
+            // Given
+            store.acquire("key", 1L, 10, 10);
+
+            // When
+            int granted = store.acquire("key", 2L, 3, 10);
+
+            // Then
+            assertThat(granted).isEqualTo(3);
+        }
+
+        @Test
+        void shouldNotGrantPermitsOfClosedWindow() {
+            // Given
+            store.acquire("key", 5L, 1, 10);
+
+            // When
+            int granted = store.acquire("key", 4L, 1, 10);
+
+            // Then
+            assertThat(granted).isZero();
+        }
+
+        @Test
+        void shouldShareUsageBetweenStoreInstances() {
+            // Given
+            JdbcPermitStore otherNode = new JdbcPermitStore(dataSource);
+            store.acquire("key", 1L, 7, 10);
+
+            // When
+            int granted = otherNode.acquire("key", 1L, 7, 10);
+
+            // Then
+            assertThat(granted).isEqualTo(3);
+        }
+
+        @Test
+        void shouldNeverGrantMoreThanLimitUnderConcurrency() throws Exception {
+            // Given
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                tasks.add(() -> store.acquire("contended", 1L, 3, 50));
+            }
+
+            // When
+            int granted = 0;
+            try {
+                for (Future<Integer> future : executor.invokeAll(tasks)) {
+                    granted += future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            assertThat(granted).isEqualTo(50);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.limehee.hookrouter.spring.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigProperties.PlatformConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigRefreshEvent;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.RefreshResult;
+import io.github.limehee.hookrouter.spring.config.WebhookConfigResolver.ResilienceComponent;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig;
+import io.github.limehee.hookrouter.spring.config.WebhookEndpointConfig.RateLimiterOverride;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ResilienceConfigRefresherTest {
+
+    private static final String CRITICAL_KEY = ResilienceResourceKey.of("slack", "critical");
+    private static final String GENERAL_KEY = ResilienceResourceKey.of("slack", "general");
+    private static final String UNCONFIGURED_KEY = ResilienceResourceKey.of("custom", "adhoc");
+
+    private WebhookConfigProperties properties;
+    private WebhookConfigResolver resolver;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RateLimiterRegistry rateLimiterRegistry;
+    private ResilienceConfigRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WebhookConfigProperties();
+        addEndpoint("critical", rateLimiterOverride(10));
+        addEndpoint("general", null);
+        resolver = new WebhookConfigResolver(properties);
+        resolver.refresh();
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+        refresher = new ResilienceConfigRefresher(resolver, circuitBreakerRegistry, RetryRegistry.ofDefaults(),
+            TimeLimiterRegistry.ofDefaults(), rateLimiterRegistry, BulkheadRegistry.ofDefaults());
+    }
+
+    private void addEndpoint(String webhookKey, RateLimiterOverride rateLimiter) {
+        WebhookEndpointConfig endpoint = new WebhookEndpointConfig();
+        endpoint.setUrl("https://hooks.example.com/" + webhookKey);
+        endpoint.setRateLimiter(rateLimiter);
+        properties.getPlatforms().computeIfAbsent("slack", key -> new PlatformConfig())
+            .getEndpoints().put(webhookKey, endpoint);
+    }
+
+    private static RateLimiterOverride rateLimiterOverride(int limitForPeriod) {
+        RateLimiterOverride override = new RateLimiterOverride();
+        override.setEnabled(true);
+        override.setLimitForPeriod(limitForPeriod);
+        return override;
+    }
+
+    @Nested
+    class RefreshTest {
+
+        @Test
+        void shouldEvictOnlyChangedComponentOfChangedEndpoint() {
+            // Given
+            rateLimiterRegistry.rateLimiter(CRITICAL_KEY);
+            RateLimiter generalLimiter = rateLimiterRegistry.rateLimiter(GENERAL_KEY);
+            CircuitBreaker criticalBreaker = circuitBreakerRegistry.circuitBreaker(CRITICAL_KEY);
+            properties.getPlatforms().get("slack").getEndpoints().get("critical")
+                .setRateLimiter(rateLimiterOverride(2));
+
+            // When
+            RefreshResult result = refresher.refresh();
+
+            // Then
+            assertThat(result.changedKeys()).containsOnlyKeys(ResilienceComponent.RATE_LIMITER);
+            assertThat(rateLimiterRegistry.find(CRITICAL_KEY)).isEmpty();
+            assertThat(rateLimiterRegistry.find(GENERAL_KEY)).containsSame(generalLimiter);
+            assertThat(circuitBreakerRegistry.find(CRITICAL_KEY)).containsSame(criticalBreaker);
+            assertThat(resolver.resolveRateLimiterProperties("slack", "critical").getLimitForPeriod()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldEvictUnconfiguredEndpointsWhenDefaultsChange() {
+            // Given
+            rateLimiterRegistry.rateLimiter(CRITICAL_KEY);
+            rateLimiterRegistry.rateLimiter(UNCONFIGURED_KEY);
+            properties.getRateLimiter().setTimeoutDuration(100);
+
+            // When
+            refresher.onRefresh(WebhookConfigRefreshEvent.of("test"));
+
+            // Then
+            assertThat(rateLimiterRegistry.find(UNCONFIGURED_KEY)).isEmpty();
+            assertThat(rateLimiterRegistry.find(CRITICAL_KEY)).isEmpty();
+        }
+
+        @Test
+        void shouldKeepInstancesWhenNothingChanged() {
+            // Given
+            RateLimiter limiter = rateLimiterRegistry.rateLimiter(CRITICAL_KEY);
+
+            // When
+            RefreshResult result = refresher.refresh();
+
+            // Then
+            assertThat(result.hasChanges()).isFalse();
+            assertThat(rateLimiterRegistry.find(CRITICAL_KEY)).containsSame(limiter);
+        }
+    }
+}
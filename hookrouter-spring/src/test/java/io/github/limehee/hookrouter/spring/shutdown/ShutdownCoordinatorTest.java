@@ -0,0 +1,181 @@
+package io.github.limehee.hookrouter.spring.shutdown;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.github.limehee.hookrouter.core.domain.Notification;
+import io.github.limehee.hookrouter.core.port.RoutingPolicy;
+import io.github.limehee.hookrouter.core.port.RoutingTarget;
+import io.github.limehee.hookrouter.spring.deadletter.DeadLetterProcessor;
+import io.github.limehee.hookrouter.spring.metrics.ShutdownPhase;
+import io.github.limehee.hookrouter.spring.metrics.WebhookMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShutdownCoordinatorTest {
+
+    private static final RoutingTarget TARGET = new RoutingTarget("slack", "alerts", "https://hooks.slack.com/test");
+
+    @Mock
+    private RoutingPolicy routingPolicy;
+
+    @Mock
+    private DeadLetterProcessor deadLetterProcessor;
+
+    @Mock
+    private WebhookMetrics metrics;
+
+    private ShutdownCoordinator createCoordinator(Duration drainTimeout) {
+        ShutdownCoordinator coordinator = new ShutdownCoordinator(routingPolicy, deadLetterProcessor, metrics,
+            drainTimeout);
+        coordinator.start();
+        return coordinator;
+    }
+
+    private static Notification<String> notification(String typeId) {
+        return Notification.of(typeId, "general", "ctx");
+    }
+
+    @Nested
+    class TrackingTest {
+
+        @Test
+        void shouldCountAcceptedNotificationsUntilFinished() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ZERO);
+            Notification<String> notification = notification("order.created");
+
+            // When
+            boolean accepted = coordinator.accept(notification);
+            boolean started = coordinator.begin(notification);
+
+            // Then
+            assertThat(accepted).isTrue();
+            assertThat(started).isTrue();
+            assertThat(coordinator.inFlightCount()).isEqualTo(1);
+            coordinator.finished(notification);
+            assertThat(coordinator.inFlightCount()).isZero();
+        }
+
+        @Test
+        void shouldLetUntrackedNotificationBegin() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ZERO);
+
+            // When
+            boolean started = coordinator.begin(notification("reprocessed"));
+
+            // Then
+            assertThat(started).isTrue();
+        }
+    }
+
+    @Nested
+    class StopTest {
+
+        @Test
+        void shouldRejectAndDeadLetterNotificationsAfterStop() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ZERO);
+            coordinator.stop();
+            Notification<String> late = notification("order.created");
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(TARGET));
+
+            // When
+            boolean accepted = coordinator.accept(late);
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(coordinator.isAccepting()).isFalse();
+            verify(metrics).recordShutdownRejected();
+            verify(deadLetterProcessor).processShutdown(eq(late), eq(TARGET), any());
+        }
+
+        @Test
+        void shouldDeadLetterQueuedNotificationsLeftAtDeadline() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ofMillis(20));
+            Notification<String> queued = notification("order.created");
+            coordinator.accept(queued);
+            given(routingPolicy.resolve("order.created", "general")).willReturn(List.of(TARGET));
+
+            // When
+            coordinator.stop();
+
+            // Then
+            verify(deadLetterProcessor).processShutdown(eq(queued), eq(TARGET), any());
+            verify(metrics).recordShutdownPhase(eq(ShutdownPhase.DEAD_LETTER), anyLong(), eq(1));
+            assertThat(coordinator.begin(queued)).isFalse();
+            assertThat(coordinator.inFlightCount()).isZero();
+        }
+
+        @Test
+        void shouldNotDeadLetterNotificationStillSending() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ofMillis(20));
+            Notification<String> sending = notification("order.created");
+            coordinator.accept(sending);
+            coordinator.begin(sending);
+
+            // When
+            coordinator.stop();
+
+            // Then
+            verify(deadLetterProcessor, never()).processShutdown(any(), any(), any());
+            verify(metrics).recordShutdownPhase(eq(ShutdownPhase.DEAD_LETTER), anyLong(), eq(0));
+            assertThat(coordinator.inFlightCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReturnAsSoonAsInFlightWorkDrains() throws InterruptedException {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ofSeconds(30));
+            Notification<String> sending = notification("order.created");
+            coordinator.accept(sending);
+            coordinator.begin(sending);
+            CountDownLatch stopped = new CountDownLatch(1);
+            Thread stopper = new Thread(() -> {
+                coordinator.stop();
+                stopped.countDown();
+            });
+
+            // When
+            stopper.start();
+            Thread.sleep(50);
+            coordinator.finished(sending);
+
+            // Then
+            assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+            verify(metrics).recordShutdownPhase(eq(ShutdownPhase.STOP_ACCEPTING), anyLong(), eq(1));
+            verify(metrics).recordShutdownPhase(eq(ShutdownPhase.DRAIN), anyLong(), eq(1));
+            verify(deadLetterProcessor, never()).processShutdown(any(), any(), any());
+        }
+
+        @Test
+        void shouldStopOnlyOnce() {
+            // Given
+            ShutdownCoordinator coordinator = createCoordinator(Duration.ZERO);
+
+            // When
+            coordinator.stop();
+            coordinator.stop();
+
+            // Then
+            assertThat(coordinator.isRunning()).isFalse();
+            verify(metrics).recordShutdownPhase(eq(ShutdownPhase.DRAIN), anyLong(), eq(0));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.limehee.hookrouter.spring.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.limehee.hookrouter.core.exception.InvalidWebhookArgumentException;
+import org.junit.jupiter.api.Test;
+
+class JdbcUtilsTest {
+
+    @Test
+    void shouldAcceptPlainAndSchemaQualifiedTableNames() {
+        // When / Then
+        assertThat(JdbcUtils.isValidTableName("hookrouter_rate_limit")).isTrue();
+        assertThat(JdbcUtils.isValidTableName("ops.hookrouter_scheduler_lock")).isTrue();
+    }
+
+    @Test
+    void shouldRejectQuotedOrInjectedTableNames() {
+        // When / Then
+        assertThat(JdbcUtils.isValidTableName(null)).isFalse();
+        assertThat(JdbcUtils.isValidTableName("\"quoted\"")).isFalse();
+        assertThat(JdbcUtils.isValidTableName("a.b.c")).isFalse();
+        assertThat(JdbcUtils.isValidTableName("permits; DROP TABLE users")).isFalse();
+    }
+
+    @Test
+    void shouldThrowWhenRequiredTableNameIsInvalid() {
+        // When / Then
+        assertThat(JdbcUtils.requireValidTableName("ops.permits")).isEqualTo("ops.permits");
+        assertThatThrownBy(() -> JdbcUtils.requireValidTableName("1permits"))
+            .isInstanceOf(InvalidWebhookArgumentException.class)
+            .hasMessageContaining("tableName must be a plain SQL identifier, but was: 1permits");
+    }
+}